@@ -18,23 +18,23 @@ package com.djrapitops.plan.addons.placeholderapi;
 
 import com.djrapitops.plan.PlanSystem;
 import com.djrapitops.plan.placeholder.PlanPlaceholders;
-import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plan.version.VersionChecker;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import me.clip.placeholderapi.PlaceholderAPIPlugin;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Placeholder expansion used to provide data from Plan on Bukkit.
+ * <p>
+ * Values are cached by {@link PlanPlaceholders}, so this class does not cache them again.
+ * Requests on the server thread do not wait for values to be computed, they get the last computed value instead.
  *
  * @author aidn5
  */
@@ -44,24 +44,14 @@ public class PlanPlaceholderExtension extends PlaceholderExpansion {
     private final VersionChecker versionChecker;
     private final PlanPlaceholders placeholders;
 
-    private final Set<String> currentlyProcessing;
-    private final Processing processing;
-    private final Cache<String, String> cache;
-
     public PlanPlaceholderExtension(
             PlanPlaceholders placeholders,
             PlanSystem system,
             ErrorLogger errorLogger
     ) {
         this.placeholders = placeholders;
-        processing = system.getProcessing();
         this.versionChecker = system.getVersionChecker();
         this.errorLogger = errorLogger;
-
-        currentlyProcessing = Collections.newSetFromMap(new ConcurrentHashMap<>());
-        cache = Caffeine.newBuilder()
-                .expireAfterWrite(60, TimeUnit.SECONDS)
-                .build();
     }
 
     @Override
@@ -99,12 +89,7 @@ public class PlanPlaceholderExtension extends PlaceholderExpansion {
     public String onRequest(OfflinePlayer player, @Untrusted String params) {
         try {
             UUID uuid = player != null ? player.getUniqueId() : null;
-            if (isServerThread()) {
-                return getCached(params, uuid);
-            }
-
-            return Optional.ofNullable(getCached(params, uuid))
-                    .orElseGet(() -> getPlaceholderValue(params, uuid));
+            return getPlaceholderValue(params, uuid, !isServerThread());
         } catch (IllegalStateException e) {
             if ("zip file closed".equals(e.getMessage())) {
                 return null; // Plan is disabled.
@@ -114,9 +99,10 @@ public class PlanPlaceholderExtension extends PlaceholderExpansion {
         }
     }
 
-    private String getPlaceholderValue(@Untrusted String params, UUID uuid) {
+    private String getPlaceholderValue(@Untrusted String params, UUID uuid, boolean wait) {
         try {
-            String value = placeholders.onPlaceholderRequest(uuid, parseRequest(params), parseParameters(params));
+            String value = wait ? placeholders.onPlaceholderRequest(uuid, parseRequest(params), parseParameters(params))
+                    : placeholders.onPlaceholderRequestWithoutWaiting(uuid, parseRequest(params), parseParameters(params));
 
             if ("true".equals(value)) { //hack
                 value = PlaceholderAPIPlugin.booleanTrue();
@@ -149,22 +135,4 @@ public class PlanPlaceholderExtension extends PlaceholderExpansion {
         }
         return parameters;
     }
-
-    private String getCached(@Untrusted String params, UUID uuid) {
-        @Untrusted String key = params + "-" + uuid;
-
-        if (!currentlyProcessing.contains(key)) {
-            currentlyProcessing.add(key);
-            processing.submitNonCritical(() -> {
-                String value = getPlaceholderValue(params, uuid);
-
-                if (value != null) {
-                    cache.put(key, value);
-                }
-                currentlyProcessing.remove(key);
-            });
-        }
-
-        return cache.getIfPresent(key);
-    }
 }
@@ -18,6 +18,7 @@ package com.djrapitops.plan.gathering.listeners.bukkit;
 
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
+import com.djrapitops.plan.identification.IdentifierIndex;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.transactions.events.StoreNicknameTransaction;
@@ -42,6 +43,7 @@ public class ChatListener implements Listener {
     private final ServerInfo serverInfo;
     private final DBSystem dbSystem;
     private final NicknameCache nicknameCache;
+    private final IdentifierIndex identifierIndex;
     private final ErrorLogger errorLogger;
 
     @Inject
@@ -49,11 +51,13 @@ public class ChatListener implements Listener {
             ServerInfo serverInfo,
             DBSystem dbSystem,
             NicknameCache nicknameCache,
+            IdentifierIndex identifierIndex,
             ErrorLogger errorLogger
     ) {
         this.serverInfo = serverInfo;
         this.dbSystem = dbSystem;
         this.nicknameCache = nicknameCache;
+        this.identifierIndex = identifierIndex;
         this.errorLogger = errorLogger;
     }
 
@@ -79,6 +83,6 @@ public class ChatListener implements Listener {
         dbSystem.getDatabase().executeTransaction(new StoreNicknameTransaction(
                 uuid, new Nickname(displayName, time, serverInfo.getServerUUID()),
                 (playerUUID, name) -> nicknameCache.getDisplayName(playerUUID).map(name::equals).orElse(false)
-        ));
+        )).thenRun(() -> identifierIndex.addNickname(uuid, displayName));
     }
 }
@@ -0,0 +1,58 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json;
+
+import com.djrapitops.plan.delivery.domain.datatransfer.PlayerListDto;
+import com.djrapitops.plan.storage.database.SeededDatabaseState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the player list of the server page.
+ * <p>
+ * {@link #queryAndCreatePlayerList} includes the queries, {@link #createPlayerList} only the conversion of already
+ * queried players to the returned format.
+ * <p>
+ * Run with {@code ./gradlew :common:jmh -PjmhInclude=PlayersTableJSONCreatorBenchmark}
+ *
+ * @author AuroraLS3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PlayersTableJSONCreatorBenchmark {
+
+    private JSONFactory jsonFactory;
+    private PlayersTableJSONCreator queried;
+
+    @Setup
+    public void setUp(SeededDatabaseState state) {
+        jsonFactory = state.getComponent().jsonFactory();
+        queried = jsonFactory.serverPlayersTableJSON(state.getServerUUID());
+    }
+
+    @Benchmark
+    public PlayerListDto queryAndCreatePlayerList(SeededDatabaseState state) {
+        return jsonFactory.serverPlayersTableJSON(state.getServerUUID()).toPlayerList();
+    }
+
+    @Benchmark
+    public PlayerListDto createPlayerList() {
+        return queried.toPlayerList();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json.graphs;
+
+import com.djrapitops.plan.storage.database.SeededDatabaseState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures graph JSON creation of the server page, including the queries the graphs need.
+ * <p>
+ * Run with {@code ./gradlew :common:jmh -PjmhInclude=GraphJSONCreatorBenchmark}
+ *
+ * @author AuroraLS3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GraphJSONCreatorBenchmark {
+
+    private GraphJSONCreator graphJSONCreator;
+
+    @Setup
+    public void setUp(SeededDatabaseState state) {
+        graphJSONCreator = state.getComponent().graphJSONCreator();
+    }
+
+    @Benchmark
+    public String performanceGraph(SeededDatabaseState state) {
+        return graphJSONCreator.performanceGraphJSON(state.getServerUUID());
+    }
+
+    @Benchmark
+    public Map<String, Object> optimizedPerformanceGraph(SeededDatabaseState state) {
+        return graphJSONCreator.optimizedPerformanceGraphJSON(state.getServerUUID());
+    }
+
+    @Benchmark
+    public String playersOnlineGraph(SeededDatabaseState state) {
+        return graphJSONCreator.playersOnlineGraph(state.getServerUUID());
+    }
+
+    @Benchmark
+    public String uniqueAndNewGraph(SeededDatabaseState state) {
+        return graphJSONCreator.uniqueAndNewGraphJSON(state.getServerUUID());
+    }
+
+    @Benchmark
+    public String serverCalendar(SeededDatabaseState state) {
+        return graphJSONCreator.serverCalendarJSON(state.getServerUUID());
+    }
+
+    @Benchmark
+    public Map<String, Object> activityGraphs(SeededDatabaseState state) {
+        return graphJSONCreator.activityGraphsJSONAsMap(state.getServerUUID());
+    }
+
+    @Benchmark
+    public Map<String, Object> punchCard(SeededDatabaseState state) {
+        return graphJSONCreator.punchCardJSONAsMap(state.getServerUUID());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.annotation.*;
+import com.djrapitops.plan.identification.ServerUUID;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many players per second can have all provider methods of an extension called.
+ * <p>
+ * Compares core reflection, which was used before, to the compiled {@link ProviderInvoker}s used by
+ * {@link MethodWrapper}.
+ * <p>
+ * Run with {@code ./gradlew :common:jmh}
+ *
+ * @author AuroraLS3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProviderInvocationBenchmark {
+
+    private BenchmarkExtension extension;
+    private List<Method> methods;
+    private List<MethodWrapper<?>> wrappers;
+    private Parameters parameters;
+    private UUID playerUUID;
+
+    @Setup
+    public void setUp() {
+        extension = new BenchmarkExtension();
+        methods = new ArrayList<>();
+        wrappers = new ArrayList<>();
+        for (Method method : BenchmarkExtension.class.getDeclaredMethods()) {
+            if (method.getParameterCount() != 1) continue;
+            methods.add(method);
+            wrappers.add(new MethodWrapper<>(method, Object.class));
+        }
+        playerUUID = UUID.randomUUID();
+        parameters = Parameters.player(ServerUUID.randomUUID(), playerUUID, "Player");
+    }
+
+    @Benchmark
+    public void reflectionPerPlayer(Blackhole blackhole) throws ReflectiveOperationException {
+        for (Method method : methods) {
+            blackhole.consume(method.invoke(extension, playerUUID));
+        }
+    }
+
+    @Benchmark
+    public void compiledInvokersPerPlayer(Blackhole blackhole) {
+        for (MethodWrapper<?> wrapper : wrappers) {
+            blackhole.consume(wrapper.callMethod(extension, parameters));
+        }
+    }
+
+    @PluginInfo(name = "Benchmark")
+    public static class BenchmarkExtension implements DataExtension {
+        @BooleanProvider(text = "Boolean")
+        public boolean booleanValue(UUID playerUUID) {
+            return (playerUUID.getLeastSignificantBits() & 1) == 0;
+        }
+
+        @NumberProvider(text = "Number")
+        public long numberValue(UUID playerUUID) {
+            return playerUUID.getMostSignificantBits();
+        }
+
+        @NumberProvider(text = "Second number")
+        public long secondNumberValue(UUID playerUUID) {
+            return playerUUID.getLeastSignificantBits();
+        }
+
+        @DoubleProvider(text = "Double")
+        public double doubleValue(UUID playerUUID) {
+            return playerUUID.getMostSignificantBits() / 3.0;
+        }
+
+        @PercentageProvider(text = "Percentage")
+        public double percentageValue(UUID playerUUID) {
+            return 0.5;
+        }
+
+        @StringProvider(text = "String")
+        public String stringValue(UUID playerUUID) {
+            return "Value";
+        }
+
+        @StringProvider(text = "Second string")
+        public String secondStringValue(UUID playerUUID) {
+            return "Another value";
+        }
+
+        @GroupProvider(text = "Groups")
+        public String[] groupValue(UUID playerUUID) {
+            return new String[]{"Group"};
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering;
+
+import com.djrapitops.plan.gathering.afk.AFKTracker;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.ActiveSession;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the gathering hot paths that run for every online player: session state updates and AFK tracking.
+ * <p>
+ * Results are per operation for all online players, so divide by {@code onlinePlayers} for the cost of one player.
+ * <p>
+ * Run with {@code ./gradlew :common:jmh -PjmhInclude=SessionGatheringBenchmark}
+ *
+ * @author AuroraLS3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionGatheringBenchmark {
+
+    private static final String[] WORLDS = new String[]{"world", "world_nether", "world_the_end"};
+
+    @Param({"100", "1000"})
+    public int onlinePlayers;
+
+    private List<UUID> playerUUIDs;
+    private List<ActiveSession> sessions;
+    private AFKTracker afkTracker;
+    private long time;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PlanConfig config = Mockito.mock(PlanConfig.class);
+        when(config.get(TimeSettings.AFK_THRESHOLD)).thenReturn(TimeUnit.MINUTES.toMillis(3L));
+        afkTracker = new AFKTracker(config);
+
+        ServerUUID serverUUID = ServerUUID.randomUUID();
+        SessionCache sessionCache = new SessionCache();
+        playerUUIDs = new ArrayList<>();
+        sessions = new ArrayList<>();
+        time = System.currentTimeMillis();
+        for (int i = 0; i < onlinePlayers; i++) {
+            UUID playerUUID = UUID.randomUUID();
+            ActiveSession session = new ActiveSession(playerUUID, serverUUID, time, WORLDS[i % WORLDS.length], "SURVIVAL");
+            sessionCache.cacheSession(playerUUID, session);
+            playerUUIDs.add(playerUUID);
+            sessions.add(session);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        SessionCache.clear();
+    }
+
+    @Benchmark
+    public void updateState() {
+        time += 50L;
+        for (ActiveSession session : sessions) {
+            session.updateState(time);
+        }
+    }
+
+    @Benchmark
+    public void changeWorld() {
+        time += 50L;
+        int i = 0;
+        for (ActiveSession session : sessions) {
+            session.changeState(WORLDS[(int) ((time / 50L + i++) % WORLDS.length)], "SURVIVAL", time);
+        }
+    }
+
+    @Benchmark
+    public void refreshActiveSessionsState() {
+        SessionCache.refreshActiveSessionsState();
+    }
+
+    @Benchmark
+    public void afkTrackerPerformedAction(Blackhole blackhole) {
+        time += 50L;
+        for (UUID playerUUID : playerUUIDs) {
+            blackhole.consume(afkTracker.performedAction(playerUUID, time));
+        }
+    }
+
+    @Benchmark
+    public void afkTrackerIsAfk(Blackhole blackhole) {
+        for (UUID playerUUID : playerUUIDs) {
+            blackhole.consume(afkTracker.isAfk(playerUUID));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
+import org.openjdk.jmh.annotations.*;
+import utilities.CIProperties;
+import utilities.DBPreparer;
+import utilities.RandomData;
+import utilities.SyntheticDataGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH state that holds a database seeded by {@link SyntheticDataGenerator}.
+ * <p>
+ * Data is generated from a fixed seed so that results of different commits can be compared.
+ * SQLite is used by default, MySQL can be used with {@code -PjmhDatabase=MySQL} and the environment variables in
+ * {@link CIProperties}.
+ *
+ * @author AuroraLS3
+ */
+@State(Scope.Benchmark)
+public class SeededDatabaseState {
+
+    @Param({"SQLite"})
+    public String database;
+
+    @Param({"500"})
+    public int players;
+
+    @Param({"30"})
+    public int days;
+
+    private Path tempDir;
+    private DBPreparer preparer;
+    private DatabaseTestComponent component;
+    private SyntheticDataGenerator generator;
+    private Database db;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() throws ExecutionException, InterruptedException {
+        try {
+            tempDir = Files.createTempDirectory("plan-jmh");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        component = DaggerDatabaseTestComponent.builder()
+                .bindTemporaryDirectory(tempDir)
+                .build();
+        preparer = new DBPreparer(component, RandomData.randomInt(9005, 9500));
+        db = prepareDatabase();
+
+        generator = SyntheticDataGenerator.builder()
+                .seed(3141592653L)
+                .players(players)
+                .timeSpan(days, TimeUnit.DAYS)
+                .build();
+        generator.generate(db);
+    }
+
+    private Database prepareDatabase() throws ExecutionException, InterruptedException {
+        if (DBType.MYSQL.getName().equalsIgnoreCase(database)) {
+            Database mysql = preparer.prepareMySQL().orElseThrow(() -> new IllegalStateException(
+                    "MySQL benchmark requires " + CIProperties.MYSQL_DATABASE + " and " + CIProperties.MYSQL_USER + " environment variables"));
+            mysql.executeTransaction(new CreateTablesTransaction()).get();
+            return mysql;
+        }
+        return preparer.prepareSQLite().orElseThrow(IllegalStateException::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownDatabase() throws IOException {
+        preparer.tearDown();
+        try (var files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    public Database getDatabase() {
+        return db;
+    }
+
+    public DatabaseTestComponent getComponent() {
+        return component;
+    }
+
+    /**
+     * @return UUID of the first generated server.
+     */
+    public ServerUUID getServerUUID() {
+        return generator.getServerUUIDs().get(0);
+    }
+
+    /**
+     * @return Time the data was generated up to, in epoch ms.
+     */
+    public long getNow() {
+        return generator.getEnd();
+    }
+
+    /**
+     * @return Time of the oldest generated data, in epoch ms.
+     */
+    public long getOldest() {
+        return generator.getStart();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.filter;
+
+import com.djrapitops.plan.delivery.domain.datatransfer.InputFilterDto;
+import com.djrapitops.plan.settings.locale.lang.HtmlLang;
+import com.djrapitops.plan.storage.database.SeededDatabaseState;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.SimpleDateFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link QueryFilters} of the query page, each filter alone and chained.
+ * <p>
+ * Run with {@code ./gradlew :common:jmh -PjmhInclude=QueryFiltersBenchmark}
+ *
+ * @author AuroraLS3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QueryFiltersBenchmark {
+
+    private QueryFilters queryFilters;
+    private InputFilterDto playedBetween;
+    private InputFilterDto registeredBetween;
+    private InputFilterDto activityIndex;
+
+    @Setup
+    public void setUp(SeededDatabaseState state) {
+        queryFilters = state.getComponent().queryFilters();
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        String after = dateFormat.format(state.getOldest());
+        String before = dateFormat.format(state.getNow());
+        Map<String, String> lastWeek = Map.of(
+                "afterDate", dateFormat.format(state.getNow() - TimeUnit.DAYS.toMillis(7L)),
+                "afterTime", "00:00",
+                "beforeDate", before,
+                "beforeTime", "23:59"
+        );
+        playedBetween = new InputFilterDto("playedBetween", lastWeek);
+        registeredBetween = new InputFilterDto("registeredBetween", Map.of(
+                "afterDate", after,
+                "afterTime", "00:00",
+                "beforeDate", before,
+                "beforeTime", "23:59"
+        ));
+        activityIndex = new InputFilterDto("activityIndexNow", Map.of(
+                "selected", "[\"" + HtmlLang.INDEX_VERY_ACTIVE.getDefault() + "\",\"" + HtmlLang.INDEX_ACTIVE.getDefault() + "\"]"
+        ));
+    }
+
+    @Benchmark
+    public Filter.Result playedBetween() {
+        return queryFilters.apply(List.of(playedBetween));
+    }
+
+    @Benchmark
+    public Filter.Result activityIndex() {
+        return queryFilters.apply(List.of(activityIndex));
+    }
+
+    @Benchmark
+    public Filter.Result registeredThenPlayedThenActivityIndex() {
+        return queryFilters.apply(List.of(registeredBetween, playedBetween, activityIndex));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects;
+
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.storage.database.SeededDatabaseState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SessionQueries} used by the server overview, sessions and playtime pages.
+ * <p>
+ * Run with {@code ./gradlew :common:jmh -PjmhInclude=SessionQueriesBenchmark}
+ *
+ * @author AuroraLS3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SessionQueriesBenchmark {
+
+    @Benchmark
+    public List<FinishedSession> serverSessionsWithoutKillOrWorldData(SeededDatabaseState state) {
+        return state.getDatabase().query(SessionQueries.fetchServerSessionsWithoutKillOrWorldData(
+                state.getOldest(), state.getNow(), state.getServerUUID()));
+    }
+
+    @Benchmark
+    public List<FinishedSession> latestSessionsOfServer(SeededDatabaseState state) {
+        return state.getDatabase().query(SessionQueries.fetchLatestSessionsOfServer(state.getServerUUID(), 50));
+    }
+
+    @Benchmark
+    public NavigableMap<Long, Long> playtimePerDay(SeededDatabaseState state) {
+        return state.getDatabase().query(SessionQueries.playtimePerDay(
+                state.getOldest(), state.getNow(), 0L, state.getServerUUID()));
+    }
+
+    @Benchmark
+    public NavigableMap<Long, Integer> sessionCountPerDay(SeededDatabaseState state) {
+        return state.getDatabase().query(SessionQueries.sessionCountPerDay(
+                state.getOldest(), state.getNow(), 0L, state.getServerUUID()));
+    }
+
+    @Benchmark
+    public Long averagePlaytimePerPlayer(SeededDatabaseState state) {
+        return state.getDatabase().query(SessionQueries.averagePlaytimePerPlayer(
+                state.getOldest(), state.getNow(), state.getServerUUID()));
+    }
+
+    @Benchmark
+    public Map<String, Long> playtimePerServer(SeededDatabaseState state) {
+        return state.getDatabase().query(SessionQueries.playtimePerServer(state.getOldest(), state.getNow()));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.storage.database.SeededDatabaseState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TPSQueries} used by the performance tab and the online activity graphs.
+ * <p>
+ * Seeded data has one TPS row per minute.
+ * <p>
+ * Run with {@code ./gradlew :common:jmh -PjmhInclude=TPSQueriesBenchmark}
+ *
+ * @author AuroraLS3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TPSQueriesBenchmark {
+
+    @Benchmark
+    public List<TPS> tpsDataOfServer(SeededDatabaseState state) {
+        return state.getDatabase().query(TPSQueries.fetchTPSDataOfServer(
+                state.getOldest(), state.getNow(), state.getServerUUID()));
+    }
+
+    @Benchmark
+    public List<TPS> tpsDataOfServerInFiveMinuteResolution(SeededDatabaseState state) {
+        return state.getDatabase().query(TPSQueries.fetchTPSDataOfServerInResolution(
+                state.getOldest(), state.getNow(), TimeUnit.MINUTES.toMillis(5L), state.getServerUUID()));
+    }
+
+    @Benchmark
+    public List<DateObj<Integer>> playersOnlineOfServer(SeededDatabaseState state) {
+        return state.getDatabase().query(TPSQueries.fetchPlayersOnlineOfServer(
+                state.getOldest(), state.getNow(), state.getServerUUID()));
+    }
+
+    @Benchmark
+    public Optional<DateObj<Integer>> peakPlayerCount(SeededDatabaseState state) {
+        return state.getDatabase().query(TPSQueries.fetchPeakPlayerCount(state.getServerUUID(), state.getOldest()));
+    }
+
+    @Benchmark
+    public Double averageTPS(SeededDatabaseState state) {
+        return state.getDatabase().query(TPSQueries.averageTPS(
+                state.getOldest(), state.getNow(), state.getServerUUID()));
+    }
+}
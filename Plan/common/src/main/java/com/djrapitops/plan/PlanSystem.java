@@ -188,6 +188,7 @@ public class PlanSystem implements SubSystem {
         Formatters.clearSingleton();
 
         apiServices.disableExtensionDataUpdates();
+        webServerSystem.flushAccessLog();
 
         disableSystems(
                 taskSystem,
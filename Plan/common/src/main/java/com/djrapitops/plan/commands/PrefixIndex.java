@@ -0,0 +1,108 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.commands;
+
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Case-insensitive sorted index of identifiers for prefix lookups.
+ * <p>
+ * Entries are kept in a skip list sorted by their lowercase form, so a prefix lookup seeks to the first match in
+ * logarithmic time and walks forward only as far as the requested amount of results. Safe to update from
+ * another thread while lookups are made on the server thread.
+ *
+ * @author AuroraLS3
+ */
+public class PrefixIndex {
+
+    // Lowercase form and the original identifier are both part of the key so that "Name" and "name" are both kept.
+    private static final char SEPARATOR = '\u0000';
+
+    private final ConcurrentNavigableMap<String, String> entries;
+
+    public PrefixIndex() {
+        entries = new ConcurrentSkipListMap<>();
+    }
+
+    public static PrefixIndex of(Collection<String> identifiers) {
+        PrefixIndex index = new PrefixIndex();
+        index.addAll(identifiers);
+        return index;
+    }
+
+    private static String toKey(String identifier) {
+        return lowercase(identifier) + SEPARATOR + identifier;
+    }
+
+    private static String lowercase(String identifier) {
+        return identifier.toLowerCase(Locale.ROOT);
+    }
+
+    public void add(String identifier) {
+        if (identifier != null) entries.put(toKey(identifier), identifier);
+    }
+
+    public void addAll(Collection<String> identifiers) {
+        for (String identifier : identifiers) {
+            add(identifier);
+        }
+    }
+
+    public void remove(String identifier) {
+        if (identifier != null) entries.remove(toKey(identifier));
+    }
+
+    public boolean contains(String identifier) {
+        return identifier != null && entries.containsKey(toKey(identifier));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Find identifiers that start with given prefix, ignoring case.
+     *
+     * @param prefix Start of the identifier, null or empty matches everything.
+     * @param limit  Maximum number of results to return.
+     * @return Matching identifiers in case-insensitive order, at most {@code limit} of them.
+     */
+    public List<String> findMatches(@Untrusted String prefix, int limit) {
+        List<String> matches = new ArrayList<>(Math.min(limit, 16));
+        if (limit <= 0) return matches;
+
+        String lowercasePrefix = prefix == null ? "" : lowercase(prefix);
+        for (Map.Entry<String, String> entry : entries.tailMap(lowercasePrefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(lowercasePrefix)) break;
+            matches.add(entry.getValue());
+            if (matches.size() >= limit) break;
+        }
+        return matches;
+    }
+}
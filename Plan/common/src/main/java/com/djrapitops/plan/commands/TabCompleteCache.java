@@ -32,7 +32,7 @@ import org.jetbrains.annotations.NotNull;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * In charge of holding tab completion data for commands, as tab completion is done on server thread.
@@ -42,16 +42,19 @@ import java.util.stream.Collectors;
 @Singleton
 public class TabCompleteCache implements SubSystem {
 
+    static final int MATCH_LIMIT = 100;
+
     private final Processing processing;
     private final PlanFiles files;
     private final DBSystem dbSystem;
     private final ServerSensor<?> serverSensor;
 
-    private final Set<String> playerIdentifiers;
-    private final Set<String> serverIdentifiers;
-    private final Set<String> userIdentifiers;
-    private final Set<String> backupFileNames;
-    private final Set<String> webGroupIdentifiers;
+    private final PrefixIndex playerIdentifiers;
+    private final Map<UUID, String> playerNames;
+    private final PrefixIndex serverIdentifiers;
+    private final PrefixIndex userIdentifiers;
+    private final PrefixIndex backupFileNames;
+    private final PrefixIndex webGroupIdentifiers;
 
     @Inject
     public TabCompleteCache(
@@ -64,11 +67,12 @@ public class TabCompleteCache implements SubSystem {
         this.files = files;
         this.dbSystem = dbSystem;
         this.serverSensor = serverSensor;
-        playerIdentifiers = new HashSet<>();
-        serverIdentifiers = new HashSet<>();
-        userIdentifiers = new HashSet<>();
-        backupFileNames = new HashSet<>();
-        webGroupIdentifiers = new HashSet<>();
+        playerIdentifiers = new PrefixIndex();
+        playerNames = new ConcurrentHashMap<>();
+        serverIdentifiers = new PrefixIndex();
+        userIdentifiers = new PrefixIndex();
+        backupFileNames = new PrefixIndex();
+        webGroupIdentifiers = new PrefixIndex();
     }
 
     @Override
@@ -96,7 +100,9 @@ public class TabCompleteCache implements SubSystem {
     }
 
     private void refreshPlayerIdentifiers() {
-        playerIdentifiers.addAll(dbSystem.getDatabase().query(UserIdentifierQueries.fetchAllPlayerNames()).values());
+        for (Map.Entry<UUID, String> player : dbSystem.getDatabase().query(UserIdentifierQueries.fetchAllPlayerNames()).entrySet()) {
+            updatePlayerName(player.getKey(), player.getValue());
+        }
     }
 
     private void refreshUserIdentifiers() {
@@ -115,9 +121,42 @@ public class TabCompleteCache implements SubSystem {
     @Override
     public void disable() {
         playerIdentifiers.clear();
+        playerNames.clear();
         serverIdentifiers.clear();
         userIdentifiers.clear();
         backupFileNames.clear();
+        webGroupIdentifiers.clear();
+    }
+
+    /**
+     * Update the name of a player, replacing their previous name if it changed.
+     *
+     * @param playerUUID UUID of the player
+     * @param playerName Current name of the player
+     */
+    public void updatePlayerName(UUID playerUUID, String playerName) {
+        if (playerUUID == null || playerName == null) return;
+        String previousName = playerNames.put(playerUUID, playerName);
+        if (previousName != null && !previousName.equals(playerName)) {
+            playerIdentifiers.remove(previousName);
+        }
+        playerIdentifiers.add(playerName);
+    }
+
+    public void addUserIdentifier(String username) {
+        userIdentifiers.add(username);
+    }
+
+    public void removeUserIdentifier(String username) {
+        userIdentifiers.remove(username);
+    }
+
+    public void addWebGroupIdentifier(String groupName) {
+        webGroupIdentifiers.add(groupName);
+    }
+
+    public void removeWebGroupIdentifier(String groupName) {
+        webGroupIdentifiers.remove(groupName);
     }
 
     public List<String> getMatchingServerIdentifiers(@Untrusted String searchFor) {
@@ -125,7 +164,11 @@ public class TabCompleteCache implements SubSystem {
     }
 
     public List<String> getMatchingPlayerIdentifiers(@Untrusted String searchFor) {
-        playerIdentifiers.addAll(serverSensor.getOnlinePlayerNames());
+        for (String onlinePlayerName : serverSensor.getOnlinePlayerNames()) {
+            if (!playerIdentifiers.contains(onlinePlayerName)) {
+                playerIdentifiers.add(onlinePlayerName);
+            }
+        }
         return findMatches(playerIdentifiers, searchFor);
     }
 
@@ -142,14 +185,11 @@ public class TabCompleteCache implements SubSystem {
     }
 
     @NotNull
-    List<String> findMatches(Collection<String> searchList, @Untrusted String searchFor) {
-        List<String> filtered = searchList.stream()
-                .filter(identifier -> searchFor == null || searchFor.isEmpty() || identifier.startsWith(searchFor))
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .collect(Collectors.toList());
-        if (filtered.size() >= 100) {
+    List<String> findMatches(PrefixIndex index, @Untrusted String searchFor) {
+        List<String> matches = index.findMatches(searchFor, MATCH_LIMIT);
+        if (matches.size() >= MATCH_LIMIT) {
             return Collections.emptyList();
         }
-        return filtered;
+        return matches;
     }
 }
@@ -47,6 +47,7 @@ import com.djrapitops.plan.settings.locale.lang.HtmlLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.containers.ContainerFetchQueries;
+import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerProjection;
 import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 
@@ -58,6 +59,12 @@ import java.util.function.Consumer;
 @Singleton
 public class DataUtilityCommands {
 
+    private static final PlayerContainerProjection IN_GAME_PROJECTION = PlayerContainerProjection.of(
+            PlayerKeys.NAME, PlayerKeys.REGISTERED, PlayerKeys.LAST_SEEN, PlayerKeys.GEO_INFO,
+            PlayerKeys.SESSIONS, PlayerKeys.KICK_COUNT,
+            PlayerKeys.PLAYER_KILL_COUNT, PlayerKeys.MOB_KILL_COUNT, PlayerKeys.DEATH_COUNT
+    );
+
     private final Locale locale;
     private final PlanConfig config;
     private final DBSystem dbSystem;
@@ -209,7 +216,7 @@ public class DataUtilityCommands {
         }
 
         ensureDatabaseIsOpen();
-        List<String> names = dbSystem.getDatabase().query(UserIdentifierQueries.fetchMatchingPlayerNames(searchingFor));
+        List<String> names = identifiers.searchPlayerNames(searchingFor);
         Collections.sort(names);
 
         sender.send(locale.getString(CommandLang.HEADER_SEARCH, names.isEmpty() ? 0 : names.size(), searchingFor));
@@ -233,7 +240,7 @@ public class DataUtilityCommands {
             throw new IllegalArgumentException(locale.getString(CommandLang.FAIL_PLAYER_NOT_FOUND, identifier));
         }
 
-        PlayerContainer player = dbSystem.getDatabase().query(ContainerFetchQueries.fetchPlayerContainer(playerUUID));
+        PlayerContainer player = dbSystem.getDatabase().query(ContainerFetchQueries.fetchPlayerContainer(playerUUID, IN_GAME_PROJECTION));
         if (player.getValue(PlayerKeys.REGISTERED).isEmpty()) {
             throw new IllegalArgumentException(locale.getString(CommandLang.FAIL_PLAYER_NOT_FOUND_REGISTER, identifier));
         }
@@ -278,9 +285,9 @@ public class DataUtilityCommands {
                 locale.getString(CommandLang.INGAME_AFK_PLAYTIME, length.apply(sessionsMutator.toAfkTime())) + '\n' +
                 locale.getString(CommandLang.INGAME_LONGEST_SESSION, length.apply(sessionsMutator.toLongestSessionLength())) + '\n' +
                 '\n' +
-                locale.getString(CommandLang.INGAME_PLAYER_KILLS, sessionsMutator.toPlayerKillCount()) + '\n' +
-                locale.getString(CommandLang.INGAME_MOB_KILLS, sessionsMutator.toMobKillCount()) + '\n' +
-                locale.getString(CommandLang.INGAME_DEATHS, sessionsMutator.toDeathCount());
+                locale.getString(CommandLang.INGAME_PLAYER_KILLS, player.getValue(PlayerKeys.PLAYER_KILL_COUNT).orElse(0)) + '\n' +
+                locale.getString(CommandLang.INGAME_MOB_KILLS, player.getValue(PlayerKeys.MOB_KILL_COUNT).orElse(0)) + '\n' +
+                locale.getString(CommandLang.INGAME_DEATHS, player.getValue(PlayerKeys.DEATH_COUNT).orElse(0));
         sender.send(sender.getFormatter().table(table, ": "));
     }
 
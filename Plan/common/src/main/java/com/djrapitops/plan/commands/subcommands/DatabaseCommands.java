@@ -200,6 +200,9 @@ public class DatabaseCommands {
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getType().getName()));
             toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            if (toDB.getType() == dbSystem.getDatabase().getType()) {
+                queryService.dataCleared(); // Old data was replaced by the backup
+            }
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -248,6 +251,7 @@ public class DatabaseCommands {
 
             boolean movingToCurrentDB = toDatabase.getType() == dbSystem.getDatabase().getType();
             if (movingToCurrentDB) {
+                queryService.dataCleared(); // Old data was replaced
                 sender.send(locale.getString(CommandLang.HOTSWAP_REMINDER, toDatabase.getType().getConfigName()));
             }
         } catch (InterruptedException e) {
@@ -356,9 +360,9 @@ public class DatabaseCommands {
         try {
             sender.send(locale.getString(CommandLang.DB_REMOVAL_PLAYER, playerToRemove, database.getType().getName()));
 
-            queryService.playerRemoved(playerToRemove);
             database.executeTransaction(new RemovePlayerTransaction(playerToRemove))
                     .get(); // Wait for completion
+            queryService.playerRemoved(playerToRemove);
 
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         } catch (InterruptedException e) {
@@ -437,6 +441,7 @@ public class DatabaseCommands {
             int move = 0;
 
             List<Transaction> transactions = new ArrayList<>();
+            List<UUID> removedPlayers = new ArrayList<>();
 
             for (BaseUser user : baseUsersByUUID.values()) {
                 String playerName = user.getName();
@@ -445,7 +450,10 @@ public class DatabaseCommands {
 
                 if (actualUUID == null) {
                     offlineOnlyUsers++;
-                    if (removeOfflinePlayers) transactions.add(new RemovePlayerTransaction(recordedUUID));
+                    if (removeOfflinePlayers) {
+                        transactions.add(new RemovePlayerTransaction(recordedUUID));
+                        removedPlayers.add(recordedUUID);
+                    }
                 }
                 if (actualUUID == null || recordedUUID.equals(actualUUID)) {
                     continue;
@@ -458,6 +466,8 @@ public class DatabaseCommands {
                     combine++;
                     transactions.add(new CombineUserTransaction(recordedUUID, actualUUID));
                 }
+                // Data no longer exists with the recorded UUID
+                removedPlayers.add(recordedUUID);
             }
 
             MessageBuilder prompt = sender.buildMessage()
@@ -477,7 +487,7 @@ public class DatabaseCommands {
                         protected void performOperations() {
                             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
                         }
-                    });
+                    }).thenRun(() -> removedPlayers.forEach(queryService::playerRemoved));
                 } else {
                     sender.send(colors.getMainColor() + locale.getString(CommandLang.CONFIRM_CANCELLED_DATA));
                 }
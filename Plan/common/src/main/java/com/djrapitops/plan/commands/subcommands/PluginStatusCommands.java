@@ -19,8 +19,12 @@ package com.djrapitops.plan.commands.subcommands;
 import com.djrapitops.plan.PlanPlugin;
 import com.djrapitops.plan.commands.use.Arguments;
 import com.djrapitops.plan.commands.use.CMDSender;
+import com.djrapitops.plan.extension.ExtensionSvc;
+import com.djrapitops.plan.extension.implementation.providers.gathering.DataValueGatherer;
+import com.djrapitops.plan.extension.implementation.providers.gathering.ProviderStatistics;
 import com.djrapitops.plan.gathering.listeners.Status;
 import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.placeholder.StaticPlaceholderCache;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.CommandLang;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
@@ -35,6 +39,10 @@ import net.playeranalytics.plugin.PluginInformation;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 @Singleton
 public class PluginStatusCommands {
@@ -46,6 +54,8 @@ public class PluginStatusCommands {
     private final DBSystem dbSystem;
     private final Status status;
     private final VersionChecker versionChecker;
+    private final StaticPlaceholderCache placeholderCache;
+    private final ExtensionSvc extensionService;
     private final ErrorLogger errorLogger;
 
     @Inject
@@ -57,6 +67,8 @@ public class PluginStatusCommands {
             DBSystem dbSystem,
             Status status,
             VersionChecker versionChecker,
+            StaticPlaceholderCache placeholderCache,
+            ExtensionSvc extensionService,
             ErrorLogger errorLogger
     ) {
         this.plugin = plugin;
@@ -66,6 +78,8 @@ public class PluginStatusCommands {
         this.dbSystem = dbSystem;
         this.status = status;
         this.versionChecker = versionChecker;
+        this.placeholderCache = placeholderCache;
+        this.extensionService = extensionService;
         this.errorLogger = errorLogger;
     }
 
@@ -108,9 +122,10 @@ public class PluginStatusCommands {
 
         String updateAvailable = versionChecker.isNewVersionAvailable() ? yes : no;
         String proxyAvailable = database.query(ServerQueries.fetchProxyServers()).isEmpty() ? no : yes;
+        String placeholderHitRate = Math.round(placeholderCache.getHitRate() * 100.0) + "%";
+        String placeholderRefreshLatency = String.format("%.1f", placeholderCache.getAverageRefreshLatencyMs());
 
-
-        String[] messages = {
+        List<String> messages = new ArrayList<>(Arrays.asList(
                 locale.getString(CommandLang.HEADER_INFO),
                 "",
                 locale.getString(CommandLang.INFO_VERSION, pluginInformation.getVersion()),
@@ -118,9 +133,25 @@ public class PluginStatusCommands {
                 locale.getString(CommandLang.INFO_DATABASE, database.getType().getName() + " (" + database.getState().name() + ")"),
                 locale.getString(CommandLang.INFO_PROXY_CONNECTION, proxyAvailable),
                 locale.getString(CommandLang.INFO_SERVER_UUID, serverInfo.getServerUUID()),
-                "",
-                ">"
-        };
-        sender.send(messages);
+                locale.getString(CommandLang.INFO_PLACEHOLDER_CACHE, placeholderHitRate, placeholderRefreshLatency)
+        ));
+        List<DataValueGatherer> gatherers = extensionService.getGatherers();
+        gatherers.sort(Comparator.comparing(DataValueGatherer::getPluginName));
+        for (DataValueGatherer gatherer : gatherers) {
+            messages.add(locale.getString(CommandLang.INFO_EXTENSION_WRITES, gatherer.getPluginName(),
+                    gatherer.getWrittenValueCount(), gatherer.getSkippedValueCount()));
+            List<ProviderStatistics> providerStatistics = gatherer.getProviderStatistics();
+            if (!providerStatistics.isEmpty()) {
+                ProviderStatistics slowest = providerStatistics.get(0);
+                long timeouts = providerStatistics.stream().mapToLong(ProviderStatistics::getTimeoutCount).sum();
+                long circuitBroken = providerStatistics.stream().filter(ProviderStatistics::isCircuitOpen).count();
+                messages.add(locale.getString(CommandLang.INFO_EXTENSION_LATENCY, gatherer.getPluginName(), slowest.getProviderName(),
+                        String.format("%.1f", slowest.getAverageLatencyMs()), String.format("%.1f", slowest.getMaxLatencyMs()),
+                        timeouts, circuitBroken));
+            }
+        }
+        messages.add("");
+        messages.add(">");
+        sender.send(messages.toArray(new String[0]));
     }
 }
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.commands.subcommands;
 
+import com.djrapitops.plan.commands.TabCompleteCache;
 import com.djrapitops.plan.commands.use.Arguments;
 import com.djrapitops.plan.commands.use.CMDSender;
 import com.djrapitops.plan.commands.use.ColorScheme;
@@ -56,6 +57,7 @@ public class RegistrationCommands {
     private final ActiveCookieStore activeCookieStore;
     private final LinkCommands linkCommands;
     private final Confirmation confirmation;
+    private final TabCompleteCache tabCompleteCache;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
@@ -67,6 +69,7 @@ public class RegistrationCommands {
             ActiveCookieStore activeCookieStore,
             LinkCommands linkCommands,
             Confirmation confirmation,
+            TabCompleteCache tabCompleteCache,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -77,6 +80,7 @@ public class RegistrationCommands {
         this.activeCookieStore = activeCookieStore;
         this.linkCommands = linkCommands;
         this.confirmation = confirmation;
+        this.tabCompleteCache = tabCompleteCache;
         this.logger = logger;
         this.errorLogger = errorLogger;
     }
@@ -141,6 +145,7 @@ public class RegistrationCommands {
 
             database.executeTransaction(new StoreWebUserTransaction(user))
                     .get(); // Wait for completion
+            tabCompleteCache.addUserIdentifier(username);
 
             sender.send(locale.getString(CommandLang.WEB_USER_REGISTER_SUCCESS, username));
             logger.info(locale.getString(CommandLang.WEB_USER_REGISTER_NOTIFY, username, user.getPermissionGroup()));
@@ -184,6 +189,7 @@ public class RegistrationCommands {
                     database.executeTransaction(new RemoveWebUserTransaction(username))
                             .get(); // Wait for completion
                     ActiveCookieStore.removeUserCookie(username);
+                    tabCompleteCache.removeUserIdentifier(username);
                     sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
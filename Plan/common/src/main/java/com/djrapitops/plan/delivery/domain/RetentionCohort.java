@@ -0,0 +1,94 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents how many players registered within one week were still playing after some time since registering.
+ *
+ * @author AuroraLS3
+ */
+public class RetentionCohort {
+
+    public static final long COHORT_LENGTH = TimeUnit.DAYS.toMillis(7L);
+    public static final List<Long> RETENTION_OFFSETS = List.of(
+            TimeUnit.DAYS.toMillis(1L),
+            TimeUnit.DAYS.toMillis(3L),
+            TimeUnit.DAYS.toMillis(7L),
+            TimeUnit.DAYS.toMillis(14L),
+            TimeUnit.DAYS.toMillis(30L),
+            TimeUnit.DAYS.toMillis(60L),
+            TimeUnit.DAYS.toMillis(90L),
+            TimeUnit.DAYS.toMillis(180L),
+            TimeUnit.DAYS.toMillis(365L)
+    );
+
+    private final long cohortStart;
+    private final int players;
+    private final int[] retained;
+
+    /**
+     * Create a new cohort.
+     *
+     * @param cohortStart Epoch ms of the start of the week the players registered in.
+     * @param players     Number of players that registered during the week.
+     * @param retained    Number of players seen at least {@link #RETENTION_OFFSETS} ms after registering, in same order.
+     */
+    public RetentionCohort(long cohortStart, int players, int[] retained) {
+        this.cohortStart = cohortStart;
+        this.players = players;
+        this.retained = retained;
+    }
+
+    public long getCohortStart() {
+        return cohortStart;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public int[] getRetained() {
+        return retained;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RetentionCohort that = (RetentionCohort) o;
+        return getCohortStart() == that.getCohortStart() && getPlayers() == that.getPlayers() && Arrays.equals(getRetained(), that.getRetained());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getCohortStart(), getPlayers()) * 31 + Arrays.hashCode(getRetained());
+    }
+
+    @Override
+    public String toString() {
+        return "RetentionCohort{" +
+                "cohortStart=" + cohortStart +
+                ", players=" + players +
+                ", retained=" + Arrays.toString(retained) +
+                '}';
+    }
+}
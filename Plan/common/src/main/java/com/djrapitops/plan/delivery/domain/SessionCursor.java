@@ -0,0 +1,119 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.domain;
+
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keyset position in a list of sessions ordered by (session_start, id) descending.
+ * <p>
+ * Page queries return sessions that come strictly after the cursor in that order, so pages stay
+ * stable even when new sessions are stored between requests.
+ *
+ * @author AuroraLS3
+ */
+public class SessionCursor {
+
+    private static final SessionCursor FIRST_PAGE = new SessionCursor(Long.MAX_VALUE, Integer.MAX_VALUE);
+
+    private final long sessionStart;
+    private final int sessionId;
+
+    public SessionCursor(long sessionStart, int sessionId) {
+        this.sessionStart = sessionStart;
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Cursor that is positioned before the most recent session.
+     *
+     * @return Cursor for the first page.
+     */
+    public static SessionCursor firstPage() {
+        return FIRST_PAGE;
+    }
+
+    /**
+     * Get the cursor that points at given session.
+     *
+     * @param session Session fetched from the database.
+     * @return Cursor, or empty if the session has not been stored yet.
+     */
+    public static Optional<SessionCursor> after(FinishedSession session) {
+        return session.getExtraData(FinishedSession.Id.class)
+                .map(id -> new SessionCursor(session.getStart(), id.get()));
+    }
+
+    /**
+     * Parse a cursor given by {@link #asString()}.
+     *
+     * @param value Cursor string.
+     * @return Parsed cursor, or empty if the value is not a valid cursor.
+     */
+    public static Optional<SessionCursor> parse(String value) {
+        if (value == null) return Optional.empty();
+        int split = value.indexOf('_');
+        if (split <= 0 || split == value.length() - 1) return Optional.empty();
+        try {
+            long start = Long.parseLong(value.substring(0, split));
+            int id = Integer.parseInt(value.substring(split + 1));
+            return Optional.of(new SessionCursor(start, id));
+        } catch (NumberFormatException notACursor) {
+            return Optional.empty();
+        }
+    }
+
+    public long getSessionStart() {
+        return sessionStart;
+    }
+
+    public int getSessionId() {
+        return sessionId;
+    }
+
+    public boolean isFirstPage() {
+        return equals(FIRST_PAGE);
+    }
+
+    public String asString() {
+        return sessionStart + "_" + sessionId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SessionCursor that = (SessionCursor) o;
+        return sessionStart == that.sessionStart && sessionId == that.sessionId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sessionStart, sessionId);
+    }
+
+    @Override
+    public String toString() {
+        return "SessionCursor{" +
+                "sessionStart=" + sessionStart +
+                ", sessionId=" + sessionId +
+                '}';
+    }
+}
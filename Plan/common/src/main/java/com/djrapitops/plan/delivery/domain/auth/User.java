@@ -17,7 +17,7 @@
 package com.djrapitops.plan.delivery.domain.auth;
 
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
-import com.djrapitops.plan.utilities.PassEncryptUtil;
+import com.djrapitops.plan.utilities.VerifiedCredentialCache;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 
 import java.util.Collection;
@@ -49,7 +49,7 @@ public class User implements Comparable<User> {
     }
 
     public boolean doesPasswordMatch(@Untrusted String password) {
-        return PassEncryptUtil.verifyPassword(password, passwordHash);
+        return VerifiedCredentialCache.verifyPassword(username, password, passwordHash);
     }
 
     public WebUser toWebUser() {
@@ -36,6 +36,7 @@ import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
 import com.djrapitops.plan.utilities.java.Lists;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -261,49 +262,100 @@ public class SessionsMutator {
                 sessionMap -> sessionMap.get("server_name"));
     }
 
+    /**
+     * Create JSON maps of the sessions one at a time with player name as the name.
+     * <p>
+     * Allows writing each session straight to output without holding every map in memory.
+     *
+     * @param graphs             Graphs for world pies.
+     * @param worldAliasSettings World alias settings.
+     * @param formatters         Formatters.
+     * @param forEach            What to do with each session map.
+     */
+    public void forEachPlayerNameJSONMap(
+            Graphs graphs,
+            WorldAliasSettings worldAliasSettings,
+            Formatters formatters,
+            Consumer<Map<String, Object>> forEach
+    ) {
+        for (FinishedSession session : sessions) {
+            forEach.accept(toJSONMap(session, graphs, worldAliasSettings, formatters,
+                    sessionMap -> sessionMap.get("player_name")));
+        }
+    }
+
+    /**
+     * Create JSON maps of the sessions one at a time with server name as the name.
+     *
+     * @param graphs             Graphs for world pies.
+     * @param worldAliasSettings World alias settings.
+     * @param formatters         Formatters.
+     * @param forEach            What to do with each session map.
+     * @see #forEachPlayerNameJSONMap(Graphs, WorldAliasSettings, Formatters, Consumer)
+     */
+    public void forEachServerNameJSONMap(
+            Graphs graphs,
+            WorldAliasSettings worldAliasSettings,
+            Formatters formatters,
+            Consumer<Map<String, Object>> forEach
+    ) {
+        for (FinishedSession session : sessions) {
+            forEach.accept(toJSONMap(session, graphs, worldAliasSettings, formatters,
+                    sessionMap -> sessionMap.get("server_name")));
+        }
+    }
+
     private List<Map<String, Object>> toJSONMaps(
             Graphs graphs,
             WorldAliasSettings worldAliasSettings,
             Formatters formatters,
             Function<Map<String, Object>, Object> nameFunction
     ) {
-        return Lists.map(sessions, session -> {
-            Map<String, Object> sessionMap = new HashMap<>();
-            String playerUUID = session.getPlayerUUID().toString();
-            String serverUUID = session.getServerUUID().toString();
-            String playerName = session.getExtraData(PlayerName.class).map(PlayerName::get).orElse(playerUUID);
-            String serverName = session.getExtraData(ServerName.class).map(ServerName::get).orElse(serverUUID);
-            sessionMap.put("player_name", playerName);
-            sessionMap.put("player_url_name", Html.encodeToURL(playerName));
-            sessionMap.put("player_uuid", playerUUID);
-            sessionMap.put("server_name", serverName);
-            sessionMap.put("server_url_name", Html.encodeToURL(serverName));
-            sessionMap.put("server_uuid", serverUUID);
-            sessionMap.put("name", nameFunction.apply(sessionMap));
-            sessionMap.put("start", formatters.yearLong().apply(session.getStart()) +
-                    (session.getExtraData(ActiveSession.class).isPresent() ? " (Online)" : ""));
-            sessionMap.put("end", formatters.yearLong().apply(session.getEnd()));
-            sessionMap.put("most_used_world", worldAliasSettings.getLongestWorldPlayed(session));
-            sessionMap.put("length", formatters.timeAmount().apply(session.getLength()));
-            sessionMap.put("afk_time", formatters.timeAmount().apply(session.getAfkTime()));
-            sessionMap.put("mob_kills", session.getMobKillCount());
-            sessionMap.put("deaths", session.getDeathCount());
-            sessionMap.put("player_kills", session.getExtraData(PlayerKills.class)
-                    .map(PlayerKills::asMutator)
-                    .map(killsMutator -> killsMutator.toJSONAsMap(formatters))
-                    .orElseGet(ArrayList::new));
-            sessionMap.put("first_session", session.isFirstSession());
-            WorldPie worldPie = graphs.pie().worldPie(session.getExtraData(WorldTimes.class).orElseGet(WorldTimes::new));
-            sessionMap.put("world_series", worldPie.getSlices());
-            sessionMap.put("gm_series", worldPie.toHighChartsDrillDownMaps());
-            sessionMap.put("join_address", session.getExtraData(JoinAddress.class)
-                    .map(JoinAddress::getAddress).orElse("-"));
-
-            session.getExtraData(AveragePing.class).ifPresent(averagePing ->
-                    sessionMap.put("avg_ping", formatters.decimals().apply(averagePing.getValue()) + " ms")
-            );
-            return sessionMap;
-        });
+        return Lists.map(sessions, session -> toJSONMap(session, graphs, worldAliasSettings, formatters, nameFunction));
+    }
+
+    private static Map<String, Object> toJSONMap(
+            FinishedSession session,
+            Graphs graphs,
+            WorldAliasSettings worldAliasSettings,
+            Formatters formatters,
+            Function<Map<String, Object>, Object> nameFunction
+    ) {
+        Map<String, Object> sessionMap = new HashMap<>();
+        String playerUUID = session.getPlayerUUID().toString();
+        String serverUUID = session.getServerUUID().toString();
+        String playerName = session.getExtraData(PlayerName.class).map(PlayerName::get).orElse(playerUUID);
+        String serverName = session.getExtraData(ServerName.class).map(ServerName::get).orElse(serverUUID);
+        sessionMap.put("player_name", playerName);
+        sessionMap.put("player_url_name", Html.encodeToURL(playerName));
+        sessionMap.put("player_uuid", playerUUID);
+        sessionMap.put("server_name", serverName);
+        sessionMap.put("server_url_name", Html.encodeToURL(serverName));
+        sessionMap.put("server_uuid", serverUUID);
+        sessionMap.put("name", nameFunction.apply(sessionMap));
+        sessionMap.put("start", formatters.yearLong().apply(session.getStart()) +
+                (session.getExtraData(ActiveSession.class).isPresent() ? " (Online)" : ""));
+        sessionMap.put("end", formatters.yearLong().apply(session.getEnd()));
+        sessionMap.put("most_used_world", worldAliasSettings.getLongestWorldPlayed(session));
+        sessionMap.put("length", formatters.timeAmount().apply(session.getLength()));
+        sessionMap.put("afk_time", formatters.timeAmount().apply(session.getAfkTime()));
+        sessionMap.put("mob_kills", session.getMobKillCount());
+        sessionMap.put("deaths", session.getDeathCount());
+        sessionMap.put("player_kills", session.getExtraData(PlayerKills.class)
+                .map(PlayerKills::asMutator)
+                .map(killsMutator -> killsMutator.toJSONAsMap(formatters))
+                .orElseGet(ArrayList::new));
+        sessionMap.put("first_session", session.isFirstSession());
+        WorldPie worldPie = graphs.pie().worldPie(session.getExtraData(WorldTimes.class).orElseGet(WorldTimes::new));
+        sessionMap.put("world_series", worldPie.getSlices());
+        sessionMap.put("gm_series", worldPie.toHighChartsDrillDownMaps());
+        sessionMap.put("join_address", session.getExtraData(JoinAddress.class)
+                .map(JoinAddress::getAddress).orElse("-"));
+
+        session.getExtraData(AveragePing.class).ifPresent(averagePing ->
+                sessionMap.put("avg_ping", formatters.decimals().apply(averagePing.getValue()) + " ms")
+        );
+        return sessionMap;
     }
 
     public Optional<FinishedSession> latestSession() {
@@ -311,6 +363,26 @@ public class SessionsMutator {
         return orderedSessions.isEmpty() ? Optional.empty() : Optional.of(orderedSessions.get(0));
     }
 
+    /**
+     * Find the server where most playtime was spent in these sessions.
+     *
+     * @return UUID of the server, or empty if there is no playtime.
+     */
+    public Optional<ServerUUID> favoriteServer() {
+        long max = 0;
+        ServerUUID maxServer = null;
+
+        for (Map.Entry<ServerUUID, List<FinishedSession>> entry : sortByServers(sessions).entrySet()) {
+            long total = new SessionsMutator(entry.getValue()).toPlaytime();
+            if (total > max) {
+                max = total;
+                maxServer = entry.getKey();
+            }
+        }
+
+        return Optional.ofNullable(maxServer);
+    }
+
     public Optional<FinishedSession> previousSession() {
         List<FinishedSession> orderedSessions = sort(new DateHolderRecentComparator()).all();
         for (FinishedSession session : orderedSessions) {
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.delivery.domain.RetentionCohort;
 import com.djrapitops.plan.delivery.domain.RetentionData;
 import com.djrapitops.plan.delivery.domain.datatransfer.PlayerJoinAddresses;
 import com.djrapitops.plan.delivery.domain.datatransfer.ServerDto;
@@ -163,6 +164,40 @@ public class JSONFactory {
         return db.query(PlayerRetentionQueries.fetchRetentionData());
     }
 
+    public Map<String, Object> playerRetentionCohortsAsJSONMap(ServerUUID serverUUID) {
+        Database db = dbSystem.getDatabase();
+        long now = System.currentTimeMillis();
+        return retentionCohortsAsJSONMap(db.query(PlayerRetentionQueries.fetchRetentionCohorts(serverUUID, config.getTimeZone().getOffset(now))), now);
+    }
+
+    public Map<String, Object> networkPlayerRetentionCohortsAsJSONMap() {
+        Database db = dbSystem.getDatabase();
+        long now = System.currentTimeMillis();
+        return retentionCohortsAsJSONMap(db.query(PlayerRetentionQueries.fetchRetentionCohorts(config.getTimeZone().getOffset(now))), now);
+    }
+
+    private static Map<String, Object> retentionCohortsAsJSONMap(List<RetentionCohort> cohorts, long now) {
+        List<Map<String, Object>> cohortMaps = new ArrayList<>();
+        for (RetentionCohort cohort : cohorts) {
+            List<Integer> retained = new ArrayList<>();
+            for (int i = 0; i < RetentionCohort.RETENTION_OFFSETS.size(); i++) {
+                // Nobody in the cohort can have been seen this long after registering yet.
+                boolean notReached = cohort.getCohortStart() + RetentionCohort.RETENTION_OFFSETS.get(i) > now;
+                retained.add(notReached ? null : cohort.getRetained()[i]);
+            }
+            Map<String, Object> cohortMap = new HashMap<>();
+            cohortMap.put("start", cohort.getCohortStart());
+            cohortMap.put("players", cohort.getPlayers());
+            cohortMap.put("retained", retained);
+            cohortMaps.add(cohortMap);
+        }
+        Map<String, Object> json = new HashMap<>();
+        json.put("cohort_length", RetentionCohort.COHORT_LENGTH);
+        json.put("retention_offsets", RetentionCohort.RETENTION_OFFSETS);
+        json.put("cohorts", cohortMaps);
+        return json;
+    }
+
     private static void removeFiltered(Map<UUID, String> addressByPlayerUUID, List<String> filteredJoinAddresses) {
         if (filteredJoinAddresses.isEmpty() || filteredJoinAddresses.equals(List.of("play.example.com"))) return;
 
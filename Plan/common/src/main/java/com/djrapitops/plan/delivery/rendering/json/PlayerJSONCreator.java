@@ -43,6 +43,7 @@ import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerProjection;
 import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerQuery;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
@@ -91,7 +92,7 @@ public class PlayerJSONCreator {
         Database db = dbSystem.getDatabase();
 
         Map<ServerUUID, String> serverNames = db.query(ServerQueries.fetchServerNames());
-        PlayerContainer player = db.query(new PlayerContainerQuery(playerUUID));
+        PlayerContainer player = db.query(new PlayerContainerQuery(playerUUID, planProjection(hasPermission)));
         SessionsMutator sessionsMutator = SessionsMutator.forContainer(player);
 
         PingMutator.forContainer(player).addPingToSessions(sessionsMutator.all());
@@ -151,6 +152,35 @@ public class PlayerJSONCreator {
         return data;
     }
 
+    /**
+     * Plan which keys of the PlayerContainer are read based on which tabs the user can see.
+     *
+     * @param hasPermission Permission check of the user.
+     * @return Projection of the keys that are read when creating the JSON.
+     */
+    static PlayerContainerProjection planProjection(Predicate<WebPermission> hasPermission) {
+        PlayerContainerProjection projection = PlayerContainerProjection.of(PlayerKeys.NAME);
+        if (hasPermission.test(WebPermission.PAGE_PLAYER_OVERVIEW)) {
+            projection = projection.and(
+                    PlayerKeys.SESSIONS, PlayerKeys.PING,
+                    PlayerKeys.NICKNAMES, PlayerKeys.GEO_INFO,
+                    PlayerKeys.OPERATOR, PlayerKeys.BANNED, PlayerKeys.KICK_COUNT,
+                    PlayerKeys.PLAYER_KILL_COUNT, PlayerKeys.MOB_KILL_COUNT, PlayerKeys.DEATH_COUNT,
+                    PlayerKeys.REGISTERED, PlayerKeys.LAST_SEEN
+            );
+        }
+        if (hasPermission.test(WebPermission.PAGE_PLAYER_SESSIONS)) {
+            projection = projection.and(PlayerKeys.SESSIONS, PlayerKeys.PING, PlayerKeys.WORLD_TIMES, PlayerKeys.REGISTERED);
+        }
+        if (hasPermission.test(WebPermission.PAGE_PLAYER_VERSUS)) {
+            projection = projection.and(PlayerKeys.SESSIONS, PlayerKeys.PLAYER_KILLS, PlayerKeys.PLAYER_DEATHS_KILLS);
+        }
+        if (hasPermission.test(WebPermission.PAGE_PLAYER_SERVERS)) {
+            projection = projection.and(PlayerKeys.PER_SERVER, PlayerKeys.PING);
+        }
+        return projection;
+    }
+
     private Map<String, Object> createPingGraphJson(PlayerContainer player) {
         PingGraph pingGraph = graphs.line().pingGraph(player.getUnsafe(PlayerKeys.PING));
         return Maps.builder(String.class, Object.class)
@@ -200,7 +230,6 @@ public class PlayerJSONCreator {
     private Map<String, Object> createInfoJSONMap(PlayerContainer player, Map<ServerUUID, String> serverNames) {
         SessionsMutator sessions = SessionsMutator.forContainer(player);
         ActivityIndex activityIndex = player.getActivityIndex(System.currentTimeMillis(), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD));
-        PerServerMutator perServer = PerServerMutator.forContainer(player);
         PingMutator ping = PingMutator.forContainer(player);
 
         Map<String, Object> info = new HashMap<>();
@@ -222,7 +251,7 @@ public class PlayerJSONCreator {
         info.put("session_median", timeAmount.apply(sessions.toMedianSessionLength()));
         info.put("activity_index", decimals.apply(activityIndex.getValue()));
         info.put("activity_index_group", activityIndex.getGroupLang());
-        info.put("favorite_server", perServer.favoriteServer().map(favoriteServer -> serverNames.getOrDefault(favoriteServer, favoriteServer.toString())).orElse(GenericLang.UNKNOWN.getKey()));
+        info.put("favorite_server", sessions.favoriteServer().map(favoriteServer -> serverNames.getOrDefault(favoriteServer, favoriteServer.toString())).orElse(GenericLang.UNKNOWN.getKey()));
         info.put("latest_join_address", sessions.latestSession()
                 .flatMap(session -> session.getExtraData(JoinAddress.class))
                 .map(JoinAddress::getAddress)
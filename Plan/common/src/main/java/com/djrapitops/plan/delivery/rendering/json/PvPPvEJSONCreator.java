@@ -67,7 +67,7 @@ public class PvPPvEJSONCreator implements ServerTabJSONCreator<Map<String, Objec
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
 
         Map<String, Object> numbers = new HashMap<>();
-        Long pks = db.query(KillQueries.playerKillCount(0L, now, serverUUID));
+        Long pks = db.query(KillQueries.playerKillCount(serverUUID));
         Long pks7d = db.query(KillQueries.playerKillCount(weekAgo, now, serverUUID));
         Long pks30d = db.query(KillQueries.playerKillCount(monthAgo, now, serverUUID));
         numbers.put("player_kills_total", pks);
@@ -78,14 +78,14 @@ public class PvPPvEJSONCreator implements ServerTabJSONCreator<Map<String, Objec
         numbers.put("player_kdr_avg_30d", decimals.apply(db.query(KillQueries.averageKDR(monthAgo, now, serverUUID))));
         numbers.put("player_kdr_avg_7d", decimals.apply(db.query(KillQueries.averageKDR(weekAgo, now, serverUUID))));
 
-        Long mobKills = db.query(KillQueries.mobKillCount(0L, now, serverUUID));
+        Long mobKills = db.query(KillQueries.mobKillCount(serverUUID));
         Long mobKills30d = db.query(KillQueries.mobKillCount(monthAgo, now, serverUUID));
         Long mobKills7d = db.query(KillQueries.mobKillCount(weekAgo, now, serverUUID));
         numbers.put("mob_kills_total", mobKills);
         numbers.put("mob_kills_30d", mobKills30d);
         numbers.put("mob_kills_7d", mobKills7d);
 
-        Long deaths = db.query(KillQueries.deathCount(0L, now, serverUUID));
+        Long deaths = db.query(KillQueries.deathCount(serverUUID));
         Long deaths30d = db.query(KillQueries.deathCount(monthAgo, now, serverUUID));
         Long deaths7d = db.query(KillQueries.deathCount(weekAgo, now, serverUUID));
         numbers.put("deaths_total", deaths);
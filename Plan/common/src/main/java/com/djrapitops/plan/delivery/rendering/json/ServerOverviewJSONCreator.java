@@ -138,9 +138,9 @@ public class ServerOverviewJSONCreator implements ServerTabJSONCreator<Map<Strin
         numbers.put("playtime", totalPlaytime);
         numbers.put("player_playtime", userCount != 0 ? totalPlaytime / userCount : "-");
         numbers.put("sessions", db.query(SessionQueries.sessionCount(0L, now, serverUUID)));
-        numbers.put("player_kills", db.query(KillQueries.playerKillCount(0L, now, serverUUID)));
-        numbers.put("mob_kills", db.query(KillQueries.mobKillCount(0L, now, serverUUID)));
-        numbers.put("deaths", db.query(KillQueries.deathCount(0L, now, serverUUID)));
+        numbers.put("player_kills", db.query(KillQueries.playerKillCount(serverUUID)));
+        numbers.put("mob_kills", db.query(KillQueries.mobKillCount(serverUUID)));
+        numbers.put("deaths", db.query(KillQueries.deathCount(serverUUID)));
         numbers.put("current_uptime", serverUptimeCalculator.getServerUptimeMillis(serverUUID)
                 .map(Object.class::cast)
                 .orElse(GenericLang.UNAVAILABLE.getKey()));
@@ -0,0 +1,165 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.rendering.json;
+
+import com.djrapitops.plan.delivery.domain.SessionCursor;
+import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
+import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.delivery.rendering.json.graphs.Graphs;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.ActiveSession;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DisplaySettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.utilities.comparators.SessionStartComparator;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Creates cursor paginated session lists for /v1/sessionPage.
+ * <p>
+ * Only one page of sessions is fetched from the database (with kills and world times of those sessions),
+ * and each session is written to the JSON as soon as it has been converted.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class SessionPageJSONCreator {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+    private final Graphs graphs;
+    private final Formatters formatters;
+    private final Gson gson;
+
+    @Inject
+    public SessionPageJSONCreator(
+            PlanConfig config,
+            DBSystem dbSystem,
+            ServerInfo serverInfo,
+            Graphs graphs,
+            Formatters formatters,
+            Gson gson
+    ) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        this.graphs = graphs;
+        this.formatters = formatters;
+        this.gson = gson;
+    }
+
+    public int getDefaultPageSize() {
+        return Math.min(config.get(DisplaySettings.SESSIONS_PER_PAGE), MAX_PAGE_SIZE);
+    }
+
+    public String playerSessionPageAsJSON(UUID playerUUID, SessionCursor cursor, int limit) {
+        List<FinishedSession> active = new ArrayList<>();
+        SessionCache.getCachedSession(playerUUID).map(ActiveSession::toFinishedSessionFromStillActive).ifPresent(active::add);
+        return createPage(pageSize -> SessionQueries.fetchSessionPageOfPlayer(playerUUID, cursor, pageSize),
+                cursor, limit, active, false, false);
+    }
+
+    public String serverSessionPageAsJSON(ServerUUID serverUUID, SessionCursor cursor, int limit) {
+        List<FinishedSession> active = serverUUID.equals(serverInfo.getServerUUID()) ? getActiveSessions() : new ArrayList<>();
+        return createPage(pageSize -> SessionQueries.fetchSessionPageOfServer(serverUUID, cursor, pageSize),
+                cursor, limit, active, true, false);
+    }
+
+    public String networkSessionPageAsJSON(SessionCursor cursor, int limit) {
+        List<FinishedSession> active = serverInfo.getServer().isProxy() ? getActiveSessions() : new ArrayList<>();
+        return createPage(pageSize -> SessionQueries.fetchSessionPage(cursor, pageSize),
+                cursor, limit, active, true, true);
+    }
+
+    private List<FinishedSession> getActiveSessions() {
+        List<FinishedSession> sessions = new ArrayList<>();
+        for (ActiveSession activeSession : SessionCache.getActiveSessions()) {
+            sessions.add(activeSession.toFinishedSessionFromStillActive());
+        }
+        return sessions;
+    }
+
+    private String createPage(
+            IntFunction<Query<List<FinishedSession>>> pageQuery,
+            SessionCursor cursor,
+            int limit,
+            List<FinishedSession> activeSessions,
+            boolean playerNames,
+            boolean network
+    ) {
+        // One extra row tells if there is another page.
+        List<FinishedSession> sessions = dbSystem.getDatabase().query(pageQuery.apply(limit + 1));
+        SessionCursor nextCursor = null;
+        if (sessions.size() > limit) {
+            sessions = sessions.subList(0, limit);
+            nextCursor = SessionCursor.after(sessions.get(limit - 1)).orElse(null);
+        }
+
+        List<FinishedSession> page = new ArrayList<>(sessions);
+        if (cursor.isFirstPage() && !activeSessions.isEmpty()) {
+            // Online sessions are not stored yet, so they are shown on top of the first page.
+            activeSessions.sort(new SessionStartComparator());
+            page.addAll(0, activeSessions);
+        }
+
+        StringWriter out = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(out)) {
+            writer.beginObject();
+            writer.name("sessions").beginArray();
+            SessionsMutator mutator = new SessionsMutator(page);
+            if (playerNames) {
+                mutator.forEachPlayerNameJSONMap(graphs, config.getWorldAliasSettings(), formatters, sessionMap -> {
+                    // Add network_server property so that sessions have a server page link
+                    if (network) sessionMap.put("network_server", sessionMap.get("server_name"));
+                    gson.toJson(sessionMap, Map.class, writer);
+                });
+            } else {
+                mutator.forEachServerNameJSONMap(graphs, config.getWorldAliasSettings(), formatters,
+                        sessionMap -> gson.toJson(sessionMap, Map.class, writer));
+            }
+            writer.endArray();
+            writer.name("next_cursor");
+            if (nextCursor != null) {
+                writer.value(nextCursor.asString());
+            } else {
+                writer.nullValue();
+            }
+            writer.name("timestamp").value(System.currentTimeMillis());
+            writer.endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+}
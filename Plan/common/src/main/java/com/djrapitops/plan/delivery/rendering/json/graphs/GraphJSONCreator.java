@@ -24,7 +24,6 @@ import com.djrapitops.plan.delivery.domain.datatransfer.ServerDto;
 import com.djrapitops.plan.delivery.domain.datatransfer.graphs.GraphCollection;
 import com.djrapitops.plan.delivery.domain.datatransfer.graphs.ServerSpecificLineGraph;
 import com.djrapitops.plan.delivery.domain.mutators.MutatorFunctions;
-import com.djrapitops.plan.delivery.domain.mutators.PingMutator;
 import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.rendering.json.graphs.bar.BarGraph;
 import com.djrapitops.plan.delivery.rendering.json.graphs.line.LineGraph;
@@ -418,9 +417,9 @@ public class GraphJSONCreator {
     public String pingGraphsJSON(ServerUUID serverUUID) {
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
-        List<Ping> pings = db.query(PingQueries.fetchPingDataOfServer(now - TimeUnit.DAYS.toMillis(180L), now, serverUUID));
+        List<Ping> pings = db.query(PingQueries.fetchDailyPingDataOfServer(now - TimeUnit.DAYS.toMillis(180L), now, serverUUID));
 
-        PingGraph pingGraph = graphs.line().pingGraph(new PingMutator(pings).mutateToByMinutePings().all());
+        PingGraph pingGraph = graphs.line().pingGraph(pings);
 
         return "{\"min_ping_series\":" + pingGraph.getMinGraph().toHighChartsSeries() +
                 ",\"avg_ping_series\":" + pingGraph.getAvgGraph().toHighChartsSeries() +
@@ -29,6 +29,8 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -44,16 +46,17 @@ public class ResolverSvc implements ResolverService {
     private final PluginLogger logger;
     private final DBSystem dbSystem;
 
-    private final List<Container> basicResolvers;
-    private final List<Container> regexResolvers;
+    private final PrefixTrie basicResolvers;
+    // Replaced on registration, so that requests can read it without locking.
+    private volatile List<Container> regexResolvers;
 
     @Inject
     public ResolverSvc(PlanConfig config, PluginLogger logger, DBSystem dbSystem) {
         this.config = config;
         this.logger = logger;
         this.dbSystem = dbSystem;
-        basicResolvers = new ArrayList<>();
-        regexResolvers = new ArrayList<>();
+        basicResolvers = new PrefixTrie();
+        regexResolvers = Collections.emptyList();
     }
 
     public void register() {
@@ -63,7 +66,6 @@ public class ResolverSvc implements ResolverService {
     @Override
     public void registerResolver(String pluginName, String start, Resolver resolver) {
         basicResolvers.add(new Container(pluginName, checking -> checking.startsWith(start), resolver, start));
-        Collections.sort(basicResolvers);
         Set<String> usedWebPermissions = resolver.usedWebPermissions();
         dbSystem.getDatabase().executeTransaction(new StoreMissingWebPermissionsTransaction(usedWebPermissions));
         if (config.isTrue(PluginSettings.DEV_MODE)) {
@@ -73,8 +75,12 @@ public class ResolverSvc implements ResolverService {
 
     @Override
     public void registerResolverForMatches(String pluginName, Pattern pattern, Resolver resolver) {
-        regexResolvers.add(new Container(pluginName, pattern.asPredicate(), resolver, pattern.pattern()));
-        Collections.sort(regexResolvers);
+        synchronized (this) {
+            List<Container> sorted = new ArrayList<>(regexResolvers);
+            sorted.add(new Container(pluginName, pattern.asPredicate(), resolver, pattern.pattern()));
+            Collections.sort(sorted);
+            regexResolvers = Collections.unmodifiableList(sorted);
+        }
         if (config.isTrue(PluginSettings.DEV_MODE)) {
             logger.info("Registered regex resolver '" + pattern.pattern() + "' for plugin " + pluginName);
         }
@@ -96,11 +102,14 @@ public class ResolverSvc implements ResolverService {
 
     @Override
     public Optional<Resolver> getResolver(String target) {
-        for (Container container : basicResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.resolver);
-        }
+        return findFirstMatch(target).map(container -> container.resolver);
+    }
+
+    private Optional<Container> findFirstMatch(String target) {
+        Optional<Container> basicMatch = basicResolvers.findLongestMatch(target);
+        if (basicMatch.isPresent()) return basicMatch;
         for (Container container : regexResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.resolver);
+            if (container.matcher.test(target)) return Optional.of(container);
         }
         return Optional.empty();
     }
@@ -109,11 +118,9 @@ public class ResolverSvc implements ResolverService {
     public List<Resolver> getResolvers(@Untrusted String target) {
         boolean devMode = config.isTrue(PluginSettings.DEV_MODE);
         List<Resolver> resolvers = new ArrayList<>();
-        for (Container container : basicResolvers) {
-            if (container.matcher.test(target)) {
-                if (devMode) logger.info("Match " + target + " - " + container.plugin + " '" + container.sortBy + "'");
-                resolvers.add(container.resolver);
-            }
+        for (Container container : basicResolvers.findMatches(target)) {
+            if (devMode) logger.info("Match " + target + " - " + container.plugin + " '" + container.sortBy + "'");
+            resolvers.add(container.resolver);
         }
         for (Container container : regexResolvers) {
             if (container.matcher.test(target)) {
@@ -125,13 +132,62 @@ public class ResolverSvc implements ResolverService {
     }
 
     public Optional<String> getPluginInChargeOf(String target) {
-        for (Container container : basicResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.plugin);
+        return findFirstMatch(target).map(container -> container.plugin);
+    }
+
+    /**
+     * Basic resolvers by the characters of their start, so that finding the resolvers for a target only takes as many
+     * steps as there are characters in the target, instead of testing every resolver.
+     */
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        synchronized void add(Container container) {
+            Node node = root;
+            for (char character : container.sortBy.toCharArray()) {
+                node = node.children.computeIfAbsent(character, key -> new Node());
+            }
+            node.containers.add(container);
         }
-        for (Container container : regexResolvers) {
-            if (container.matcher.test(target)) return Optional.of(container.plugin);
+
+        /**
+         * Find resolvers with a start that the target starts with.
+         *
+         * @param target Target path of a request.
+         * @return Matching resolvers, longest start first.
+         */
+        List<Container> findMatches(String target) {
+            List<Node> matchingNodes = findMatchingNodes(target);
+            List<Container> matches = new ArrayList<>();
+            for (int i = matchingNodes.size() - 1; i >= 0; i--) {
+                matches.addAll(matchingNodes.get(i).containers);
+            }
+            return matches;
         }
-        return Optional.empty();
+
+        Optional<Container> findLongestMatch(String target) {
+            List<Node> matchingNodes = findMatchingNodes(target);
+            if (matchingNodes.isEmpty()) return Optional.empty();
+            return Optional.of(matchingNodes.get(matchingNodes.size() - 1).containers.get(0));
+        }
+
+        private List<Node> findMatchingNodes(String target) {
+            List<Node> matchingNodes = new ArrayList<>();
+            Node node = root;
+            int index = 0;
+            while (node != null) {
+                if (!node.containers.isEmpty()) matchingNodes.add(node);
+                if (index >= target.length()) break;
+                node = node.children.get(target.charAt(index));
+                index++;
+            }
+            return matchingNodes;
+        }
+    }
+
+    private static class Node {
+        final Map<Character, Node> children = new ConcurrentHashMap<>();
+        final List<Container> containers = new CopyOnWriteArrayList<>();
     }
 
     private static class Container implements Comparable<Container> {
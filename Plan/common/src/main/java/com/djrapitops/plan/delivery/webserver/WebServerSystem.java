@@ -18,6 +18,8 @@ package com.djrapitops.plan.delivery.webserver;
 
 import com.djrapitops.plan.SubSystem;
 import com.djrapitops.plan.delivery.webserver.auth.ActiveCookieStore;
+import com.djrapitops.plan.delivery.webserver.http.AccessLogger;
+import com.djrapitops.plan.delivery.webserver.http.LiveUpdateStream;
 import com.djrapitops.plan.delivery.webserver.http.WebServer;
 import com.djrapitops.plan.storage.file.PublicHtmlFiles;
 import net.playeranalytics.plugin.server.PluginLogger;
@@ -37,6 +39,8 @@ public class WebServerSystem implements SubSystem {
     private final ActiveCookieStore activeCookieStore;
     private final PublicHtmlFiles publicHtmlFiles;
     private final WebServer webServer;
+    private final AccessLogger accessLogger;
+    private final LiveUpdateStream liveUpdateStream;
     private final PluginLogger logger;
 
     @Inject
@@ -45,11 +49,15 @@ public class WebServerSystem implements SubSystem {
             ActiveCookieStore activeCookieStore,
             PublicHtmlFiles publicHtmlFiles,
             WebServer webServer,
+            AccessLogger accessLogger,
+            LiveUpdateStream liveUpdateStream,
             PluginLogger logger) {
         this.addresses = addresses;
         this.activeCookieStore = activeCookieStore;
         this.publicHtmlFiles = publicHtmlFiles;
         this.webServer = webServer;
+        this.accessLogger = accessLogger;
+        this.liveUpdateStream = liveUpdateStream;
         this.logger = logger;
     }
 
@@ -65,10 +73,18 @@ public class WebServerSystem implements SubSystem {
 
     @Override
     public void disable() {
+        liveUpdateStream.close();
         webServer.disable();
         activeCookieStore.disable();
     }
 
+    /**
+     * Store buffered access log before the database is closed.
+     */
+    public void flushAccessLog() {
+        accessLogger.flush();
+    }
+
     public WebServer getWebServer() {
         return webServer;
     }
@@ -28,9 +28,11 @@ import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashSet;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -42,6 +44,8 @@ public class ActiveCookieExpiryCleanupTask extends TaskSystem.Task {
     private final PluginLogger logger;
 
     private final Map<String, Long> expiryDates;
+    // Ordered by expiry time so that only due cookies are looked at, may contain outdated entries.
+    private final PriorityQueue<Map.Entry<String, Long>> expiryQueue;
     private final Formatter<Long> dateFormatter;
 
     @Inject
@@ -55,6 +59,7 @@ public class ActiveCookieExpiryCleanupTask extends TaskSystem.Task {
         this.activeCookieStore = activeCookieStore;
         this.logger = logger;
         this.expiryDates = new ConcurrentHashMap<>();
+        this.expiryQueue = new PriorityQueue<>(Map.Entry.comparingByValue());
         dateFormatter = formatters.secondLong();
     }
 
@@ -70,18 +75,19 @@ public class ActiveCookieExpiryCleanupTask extends TaskSystem.Task {
     public void run() {
         long time = System.currentTimeMillis();
 
-        Set<String> cookiesToRemove = new HashSet<>();
-        for (Map.Entry<String, Long> entry : expiryDates.entrySet()) {
-            Long expiryTime = entry.getValue();
-            if (expiryTime <= time) {
-                String cookie = entry.getKey();
-                cookiesToRemove.add(cookie);
+        List<String> cookiesToRemove = new ArrayList<>();
+        synchronized (expiryQueue) {
+            while (!expiryQueue.isEmpty() && expiryQueue.peek().getValue() <= time) {
+                Map.Entry<String, Long> expiry = expiryQueue.poll();
+                // Entries of cookies that were removed or given a new expiry earlier are skipped.
+                if (expiryDates.remove(expiry.getKey(), expiry.getValue())) {
+                    cookiesToRemove.add(expiry.getKey());
+                }
             }
         }
 
         for (String cookie : cookiesToRemove) {
             activeCookieStore.get().removeCookie(cookie);
-            expiryDates.remove(cookie);
             if (config.isTrue(PluginSettings.DEV_MODE)) {
                 logger.info("Cookie " + cookie + " has expired: " + dateFormatter.apply(time));
             }
@@ -90,8 +96,22 @@ public class ActiveCookieExpiryCleanupTask extends TaskSystem.Task {
 
     public void addExpiry(String cookie, Long time) {
         expiryDates.put(cookie, time);
+        synchronized (expiryQueue) {
+            expiryQueue.add(new AbstractMap.SimpleImmutableEntry<>(cookie, time));
+        }
         if (config.isTrue(PluginSettings.DEV_MODE)) {
             logger.info("Cookie " + cookie + " will expire " + dateFormatter.apply(time));
         }
     }
+
+    public void removeExpiry(String cookie) {
+        expiryDates.remove(cookie);
+    }
+
+    public void clearExpiries() {
+        expiryDates.clear();
+        synchronized (expiryQueue) {
+            expiryQueue.clear();
+        }
+    }
 }
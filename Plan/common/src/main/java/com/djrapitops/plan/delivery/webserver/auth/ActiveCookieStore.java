@@ -33,6 +33,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -41,6 +42,7 @@ import java.util.concurrent.TimeUnit;
 public class ActiveCookieStore implements SubSystem {
 
     private static final Map<String, User> USERS_BY_COOKIE = new ConcurrentHashMap<>();
+    private static final Map<String, Set<String>> COOKIES_BY_USERNAME = new ConcurrentHashMap<>();
     private static long cookieExpiresAfterMs = TimeUnit.HOURS.toMillis(2L);
 
     private final ActiveCookieExpiryCleanupTask activeCookieExpiryCleanupTask;
@@ -71,15 +73,31 @@ public class ActiveCookieStore implements SubSystem {
         return cookieExpiresAfterMs;
     }
 
-    private static void removeCookieStatic(String cookie) {
-        Holder.getActiveCookieStore().removeCookie(cookie);
+    public static void removeUserCookie(@Untrusted String username) {
+        Holder.getActiveCookieStore().removeCookiesOfUser(username);
     }
 
-    public static void removeUserCookie(@Untrusted String username) {
-        USERS_BY_COOKIE.entrySet().stream().filter(entry -> entry.getValue().getUsername().equals(username))
-                .findAny()
-                .map(Map.Entry::getKey)
-                .ifPresent(ActiveCookieStore::removeCookieStatic);
+    private static void addToIndex(String cookie, User user) {
+        USERS_BY_COOKIE.put(cookie, user);
+        COOKIES_BY_USERNAME.compute(user.getUsername(), (username, cookies) -> {
+            Set<String> userCookies = cookies != null ? cookies : ConcurrentHashMap.newKeySet();
+            userCookies.add(cookie);
+            return userCookies;
+        });
+    }
+
+    private static void removeFromIndex(String cookie) {
+        User user = USERS_BY_COOKIE.remove(cookie);
+        if (user == null) return;
+        COOKIES_BY_USERNAME.computeIfPresent(user.getUsername(), (username, cookies) -> {
+            cookies.remove(cookie);
+            return cookies.isEmpty() ? null : cookies;
+        });
+    }
+
+    private static void clearIndex() {
+        USERS_BY_COOKIE.clear();
+        COOKIES_BY_USERNAME.clear();
     }
 
     private static void setCookiesExpireAfter(Long expireAfterMs) {
@@ -95,8 +113,9 @@ public class ActiveCookieStore implements SubSystem {
     public void reloadActiveCookies() {
         try {
             Map<String, User> cookies = dbSystem.getDatabase().query(WebUserQueries.fetchActiveCookies());
-            USERS_BY_COOKIE.clear();
-            USERS_BY_COOKIE.putAll(cookies);
+            clearIndex();
+            cookies.forEach(ActiveCookieStore::addToIndex);
+            activeCookieExpiryCleanupTask.clearExpiries();
             for (Map.Entry<String, Long> entry : dbSystem.getDatabase().query(WebUserQueries.getCookieExpiryTimes()).entrySet()) {
                 long timeToExpiry = Math.max(entry.getValue() - System.currentTimeMillis(), 0L);
                 activeCookieExpiryCleanupTask.addExpiry(entry.getKey(), System.currentTimeMillis() + timeToExpiry);
@@ -109,7 +128,7 @@ public class ActiveCookieStore implements SubSystem {
 
     @Override
     public void disable() {
-        USERS_BY_COOKIE.clear();
+        clearIndex();
     }
 
     public Optional<User> checkCookie(@Untrusted String cookie) {
@@ -118,7 +137,7 @@ public class ActiveCookieStore implements SubSystem {
 
     public String generateNewCookie(User user) {
         String cookie = DigestUtils.sha256Hex(user.getUsername() + UUID.randomUUID() + System.currentTimeMillis());
-        USERS_BY_COOKIE.put(cookie, user);
+        addToIndex(cookie, user);
         saveNewCookie(user, cookie, System.currentTimeMillis());
         activeCookieExpiryCleanupTask.addExpiry(cookie, System.currentTimeMillis() + cookieExpiresAfterMs);
         return cookie;
@@ -133,10 +152,21 @@ public class ActiveCookieStore implements SubSystem {
     public void removeCookie(@Untrusted String cookie) {
         checkCookie(cookie).map(User::getUsername)
                 .ifPresent(this::deleteCookieByUser);
-        USERS_BY_COOKIE.remove(cookie);
+        removeFromIndex(cookie);
+        activeCookieExpiryCleanupTask.removeExpiry(cookie);
         deleteCookie(cookie);
     }
 
+    private void removeCookiesOfUser(@Untrusted String username) {
+        Set<String> cookies = COOKIES_BY_USERNAME.remove(username);
+        if (cookies == null) return;
+        for (String cookie : cookies) {
+            USERS_BY_COOKIE.remove(cookie);
+            activeCookieExpiryCleanupTask.removeExpiry(cookie);
+        }
+        deleteCookieByUser(username);
+    }
+
     private void deleteCookie(@Untrusted String cookie) {
         dbSystem.getDatabase().executeTransaction(CookieChangeTransaction.removeCookie(cookie));
     }
@@ -55,6 +55,7 @@ public enum DataID {
     LIST_SERVERS,
     JOIN_ADDRESSES_BY_DAY(false),
     PLAYER_RETENTION,
+    PLAYER_RETENTION_COHORTS,
     PLAYER_JOIN_ADDRESSES,
     PLAYER_ALLOWLIST_BOUNCES,
     ;
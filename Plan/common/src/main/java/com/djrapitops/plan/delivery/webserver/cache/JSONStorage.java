@@ -18,7 +18,9 @@ package com.djrapitops.plan.delivery.webserver.cache;
 
 import com.djrapitops.plan.SubSystem;
 import com.google.gson.Gson;
+import org.apache.commons.codec.digest.DigestUtils;
 
+import java.util.Base64;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -68,6 +70,7 @@ public interface JSONStorage extends SubSystem {
     final class StoredJSON {
         public final String json;
         public final long timestamp;
+        private volatile String etag;
 
         public StoredJSON(String json, long timestamp) {
             this.json = json;
@@ -86,6 +89,18 @@ public interface JSONStorage extends SubSystem {
             return timestamp;
         }
 
+        /**
+         * Get a strong ETag for the json, derived from a hash of the content.
+         *
+         * @return Quoted ETag, same for equal json.
+         */
+        public String getEtag() {
+            if (etag == null) {
+                etag = '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(DigestUtils.sha256(json)) + '"';
+            }
+            return etag;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -29,22 +29,36 @@ import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
 
 @Singleton
 public class AccessLogger {
 
+    static final int BUFFER_SIZE = 10_000;
+    static final int FLUSH_SIZE = 500;
+
     private final WebserverConfiguration webserverConfiguration;
     private final DBSystem dbSystem;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
+    // Requests are buffered so that web traffic does not add a transaction per request to the database queue.
+    private final BlockingQueue<StoreRequestTransaction.LoggedRequest> buffer;
+    private final LongAdder dropped;
+
     @Inject
     public AccessLogger(WebserverConfiguration webserverConfiguration, DBSystem dbSystem, PluginLogger logger, ErrorLogger errorLogger) {
         this.webserverConfiguration = webserverConfiguration;
         this.dbSystem = dbSystem;
         this.logger = logger;
         this.errorLogger = errorLogger;
+        this.buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        this.dropped = new LongAdder();
     }
 
     public void log(@Untrusted InternalRequest internalRequest, @Untrusted Request request, Response response) {
@@ -74,21 +88,42 @@ public class AccessLogger {
                     break;
             }
         }
-        try {
-            long timestamp = internalRequest.getTimestamp();
-            String accessAddress = internalRequest.getAccessAddress(webserverConfiguration);
-            String method = internalRequest.getMethod();
-            method = method != null ? method : "?";
-            String url = StoreRequestTransaction.getTruncatedURI(request, internalRequest);
-            int responseCode = response.getCode();
-            dbSystem.getDatabase().executeTransaction(
-                    new StoreRequestTransaction(timestamp, accessAddress, method, url, responseCode)
-            );
-        } catch (CompletionException | DBOpException e) {
-            errorLogger.warn(e, ErrorContext.builder()
-                    .related("Logging request failed")
-                    .related(getRequestURI(internalRequest, request))
-                    .build());
+        long timestamp = internalRequest.getTimestamp();
+        String accessAddress = internalRequest.getAccessAddress(webserverConfiguration);
+        String method = internalRequest.getMethod();
+        method = method != null ? method : "?";
+        String url = StoreRequestTransaction.getTruncatedURI(request, internalRequest);
+        int responseCode = response.getCode();
+        if (!buffer.offer(new StoreRequestTransaction.LoggedRequest(timestamp, accessAddress, method, url, responseCode))) {
+            dropped.increment();
+        } else if (buffer.size() >= FLUSH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Store buffered requests to the database.
+     * <p>
+     * Called when enough requests have been buffered and periodically by {@link AccessLogFlushTask}.
+     */
+    public void flush() {
+        long droppedSinceLastFlush = dropped.sumThenReset();
+        if (droppedSinceLastFlush > 0) {
+            logger.warn("Access log buffer was full, " + droppedSinceLastFlush + " requests were not logged.");
+        }
+
+        List<StoreRequestTransaction.LoggedRequest> requests = new ArrayList<>();
+        while (buffer.drainTo(requests, FLUSH_SIZE) > 0) {
+            try {
+                dbSystem.getDatabase().executeTransaction(new StoreRequestTransaction(requests));
+            } catch (CompletionException | DBOpException e) {
+                errorLogger.warn(e, ErrorContext.builder()
+                        .related("Logging requests failed")
+                        .related(requests.size() + " requests")
+                        .build());
+                return;
+            }
+            requests = new ArrayList<>();
         }
     }
 
@@ -42,16 +42,18 @@ public class JettyRequestHandler extends AbstractHandler {
     private final AuthenticationExtractor authenticationExtractor;
     private final Addresses addresses;
     private final RequestHandler requestHandler;
+    private final LiveUpdateStream liveUpdateStream;
     private final PlanConfig config;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
     @Inject
-    public JettyRequestHandler(WebserverConfiguration webserverConfiguration, AuthenticationExtractor authenticationExtractor, Addresses addresses, RequestHandler requestHandler, PlanConfig config, PluginLogger logger, ErrorLogger errorLogger) {
+    public JettyRequestHandler(WebserverConfiguration webserverConfiguration, AuthenticationExtractor authenticationExtractor, Addresses addresses, RequestHandler requestHandler, LiveUpdateStream liveUpdateStream, PlanConfig config, PluginLogger logger, ErrorLogger errorLogger) {
         this.webserverConfiguration = webserverConfiguration;
         this.authenticationExtractor = authenticationExtractor;
         this.addresses = addresses;
         this.requestHandler = requestHandler;
+        this.liveUpdateStream = liveUpdateStream;
         this.config = config;
         this.logger = logger;
         this.errorLogger = errorLogger;
@@ -62,7 +64,11 @@ public class JettyRequestHandler extends AbstractHandler {
         try {
             InternalRequest internalRequest = new JettyInternalRequest(baseRequest, servletRequest, webserverConfiguration, authenticationExtractor);
             Response response = requestHandler.getResponse(internalRequest);
-            new JettyResponseSender(response, servletRequest, servletResponse, addresses).send();
+            if (liveUpdateStream.isStreamResponse(response)) {
+                liveUpdateStream.subscribe(servletRequest, servletResponse, response, internalRequest.getWebUser(webserverConfiguration, authenticationExtractor));
+            } else {
+                new JettyResponseSender(response, servletRequest, servletResponse, addresses).send();
+            }
             baseRequest.setHandled(true);
         } catch (Exception e) {
             if (config.isTrue(PluginSettings.DEV_MODE)) {
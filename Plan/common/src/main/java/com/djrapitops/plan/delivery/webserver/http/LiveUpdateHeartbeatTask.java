@@ -0,0 +1,52 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.TaskSystem;
+import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task for keeping {@link LiveUpdateStream} connections open between updates.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class LiveUpdateHeartbeatTask extends TaskSystem.Task {
+
+    private final LiveUpdateStream liveUpdateStream;
+
+    @Inject
+    public LiveUpdateHeartbeatTask(LiveUpdateStream liveUpdateStream) {
+        this.liveUpdateStream = liveUpdateStream;
+    }
+
+    @Override
+    public void register(RunnableFactory runnableFactory) {
+        long period = TimeAmount.toTicks(15, TimeUnit.SECONDS);
+        runnableFactory.create(this).runTaskTimerAsynchronously(period, period);
+    }
+
+    @Override
+    public void run() {
+        liveUpdateStream.heartbeat();
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.utilities.java.Maps;
+import com.google.gson.Gson;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpHeader;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Pushes small updates about online players, TPS and ended sessions to browsers with Server-Sent Events.
+ * <p>
+ * Each update is serialized once and queued to every subscriber that is allowed to see it,
+ * so open dashboards do not need to poll the database for these values.
+ * Subscribers are written to by a small pool of threads, one subscriber at a time, and a subscriber
+ * that falls too far behind is disconnected so that it can not hold back the others.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class LiveUpdateStream {
+
+    public static final String MIME_TYPE = "text/event-stream";
+    static final int MAX_SUBSCRIBERS = 100;
+    static final int SUBSCRIBER_QUEUE_SIZE = 50;
+    private static final int SENDER_THREADS = 4;
+    private static final byte[] HEARTBEAT = ": heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Processing processing;
+    private final Collection<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // Responses created by the LiveUpdates endpoint, other responses are never kept open.
+    private final Set<Response> streamResponses = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private ExecutorService sender;
+
+    @Inject
+    public LiveUpdateStream(Processing processing) {
+        this.processing = processing;
+    }
+
+    /**
+     * Create the first bytes of a stream, the response is kept open when it is sent.
+     *
+     * @return Response that {@link #isStreamResponse(Response)} recognizes.
+     */
+    public Response newStreamResponse() {
+        Response response = Response.builder()
+                .setMimeType(MIME_TYPE)
+                .setHeader(HttpHeader.CACHE_CONTROL.asString(), "no-cache")
+                .setContent("retry: 5000\n\n")
+                .build();
+        streamResponses.add(response);
+        return response;
+    }
+
+    /**
+     * Check if the response was created with {@link #newStreamResponse()} and should be kept open.
+     *
+     * @param response Response that is about to be sent.
+     * @return true only once per stream response.
+     */
+    public boolean isStreamResponse(Response response) {
+        return streamResponses.remove(response) && response.getCode() == 200;
+    }
+
+    /**
+     * Keep the response open and send future updates to it.
+     *
+     * @param servletRequest  Request of the subscriber.
+     * @param servletResponse Response to write the updates to.
+     * @param response        Response with headers and the first bytes of the stream.
+     * @param user            User of the subscriber, null if authentication is disabled.
+     * @throws IOException If the first bytes could not be written.
+     */
+    public void subscribe(HttpServletRequest servletRequest, HttpServletResponse servletResponse, Response response, WebUser user) throws IOException {
+        if (subscribers.size() >= MAX_SUBSCRIBERS) {
+            servletResponse.sendError(503, "Too many live update subscribers");
+            return;
+        }
+
+        AsyncContext asyncContext = servletRequest.startAsync();
+        asyncContext.setTimeout(0); // Stream stays open until the client disconnects
+
+        servletResponse.setStatus(response.getCode());
+        for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+            servletResponse.setHeader(header.getKey(), header.getValue());
+        }
+        OutputStream out = servletResponse.getOutputStream();
+        out.write(response.getBytes());
+        out.flush();
+        subscribers.add(new Subscriber(asyncContext, out, user));
+    }
+
+    public void onOnlineCountChange(ServerUUID serverUUID, int online) {
+        publish("online", WebPermission.PAGE_SERVER_OVERVIEW_NUMBERS, () -> Maps.builder(String.class, Object.class)
+                .put("server", serverUUID.toString())
+                .put("online", online)
+                .build());
+    }
+
+    public void onTPS(ServerUUID serverUUID, TPS tps) {
+        publish("tps", WebPermission.PAGE_SERVER_PERFORMANCE_GRAPHS, () -> Maps.builder(String.class, Object.class)
+                .put("server", serverUUID.toString())
+                .put("date", tps.getDate())
+                .put("tps", tps.getTicksPerSecond())
+                .put("players_online", tps.getPlayers())
+                .put("cpu", tps.getCPUUsage())
+                .put("ram", tps.getUsedMemory())
+                .put("entities", tps.getEntityCount())
+                .put("chunks", tps.getChunksLoaded())
+                .put("disk", tps.getFreeDiskSpace())
+                .build());
+    }
+
+    public void onSessionEnd(FinishedSession session) {
+        publish("session", WebPermission.PAGE_SERVER_SESSIONS_LIST, () -> Maps.builder(String.class, Object.class)
+                .put("server", session.getServerUUID().toString())
+                .put("player_uuid", session.getPlayerUUID().toString())
+                .put("start", session.getStart())
+                .put("end", session.getEnd())
+                .put("afk_time", session.getAfkTime())
+                .put("mob_kills", session.getMobKillCount())
+                .put("player_kills", session.getPlayerKillCount())
+                .put("deaths", session.getDeathCount())
+                .build());
+    }
+
+    private void publish(String event, WebPermission permission, Supplier<Map<String, Object>> data) {
+        if (subscribers.isEmpty()) return;
+
+        byte[] bytes = ("event: " + event + "\ndata: " + new Gson().toJson(data.get()) + "\n\n").getBytes(StandardCharsets.UTF_8);
+        send(bytes, permission);
+    }
+
+    /**
+     * Write a comment to all subscribers so that idle connections are not closed, and disconnected clients are noticed.
+     */
+    public void heartbeat() {
+        if (subscribers.isEmpty()) return;
+        send(HEARTBEAT, null);
+    }
+
+    private void send(byte[] bytes, WebPermission permission) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.canSee(permission)) continue;
+            if (!subscriber.queue.offer(bytes)) {
+                // Subscriber is too slow to receive updates, it gets the data on next page load instead.
+                disconnect(subscriber);
+                continue;
+            }
+            scheduleWrite(subscriber);
+        }
+    }
+
+    private void scheduleWrite(Subscriber subscriber) {
+        // At most one write task per subscriber keeps the updates of each subscriber in order.
+        if (!subscriber.writing.compareAndSet(false, true)) return;
+        try {
+            getSender().execute(() -> writeQueued(subscriber));
+        } catch (RejectedExecutionException shuttingDown) {
+            subscriber.writing.set(false);
+            disconnect(subscriber);
+        }
+    }
+
+    private synchronized ExecutorService getSender() {
+        if (sender == null) {
+            // Every subscriber has at most one task in the queue.
+            sender = processing.createBoundedExecutor(SENDER_THREADS, MAX_SUBSCRIBERS, "Plan LiveUpdates-%d");
+        }
+        return sender;
+    }
+
+    private void writeQueued(Subscriber subscriber) {
+        try {
+            byte[] bytes;
+            while ((bytes = subscriber.queue.poll()) != null) {
+                subscriber.write(bytes);
+            }
+        } catch (IOException | IllegalStateException disconnected) {
+            disconnect(subscriber);
+            return;
+        } finally {
+            subscriber.writing.set(false);
+        }
+        // Updates queued after the last poll, but before writing was set to false.
+        if (!subscriber.queue.isEmpty() && subscribers.contains(subscriber)) {
+            scheduleWrite(subscriber);
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.queue.clear();
+        subscriber.close();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Close all streams, called before the webserver is stopped.
+     */
+    public synchronized void close() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        subscribers.clear();
+        if (sender != null) {
+            sender.shutdownNow();
+            sender = null;
+        }
+    }
+
+    private static class Subscriber {
+        private final AsyncContext asyncContext;
+        private final OutputStream out;
+        private final WebUser user;
+        private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(SUBSCRIBER_QUEUE_SIZE);
+        private final AtomicBoolean writing = new AtomicBoolean(false);
+
+        Subscriber(AsyncContext asyncContext, OutputStream out, WebUser user) {
+            this.asyncContext = asyncContext;
+            this.out = out;
+            this.user = user;
+        }
+
+        boolean canSee(WebPermission permission) {
+            return permission == null || user == null || user.hasPermission(permission);
+        }
+
+        void write(byte[] bytes) throws IOException {
+            out.write(bytes);
+            out.flush();
+        }
+
+        void close() {
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException alreadyCompleted) {
+                // Client disconnected before
+            }
+        }
+    }
+}
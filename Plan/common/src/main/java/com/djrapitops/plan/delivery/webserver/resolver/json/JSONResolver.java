@@ -26,6 +26,7 @@ import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
 import com.djrapitops.plan.identification.Identifiers;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Maps;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jetty.http.HttpHeader;
 
 import java.util.Optional;
@@ -45,11 +46,13 @@ public abstract class JSONResolver implements Resolver {
                     .build();
         }
 
-        Optional<Long> browserCached = Identifiers.getEtag(request);
-        if (browserCached.isPresent() && browserCached.get() == storedJSON.getTimestamp()) {
+        String etag = storedJSON.getEtag();
+        @Untrusted Optional<String> browserCached = Identifiers.getStringEtag(request);
+        if (browserCached.isPresent() && matchesEtag(browserCached.get(), etag)) {
             return Response.builder()
                     .setStatus(304)
                     .setContent(new byte[0])
+                    .setHeader(HttpHeader.ETAG.asString(), etag)
                     .build();
         }
 
@@ -58,10 +61,21 @@ public abstract class JSONResolver implements Resolver {
                 .setJSONContent(storedJSON.getJson())
                 .setHeader(HttpHeader.CACHE_CONTROL.asString(), CacheStrategy.CHECK_ETAG_USER_SPECIFIC)
                 .setHeader(HttpHeader.LAST_MODIFIED.asString(), getHttpLastModifiedFormatter().apply(storedJSON.getTimestamp()))
-                .setHeader(HttpHeader.ETAG.asString(), storedJSON.getTimestamp())
+                .setHeader(HttpHeader.ETAG.asString(), etag)
                 .build();
     }
 
+    private static boolean matchesEtag(@Untrusted String ifNoneMatch, String etag) {
+        for (@Untrusted String browserEtag : StringUtils.split(ifNoneMatch, ',')) {
+            String trimmed = browserEtag.trim();
+            // If-None-Match uses weak comparison, so W/ prefix is ignored
+            if ("*".equals(trimmed) || etag.equals(StringUtils.removeStart(trimmed, "W/"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected abstract Formatter<Long> getHttpLastModifiedFormatter();
 
 }
@@ -0,0 +1,72 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.delivery.webserver.http.LiveUpdateStream;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * Resolves /v1/liveUpdates requests.
+ * <p>
+ * The response is kept open by {@link LiveUpdateStream}, which sends 'online', 'tps' and 'session' events to it.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+@Path("/v1/liveUpdates")
+public class LiveUpdatesResolver implements Resolver {
+
+    private final LiveUpdateStream liveUpdateStream;
+
+    @Inject
+    public LiveUpdatesResolver(LiveUpdateStream liveUpdateStream) {
+        this.liveUpdateStream = liveUpdateStream;
+    }
+
+    @Override
+    public boolean canAccess(@Untrusted Request request) {
+        WebUser user = request.getUser().orElse(new WebUser(""));
+        return user.hasPermission(WebPermission.PAGE_SERVER_OVERVIEW_NUMBERS)
+                || user.hasPermission(WebPermission.PAGE_SERVER_PERFORMANCE_GRAPHS)
+                || user.hasPermission(WebPermission.PAGE_SERVER_SESSIONS_LIST);
+    }
+
+    @GET
+    @Operation(
+            description = "Stream of Server-Sent Events: 'online' when players join or leave, 'tps' every minute and 'session' when a session ends. " +
+                    "Events are only sent if the user has permission to see them on the server page.",
+            responses = @ApiResponse(responseCode = "200", content = @Content(mediaType = LiveUpdateStream.MIME_TYPE))
+    )
+    @Override
+    public Optional<Response> resolve(@Untrusted Request request) {
+        return Optional.of(liveUpdateStream.newStreamResponse());
+    }
+}
@@ -65,6 +65,7 @@ public class RootJSONResolver {
 
             GraphsJSONResolver graphsJSONResolver,
             SessionsJSONResolver sessionsJSONResolver,
+            SessionPageJSONResolver sessionPageJSONResolver,
             PlayersJSONResolver playersJSONResolver,
             PlayersTableJSONResolver playersTableJSONResolver,
             ServerOverviewJSONCreator serverOverviewJSONCreator,
@@ -88,6 +89,8 @@ public class RootJSONResolver {
             ServerIdentityJSONResolver serverIdentityJSONResolver,
             ExtensionJSONResolver extensionJSONResolver,
             RetentionJSONResolver retentionJSONResolver,
+            RetentionCohortsJSONResolver retentionCohortsJSONResolver,
+            LiveUpdatesResolver liveUpdatesResolver,
             PlayerJoinAddressJSONResolver playerJoinAddressJSONResolver,
             PluginHistoryJSONResolver pluginHistoryJSONResolver,
             AllowlistJSONResolver allowlistJSONResolver,
@@ -107,6 +110,7 @@ public class RootJSONResolver {
                 .add("players", playersJSONResolver)
                 .add("playersTable", playersTableJSONResolver)
                 .add("sessions", sessionsJSONResolver)
+                .add("sessionPage", sessionPageJSONResolver)
                 .add("kills", playerKillsJSONResolver)
                 .add("graph", graphsJSONResolver)
                 .add("pingTable", forJSON(DataID.PING_TABLE, jsonFactory::pingPerGeolocation, WebPermission.PAGE_SERVER_GEOLOCATIONS_PING_PER_COUNTRY))
@@ -129,6 +133,8 @@ public class RootJSONResolver {
                 .add("whoami", whoAmIJSONResolver)
                 .add("extensionData", extensionJSONResolver)
                 .add("retention", retentionJSONResolver)
+                .add("retentionCohorts", retentionCohortsJSONResolver)
+                .add("liveUpdates", liveUpdatesResolver)
                 .add("joinAddresses", playerJoinAddressJSONResolver)
                 .add("preferences", preferencesJSONResolver)
                 .add("gameAllowlistBounces", allowlistJSONResolver);
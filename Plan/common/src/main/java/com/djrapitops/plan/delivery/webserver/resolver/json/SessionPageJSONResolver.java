@@ -0,0 +1,162 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.domain.SessionCursor;
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.rendering.json.SessionPageJSONCreator;
+import com.djrapitops.plan.delivery.web.resolver.MimeType;
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.web.resolver.request.URIQuery;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves /v1/sessionPage JSON requests.
+ * <p>
+ * Returns one page of sessions of a player, server or the whole network, and a cursor for the next page.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+@Path("/v1/sessionPage")
+public class SessionPageJSONResolver implements Resolver {
+
+    private final Identifiers identifiers;
+    private final SessionPageJSONCreator jsonCreator;
+
+    @Inject
+    public SessionPageJSONResolver(
+            Identifiers identifiers,
+            SessionPageJSONCreator jsonCreator
+    ) {
+        this.identifiers = identifiers;
+        this.jsonCreator = jsonCreator;
+    }
+
+    @Override
+    public boolean canAccess(Request request) {
+        WebUser user = request.getUser().orElse(new WebUser(""));
+        if (request.getQuery().get("player").isPresent()) {
+            return user.hasPermission(WebPermission.PAGE_PLAYER_SESSIONS) && canAccessPlayer(request, user);
+        }
+        if (request.getQuery().get("server").isPresent()) {
+            return user.hasPermission(WebPermission.PAGE_SERVER_SESSIONS_LIST);
+        }
+        return user.hasPermission(WebPermission.PAGE_NETWORK_SESSIONS_LIST);
+    }
+
+    private boolean canAccessPlayer(Request request, WebUser user) {
+        if (user.hasPermission(WebPermission.ACCESS_PLAYER)) return true;
+        if (user.hasPermission(WebPermission.ACCESS_PLAYER_SELF)) {
+            try {
+                UUID webUserUUID = identifiers.getPlayerUUID(user.getName());
+                UUID playerUUID = identifiers.getPlayerUUID(request);
+                return playerUUID.equals(webUserUUID);
+            } catch (BadRequestException userDoesntExist) {
+                return false; // Don't give away who has played on the server to someone with level 2 access
+            }
+        }
+        return false;
+    }
+
+    @GET
+    @Operation(
+            description = "Get a page of sessions for a player, a server or whole network, most recent first",
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(mediaType = MimeType.JSON)),
+                    @ApiResponse(responseCode = "400", description = "If 'player' or 'server' is not found, or 'cursor' or 'limit' is invalid")
+            },
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "player", description = "Identifier for the player (optional)", examples = {
+                            @ExampleObject("dade56b7-366a-495a-a087-5bf0178536d4"),
+                            @ExampleObject("AuroraLS3"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "server", description = "Server identifier to get data for (optional)", examples = {
+                            @ExampleObject("Server 1"),
+                            @ExampleObject("1"),
+                            @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "cursor", description = "Value of 'next_cursor' from the previous page (optional)"),
+                    @Parameter(in = ParameterIn.QUERY, name = "limit", description = "Maximum number of sessions on the page, at most " + SessionPageJSONCreator.MAX_PAGE_SIZE + " (optional)"),
+            },
+            requestBody = @RequestBody(content = @Content(examples = @ExampleObject()))
+    )
+    @Override
+    public Optional<Response> resolve(Request request) {
+        return Optional.of(getResponse(request));
+    }
+
+    private Response getResponse(@Untrusted Request request) {
+        @Untrusted URIQuery query = request.getQuery();
+        SessionCursor cursor = getCursor(query);
+        int limit = getLimit(query);
+
+        String json;
+        if (query.get("player").isPresent()) {
+            UUID playerUUID = identifiers.getPlayerUUID(request); // Can throw BadRequestException
+            json = jsonCreator.playerSessionPageAsJSON(playerUUID, cursor, limit);
+        } else if (query.get("server").isPresent()) {
+            ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
+            json = jsonCreator.serverSessionPageAsJSON(serverUUID, cursor, limit);
+        } else {
+            json = jsonCreator.networkSessionPageAsJSON(cursor, limit);
+        }
+        return Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(json)
+                .build();
+    }
+
+    private SessionCursor getCursor(@Untrusted URIQuery query) {
+        Optional<String> cursor = query.get("cursor");
+        if (cursor.isEmpty()) return SessionCursor.firstPage();
+        return SessionCursor.parse(cursor.get())
+                .orElseThrow(() -> new BadRequestException("'cursor' is not a valid session cursor"));
+    }
+
+    private int getLimit(@Untrusted URIQuery query) {
+        try {
+            int limit = query.get("limit").map(Integer::parseInt).orElseGet(jsonCreator::getDefaultPageSize);
+            if (limit < 1 || limit > SessionPageJSONCreator.MAX_PAGE_SIZE) {
+                throw new BadRequestException("'limit' must be between 1 and " + SessionPageJSONCreator.MAX_PAGE_SIZE);
+            }
+            return limit;
+        } catch (@Untrusted NumberFormatException e) {
+            throw new BadRequestException("'limit' is not a number");
+        }
+    }
+}
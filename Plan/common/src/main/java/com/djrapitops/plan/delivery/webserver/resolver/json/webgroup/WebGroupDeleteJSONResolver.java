@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.delivery.webserver.resolver.json.webgroup;
 
+import com.djrapitops.plan.commands.TabCompleteCache;
 import com.djrapitops.plan.delivery.domain.auth.WebPermission;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Resolver;
@@ -51,11 +52,13 @@ public class WebGroupDeleteJSONResolver implements Resolver {
 
     private final DBSystem dbSystem;
     private final ActiveCookieStore activeCookieStore;
+    private final TabCompleteCache tabCompleteCache;
 
     @Inject
-    public WebGroupDeleteJSONResolver(DBSystem dbSystem, ActiveCookieStore activeCookieStore) {
+    public WebGroupDeleteJSONResolver(DBSystem dbSystem, ActiveCookieStore activeCookieStore, TabCompleteCache tabCompleteCache) {
         this.dbSystem = dbSystem;
         this.activeCookieStore = activeCookieStore;
+        this.tabCompleteCache = tabCompleteCache;
     }
 
     @Override
@@ -99,6 +102,7 @@ public class WebGroupDeleteJSONResolver implements Resolver {
             throw new IllegalStateException(e);
         }
         activeCookieStore.reloadActiveCookies();
+        tabCompleteCache.removeWebGroupIdentifier(groupName);
 
         return Response.builder()
                 .setStatus(200)
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.delivery.webserver.resolver.json.webgroup;
 
+import com.djrapitops.plan.commands.TabCompleteCache;
 import com.djrapitops.plan.delivery.domain.auth.GroupList;
 import com.djrapitops.plan.delivery.domain.auth.WebPermission;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
@@ -56,11 +57,13 @@ public class WebGroupSaveJSONResolver implements Resolver {
 
     private final DBSystem dbSystem;
     private final ActiveCookieStore activeCookieStore;
+    private final TabCompleteCache tabCompleteCache;
 
     @Inject
-    public WebGroupSaveJSONResolver(DBSystem dbSystem, ActiveCookieStore activeCookieStore) {
+    public WebGroupSaveJSONResolver(DBSystem dbSystem, ActiveCookieStore activeCookieStore, TabCompleteCache tabCompleteCache) {
         this.dbSystem = dbSystem;
         this.activeCookieStore = activeCookieStore;
+        this.tabCompleteCache = tabCompleteCache;
     }
 
     @Override
@@ -104,6 +107,7 @@ public class WebGroupSaveJSONResolver implements Resolver {
             throw new IllegalStateException(e);
         }
         activeCookieStore.reloadActiveCookies();
+        tabCompleteCache.addWebGroupIdentifier(groupName);
 
         return Response.builder()
                 .setStatus(200)
@@ -23,11 +23,14 @@ import com.djrapitops.plan.extension.implementation.ExtensionRegister;
 import com.djrapitops.plan.extension.implementation.ExtensionWrapper;
 import com.djrapitops.plan.extension.implementation.builder.ExtDataBuilder;
 import com.djrapitops.plan.extension.implementation.providers.gathering.DataValueGatherer;
+import com.djrapitops.plan.extension.implementation.providers.gathering.ExtensionBulkhead;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.UUIDUtility;
 import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.query.QuerySvc;
 import com.djrapitops.plan.settings.config.ExtensionSettings;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -36,10 +39,13 @@ import net.playeranalytics.plugin.server.PluginLogger;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -72,6 +78,7 @@ public class ExtensionSvc implements ExtensionService {
             Processing processing,
             ExtensionRegister extensionRegister,
             UUIDUtility uuidUtility,
+            QuerySvc queryService,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -87,6 +94,10 @@ public class ExtensionSvc implements ExtensionService {
 
         extensionGatherers = new HashMap<>();
         enabled = new AtomicBoolean(true);
+
+        // Removed values need to be written again even if they have not changed.
+        queryService.subscribeToPlayerRemoveEvent(this::clearStoredValues);
+        queryService.subscribeDataClearEvent(this::clearStoredValues);
     }
 
     public void register() {
@@ -96,6 +107,10 @@ public class ExtensionSvc implements ExtensionService {
     public void registerExtensions() {
         try {
             enabled.set(true);
+            // Extensions registered by other plugins stay registered over a reload
+            for (DataValueGatherer gatherer : getGatherers()) {
+                gatherer.restart();
+            }
             extensionRegister.registerBuiltInExtensions(config.getExtensionSettings().getDisabled());
         } catch (IllegalStateException failedToRegisterOne) {
             ErrorContext.Builder context = ErrorContext.builder()
@@ -120,9 +135,10 @@ public class ExtensionSvc implements ExtensionService {
             logger.warn("DataExtension API implementation mistake for " + pluginName + ": " + warning);
         }
 
-        DataValueGatherer gatherer = new DataValueGatherer(extension, dbSystem, componentService, serverInfo, errorLogger);
+        DataValueGatherer gatherer = new DataValueGatherer(extension, dbSystem, componentService, serverInfo, errorLogger, createBulkhead(pluginName));
         gatherer.storeExtensionInformation();
-        extensionGatherers.put(pluginName, gatherer);
+        DataValueGatherer replaced = extensionGatherers.put(pluginName, gatherer);
+        if (replaced != null) replaced.shutdown();
 
         processing.submitNonCritical(() -> updateServerValues(gatherer, CallEvents.SERVER_EXTENSION_REGISTER));
 
@@ -132,7 +148,17 @@ public class ExtensionSvc implements ExtensionService {
 
     @Override
     public void unregister(DataExtension extension) {
-        extensionGatherers.remove(extension.getPluginName());
+        DataValueGatherer removed = extensionGatherers.remove(extension.getPluginName());
+        if (removed != null) removed.shutdown();
+    }
+
+    private ExtensionBulkhead createBulkhead(String pluginName) {
+        long timeoutMs = config.getOrDefault(TimeSettings.EXTENSION_PROVIDER_TIMEOUT, TimeUnit.SECONDS.toMillis(5L));
+        long circuitBreakMs = config.getOrDefault(TimeSettings.EXTENSION_PROVIDER_CIRCUIT_BREAK, TimeUnit.MINUTES.toMillis(10L));
+        String threadName = "Plan Extension " + pluginName.replace("%", "%%") + "-%d";
+        return new ExtensionBulkhead(pluginName,
+                () -> processing.createBoundedExecutor(ExtensionBulkhead.CONCURRENCY, ExtensionBulkhead.QUEUE_SIZE, threadName),
+                timeoutMs, circuitBreakMs, logger);
     }
 
     @Override
@@ -195,7 +221,26 @@ public class ExtensionSvc implements ExtensionService {
         gatherer.updateValues();
     }
 
+    public void clearStoredValues() {
+        for (DataValueGatherer gatherer : getGatherers()) {
+            gatherer.clearStoredValues();
+        }
+    }
+
+    public void clearStoredValues(UUID playerUUID) {
+        for (DataValueGatherer gatherer : getGatherers()) {
+            gatherer.clearStoredValues(playerUUID);
+        }
+    }
+
+    public List<DataValueGatherer> getGatherers() {
+        return new ArrayList<>(extensionGatherers.values());
+    }
+
     public void disableUpdates() {
         enabled.set(false);
+        for (DataValueGatherer gatherer : getGatherers()) {
+            gatherer.shutdown();
+        }
     }
 }
\ No newline at end of file
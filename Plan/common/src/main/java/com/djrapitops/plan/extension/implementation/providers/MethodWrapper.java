@@ -21,13 +21,13 @@ import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.NotReadyException;
 import com.djrapitops.plan.extension.implementation.MethodType;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * Wrap a Method so that it is easier to call.
+ * <p>
+ * The method is compiled into a {@link ProviderInvoker} when the wrapper is created, so wrappers should be reused.
  *
  * @author AuroraLS3
  */
@@ -36,33 +36,33 @@ public class MethodWrapper<T> {
     private final Method method;
     private final Class<T> returnType;
     private final MethodType methodType;
+    private final Class<?> parameterType;
+    private final ProviderInvoker invoker;
     private boolean disabled = false;
 
     public MethodWrapper(Method method, Class<T> returnType) {
         this.method = method;
         this.returnType = returnType;
         methodType = MethodType.forMethod(this.method);
+        parameterType = method.getParameterCount() == 0 ? null : method.getParameterTypes()[0];
+        invoker = ProviderInvoker.compile(method);
     }
 
     public T callMethod(DataExtension extension, Parameters with) {
         if (disabled) return null;
+        Object value;
         try {
-            return returnType.cast(with.usingOn(extension, method));
-        } catch (InvocationTargetException notReadyToBeCalled) {
-            Throwable cause = notReadyToBeCalled.getCause();
-            if (cause instanceof NotReadyException || cause instanceof UnsupportedOperationException) {
-                return null; // Data or API not available to make the call.
-            } else {
-                throw new DataExtensionMethodCallException(getErrorMessage(extension, notReadyToBeCalled), notReadyToBeCalled, extension.getPluginName(), getMethodName());
-            }
-        } catch (IllegalAccessException e) {
-            throw new DataExtensionMethodCallException(extension.getPluginName() + '.' + getMethodName() + " could not be accessed: " + e.getMessage(), e, extension.getPluginName(), getMethodName());
+            value = invoker.invoke(extension, with.getArgument(parameterType));
+        } catch (NotReadyException | UnsupportedOperationException notReadyToBeCalled) {
+            return null; // Data or API not available to make the call.
+        } catch (Throwable e) {
+            throw new DataExtensionMethodCallException(getErrorMessage(extension, e), e, extension.getPluginName(), getMethodName());
         }
+        return returnType.cast(value);
     }
 
-    private String getErrorMessage(DataExtension extension, InvocationTargetException e) {
-        Optional<Throwable> actualCause = Optional.ofNullable(e.getCause()); // InvocationTargetException
-        return extension.getPluginName() + '.' + getMethodName() + " errored: " + actualCause.orElse(e).toString();
+    private String getErrorMessage(DataExtension extension, Throwable e) {
+        return extension.getPluginName() + '.' + getMethodName() + " errored: " + e.toString();
     }
 
     public String getMethodName() {
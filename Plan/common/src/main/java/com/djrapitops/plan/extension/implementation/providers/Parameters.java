@@ -16,13 +16,10 @@
  */
 package com.djrapitops.plan.extension.implementation.providers;
 
-import com.djrapitops.plan.extension.DataExtension;
 import com.djrapitops.plan.extension.Group;
 import com.djrapitops.plan.extension.implementation.MethodType;
 import com.djrapitops.plan.identification.ServerUUID;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.UUID;
 
 public interface Parameters {
@@ -38,7 +35,13 @@ public interface Parameters {
         return new GroupParameters(serverUUID, groupName);
     }
 
-    Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException;
+    /**
+     * Get the value to give to a provider method parameter.
+     *
+     * @param parameterType Type of the parameter of the provider method, or null if it has no parameters.
+     * @return Value for the parameter, or null if the method has no parameters.
+     */
+    Object getArgument(Class<?> parameterType);
 
     MethodType getMethodType();
 
@@ -60,8 +63,8 @@ public interface Parameters {
         }
 
         @Override
-        public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
-            return method.invoke(extension);
+        public Object getArgument(Class<?> parameterType) {
+            return null;
         }
 
         @Override
@@ -91,13 +94,8 @@ public interface Parameters {
         }
 
         @Override
-        public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
-            Class<?> parameterType = method.getParameterTypes()[0];
-            if (UUID.class.equals(parameterType)) {
-                return method.invoke(extension, playerUUID);
-            } else {
-                return method.invoke(extension, playerName);
-            }
+        public Object getArgument(Class<?> parameterType) {
+            return UUID.class.equals(parameterType) ? playerUUID : playerName;
         }
 
         @Override
@@ -120,9 +118,9 @@ public interface Parameters {
         }
 
         @Override
-        public Object usingOn(DataExtension extension, Method method) throws InvocationTargetException, IllegalAccessException {
+        public Object getArgument(Class<?> parameterType) {
             Group group = this::getGroupName;
-            return method.invoke(extension, group);
+            return group;
         }
 
         public String getGroupName() {
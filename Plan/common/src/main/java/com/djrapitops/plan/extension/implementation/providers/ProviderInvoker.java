@@ -0,0 +1,145 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import java.lang.invoke.*;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Direct invoker for a DataExtension provider method, compiled once when the extension is registered.
+ * <p>
+ * The method is bound to a generated {@link Function} or {@link BiFunction} with {@link LambdaMetafactory} so that
+ * calls are as fast as regular interface calls. If the extension class does not allow that, a {@link MethodHandle}
+ * is used instead, and core reflection as the last resort.
+ * <p>
+ * Exceptions thrown by the provider method are thrown as is, without {@link InvocationTargetException} wrapping.
+ *
+ * @author AuroraLS3
+ */
+public abstract class ProviderInvoker {
+
+    private final String strategy;
+
+    ProviderInvoker(String strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Compile an invoker for a provider method that takes zero or one parameters.
+     *
+     * @param method Method of a DataExtension, made accessible if necessary.
+     * @return Invoker for the method.
+     * @throws IllegalArgumentException If the method has more than one parameter.
+     */
+    public static ProviderInvoker compile(Method method) {
+        if (method.getParameterCount() > 1) {
+            throw new IllegalArgumentException(method.getName() + " has too many parameters, only one parameter is required.");
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+            try {
+                return lambda(lookup, handle, method.getParameterCount());
+            } catch (Throwable lambdaNotAllowed) {
+                return methodHandle(handle, method.getParameterCount());
+            }
+        } catch (IllegalAccessException | RuntimeException lookupNotAllowed) {
+            return reflection(method);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProviderInvoker lambda(MethodHandles.Lookup lookup, MethodHandle handle, int parameterCount) throws Throwable {
+        MethodType instantiatedType = handle.type().wrap();
+        if (parameterCount == 0) {
+            Function<Object, Object> function = (Function<Object, Object>) LambdaMetafactory.metafactory(
+                    lookup, "apply", MethodType.methodType(Function.class),
+                    MethodType.genericMethodType(1), handle, instantiatedType
+            ).getTarget().invoke();
+            return new ProviderInvoker("LambdaMetafactory") {
+                @Override
+                public Object invoke(Object extension, Object parameter) {
+                    return function.apply(extension);
+                }
+            };
+        }
+        BiFunction<Object, Object, Object> function = (BiFunction<Object, Object, Object>) LambdaMetafactory.metafactory(
+                lookup, "apply", MethodType.methodType(BiFunction.class),
+                MethodType.genericMethodType(2), handle, instantiatedType
+        ).getTarget().invoke();
+        return new ProviderInvoker("LambdaMetafactory") {
+            @Override
+            public Object invoke(Object extension, Object parameter) {
+                return function.apply(extension, parameter);
+            }
+        };
+    }
+
+    private static ProviderInvoker methodHandle(MethodHandle handle, int parameterCount) {
+        MethodHandle generic = handle.asType(MethodType.genericMethodType(parameterCount + 1));
+        if (parameterCount == 0) {
+            return new ProviderInvoker("MethodHandle") {
+                @Override
+                public Object invoke(Object extension, Object parameter) throws Throwable {
+                    return generic.invokeExact(extension);
+                }
+            };
+        }
+        return new ProviderInvoker("MethodHandle") {
+            @Override
+            public Object invoke(Object extension, Object parameter) throws Throwable {
+                return generic.invokeExact(extension, parameter);
+            }
+        };
+    }
+
+    private static ProviderInvoker reflection(Method method) {
+        boolean noParameters = method.getParameterCount() == 0;
+        return new ProviderInvoker("Reflection") {
+            @Override
+            public Object invoke(Object extension, Object parameter) throws Throwable {
+                try {
+                    return noParameters ? method.invoke(extension) : method.invoke(extension, parameter);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause() != null ? e.getCause() : e;
+                }
+            }
+        };
+    }
+
+    /**
+     * Call the provider method.
+     *
+     * @param extension DataExtension instance the method belongs to.
+     * @param parameter Parameter of the method, ignored if the method has no parameters.
+     * @return Value returned by the method, primitives are boxed.
+     * @throws Throwable Anything the method throws.
+     */
+    public abstract Object invoke(Object extension, Object parameter) throws Throwable;
+
+    /**
+     * Get the name of the mechanism used to call the method.
+     *
+     * @return LambdaMetafactory, MethodHandle or Reflection
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.component.Component;
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.annotation.*;
+import com.djrapitops.plan.extension.builder.ExtensionDataBuilder;
+import com.djrapitops.plan.extension.extractor.ExtensionMethod;
+import com.djrapitops.plan.extension.extractor.ExtensionMethods;
+import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
+import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.table.Table;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Provider method of a DataExtension that has been compiled for calling, with its annotations read in advance.
+ *
+ * @author AuroraLS3
+ */
+class CompiledProvider {
+
+    private final Kind kind;
+    private final ExtensionMethod method;
+    private final MethodWrapper<?> wrapper;
+    private final Annotation annotation;
+    private final Conditional conditional;
+    private final Tab tab;
+
+    CompiledProvider(Kind kind, ExtensionMethod method) {
+        this.kind = kind;
+        this.method = method;
+        this.wrapper = new MethodWrapper<>(method.getMethod(), kind.returnType);
+        this.annotation = method.getAnnotationOrNull(kind.annotationType);
+        this.conditional = method.getAnnotationOrNull(Conditional.class);
+        this.tab = method.getAnnotationOrNull(Tab.class);
+    }
+
+    /**
+     * Compile all providers, ordered so that boolean providers are called first.
+     *
+     * @param methods Provider methods of an extension for one parameter type, can be null.
+     * @return Compiled providers.
+     */
+    static List<CompiledProvider> compile(ExtensionMethods methods) {
+        if (methods == null) return Collections.emptyList();
+
+        List<CompiledProvider> compiled = new ArrayList<>();
+        addAll(compiled, Kind.BOOLEAN, methods.getBooleanProviders());
+        addAll(compiled, Kind.DOUBLE, methods.getDoubleProviders());
+        addAll(compiled, Kind.PERCENTAGE, methods.getPercentageProviders());
+        addAll(compiled, Kind.NUMBER, methods.getNumberProviders());
+        addAll(compiled, Kind.STRING, methods.getStringProviders());
+        addAll(compiled, Kind.COMPONENT, methods.getComponentProviders());
+        addAll(compiled, Kind.GROUP, methods.getGroupProviders());
+        addAll(compiled, Kind.TABLE, methods.getTableProviders());
+        addAll(compiled, Kind.DATA_BUILDER, methods.getDataBuilderProviders());
+        return compiled;
+    }
+
+    private static void addAll(List<CompiledProvider> compiled, Kind kind, List<ExtensionMethod> methods) {
+        for (ExtensionMethod method : methods) {
+            compiled.add(new CompiledProvider(kind, method));
+        }
+    }
+
+    <T> T call(DataExtension extension, Parameters parameters, Class<T> returnType) {
+        return returnType.cast(wrapper.callMethod(extension, parameters));
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    ExtensionMethod getMethod() {
+        return method;
+    }
+
+    <A extends Annotation> A getAnnotation(Class<A> ofType) {
+        if (annotation == null || !ofType.isInstance(annotation)) {
+            throw new IllegalArgumentException(method.getMethodName() + " did not have " + ofType.getName() + " annotation");
+        }
+        return ofType.cast(annotation);
+    }
+
+    Conditional getConditional() {
+        return conditional;
+    }
+
+    Tab getTab() {
+        return tab;
+    }
+
+    enum Kind {
+        BOOLEAN(BooleanProvider.class, Boolean.class),
+        DOUBLE(DoubleProvider.class, Double.class),
+        PERCENTAGE(PercentageProvider.class, Double.class),
+        NUMBER(NumberProvider.class, Long.class),
+        STRING(StringProvider.class, String.class),
+        COMPONENT(ComponentProvider.class, Component.class),
+        GROUP(GroupProvider.class, String[].class),
+        TABLE(TableProvider.class, Table.class),
+        DATA_BUILDER(DataBuilderProvider.class, ExtensionDataBuilder.class);
+
+        private final Class<? extends Annotation> annotationType;
+        private final Class<?> returnType;
+
+        Kind(Class<? extends Annotation> annotationType, Class<?> returnType) {
+            this.annotationType = annotationType;
+            this.returnType = returnType;
+        }
+    }
+}
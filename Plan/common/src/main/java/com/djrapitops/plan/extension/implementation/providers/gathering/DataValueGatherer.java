@@ -25,20 +25,17 @@ import com.djrapitops.plan.extension.annotation.*;
 import com.djrapitops.plan.extension.builder.DataValue;
 import com.djrapitops.plan.extension.builder.ExtensionDataBuilder;
 import com.djrapitops.plan.extension.extractor.ExtensionMethod;
-import com.djrapitops.plan.extension.extractor.ExtensionMethods;
 import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.icon.Icon;
 import com.djrapitops.plan.extension.implementation.ExtensionWrapper;
+import com.djrapitops.plan.extension.implementation.MethodType;
 import com.djrapitops.plan.extension.implementation.ProviderInformation;
 import com.djrapitops.plan.extension.implementation.TabInformation;
 import com.djrapitops.plan.extension.implementation.builder.*;
-import com.djrapitops.plan.extension.implementation.providers.MethodWrapper;
 import com.djrapitops.plan.extension.implementation.providers.Parameters;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StorePluginTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.StoreTabInformationTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
-import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
 import com.djrapitops.plan.extension.implementation.storage.transactions.results.*;
 import com.djrapitops.plan.extension.table.Table;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -47,12 +44,15 @@ import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Object that can be called to place data about players to the database.
@@ -67,15 +67,24 @@ public class DataValueGatherer {
     private final ComponentSvc componentService;
     private final ServerInfo serverInfo;
     private final ErrorLogger errorLogger;
+    private final ExtensionBulkhead bulkhead;
 
+    private final Map<ExtensionMethod.ParameterType, List<CompiledProvider>> compiledProviders;
     private final Set<ExtensionMethod> brokenMethods;
+    // Content of providers that have been stored, so that unchanged providers and icons are not upserted again.
+    private final Cache<String, List<Object>> storedProviders;
+    // Fingerprints of stored values by server, player and provider, so that unchanged values are not written again.
+    private final Cache<String, Object> storedValues;
+    private final LongAdder writtenValues;
+    private final LongAdder skippedValues;
 
     public DataValueGatherer(
             ExtensionWrapper extension,
             DBSystem dbSystem,
             ComponentSvc componentService,
             ServerInfo serverInfo,
-            ErrorLogger errorLogger
+            ErrorLogger errorLogger,
+            ExtensionBulkhead bulkhead
     ) {
         this.callEvents = extension.getCallEvents();
         this.extension = extension;
@@ -83,8 +92,22 @@ public class DataValueGatherer {
         this.componentService = componentService;
         this.serverInfo = serverInfo;
         this.errorLogger = errorLogger;
+        this.bulkhead = bulkhead;
 
+        this.compiledProviders = new EnumMap<>(ExtensionMethod.ParameterType.class);
+        for (ExtensionMethod.ParameterType parameterType : ExtensionMethod.ParameterType.values()) {
+            compiledProviders.put(parameterType, CompiledProvider.compile(extension.getMethods().get(parameterType)));
+        }
         this.brokenMethods = new HashSet<>();
+        this.storedProviders = Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.HOURS)
+                .build();
+        this.storedValues = Caffeine.newBuilder()
+                .expireAfterWrite(6, TimeUnit.HOURS)
+                .maximumSize(10_000)
+                .build();
+        this.writtenValues = new LongAdder();
+        this.skippedValues = new LongAdder();
     }
 
     public boolean shouldSkipEvent(CallEvents event) {
@@ -118,194 +141,189 @@ public class DataValueGatherer {
             database.executeTransaction(new StoreTabInformationTransaction(pluginName, serverUUID, tab));
         }
 
-        database.executeTransaction(new RemoveInvalidResultsTransaction(pluginName, serverUUID, extension.getInvalidatedMethods()));
-    }
-
-    private void addValuesToBuilder(ExtensionDataBuilder dataBuilder, ExtensionMethods methods, Parameters parameters) {
-        for (ExtensionMethod provider : methods.getBooleanProviders()) {
-            if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Boolean.class, tryToBuildBoolean(dataBuilder, parameters, provider));
-        }
-        for (ExtensionMethod provider : methods.getDoubleProviders()) {
-            if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Double.class, tryToBuildDouble(dataBuilder, parameters, provider));
-        }
-        for (ExtensionMethod provider : methods.getPercentageProviders()) {
-            if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Double.class, tryToBuildPercentage(dataBuilder, parameters, provider));
-        }
-        for (ExtensionMethod provider : methods.getNumberProviders()) {
-            if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Long.class, tryToBuildNumber(dataBuilder, parameters, provider));
-        }
-        for (ExtensionMethod provider : methods.getStringProviders()) {
-            if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(String.class, tryToBuildString(dataBuilder, parameters, provider));
-        }
-        for (ExtensionMethod provider : methods.getComponentProviders()) {
-            if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Component.class, tryToBuildComponent(dataBuilder, parameters, provider));
-        }
-        for (ExtensionMethod provider : methods.getGroupProviders()) {
-            if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(String[].class, tryToBuildGroups(dataBuilder, parameters, provider));
-        }
-        for (ExtensionMethod provider : methods.getTableProviders()) {
-            if (brokenMethods.contains(provider)) continue;
-            dataBuilder.addValue(Table.class, tryToBuildTable(dataBuilder, parameters, provider));
-        }
-        addValuesToBuilder2(dataBuilder, methods, parameters);
-    }
-
-    // TODO refactor to reduce cyclomatic complexity of the calling method
-    private void addValuesToBuilder2(ExtensionDataBuilder dataBuilder, ExtensionMethods methods, Parameters parameters) {
-        for (ExtensionMethod provider : methods.getDataBuilderProviders()) {
-            if (brokenMethods.contains(provider)) continue;
-            addDataFromAnotherBuilder(dataBuilder, parameters, provider);
+        Collection<String> invalidatedMethods = extension.getInvalidatedMethods();
+        database.executeTransaction(new RemoveInvalidResultsTransaction(pluginName, serverUUID, invalidatedMethods))
+                .thenRun(() -> clearStoredValuesOfProviders(invalidatedMethods));
+    }
+
+    private void addValuesToBuilder(ExtensionDataBuilder dataBuilder, List<CompiledProvider> providers, Parameters parameters) {
+        for (CompiledProvider provider : providers) {
+            if (brokenMethods.contains(provider.getMethod())) continue;
+            switch (provider.getKind()) {
+                case BOOLEAN:
+                    dataBuilder.addValue(Boolean.class, tryToBuildBoolean(dataBuilder, parameters, provider));
+                    break;
+                case DOUBLE:
+                    dataBuilder.addValue(Double.class, tryToBuildDouble(dataBuilder, parameters, provider));
+                    break;
+                case PERCENTAGE:
+                    dataBuilder.addValue(Double.class, tryToBuildPercentage(dataBuilder, parameters, provider));
+                    break;
+                case NUMBER:
+                    dataBuilder.addValue(Long.class, tryToBuildNumber(dataBuilder, parameters, provider));
+                    break;
+                case STRING:
+                    dataBuilder.addValue(String.class, tryToBuildString(dataBuilder, parameters, provider));
+                    break;
+                case COMPONENT:
+                    dataBuilder.addValue(Component.class, tryToBuildComponent(dataBuilder, parameters, provider));
+                    break;
+                case GROUP:
+                    dataBuilder.addValue(String[].class, tryToBuildGroups(dataBuilder, parameters, provider));
+                    break;
+                case TABLE:
+                    dataBuilder.addValue(Table.class, tryToBuildTable(dataBuilder, parameters, provider));
+                    break;
+                case DATA_BUILDER:
+                    addDataFromAnotherBuilder(dataBuilder, parameters, provider);
+                    break;
+                default:
+                    break;
+            }
         }
     }
 
-    private DataValue<Table> tryToBuildTable(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
-        TableProvider annotation = provider.getExistingAnnotation(TableProvider.class);
+    private DataValue<Table> tryToBuildTable(ExtensionDataBuilder dataBuilder, Parameters parameters, CompiledProvider provider) {
+        TableProvider annotation = provider.getAnnotation(TableProvider.class);
         try {
             return dataBuilder.valueBuilder(provider.getMethodName())
-                    .methodName(provider)
-                    .conditional(provider.getAnnotationOrNull(Conditional.class))
-                    .showOnTab(provider.getAnnotationOrNull(Tab.class))
+                    .methodName(provider.getMethod())
+                    .conditional(provider.getConditional())
+                    .showOnTab(provider.getTab())
                     .buildTable(() -> callMethod(provider, parameters, Table.class), annotation.tableColor());
         } catch (IllegalArgumentException e) {
-            logFailure(e, getPluginName(), provider.getMethodName());
+            logFailure(e, getPluginName(), provider.getMethod().getMethodName());
             return null;
         }
     }
 
-    private DataValue<String[]> tryToBuildGroups(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
-        GroupProvider annotation = provider.getExistingAnnotation(GroupProvider.class);
+    private DataValue<String[]> tryToBuildGroups(ExtensionDataBuilder dataBuilder, Parameters parameters, CompiledProvider provider) {
+        GroupProvider annotation = provider.getAnnotation(GroupProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
-                    .methodName(provider)
+                    .methodName(provider.getMethod())
                     .icon(annotation.iconName(), annotation.iconFamily(), Color.NONE)
-                    .conditional(provider.getAnnotationOrNull(Conditional.class))
-                    .showOnTab(provider.getAnnotationOrNull(Tab.class))
+                    .conditional(provider.getConditional())
+                    .showOnTab(provider.getTab())
                     .buildGroup(() -> callMethod(provider, parameters, String[].class));
         } catch (IllegalArgumentException e) {
-            logFailure(e, getPluginName(), provider.getMethodName());
+            logFailure(e, getPluginName(), provider.getMethod().getMethodName());
             return null;
         }
     }
 
-    private DataValue<String> tryToBuildString(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
-        StringProvider annotation = provider.getExistingAnnotation(StringProvider.class);
+    private DataValue<String> tryToBuildString(ExtensionDataBuilder dataBuilder, Parameters parameters, CompiledProvider provider) {
+        StringProvider annotation = provider.getAnnotation(StringProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
-                    .methodName(provider)
+                    .methodName(provider.getMethod())
                     .icon(annotation.iconName(), annotation.iconFamily(), annotation.iconColor())
                     .description(annotation.description())
                     .priority(annotation.priority())
                     .showInPlayerTable(annotation.showInPlayerTable())
                     .showAsPlayerPageLink(annotation)
-                    .conditional(provider.getAnnotationOrNull(Conditional.class))
-                    .showOnTab(provider.getAnnotationOrNull(Tab.class))
+                    .conditional(provider.getConditional())
+                    .showOnTab(provider.getTab())
                     .buildString(() -> callMethod(provider, parameters, String.class));
         } catch (IllegalArgumentException e) {
-            logFailure(e, getPluginName(), provider.getMethodName());
+            logFailure(e, getPluginName(), provider.getMethod().getMethodName());
             return null;
         }
     }
 
-    private DataValue<Component> tryToBuildComponent(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
-        ComponentProvider annotation = provider.getExistingAnnotation(ComponentProvider.class);
+    private DataValue<Component> tryToBuildComponent(ExtensionDataBuilder dataBuilder, Parameters parameters, CompiledProvider provider) {
+        ComponentProvider annotation = provider.getAnnotation(ComponentProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
-                    .methodName(provider)
+                    .methodName(provider.getMethod())
                     .icon(annotation.iconName(), annotation.iconFamily(), annotation.iconColor())
                     .description(annotation.description())
                     .priority(annotation.priority())
                     .showInPlayerTable(annotation.showInPlayerTable())
-                    .conditional(provider.getAnnotationOrNull(Conditional.class))
-                    .showOnTab(provider.getAnnotationOrNull(Tab.class))
+                    .conditional(provider.getConditional())
+                    .showOnTab(provider.getTab())
                     .buildComponent(() -> callMethod(provider, parameters, Component.class));
         } catch (IllegalArgumentException e) {
-            logFailure(e, getPluginName(), provider.getMethodName());
+            logFailure(e, getPluginName(), provider.getMethod().getMethodName());
             return null;
         }
     }
 
-    private DataValue<Long> tryToBuildNumber(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
-        NumberProvider annotation = provider.getExistingAnnotation(NumberProvider.class);
+    private DataValue<Long> tryToBuildNumber(ExtensionDataBuilder dataBuilder, Parameters parameters, CompiledProvider provider) {
+        NumberProvider annotation = provider.getAnnotation(NumberProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
-                    .methodName(provider)
+                    .methodName(provider.getMethod())
                     .icon(annotation.iconName(), annotation.iconFamily(), annotation.iconColor())
                     .description(annotation.description())
                     .priority(annotation.priority())
                     .showInPlayerTable(annotation.showInPlayerTable())
                     .format(annotation.format())
-                    .conditional(provider.getAnnotationOrNull(Conditional.class))
-                    .showOnTab(provider.getAnnotationOrNull(Tab.class))
+                    .conditional(provider.getConditional())
+                    .showOnTab(provider.getTab())
                     .buildNumber(() -> callMethod(provider, parameters, Long.class));
         } catch (IllegalArgumentException e) {
-            logFailure(e, getPluginName(), provider.getMethodName());
+            logFailure(e, getPluginName(), provider.getMethod().getMethodName());
             return null;
         }
     }
 
-    private DataValue<Double> tryToBuildPercentage(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
-        PercentageProvider annotation = provider.getExistingAnnotation(PercentageProvider.class);
+    private DataValue<Double> tryToBuildPercentage(ExtensionDataBuilder dataBuilder, Parameters parameters, CompiledProvider provider) {
+        PercentageProvider annotation = provider.getAnnotation(PercentageProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
-                    .methodName(provider)
+                    .methodName(provider.getMethod())
                     .icon(annotation.iconName(), annotation.iconFamily(), annotation.iconColor())
                     .description(annotation.description())
                     .priority(annotation.priority())
                     .showInPlayerTable(annotation.showInPlayerTable())
-                    .conditional(provider.getAnnotationOrNull(Conditional.class))
-                    .showOnTab(provider.getAnnotationOrNull(Tab.class))
+                    .conditional(provider.getConditional())
+                    .showOnTab(provider.getTab())
                     .buildPercentage(() -> callMethod(provider, parameters, Double.class));
         } catch (IllegalArgumentException e) {
-            logFailure(e, getPluginName(), provider.getMethodName());
+            logFailure(e, getPluginName(), provider.getMethod().getMethodName());
             return null;
         }
     }
 
-    private DataValue<Double> tryToBuildDouble(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
-        DoubleProvider annotation = provider.getExistingAnnotation(DoubleProvider.class);
+    private DataValue<Double> tryToBuildDouble(ExtensionDataBuilder dataBuilder, Parameters parameters, CompiledProvider provider) {
+        DoubleProvider annotation = provider.getAnnotation(DoubleProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
-                    .methodName(provider)
+                    .methodName(provider.getMethod())
                     .icon(annotation.iconName(), annotation.iconFamily(), annotation.iconColor())
                     .description(annotation.description())
                     .priority(annotation.priority())
                     .showInPlayerTable(annotation.showInPlayerTable())
-                    .conditional(provider.getAnnotationOrNull(Conditional.class))
-                    .showOnTab(provider.getAnnotationOrNull(Tab.class))
+                    .conditional(provider.getConditional())
+                    .showOnTab(provider.getTab())
                     .buildDouble(() -> callMethod(provider, parameters, Double.class));
         } catch (IllegalArgumentException e) {
-            logFailure(e, getPluginName(), provider.getMethodName());
+            logFailure(e, getPluginName(), provider.getMethod().getMethodName());
             return null;
         }
     }
 
-    private DataValue<Boolean> tryToBuildBoolean(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
-        BooleanProvider annotation = provider.getExistingAnnotation(BooleanProvider.class);
+    private DataValue<Boolean> tryToBuildBoolean(ExtensionDataBuilder dataBuilder, Parameters parameters, CompiledProvider provider) {
+        BooleanProvider annotation = provider.getAnnotation(BooleanProvider.class);
         try {
             return dataBuilder.valueBuilder(annotation.text())
-                    .methodName(provider)
+                    .methodName(provider.getMethod())
                     .icon(annotation.iconName(), annotation.iconFamily(), annotation.iconColor())
                     .description(annotation.description())
                     .priority(annotation.priority())
                     .showInPlayerTable(annotation.showInPlayerTable())
                     .hideFromUsers(annotation)
-                    .conditional(provider.getAnnotationOrNull(Conditional.class))
-                    .showOnTab(provider.getAnnotationOrNull(Tab.class))
+                    .conditional(provider.getConditional())
+                    .showOnTab(provider.getTab())
                     .buildBooleanProvidingCondition(() -> callMethod(provider, parameters, Boolean.class), annotation.conditionName());
         } catch (IllegalArgumentException e) {
-            logFailure(e, getPluginName(), provider.getMethodName());
+            logFailure(e, getPluginName(), provider.getMethod().getMethodName());
             return null;
         }
     }
 
-    private void addDataFromAnotherBuilder(ExtensionDataBuilder dataBuilder, Parameters parameters, ExtensionMethod provider) {
+    private void addDataFromAnotherBuilder(ExtensionDataBuilder dataBuilder, Parameters parameters, CompiledProvider provider) {
         try {
             ExtensionDataBuilder providedBuilder = callMethod(provider, parameters, ExtensionDataBuilder.class);
             dataBuilder.addAll(providedBuilder);
@@ -316,12 +334,12 @@ public class DataValueGatherer {
         }
     }
 
-    private <T> T callMethod(ExtensionMethod provider, Parameters params, Class<T> returnType) {
+    private <T> T callMethod(CompiledProvider provider, Parameters params, Class<T> returnType) {
         try {
-            return new MethodWrapper<>(provider.getMethod(), returnType)
-                    .callMethod(extension.getExtension(), params);
+            return bulkhead.call(provider.getMethod().getMethodName(),
+                    () -> provider.call(extension.getExtension(), params, returnType));
         } catch (DataExtensionMethodCallException e) {
-            brokenMethods.add(provider);
+            brokenMethods.add(provider.getMethod());
             throw e;
         }
     }
@@ -338,12 +356,15 @@ public class DataValueGatherer {
         Parameters parameters = Parameters.player(serverInfo.getServerUUID(), playerUUID, playerName);
         ExtensionDataBuilder dataBuilder = extension.getExtension().newExtensionDataBuilder();
 
-        addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_STRING), parameters);
-        addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.PLAYER_UUID), parameters);
+        addValuesToBuilder(dataBuilder, compiledProviders.get(ExtensionMethod.ParameterType.PLAYER_STRING), parameters);
+        addValuesToBuilder(dataBuilder, compiledProviders.get(ExtensionMethod.ParameterType.PLAYER_UUID), parameters);
 
         gatherPlayer(parameters, (ExtDataBuilder) dataBuilder);
 
-        dbSystem.getDatabase().executeTransaction(new RemoveInvalidResultsTransaction(extension.getPluginName(), serverInfo.getServerUUID(), ((ExtDataBuilder) dataBuilder).getInvalidatedValues()));
+        Collection<String> invalidatedValues = ((ExtDataBuilder) dataBuilder).getInvalidatedValues();
+        if (invalidatedValues.isEmpty()) return;
+        dbSystem.getDatabase().executeTransaction(new RemoveInvalidResultsTransaction(extension.getPluginName(), serverInfo.getServerUUID(), invalidatedValues))
+                .thenRun(() -> clearStoredValuesOfProviders(invalidatedValues));
     }
 
     public void updateValues() {
@@ -358,7 +379,7 @@ public class DataValueGatherer {
         Parameters parameters = Parameters.server(serverInfo.getServerUUID());
         ExtensionDataBuilder dataBuilder = extension.getExtension().newExtensionDataBuilder();
 
-        addValuesToBuilder(dataBuilder, extension.getMethods().get(ExtensionMethod.ParameterType.SERVER_NONE), parameters);
+        addValuesToBuilder(dataBuilder, compiledProviders.get(ExtensionMethod.ParameterType.SERVER_NONE), parameters);
 
         gather(parameters, (ExtDataBuilder) dataBuilder);
     }
@@ -366,46 +387,49 @@ public class DataValueGatherer {
 
     private void gatherPlayer(Parameters parameters, ExtDataBuilder dataBuilder) {
         Conditions conditions = new Conditions();
+        List<GatheredValue> gathered = new ArrayList<>();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storePlayerBoolean(parameters, conditions, data));
+                        .ifPresent(data -> gatherBoolean(gathered, conditions, data));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storePlayerNumber(parameters, conditions, data));
+                        .ifPresent(data -> gatherNumber(gathered, conditions, data));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storePlayerDouble(parameters, conditions, data));
+                        .ifPresent(data -> gatherDouble(gathered, conditions, data));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storePlayerString(parameters, conditions, data));
+                        .ifPresent(data -> gatherString(gathered, conditions, data));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storePlayerComponent(parameters, conditions, data));
+                        .ifPresent(data -> gatherComponent(gathered, conditions, data));
                 pair.getValue(String[].class).flatMap(data -> data.getMetadata(GroupsDataValue.class))
-                        .ifPresent(data -> storePlayerGroups(parameters, conditions, data));
+                        .ifPresent(data -> gatherGroups(gathered, conditions, data));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storePlayerTable(parameters, conditions, data));
+                        .ifPresent(data -> gatherTable(gathered, conditions, data));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (Exception | NoClassDefFoundError | NoSuchFieldError | NoSuchMethodError unexpectedError) {
                 logFailure(unexpectedError);
             }
         }
+        storeChangedValues(parameters, gathered);
     }
 
     private void gather(Parameters parameters, ExtDataBuilder dataBuilder) {
         Conditions conditions = new Conditions();
+        List<GatheredValue> gathered = new ArrayList<>();
         for (ExtDataBuilder.ClassValuePair pair : dataBuilder.getValues()) {
             try {
                 pair.getValue(Boolean.class).flatMap(data -> data.getMetadata(BooleanDataValue.class))
-                        .ifPresent(data -> storeBoolean(parameters, conditions, data));
+                        .ifPresent(data -> gatherBoolean(gathered, conditions, data));
                 pair.getValue(Long.class).flatMap(data -> data.getMetadata(NumberDataValue.class))
-                        .ifPresent(data -> storeNumber(parameters, conditions, data));
+                        .ifPresent(data -> gatherNumber(gathered, conditions, data));
                 pair.getValue(Double.class).flatMap(data -> data.getMetadata(DoubleDataValue.class))
-                        .ifPresent(data -> storeDouble(parameters, conditions, data));
+                        .ifPresent(data -> gatherDouble(gathered, conditions, data));
                 pair.getValue(String.class).flatMap(data -> data.getMetadata(StringDataValue.class))
-                        .ifPresent(data -> storeString(parameters, conditions, data));
+                        .ifPresent(data -> gatherString(gathered, conditions, data));
                 pair.getValue(Component.class).flatMap(data -> data.getMetadata(ComponentDataValue.class))
-                        .ifPresent(data -> storeComponent(parameters, conditions, data));
+                        .ifPresent(data -> gatherComponent(gathered, conditions, data));
                 pair.getValue(Table.class).flatMap(data -> data.getMetadata(TableDataValue.class))
-                        .ifPresent(data -> storeTable(parameters, conditions, data));
+                        .ifPresent(data -> gatherTable(gathered, conditions, data));
             } catch (DataExtensionMethodCallException methodError) {
                 logFailure(methodError);
             } catch (RejectedExecutionException ignore) {
@@ -415,6 +439,105 @@ public class DataValueGatherer {
                 logFailure(unexpectedError);
             }
         }
+        try {
+            storeChangedValues(parameters, gathered);
+        } catch (RejectedExecutionException ignore) {
+            // Processing or Database has shut down, which can be ignored
+        }
+    }
+
+    private void storeChangedValues(Parameters parameters, List<GatheredValue> gathered) {
+        String keyPrefix = parameters.getServerUUID() + ":" +
+                (parameters.getMethodType() == MethodType.PLAYER ? parameters.getPlayerUUID() : "server") + ':';
+        // Changed conditions remove conditional values in the database, so everything has to be written again.
+        boolean conditionChanged = gathered.stream()
+                .anyMatch(value -> value.providesCondition && hasValueChanged(keyPrefix, value));
+
+        StoreExtensionResultsTransaction batch = new StoreExtensionResultsTransaction(extension.getPluginName(), parameters);
+        Map<String, Object> writtenFingerprints = new HashMap<>();
+        int skipped = 0;
+        for (GatheredValue value : gathered) {
+            boolean providerChanged = hasProviderChanged(value.information, value.table);
+            if (!conditionChanged && !providerChanged && !hasValueChanged(keyPrefix, value)) {
+                skipped++;
+                continue;
+            }
+            if (value.table != null) {
+                batch.addTableProvider(value.information, value.table, providerChanged);
+            } else {
+                batch.addProvider(value.information, providerChanged);
+            }
+            value.write.accept(batch);
+            writtenFingerprints.put(keyPrefix + getProviderKey(value.information, value.table), value.fingerprint);
+        }
+        skippedValues.add(skipped);
+        if (batch.isEmpty()) return;
+
+        dbSystem.getDatabase().executeTransaction(batch).thenRun(() -> {
+            if (!batch.wasSuccessful()) return;
+            Map<String, Table> tableProviders = batch.getTableProviders();
+            for (ProviderInformation information : batch.getProviders()) {
+                Table table = tableProviders.get(information.getName());
+                storedProviders.put(getProviderKey(information, table), getProviderContent(information, table));
+            }
+            storedValues.putAll(writtenFingerprints);
+            writtenValues.add(writtenFingerprints.size());
+        });
+    }
+
+    private boolean hasValueChanged(String keyPrefix, GatheredValue value) {
+        Object stored = storedValues.getIfPresent(keyPrefix + getProviderKey(value.information, value.table));
+        return !value.fingerprint.equals(stored);
+    }
+
+    /**
+     * Forget which values have been written, so that all values are written again on next update.
+     * <p>
+     * Needs to be called when values are removed from the database without this gatherer knowing about it.
+     */
+    public void clearStoredValues() {
+        storedValues.invalidateAll();
+        storedProviders.invalidateAll();
+    }
+
+    /**
+     * Forget which values of a player have been written, so that they are written again on next update.
+     *
+     * @param playerUUID UUID of the player whose values were removed from the database.
+     */
+    public void clearStoredValues(UUID playerUUID) {
+        String playerPart = ":" + playerUUID + ':';
+        storedValues.asMap().keySet().removeIf(key -> key.contains(playerPart));
+    }
+
+    private void clearStoredValuesOfProviders(Collection<String> providerNames) {
+        if (providerNames.isEmpty()) return;
+        for (String providerName : providerNames) {
+            String suffix = ":" + providerName;
+            storedValues.asMap().keySet().removeIf(key -> key.endsWith(suffix));
+            storedProviders.invalidate(providerName);
+            storedProviders.invalidate("table:" + providerName);
+        }
+    }
+
+    public long getWrittenValueCount() {
+        return writtenValues.sum();
+    }
+
+    public long getSkippedValueCount() {
+        return skippedValues.sum();
+    }
+
+    public List<ProviderStatistics> getProviderStatistics() {
+        return bulkhead.getStatistics();
+    }
+
+    public void shutdown() {
+        bulkhead.shutdown();
+    }
+
+    public void restart() {
+        bulkhead.restart();
     }
 
     private void logFailure(Throwable cause, String pluginName, String methodName) {
@@ -462,81 +585,39 @@ public class DataValueGatherer {
         return json;
     }
 
-    private void storeBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
-        ProviderInformation information = data.getInformation();
-        Boolean value = getValue(conditions, data, information);
-        if (value == null) return;
-        if (value) {
-            conditions.conditionFulfilled(information.getProvidedCondition());
-        } else {
-            conditions.conditionFulfilled("not_" + information.getProvidedCondition());
-        }
-
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerBooleanResultTransaction(information, parameters, value));
-    }
-
-    private void storeNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
-        ProviderInformation information = data.getInformation();
-        Long value = getValue(conditions, data, information);
-        if (value == null) return;
-
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerNumberResultTransaction(information, parameters, value));
-    }
-
-
-    private void storeDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
-        ProviderInformation information = data.getInformation();
-        Double value = getValue(conditions, data, information);
-        if (value == null) return;
-
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerDoubleResultTransaction(information, parameters, value));
+    private String getProviderKey(ProviderInformation information, Table table) {
+        return table != null ? "table:" + information.getName() : information.getName();
     }
 
-    private void storeString(Parameters parameters, Conditions conditions, StringDataValue data) {
-        ProviderInformation information = data.getInformation();
-        String value = getValue(conditions, data, information);
-        if (value == null) return;
-
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+    private List<Object> getProviderContent(ProviderInformation information, Table table) {
+        List<Object> content = new ArrayList<>(Arrays.asList(
+                information.getText(),
+                information.getDescription().orElse(null),
+                information.getPriority(),
+                information.getCondition().orElse(null),
+                information.getTab().orElse(null),
+                information.getIcon().toString(),
+                information.isShownInPlayersTable(),
+                information.isHidden(),
+                information.getProvidedCondition(),
+                information.getFormatType().orElse(null),
+                information.isPlayerName()
+        ));
+        if (table != null) {
+            content.add(information.getTableColor());
+            content.add(Arrays.asList(table.getColumns()));
+            content.add(Arrays.toString(table.getIcons()));
+            content.add(Arrays.asList(table.getTableColumnFormats()));
+        }
+        return content;
     }
 
-    private void storeComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
-        ProviderInformation information = data.getInformation();
-        String value = getComponentAsJson(getValue(conditions, data, information));
-        if (value == null) return;
-
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StoreServerStringResultTransaction(information, parameters, value));
+    private boolean hasProviderChanged(ProviderInformation information, Table table) {
+        List<Object> stored = storedProviders.getIfPresent(getProviderKey(information, table));
+        return !getProviderContent(information, table).equals(stored);
     }
 
-    private void storeTable(Parameters parameters, Conditions conditions, TableDataValue data) {
-        ProviderInformation information = data.getInformation();
-        Table value = getValue(conditions, data, information);
-        if (value == null) return;
-
-        Database db = dbSystem.getDatabase();
-        for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
-        }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StoreServerTableResultTransaction(information, parameters, value));
-    }
-
-    private void storePlayerBoolean(Parameters parameters, Conditions conditions, BooleanDataValue data) {
+    private void gatherBoolean(List<GatheredValue> gathered, Conditions conditions, BooleanDataValue data) {
         ProviderInformation information = data.getInformation();
         Boolean value = getValue(conditions, data, information);
         if (value == null) return;
@@ -546,77 +627,82 @@ public class DataValueGatherer {
             conditions.conditionFulfilled("not_" + information.getProvidedCondition());
         }
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerBooleanResultTransaction(information, parameters, value));
+        boolean providesCondition = information.getProvidedCondition() != null;
+        gathered.add(new GatheredValue(information, null, value, providesCondition,
+                batch -> batch.addBooleanResult(information, value)));
     }
 
-    private void storePlayerNumber(Parameters parameters, Conditions conditions, NumberDataValue data) {
+    private void gatherNumber(List<GatheredValue> gathered, Conditions conditions, NumberDataValue data) {
         ProviderInformation information = data.getInformation();
         Long value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerNumberResultTransaction(information, parameters, value));
+        gathered.add(new GatheredValue(information, value, batch -> batch.addNumberResult(information, value)));
     }
 
-    private void storePlayerDouble(Parameters parameters, Conditions conditions, DoubleDataValue data) {
+    private void gatherDouble(List<GatheredValue> gathered, Conditions conditions, DoubleDataValue data) {
         ProviderInformation information = data.getInformation();
         Double value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerDoubleResultTransaction(information, parameters, value));
+        gathered.add(new GatheredValue(information, value, batch -> batch.addDoubleResult(information, value)));
     }
 
-    private void storePlayerString(Parameters parameters, Conditions conditions, StringDataValue data) {
+    private void gatherString(List<GatheredValue> gathered, Conditions conditions, StringDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        gathered.add(new GatheredValue(information, value, batch -> batch.addStringResult(information, value)));
     }
 
-    private void storePlayerComponent(Parameters parameters, Conditions conditions, ComponentDataValue data) {
+    private void gatherComponent(List<GatheredValue> gathered, Conditions conditions, ComponentDataValue data) {
         ProviderInformation information = data.getInformation();
         String value = getComponentAsJson(getValue(conditions, data, information));
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerStringResultTransaction(information, parameters, value));
+        gathered.add(new GatheredValue(information, value, batch -> batch.addStringResult(information, value)));
     }
 
-    private void storePlayerGroups(Parameters parameters, Conditions conditions, GroupsDataValue data) {
+    private void gatherGroups(List<GatheredValue> gathered, Conditions conditions, GroupsDataValue data) {
         ProviderInformation information = data.getInformation();
         String[] value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        db.executeTransaction(new StoreIconTransaction(information.getIcon()));
-        db.executeTransaction(new StoreProviderTransaction(information, parameters));
-        db.executeTransaction(new StorePlayerGroupsResultTransaction(information, parameters, value));
+        gathered.add(new GatheredValue(information, Arrays.asList(value.clone()), batch -> batch.addGroupsResult(information, value)));
     }
 
-    private void storePlayerTable(Parameters parameters, Conditions conditions, TableDataValue data) {
+    private void gatherTable(List<GatheredValue> gathered, Conditions conditions, TableDataValue data) {
         ProviderInformation information = data.getInformation();
         Table value = getValue(conditions, data, information);
         if (value == null) return;
 
-        Database db = dbSystem.getDatabase();
-        for (Icon icon : value.getIcons()) {
-            if (icon != null) db.executeTransaction(new StoreIconTransaction(icon));
+        List<List<Object>> rows = value.getRows().stream()
+                .map(row -> Arrays.asList(row.clone()))
+                .collect(Collectors.toList());
+        gathered.add(new GatheredValue(information, value, rows, false, batch -> batch.addTableResult(information, value)));
+    }
+
+    /**
+     * Value gathered from an extension that has not yet been stored.
+     */
+    private static class GatheredValue {
+        private final ProviderInformation information;
+        private final Table table;
+        private final Object fingerprint;
+        private final boolean providesCondition;
+        private final Consumer<StoreExtensionResultsTransaction> write;
+
+        GatheredValue(ProviderInformation information, Object fingerprint, Consumer<StoreExtensionResultsTransaction> write) {
+            this(information, null, fingerprint, false, write);
+        }
+
+        GatheredValue(ProviderInformation information, Table table, Object fingerprint, boolean providesCondition, Consumer<StoreExtensionResultsTransaction> write) {
+            this.information = information;
+            this.table = table;
+            this.fingerprint = fingerprint;
+            this.providesCondition = providesCondition;
+            this.write = write;
         }
-        db.executeTransaction(new StoreTableProviderTransaction(information, parameters, value));
-        db.executeTransaction(new StorePlayerTableResultTransaction(information, parameters, value));
     }
-}
\ No newline at end of file
+}
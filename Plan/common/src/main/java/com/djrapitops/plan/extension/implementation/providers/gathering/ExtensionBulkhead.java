@@ -0,0 +1,161 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import net.playeranalytics.plugin.server.PluginLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Isolates provider calls of a single DataExtension from the rest of the plugin.
+ * <p>
+ * Calls are run on a small executor of the extension with a bounded queue, so that a slow extension can only tie up
+ * its own threads. The caller waits at most for the call timeout and then continues without the value.
+ * Providers that time out or are rejected {@link #CIRCUIT_BREAK_THRESHOLD} times in a row are not called again until
+ * the circuit break time has passed.
+ *
+ * @author AuroraLS3
+ */
+public class ExtensionBulkhead {
+
+    public static final int CONCURRENCY = 2;
+    public static final int QUEUE_SIZE = 32;
+    public static final int CIRCUIT_BREAK_THRESHOLD = 5;
+
+    private final String pluginName;
+    private final Supplier<ExecutorService> executorFactory;
+    private volatile ExecutorService executor;
+    private final long timeoutMs;
+    private final long circuitBreakMs;
+    private final PluginLogger logger;
+
+    private final Map<String, ProviderStatistics> statistics;
+
+    /**
+     * Create a new bulkhead.
+     *
+     * @param pluginName     Name of the extension, for logging.
+     * @param executor       Executor of the extension, see {@link com.djrapitops.plan.processing.Processing#createBoundedExecutor(int, int, String)}
+     * @param timeoutMs      How long a call can take before the caller stops waiting for it, 0 or less to wait forever.
+     * @param circuitBreakMs How long a provider is not called after it has been too slow too many times.
+     * @param logger         Logger for informing about opened circuits.
+     */
+    public ExtensionBulkhead(String pluginName, ExecutorService executor, long timeoutMs, long circuitBreakMs, PluginLogger logger) {
+        this(pluginName, () -> executor, timeoutMs, circuitBreakMs, logger);
+    }
+
+    /**
+     * Create a new bulkhead that can be restarted after {@link #shutdown()}.
+     *
+     * @param pluginName      Name of the extension, for logging.
+     * @param executorFactory Creates the executor of the extension, called again on {@link #restart()}.
+     * @param timeoutMs       How long a call can take before the caller stops waiting for it, 0 or less to wait forever.
+     * @param circuitBreakMs  How long a provider is not called after it has been too slow too many times.
+     * @param logger          Logger for informing about opened circuits.
+     */
+    public ExtensionBulkhead(String pluginName, Supplier<ExecutorService> executorFactory, long timeoutMs, long circuitBreakMs, PluginLogger logger) {
+        this.pluginName = pluginName;
+        this.executorFactory = executorFactory;
+        this.executor = executorFactory.get();
+        this.timeoutMs = timeoutMs;
+        this.circuitBreakMs = circuitBreakMs;
+        this.logger = logger;
+        this.statistics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Call a provider inside the bulkhead.
+     *
+     * @param providerName Name of the provider method.
+     * @param call         The call to the provider.
+     * @param <T>          Type of the value.
+     * @return Value given by the provider, or null if the call was not made, it was rejected or it timed out.
+     * @throws RuntimeException Anything the call throws, as is.
+     * @throws Error            Anything the call throws, as is.
+     */
+    public <T> T call(String providerName, Supplier<T> call) {
+        ProviderStatistics stats = statistics.computeIfAbsent(providerName, ProviderStatistics::new);
+        if (!stats.allowCall(System.currentTimeMillis())) return null;
+
+        long start = System.nanoTime();
+        ExecutorService current = executor;
+        Future<T> future;
+        try {
+            future = current.submit(call::get);
+        } catch (RejectedExecutionException queueFullOrShutdown) {
+            if (!current.isShutdown()) recordSlowCall(stats, false);
+            return null;
+        }
+        try {
+            T value = timeoutMs > 0 ? future.get(timeoutMs, TimeUnit.MILLISECONDS) : future.get();
+            stats.succeeded(System.nanoTime() - start);
+            return value;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            stats.recordLatency(System.nanoTime() - start);
+            recordSlowCall(stats, true);
+            return null;
+        } catch (ExecutionException e) {
+            stats.failed(System.nanoTime() - start);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void recordSlowCall(ProviderStatistics stats, boolean timedOut) {
+        if (stats.slowCall(timedOut, System.currentTimeMillis() + circuitBreakMs)) {
+            logger.warn("DataExtension provider " + pluginName + '.' + stats.getProviderName() + " was too slow " +
+                    CIRCUIT_BREAK_THRESHOLD + " times in a row, it will not be called for " +
+                    TimeUnit.MILLISECONDS.toSeconds(circuitBreakMs) + " seconds.");
+        }
+    }
+
+    /**
+     * Get latency statistics of the providers that have been called.
+     *
+     * @return Statistics, ordered by average latency, slowest first.
+     */
+    public List<ProviderStatistics> getStatistics() {
+        List<ProviderStatistics> ordered = new ArrayList<>(statistics.values());
+        ordered.sort((one, two) -> Double.compare(two.getAverageLatencyMs(), one.getAverageLatencyMs()));
+        return ordered;
+    }
+
+    /**
+     * Stop the executor, cancelling running and queued calls.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Create a new executor if the bulkhead has been shut down.
+     */
+    public synchronized void restart() {
+        if (executor.isShutdown()) executor = executorFactory.get();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and circuit breaker state of a single provider method in {@link ExtensionBulkhead}.
+ *
+ * @author AuroraLS3
+ */
+public class ProviderStatistics {
+
+    private final String providerName;
+
+    private long calls;
+    private long totalNanos;
+    private long maxNanos;
+    private long timeouts;
+    private long failures;
+    private long rejected;
+    private long skipped;
+
+    private int slowInARow;
+    private long circuitOpenUntil;
+
+    ProviderStatistics(String providerName) {
+        this.providerName = providerName;
+    }
+
+    synchronized boolean allowCall(long now) {
+        if (circuitOpenUntil == 0) return true;
+        if (now < circuitOpenUntil) {
+            skipped++;
+            return false;
+        }
+        // Let the next call through, another slow call opens the circuit again.
+        circuitOpenUntil = 0;
+        slowInARow = ExtensionBulkhead.CIRCUIT_BREAK_THRESHOLD - 1;
+        return true;
+    }
+
+    synchronized void succeeded(long nanos) {
+        recordLatency(nanos);
+        slowInARow = 0;
+    }
+
+    /**
+     * Record a call that threw an exception.
+     *
+     * @param nanos How long the call took.
+     */
+    synchronized void failed(long nanos) {
+        recordLatency(nanos);
+        failures++;
+    }
+
+    synchronized void recordLatency(long nanos) {
+        calls++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * Record a call that timed out or was rejected.
+     *
+     * @param timedOut         true if timed out, false if rejected.
+     * @param openCircuitUntil Epoch ms to open the circuit until if this call reaches the threshold.
+     * @return true if the circuit was opened by this call.
+     */
+    synchronized boolean slowCall(boolean timedOut, long openCircuitUntil) {
+        if (timedOut) {
+            timeouts++;
+        } else {
+            rejected++;
+        }
+        slowInARow++;
+        if (slowInARow >= ExtensionBulkhead.CIRCUIT_BREAK_THRESHOLD && circuitOpenUntil == 0) {
+            circuitOpenUntil = openCircuitUntil;
+            return true;
+        }
+        return false;
+    }
+
+    public String getProviderName() {
+        return providerName;
+    }
+
+    public synchronized long getCallCount() {
+        return calls;
+    }
+
+    public synchronized double getAverageLatencyMs() {
+        return calls == 0 ? 0.0 : totalNanos / (double) calls / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public synchronized double getMaxLatencyMs() {
+        return maxNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public synchronized long getTimeoutCount() {
+        return timeouts;
+    }
+
+    public synchronized long getFailureCount() {
+        return failures;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+
+    public synchronized long getSkippedCount() {
+        return skipped;
+    }
+
+    public synchronized boolean isCircuitOpen() {
+        return circuitOpenUntil != 0 && System.currentTimeMillis() < circuitOpenUntil;
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.results;
+
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.icon.IconAccessor;
+import com.djrapitops.plan.extension.implementation.MethodType;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.implementation.builder.ComponentDataValue;
+import com.djrapitops.plan.extension.implementation.builder.StringDataValue;
+import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreProviderTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.providers.StoreTableProviderTransaction;
+import com.djrapitops.plan.extension.table.Table;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.sql.tables.extension.*;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.Executable;
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import org.apache.commons.lang3.StringUtils;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Transaction that stores all results of one extension update of a player or a server.
+ * <p>
+ * Icons, providers and results are stored on the same connection. Number, double, string and component results
+ * are written with one JDBC batch per value column, while boolean, group and table results are delegated to their
+ * own transactions since they clean up conditional results.
+ * <p>
+ * Providers that are marked as unchanged are not upserted, unless they are missing from the database.
+ *
+ * @author AuroraLS3
+ */
+public class StoreExtensionResultsTransaction extends ThrowawayTransaction {
+
+    private final Parameters parameters;
+    private final String pluginName;
+    private final ServerUUID serverUUID;
+    private final boolean forPlayer;
+
+    private final Map<String, List<Icon>> icons;
+    private final Set<String> iconsToStore;
+    private final Map<String, ProviderInformation> providers;
+    private final Map<String, Table> tableProviders;
+    private final Set<String> providersToStore;
+    private final Set<String> tableProvidersToStore;
+
+    private final List<Transaction> conditionResults;
+    private final Map<String, ValueResult> valueResults;
+    private final List<Transaction> otherResults;
+
+    public StoreExtensionResultsTransaction(String pluginName, Parameters parameters) {
+        this.parameters = parameters;
+        this.pluginName = pluginName;
+        this.serverUUID = parameters.getServerUUID();
+        this.forPlayer = parameters.getMethodType() == MethodType.PLAYER;
+
+        icons = new LinkedHashMap<>();
+        iconsToStore = new HashSet<>();
+        providers = new LinkedHashMap<>();
+        tableProviders = new LinkedHashMap<>();
+        providersToStore = new HashSet<>();
+        tableProvidersToStore = new HashSet<>();
+        conditionResults = new ArrayList<>();
+        valueResults = new LinkedHashMap<>();
+        otherResults = new ArrayList<>();
+    }
+
+    /**
+     * Add provider information that the results of this transaction depend on.
+     *
+     * @param information Information about the provider.
+     * @param changed     false if the provider and its icon were stored earlier with identical content.
+     */
+    public void addProvider(ProviderInformation information, boolean changed) {
+        String name = information.getName();
+        providers.put(name, information);
+        addIcon(information.getIcon(), changed);
+        if (changed) providersToStore.add(name);
+    }
+
+    /**
+     * Add table provider information that the results of this transaction depend on.
+     *
+     * @param information Information about the provider.
+     * @param table       Table that defines columns, icons and formats of the provider.
+     * @param changed     false if the table provider and its icons were stored earlier with identical content.
+     */
+    public void addTableProvider(ProviderInformation information, Table table, boolean changed) {
+        String name = information.getName();
+        providers.put(name, information);
+        tableProviders.put(name, table);
+        for (Icon icon : table.getIcons()) {
+            if (icon != null) addIcon(icon, changed);
+        }
+        if (changed) tableProvidersToStore.add(name);
+    }
+
+    private void addIcon(Icon icon, boolean changed) {
+        String key = icon.toString();
+        icons.computeIfAbsent(key, k -> new ArrayList<>()).add(icon);
+        if (changed) iconsToStore.add(key);
+    }
+
+    public void addBooleanResult(ProviderInformation information, boolean value) {
+        conditionResults.add(forPlayer ? new StorePlayerBooleanResultTransaction(information, parameters, value)
+                : new StoreServerBooleanResultTransaction(information, parameters, value));
+    }
+
+    public void addNumberResult(ProviderInformation information, long value) {
+        addValueResult(information, ExtensionPlayerValueTable.LONG_VALUE, value);
+    }
+
+    public void addDoubleResult(ProviderInformation information, double value) {
+        addValueResult(information, information.isPercentage() ? ExtensionPlayerValueTable.PERCENTAGE_VALUE : ExtensionPlayerValueTable.DOUBLE_VALUE, value);
+    }
+
+    public void addStringResult(ProviderInformation information, String value) {
+        boolean component = information.isComponent();
+        addValueResult(information, component ? ExtensionPlayerValueTable.COMPONENT_VALUE : ExtensionPlayerValueTable.STRING_VALUE,
+                StringUtils.truncate(value, component ? ComponentDataValue.MAX_LENGTH : StringDataValue.MAX_LENGTH));
+    }
+
+    private void addValueResult(ProviderInformation information, String column, Object value) {
+        valueResults.put(information.getName(), new ValueResult(information.getName(), column, value));
+    }
+
+    public void addGroupsResult(ProviderInformation information, String[] value) {
+        otherResults.add(new StorePlayerGroupsResultTransaction(information, parameters, value));
+    }
+
+    public void addTableResult(ProviderInformation information, Table value) {
+        otherResults.add(forPlayer ? new StorePlayerTableResultTransaction(information, parameters, value)
+                : new StoreServerTableResultTransaction(information, parameters, value));
+    }
+
+    public boolean isEmpty() {
+        return providers.isEmpty();
+    }
+
+    public Collection<ProviderInformation> getProviders() {
+        return providers.values();
+    }
+
+    public Map<String, Table> getTableProviders() {
+        return tableProviders;
+    }
+
+    @Override
+    protected void performOperations() {
+        restoreMissingProviders();
+        storeIcons();
+        for (String providerName : providersToStore) {
+            executeOther(new StoreProviderTransaction(providers.get(providerName), serverUUID));
+        }
+        for (String providerName : tableProvidersToStore) {
+            executeOther(new StoreTableProviderTransaction(serverUUID, providers.get(providerName), tableProviders.get(providerName), forPlayer));
+        }
+
+        for (Transaction conditionResult : conditionResults) {
+            executeOther(conditionResult);
+        }
+        storeValueResults();
+        for (Transaction otherResult : otherResults) {
+            executeOther(otherResult);
+        }
+    }
+
+    private void restoreMissingProviders() {
+        boolean hasUnchangedProviders = providers.size() - tableProviders.size() > providersToStore.size();
+        if (hasUnchangedProviders) {
+            Set<String> storedProviders = query(providerIds(ExtensionProviderTable.TABLE_NAME)).keySet();
+            for (ProviderInformation information : providers.values()) {
+                String name = information.getName();
+                if (!tableProviders.containsKey(name) && !storedProviders.contains(name)) {
+                    providersToStore.add(name);
+                    iconsToStore.add(information.getIcon().toString());
+                }
+            }
+        }
+        if (tableProviders.size() > tableProvidersToStore.size()) {
+            Set<String> storedTables = query(providerIds(ExtensionTableProviderTable.TABLE_NAME)).keySet();
+            for (Map.Entry<String, Table> tableProvider : tableProviders.entrySet()) {
+                if (!storedTables.contains(tableProvider.getKey())) {
+                    tableProvidersToStore.add(tableProvider.getKey());
+                    for (Icon icon : tableProvider.getValue().getIcons()) {
+                        if (icon != null) iconsToStore.add(icon.toString());
+                    }
+                }
+            }
+        }
+    }
+
+    private void storeIcons() {
+        for (String key : iconsToStore) {
+            List<Icon> sameIcons = icons.get(key);
+            Icon stored = sameIcons.get(0);
+            executeOther(new StoreIconTransaction(stored));
+            int id = IconAccessor.getId(stored);
+            for (Icon icon : sameIcons) {
+                IconAccessor.setId(icon, id);
+            }
+        }
+    }
+
+    private Query<Map<String, Integer>> providerIds(String tableName) {
+        // Both provider tables use the same column names
+        String sql = SELECT + ExtensionProviderTable.ID + ',' + ExtensionProviderTable.PROVIDER_NAME +
+                FROM + tableName +
+                WHERE + ExtensionProviderTable.PLUGIN_ID + '=' + ExtensionPluginTable.STATEMENT_SELECT_PLUGIN_ID;
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                ExtensionPluginTable.set2PluginValuesToStatement(statement, 1, pluginName, serverUUID);
+            }
+
+            @Override
+            public Map<String, Integer> processResults(ResultSet set) throws SQLException {
+                Map<String, Integer> ids = new HashMap<>();
+                while (set.next()) {
+                    ids.put(set.getString(ExtensionProviderTable.PROVIDER_NAME), set.getInt(ExtensionProviderTable.ID));
+                }
+                return ids;
+            }
+        };
+    }
+
+    private void storeValueResults() {
+        if (valueResults.isEmpty()) return;
+
+        Map<String, Integer> providerIds = query(providerIds(ExtensionProviderTable.TABLE_NAME));
+        if (providerIds.isEmpty()) return;
+        Set<Integer> existing = query(existingValueProviderIds(providerIds.values()));
+
+        Map<String, List<ValueResult>> updates = new HashMap<>();
+        Map<String, List<ValueResult>> inserts = new HashMap<>();
+        for (ValueResult result : valueResults.values()) {
+            Integer providerId = providerIds.get(result.providerName);
+            if (providerId == null) continue; // Provider could not be stored
+            result.providerId = providerId;
+            (existing.contains(providerId) ? updates : inserts)
+                    .computeIfAbsent(result.column, k -> new ArrayList<>())
+                    .add(result);
+        }
+        for (Map.Entry<String, List<ValueResult>> byColumn : updates.entrySet()) {
+            execute(updateValues(byColumn.getKey(), byColumn.getValue()));
+        }
+        for (Map.Entry<String, List<ValueResult>> byColumn : inserts.entrySet()) {
+            execute(insertValues(byColumn.getKey(), byColumn.getValue()));
+        }
+    }
+
+    private String valueTableName() {
+        return forPlayer ? ExtensionPlayerValueTable.TABLE_NAME : ExtensionServerValueTable.TABLE_NAME;
+    }
+
+    private Query<Set<Integer>> existingValueProviderIds(Collection<Integer> providerIds) {
+        String sql = SELECT + ExtensionPlayerValueTable.PROVIDER_ID +
+                FROM + valueTableName() +
+                WHERE + ExtensionPlayerValueTable.PROVIDER_ID + " IN (" + Sql.nParameters(providerIds.size()) + ')' +
+                (forPlayer ? AND + ExtensionPlayerValueTable.USER_UUID + "=?" : "");
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                int index = 1;
+                for (Integer providerId : providerIds) {
+                    statement.setInt(index++, providerId);
+                }
+                if (forPlayer) statement.setString(index, parameters.getPlayerUUID().toString());
+            }
+
+            @Override
+            public Set<Integer> processResults(ResultSet set) throws SQLException {
+                Set<Integer> ids = new HashSet<>();
+                while (set.next()) {
+                    ids.add(set.getInt(ExtensionPlayerValueTable.PROVIDER_ID));
+                }
+                return ids;
+            }
+        };
+    }
+
+    private Executable updateValues(String column, List<ValueResult> results) {
+        String sql = "UPDATE " + valueTableName() +
+                " SET " + column + "=?" +
+                WHERE + ExtensionPlayerValueTable.PROVIDER_ID + "=?" +
+                (forPlayer ? AND + ExtensionPlayerValueTable.USER_UUID + "=?" : "");
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (ValueResult result : results) {
+                    result.setValue(statement, 1);
+                    statement.setInt(2, result.providerId);
+                    if (forPlayer) statement.setString(3, parameters.getPlayerUUID().toString());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private Executable insertValues(String column, List<ValueResult> results) {
+        String sql = "INSERT INTO " + valueTableName() + " (" +
+                column + ',' +
+                ExtensionPlayerValueTable.PROVIDER_ID +
+                (forPlayer ? ',' + ExtensionPlayerValueTable.USER_UUID + ") VALUES (?,?,?)" : ") VALUES (?,?)");
+        return new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (ValueResult result : results) {
+                    result.setValue(statement, 1);
+                    statement.setInt(2, result.providerId);
+                    if (forPlayer) statement.setString(3, parameters.getPlayerUUID().toString());
+                    statement.addBatch();
+                }
+            }
+        };
+    }
+
+    private static class ValueResult {
+        private final String providerName;
+        private final String column;
+        private final Object value;
+        private int providerId;
+
+        ValueResult(String providerName, String column, Object value) {
+            this.providerName = providerName;
+            this.column = column;
+            this.value = value;
+        }
+
+        void setValue(PreparedStatement statement, int index) throws SQLException {
+            if (value instanceof Long) {
+                statement.setLong(index, (Long) value);
+            } else if (value instanceof Double) {
+                statement.setDouble(index, (Double) value);
+            } else {
+                statement.setString(index, (String) value);
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.djrapitops.plan.SubSystem;
 import com.djrapitops.plan.commands.TabCompleteCache;
 import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
 import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
+import com.djrapitops.plan.identification.IdentifierIndex;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -37,6 +38,7 @@ public class CacheSystem implements SubSystem {
     private final NicknameCache nicknameCache;
     private final GeolocationCache geolocationCache;
     private final JSONStorage jsonStorage;
+    private final IdentifierIndex identifierIndex;
 
     @Inject
     public CacheSystem(
@@ -44,13 +46,15 @@ public class CacheSystem implements SubSystem {
             SessionCache sessionCache,
             NicknameCache nicknameCache,
             GeolocationCache geolocationCache,
-            JSONStorage jsonStorage
+            JSONStorage jsonStorage,
+            IdentifierIndex identifierIndex
     ) {
         this.tabCompleteCache = tabCompleteCache;
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
         this.geolocationCache = geolocationCache;
         this.jsonStorage = jsonStorage;
+        this.identifierIndex = identifierIndex;
     }
 
     @Override
@@ -59,11 +63,13 @@ public class CacheSystem implements SubSystem {
         geolocationCache.enable();
         tabCompleteCache.enable();
         jsonStorage.enable();
+        identifierIndex.enable();
     }
 
     @Override
     public void disable() {
         geolocationCache.clearCache();
+        identifierIndex.disable();
     }
 
     public NicknameCache getNicknameCache() {
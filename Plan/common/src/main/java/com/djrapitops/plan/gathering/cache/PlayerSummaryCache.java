@@ -0,0 +1,124 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.cache;
+
+import com.djrapitops.plan.gathering.domain.*;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches {@link PlayerSummary} objects so that placeholders don't need to load all data of a player on each request.
+ * <p>
+ * Summaries are updated when sessions end or the player joins with a new name, and the active session is read from
+ * {@link SessionCache}, so the cached values only go stale for rarely changing data like kick count.
+ * Session data is loaded as totals calculated in the database and sessions of the last 30 days.
+ * Summaries are invalidated when geolocation, operator or ban status of the player is stored,
+ * ping averages can be up to 5 minutes old.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class PlayerSummaryCache {
+
+    private static final long RECENT_HISTORY_MS = TimeUnit.DAYS.toMillis(30L);
+
+    private final DBSystem dbSystem;
+    private final Cache<UUID, PlayerSummary> cache;
+
+    @Inject
+    public PlayerSummaryCache(DBSystem dbSystem) {
+        this.dbSystem = dbSystem;
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(5, TimeUnit.MINUTES)
+                .maximumSize(5000)
+                .build();
+    }
+
+    /**
+     * Get summary of a player, loading it from the database if it is not cached.
+     * <p>
+     * This method should only be called from an asynchronous thread.
+     *
+     * @param playerUUID UUID of the player.
+     * @return Summary of the player, empty summary if the player has not been registered.
+     * @throws com.djrapitops.plan.exceptions.database.DBOpException if database query fails.
+     */
+    public PlayerSummary getSummary(UUID playerUUID) {
+        return cache.get(playerUUID, this::loadSummary);
+    }
+
+    private PlayerSummary loadSummary(UUID playerUUID) {
+        Database db = dbSystem.getDatabase();
+        BaseUser baseUser = db.query(BaseUserQueries.fetchBaseUserOfPlayer(playerUUID)).orElse(null);
+        if (baseUser == null) {
+            return new PlayerSummary(playerUUID, null);
+        }
+        long monthAgo = System.currentTimeMillis() - RECENT_HISTORY_MS;
+        return new PlayerSummary(
+                playerUUID, baseUser,
+                db.query(SessionQueries.sessionTotalsOfPlayer(playerUUID)),
+                db.query(SessionQueries.fetchRecentSessionsOfPlayerWithoutKillOrWorldData(playerUUID, monthAgo, 2)),
+                db.query(KillQueries.fetchPlayerKillsOfPlayer(playerUUID)),
+                db.query(KillQueries.fetchPlayerDeathsOfPlayer(playerUUID)),
+                db.query(UserInfoQueries.fetchUserInformationOfUser(playerUUID)),
+                db.query(GeoInfoQueries.fetchPlayerGeoInformation(playerUUID)),
+                db.query(PingQueries.fetchPingDataOfPlayer(playerUUID, monthAgo))
+        );
+    }
+
+    /**
+     * Update the cached summary after a session has been saved.
+     *
+     * @param session Session that ended.
+     */
+    public void onSessionEnd(FinishedSession session) {
+        PlayerSummary summary = cache.getIfPresent(session.getPlayerUUID());
+        if (summary != null) summary.addFinishedSession(session);
+
+        // Deaths of the victims changed
+        session.getExtraData(PlayerKills.class)
+                .map(PlayerKills::asList)
+                .ifPresent(kills -> kills.forEach(kill -> invalidate(kill.getVictim().getUuid())));
+    }
+
+    /**
+     * Update the name of the player in the cached summary.
+     *
+     * @param playerUUID UUID of the player.
+     * @param playerName Current name of the player.
+     */
+    public void updatePlayerName(UUID playerUUID, String playerName) {
+        PlayerSummary summary = cache.getIfPresent(playerUUID);
+        if (summary != null) summary.setName(playerName);
+    }
+
+    public void invalidate(UUID playerUUID) {
+        cache.invalidate(playerUUID);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -44,6 +44,10 @@ public class SessionCache {
         return new HashSet<>(ACTIVE_SESSIONS.values());
     }
 
+    public static int getActiveSessionCount() {
+        return ACTIVE_SESSIONS.size();
+    }
+
     public static void clear() {
         ACTIVE_SESSIONS.clear();
     }
@@ -0,0 +1,282 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.delivery.domain.mutators.GeoInfoMutator;
+import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Lightweight summary of a player used for placeholders.
+ * <p>
+ * Holds totals of all finished sessions on each server, finished sessions without world times of the last 30 days,
+ * the player's kills and deaths, ban and operator status, geolocations and ping of the last 30 days.
+ * The currently active session is read from {@link SessionCache} on every access,
+ * so values like playtime stay current without reloading the summary.
+ *
+ * @author AuroraLS3
+ * @see com.djrapitops.plan.gathering.cache.PlayerSummaryCache for loading and updates.
+ */
+public class PlayerSummary {
+
+    private final UUID playerUUID;
+    private final Long registered;
+    private final int timesKicked;
+    private final Map<ServerUUID, SessionTotals> totalsPerServer;
+    private final List<FinishedSession> recentSessions;
+    private final List<PlayerKill> deaths;
+    private final Set<UserInfo> userInformation;
+    private final List<GeoInfo> geoInformation;
+    private final List<Ping> pings;
+    private volatile String name;
+    private volatile List<PlayerKill> kills;
+
+    /**
+     * Create a summary of a player without any sessions or other data.
+     *
+     * @param playerUUID UUID of the player.
+     * @param baseUser   Base user of the player, or null if the player is not registered.
+     */
+    public PlayerSummary(UUID playerUUID, BaseUser baseUser) {
+        this(playerUUID, baseUser, Map.of(), List.of(), List.of(), List.of(), Set.of(), List.of(), List.of());
+    }
+
+    public PlayerSummary(
+            UUID playerUUID, BaseUser baseUser,
+            Map<ServerUUID, SessionTotals> totalsPerServer, List<FinishedSession> recentSessions,
+            List<PlayerKill> kills, List<PlayerKill> deaths,
+            Set<UserInfo> userInformation, List<GeoInfo> geoInformation, List<Ping> pings
+    ) {
+        this.playerUUID = playerUUID;
+        this.name = baseUser != null ? baseUser.getName() : null;
+        this.registered = baseUser != null ? baseUser.getRegistered() : null;
+        this.timesKicked = baseUser != null ? baseUser.getTimesKicked() : 0;
+        this.totalsPerServer = new ConcurrentHashMap<>(totalsPerServer);
+        this.recentSessions = new CopyOnWriteArrayList<>(recentSessions);
+        this.kills = Collections.unmodifiableList(new ArrayList<>(kills));
+        this.deaths = Collections.unmodifiableList(new ArrayList<>(deaths));
+        this.userInformation = Collections.unmodifiableSet(new HashSet<>(userInformation));
+        this.geoInformation = Collections.unmodifiableList(new ArrayList<>(geoInformation));
+        this.pings = Collections.unmodifiableList(new ArrayList<>(pings));
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    public Optional<String> getName() {
+        return Optional.ofNullable(name);
+    }
+
+    /**
+     * Update the name of the player, for example when the player joins with a new name.
+     *
+     * @param name Current name of the player.
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Optional<Long> getRegistered() {
+        return Optional.ofNullable(registered);
+    }
+
+    public int getTimesKicked() {
+        return timesKicked;
+    }
+
+    public Optional<ActiveSession> getActiveSession() {
+        return SessionCache.getCachedSession(playerUUID);
+    }
+
+    private Optional<FinishedSession> getActiveSessionAsFinished() {
+        return getActiveSession().map(ActiveSession::toFinishedSessionFromStillActive);
+    }
+
+    /**
+     * Get the sessions of the last 30 days, including the active session if the player is online.
+     * <p>
+     * At least the two latest sessions are included even if they are older.
+     *
+     * @return Mutator for recent finished sessions and active session.
+     */
+    public SessionsMutator recentSessions() {
+        List<FinishedSession> sessions = new ArrayList<>(recentSessions);
+        getActiveSessionAsFinished().ifPresent(sessions::add);
+        return new SessionsMutator(sessions);
+    }
+
+    /**
+     * Get totals of all sessions of the player, including the active session if the player is online.
+     *
+     * @return Totals over every server.
+     */
+    public SessionTotals getTotals() {
+        SessionTotals totals = SessionTotals.empty();
+        for (SessionTotals serverTotals : getTotalsPerServer().values()) {
+            totals = totals.add(serverTotals);
+        }
+        return totals;
+    }
+
+    /**
+     * Get totals of all sessions of the player on a server, including the active session if it is on that server.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Totals on the server.
+     */
+    public SessionTotals getTotalsOnServer(ServerUUID serverUUID) {
+        return getTotalsPerServer().getOrDefault(serverUUID, SessionTotals.empty());
+    }
+
+    private Map<ServerUUID, SessionTotals> getTotalsPerServer() {
+        Map<ServerUUID, SessionTotals> totals = new HashMap<>(totalsPerServer);
+        getActiveSessionAsFinished().ifPresent(session -> totals.merge(session.getServerUUID(), SessionTotals.of(session), SessionTotals::add));
+        return totals;
+    }
+
+    /**
+     * Get kills made by the player, most recent first, including kills of the active session.
+     *
+     * @return List of kills.
+     */
+    public List<PlayerKill> getPlayerKills() {
+        List<PlayerKill> activeKills = getActiveSession()
+                .flatMap(session -> session.getExtraData(PlayerKills.class))
+                .map(PlayerKills::asList)
+                .orElse(Collections.emptyList());
+        if (activeKills.isEmpty()) return kills;
+
+        List<PlayerKill> allKills = new ArrayList<>(activeKills);
+        allKills.addAll(kills);
+        allKills.sort(new DateHolderRecentComparator());
+        return allKills;
+    }
+
+    /**
+     * Get kills where the player was the victim, most recent first.
+     *
+     * @return List of kills.
+     */
+    public List<PlayerKill> getPlayerDeaths() {
+        return deaths;
+    }
+
+    public int getMobDeathCount() {
+        return getTotals().getDeathCount() - getPlayerDeaths().size();
+    }
+
+    public double getKillDeathRatio() {
+        int deathCount = getPlayerDeaths().size();
+        return getPlayerKills().size() * 1.0 / (deathCount != 0 ? deathCount : 1);
+    }
+
+    public double getMobKillDeathRatio() {
+        int deathCount = getMobDeathCount();
+        return getTotals().getMobKillCount() * 1.0 / (deathCount != 0 ? deathCount : 1);
+    }
+
+    public boolean isBanned() {
+        return userInformation.stream().anyMatch(UserInfo::isBanned);
+    }
+
+    public boolean isOperator() {
+        return userInformation.stream().anyMatch(UserInfo::isOperator);
+    }
+
+    public Optional<GeoInfo> getMostRecentGeoInfo() {
+        return new GeoInfoMutator(geoInformation).mostRecent();
+    }
+
+    /**
+     * Calculate average ping of the player, ignoring invalid values like the ping query does.
+     *
+     * @param after  Date after which ping should be counted, at most 30 days ago.
+     * @param before Date before which ping should be counted.
+     * @return Average ping, or -1.0 if there is no ping between the dates.
+     */
+    public double getAveragePing(long after, long before) {
+        return pings.stream()
+                .filter(ping -> after <= ping.getDate() && ping.getDate() <= before)
+                .mapToDouble(Ping::getAverage)
+                .filter(average -> average > 0 && average <= 4000)
+                .average()
+                .orElse(-1.0);
+    }
+
+    public long getLastSeen() {
+        if (getActiveSession().isPresent()) return System.currentTimeMillis();
+        long lastSeen = -1;
+        for (SessionTotals serverTotals : totalsPerServer.values()) {
+            lastSeen = Math.max(lastSeen, serverTotals.getLastSeen());
+        }
+        return lastSeen;
+    }
+
+    public Optional<ServerUUID> getFavoriteServer() {
+        long max = 0;
+        ServerUUID favorite = null;
+        for (Map.Entry<ServerUUID, SessionTotals> entry : getTotalsPerServer().entrySet()) {
+            long playtime = entry.getValue().getPlaytime();
+            if (playtime > max) {
+                max = playtime;
+                favorite = entry.getKey();
+            }
+        }
+        return Optional.ofNullable(favorite);
+    }
+
+    public ActivityIndex getActivityIndex(long date, long playtimeMsThreshold) {
+        // Activity index only looks at the last 3 weeks, which the recent sessions cover.
+        return new ActivityIndex(recentSessions().all(), date, playtimeMsThreshold);
+    }
+
+    /**
+     * Add a session that just ended to the summary.
+     * <p>
+     * Sessions that are already in the summary are ignored, since the summary may have been loaded after the session
+     * was saved.
+     *
+     * @param session Finished session of this player.
+     */
+    public synchronized void addFinishedSession(FinishedSession session) {
+        for (FinishedSession existing : recentSessions) {
+            if (existing.getStart() == session.getStart() && Objects.equals(existing.getServerUUID(), session.getServerUUID())) {
+                return;
+            }
+        }
+        recentSessions.add(0, session);
+        totalsPerServer.merge(session.getServerUUID(), SessionTotals.of(session), SessionTotals::add);
+
+        List<PlayerKill> sessionKills = session.getExtraData(PlayerKills.class)
+                .map(PlayerKills::asList)
+                .orElse(Collections.emptyList());
+        if (!sessionKills.isEmpty()) {
+            List<PlayerKill> allKills = new ArrayList<>(sessionKills);
+            allKills.addAll(kills);
+            allKills.sort(new DateHolderRecentComparator());
+            kills = Collections.unmodifiableList(allKills);
+        }
+    }
+}
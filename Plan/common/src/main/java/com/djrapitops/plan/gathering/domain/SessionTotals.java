@@ -0,0 +1,134 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import java.util.Objects;
+
+/**
+ * Sums of session values of a player, used instead of loading every session when only totals are needed.
+ *
+ * @author AuroraLS3
+ * @see com.djrapitops.plan.storage.database.queries.objects.SessionQueries#sessionTotalsOfPlayer(java.util.UUID)
+ */
+public class SessionTotals {
+
+    private static final SessionTotals EMPTY = new SessionTotals(0L, 0L, 0, 0, 0, -1L);
+
+    private final long playtime;
+    private final long afkTime;
+    private final int sessionCount;
+    private final int mobKillCount;
+    private final int deathCount;
+    private final long lastSeen;
+
+    public SessionTotals(long playtime, long afkTime, int sessionCount, int mobKillCount, int deathCount, long lastSeen) {
+        this.playtime = playtime;
+        this.afkTime = afkTime;
+        this.sessionCount = sessionCount;
+        this.mobKillCount = mobKillCount;
+        this.deathCount = deathCount;
+        this.lastSeen = lastSeen;
+    }
+
+    public static SessionTotals empty() {
+        return EMPTY;
+    }
+
+    public static SessionTotals of(FinishedSession session) {
+        return new SessionTotals(
+                session.getLength(), session.getAfkTime(), 1,
+                session.getMobKillCount(), session.getDeathCount(),
+                Math.max(session.getStart(), session.getEnd())
+        );
+    }
+
+    /**
+     * Combine these totals with other totals.
+     *
+     * @param other Totals of other sessions.
+     * @return new totals.
+     */
+    public SessionTotals add(SessionTotals other) {
+        return new SessionTotals(
+                playtime + other.playtime,
+                afkTime + other.afkTime,
+                sessionCount + other.sessionCount,
+                mobKillCount + other.mobKillCount,
+                deathCount + other.deathCount,
+                Math.max(lastSeen, other.lastSeen)
+        );
+    }
+
+    public long getPlaytime() {
+        return playtime;
+    }
+
+    public long getAfkTime() {
+        return afkTime;
+    }
+
+    public long getActivePlaytime() {
+        return playtime - afkTime;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public int getMobKillCount() {
+        return mobKillCount;
+    }
+
+    public int getDeathCount() {
+        return deathCount;
+    }
+
+    /**
+     * Get the latest time the player was seen in the sessions.
+     *
+     * @return Epoch ms, or -1 if there are no sessions.
+     */
+    public long getLastSeen() {
+        return lastSeen;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SessionTotals that = (SessionTotals) o;
+        return playtime == that.playtime && afkTime == that.afkTime && sessionCount == that.sessionCount
+                && mobKillCount == that.mobKillCount && deathCount == that.deathCount && lastSeen == that.lastSeen;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playtime, afkTime, sessionCount, mobKillCount, deathCount, lastSeen);
+    }
+
+    @Override
+    public String toString() {
+        return "SessionTotals{" +
+                "playtime=" + playtime +
+                ", afkTime=" + afkTime +
+                ", sessionCount=" + sessionCount +
+                ", mobKillCount=" + mobKillCount +
+                ", deathCount=" + deathCount +
+                ", lastSeen=" + lastSeen +
+                '}';
+    }
+}
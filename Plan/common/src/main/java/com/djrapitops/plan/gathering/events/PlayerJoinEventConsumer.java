@@ -16,20 +16,24 @@
  */
 package com.djrapitops.plan.gathering.events;
 
+import com.djrapitops.plan.commands.TabCompleteCache;
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.delivery.domain.ServerName;
 import com.djrapitops.plan.delivery.export.Exporter;
+import com.djrapitops.plan.delivery.webserver.http.LiveUpdateStream;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.gathering.JoinAddressValidator;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
+import com.djrapitops.plan.gathering.cache.PlayerSummaryCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.gathering.domain.event.PlayerJoin;
 import com.djrapitops.plan.gathering.geolocation.GeolocationCache;
+import com.djrapitops.plan.identification.IdentifierIndex;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -56,6 +60,10 @@ public class PlayerJoinEventConsumer {
     private final GeolocationCache geolocationCache;
     private final SessionCache sessionCache;
     private final NicknameCache nicknameCache;
+    private final PlayerSummaryCache playerSummaryCache;
+    private final TabCompleteCache tabCompleteCache;
+    private final IdentifierIndex identifierIndex;
+    private final LiveUpdateStream liveUpdateStream;
 
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
@@ -68,6 +76,10 @@ public class PlayerJoinEventConsumer {
             GeolocationCache geolocationCache,
             SessionCache sessionCache,
             NicknameCache nicknameCache,
+            PlayerSummaryCache playerSummaryCache,
+            TabCompleteCache tabCompleteCache,
+            IdentifierIndex identifierIndex,
+            LiveUpdateStream liveUpdateStream,
             ExtensionSvc extensionService,
             Exporter exporter
     ) {
@@ -78,16 +90,24 @@ public class PlayerJoinEventConsumer {
         this.geolocationCache = geolocationCache;
         this.sessionCache = sessionCache;
         this.nicknameCache = nicknameCache;
+        this.playerSummaryCache = playerSummaryCache;
+        this.tabCompleteCache = tabCompleteCache;
+        this.identifierIndex = identifierIndex;
+        this.liveUpdateStream = liveUpdateStream;
         this.extensionService = extensionService;
         this.exporter = exporter;
     }
 
     public void onJoinGameServer(PlayerJoin join) {
         Optional<FinishedSession> interruptedSession = cacheActiveSession(join);
+        playerSummaryCache.updatePlayerName(join.getPlayerUUID(), join.getPlayer().getName());
         processing.submitCritical(() -> {
             storeWorldInformation(join);
             storeGamePlayer(join)
                     .thenRunAsync(() -> {
+                        playerSummaryCache.invalidate(join.getPlayerUUID());
+                        tabCompleteCache.updatePlayerName(join.getPlayerUUID(), join.getPlayer().getName());
+                        identifierIndex.updatePlayerName(join.getPlayerUUID(), join.getPlayer().getName());
                         storeJoinAddress(join);
                         interruptedSession.ifPresent(this::storeInterruptedSession);
                         storeGeolocation(join);
@@ -101,8 +121,12 @@ public class PlayerJoinEventConsumer {
 
     public void onJoinProxyServer(PlayerJoin join) {
         cacheActiveSession(join);
+        playerSummaryCache.updatePlayerName(join.getPlayerUUID(), join.getPlayer().getName());
         processing.submitCritical(() -> storeProxyPlayer(join)
                 .thenRunAsync(() -> {
+                    playerSummaryCache.invalidate(join.getPlayerUUID());
+                    tabCompleteCache.updatePlayerName(join.getPlayerUUID(), join.getPlayer().getName());
+                    identifierIndex.updatePlayerName(join.getPlayerUUID(), join.getPlayer().getName());
                     storeGeolocation(join);
                     updatePlayerDataExtensionValues(join);
                     updateExport(join);
@@ -122,7 +146,8 @@ public class PlayerJoinEventConsumer {
         if (config.isTrue(DataGatheringSettings.GEOLOCATIONS) && geolocationCache.canGeolocate()) {
             join.getPlayer().getIPAddress()
                     .map(ip -> new StoreGeoInfoTransaction(join.getPlayerUUID(), ip, join.getTime(), geolocationCache::getCountry))
-                    .ifPresent(dbSystem.getDatabase()::executeTransaction);
+                    .ifPresent(transaction -> dbSystem.getDatabase().executeTransaction(transaction)
+                            .thenRun(() -> playerSummaryCache.invalidate(join.getPlayerUUID())));
         }
     }
 
@@ -164,16 +189,20 @@ public class PlayerJoinEventConsumer {
     private void storeOperatorStatus(PlayerJoin join) {
         join.getPlayer().isOperator()
                 .map(opStatus -> new OperatorStatusTransaction(join.getPlayerUUID(), join.getServerUUID(), opStatus))
-                .ifPresent(dbSystem.getDatabase()::executeTransaction);
+                .ifPresent(transaction -> dbSystem.getDatabase().executeTransaction(transaction)
+                        .thenRun(() -> playerSummaryCache.invalidate(join.getPlayerUUID())));
     }
 
     Optional<FinishedSession> cacheActiveSession(PlayerJoin join) {
         ActiveSession session = mapToActiveSession(join);
-        return sessionCache.cacheSession(join.getPlayerUUID(), session);
+        Optional<FinishedSession> interruptedSession = sessionCache.cacheSession(join.getPlayerUUID(), session);
+        liveUpdateStream.onOnlineCountChange(join.getServerUUID(), SessionCache.getActiveSessionCount());
+        return interruptedSession;
     }
 
     private void storeInterruptedSession(FinishedSession finishedSession) {
-        dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession));
+        dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession))
+                .thenRun(() -> playerSummaryCache.onSessionEnd(finishedSession));
     }
 
     private ActiveSession mapToActiveSession(PlayerJoin join) {
@@ -193,12 +222,12 @@ public class PlayerJoinEventConsumer {
     private void storeNickname(PlayerJoin join) {
         join.getPlayer().getDisplayName()
                 .map(displayName -> new Nickname(displayName, join.getTime(), join.getServerUUID()))
-                .map(nickname -> new StoreNicknameTransaction(
-                        join.getPlayerUUID(), nickname,
-                        (uuid, name) -> nicknameCache.getDisplayName(join.getPlayerUUID())
-                                .map(name::equals)
-                                .orElse(false)))
-                .ifPresent(dbSystem.getDatabase()::executeTransaction);
+                .ifPresent(nickname -> dbSystem.getDatabase().executeTransaction(new StoreNicknameTransaction(
+                                join.getPlayerUUID(), nickname,
+                                (uuid, name) -> nicknameCache.getDisplayName(join.getPlayerUUID())
+                                        .map(name::equals)
+                                        .orElse(false)))
+                        .thenRun(() -> identifierIndex.addNickname(join.getPlayerUUID(), nickname.getName())));
     }
 
     private void updatePlayerDataExtensionValues(PlayerJoin join) {
@@ -17,10 +17,12 @@
 package com.djrapitops.plan.gathering.events;
 
 import com.djrapitops.plan.delivery.export.Exporter;
+import com.djrapitops.plan.delivery.webserver.http.LiveUpdateStream;
 import com.djrapitops.plan.extension.CallEvents;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.gathering.cache.JoinAddressCache;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
+import com.djrapitops.plan.gathering.cache.PlayerSummaryCache;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
@@ -47,18 +49,22 @@ public class PlayerLeaveEventConsumer {
     private final JoinAddressCache joinAddressCache;
     private final NicknameCache nicknameCache;
     private final SessionCache sessionCache;
+    private final PlayerSummaryCache playerSummaryCache;
+    private final LiveUpdateStream liveUpdateStream;
 
     private final ExtensionSvc extensionService;
     private final Exporter exporter;
 
     @Inject
-    public PlayerLeaveEventConsumer(Processing processing, PlanConfig config, DBSystem dbSystem, JoinAddressCache joinAddressCache, NicknameCache nicknameCache, SessionCache sessionCache, ExtensionSvc extensionService, Exporter exporter) {
+    public PlayerLeaveEventConsumer(Processing processing, PlanConfig config, DBSystem dbSystem, JoinAddressCache joinAddressCache, NicknameCache nicknameCache, SessionCache sessionCache, PlayerSummaryCache playerSummaryCache, LiveUpdateStream liveUpdateStream, ExtensionSvc extensionService, Exporter exporter) {
         this.processing = processing;
         this.config = config;
         this.dbSystem = dbSystem;
         this.joinAddressCache = joinAddressCache;
         this.nicknameCache = nicknameCache;
         this.sessionCache = sessionCache;
+        this.playerSummaryCache = playerSummaryCache;
+        this.liveUpdateStream = liveUpdateStream;
         this.extensionService = extensionService;
         this.exporter = exporter;
     }
@@ -92,17 +98,22 @@ public class PlayerLeaveEventConsumer {
     }
 
     private Optional<FinishedSession> endSession(PlayerLeave leave) {
-        return sessionCache.endSession(leave.getPlayerUUID(), leave.getTime());
+        Optional<FinishedSession> finishedSession = sessionCache.endSession(leave.getPlayerUUID(), leave.getTime());
+        liveUpdateStream.onOnlineCountChange(leave.getServerUUID(), SessionCache.getActiveSessionCount());
+        return finishedSession;
     }
 
     private void storeFinishedSession(FinishedSession finishedSession) {
-        dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession));
+        liveUpdateStream.onSessionEnd(finishedSession);
+        dbSystem.getDatabase().executeTransaction(new StoreSessionTransaction(finishedSession))
+                .thenRun(() -> playerSummaryCache.onSessionEnd(finishedSession));
     }
 
     private void storeBanStatus(PlayerLeave leave) {
         processing.submitCritical(() -> leave.getPlayer().isBanned()
                 .map(banStatus -> new BanStatusTransaction(leave.getPlayerUUID(), leave.getServerUUID(), banStatus))
-                .ifPresent(dbSystem.getDatabase()::executeTransaction));
+                .ifPresent(transaction -> dbSystem.getDatabase().executeTransaction(transaction)
+                        .thenRun(() -> playerSummaryCache.invalidate(leave.getPlayerUUID()))));
     }
 
     private void updatePlayerDataExtensionValues(PlayerLeave leave) {
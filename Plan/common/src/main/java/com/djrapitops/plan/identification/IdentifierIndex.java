@@ -0,0 +1,435 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.identification;
+
+import com.djrapitops.plan.SubSystem;
+import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.query.QuerySvc;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.objects.NicknameQueries;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import dagger.Lazy;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of player and server identifiers.
+ * <p>
+ * Player names are kept in a case-insensitive exact match map, and player names and nicknames in a trigram index
+ * for substring search. The index is loaded on enable and kept current by registration and nickname events of this
+ * server, and by player removal and data clear events of {@link QuerySvc}. Exact lookups that miss the index fall
+ * back to the database, so players registered on other servers of a network are still found.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class IdentifierIndex implements SubSystem {
+
+    private final DBSystem dbSystem;
+    private final Processing processing;
+    private final Lazy<QuerySvc> queryService;
+
+    private final ReadWriteLock lock;
+    private final List<PlayerEntry> players;
+    private final Map<UUID, PlayerEntry> playersByUUID;
+    private final Map<String, PlayerEntry> playersByName;
+    private final Map<Long, IntList> trigrams;
+    private final Map<String, ServerUUID> serverIdentifiers;
+    // Updates that arrive while the players are being queried, replayed on top of the queried players.
+    private final List<Runnable> updatesDuringLoad;
+    private boolean loading;
+
+    private volatile boolean loaded;
+    private boolean subscribed;
+
+    @Inject
+    public IdentifierIndex(DBSystem dbSystem, Processing processing, Lazy<QuerySvc> queryService) {
+        this.dbSystem = dbSystem;
+        this.processing = processing;
+        this.queryService = queryService;
+
+        lock = new ReentrantReadWriteLock();
+        players = new ArrayList<>();
+        playersByUUID = new HashMap<>();
+        playersByName = new HashMap<>();
+        trigrams = new HashMap<>();
+        serverIdentifiers = new ConcurrentHashMap<>();
+        updatesDuringLoad = new ArrayList<>();
+    }
+
+    @Override
+    public void enable() {
+        if (!subscribed) {
+            // Lazy since QuerySvc depends on ServerInfo, which updates server identifiers of this index.
+            queryService.get().subscribeToPlayerRemoveEvent(this::removePlayer);
+            queryService.get().subscribeDataClearEvent(this::reload);
+            subscribed = true;
+        }
+        processing.submitNonCritical(this::load);
+    }
+
+    private void reload() {
+        loaded = false;
+        clear();
+        processing.submitNonCritical(this::load);
+    }
+
+    @Override
+    public void disable() {
+        loaded = false;
+        clear();
+    }
+
+    void load() {
+        Database database = dbSystem.getDatabase();
+        for (Server server : database.query(ServerQueries.fetchPlanServerInformationCollection())) {
+            updateServer(server);
+        }
+
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            updatesDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<UUID, String> names;
+        Map<UUID, Set<String>> nicknames;
+        try {
+            names = database.query(UserIdentifierQueries.fetchAllPlayerNames());
+            nicknames = database.query(NicknameQueries.fetchAllNicknamesOfPlayers());
+        } catch (RuntimeException e) {
+            stopLoading();
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            clearPlayers();
+            for (Map.Entry<UUID, String> name : names.entrySet()) {
+                PlayerEntry player = updatePlayerNameUnsafe(name.getKey(), name.getValue());
+                for (String nickname : nicknames.getOrDefault(name.getKey(), Collections.emptySet())) {
+                    addNicknameUnsafe(player, nickname);
+                }
+            }
+            // The query may not have seen these updates
+            for (Runnable update : updatesDuringLoad) {
+                update.run();
+            }
+            loaded = true;
+        } finally {
+            stopLoading();
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            updatesDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clear() {
+        serverIdentifiers.clear();
+        lock.writeLock().lock();
+        try {
+            clearPlayers();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clearPlayers() {
+        players.clear();
+        playersByUUID.clear();
+        playersByName.clear();
+        trigrams.clear();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    private static String lowercase(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Add a player or update their name.
+     *
+     * @param playerUUID UUID of the player
+     * @param playerName Current name of the player
+     */
+    public void updatePlayerName(UUID playerUUID, String playerName) {
+        if (playerUUID == null || playerName == null) return;
+        lock.writeLock().lock();
+        try {
+            updatePlayerNameUnsafe(playerUUID, playerName);
+            if (loading) updatesDuringLoad.add(() -> updatePlayerNameUnsafe(playerUUID, playerName));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private PlayerEntry updatePlayerNameUnsafe(UUID playerUUID, String playerName) {
+        String lowercaseName = lowercase(playerName);
+        PlayerEntry player = playersByUUID.get(playerUUID);
+        if (player == null) {
+            player = new PlayerEntry(players.size(), playerUUID, playerName, lowercaseName);
+            players.add(player);
+            playersByUUID.put(playerUUID, player);
+        } else if (!player.name.equals(playerName)) {
+            playersByName.remove(player.lowercaseName, player);
+            player.name = playerName;
+            player.lowercaseName = lowercaseName;
+        } else {
+            return player;
+        }
+        playersByName.put(lowercaseName, player);
+        indexTrigrams(player.id, lowercaseName);
+        return player;
+    }
+
+    /**
+     * Add a nickname of a player to the search index.
+     *
+     * @param playerUUID UUID of the player
+     * @param nickname   Nickname (display name) of the player
+     */
+    public void addNickname(UUID playerUUID, String nickname) {
+        if (playerUUID == null || nickname == null) return;
+        lock.writeLock().lock();
+        try {
+            addNicknameUnsafe(playerUUID, nickname);
+            if (loading) updatesDuringLoad.add(() -> addNicknameUnsafe(playerUUID, nickname));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addNicknameUnsafe(UUID playerUUID, String nickname) {
+        PlayerEntry player = playersByUUID.get(playerUUID);
+        if (player != null) addNicknameUnsafe(player, nickname);
+    }
+
+    private void addNicknameUnsafe(PlayerEntry player, String nickname) {
+        String lowercaseNickname = lowercase(nickname);
+        if (player.lowercaseNicknames.add(lowercaseNickname)) {
+            indexTrigrams(player.id, lowercaseNickname);
+        }
+    }
+
+    /**
+     * Remove a player that was removed from the database, or merged into another player.
+     *
+     * @param playerUUID UUID of the player
+     */
+    public void removePlayer(UUID playerUUID) {
+        if (playerUUID == null) return;
+        lock.writeLock().lock();
+        try {
+            removePlayerUnsafe(playerUUID);
+            if (loading) updatesDuringLoad.add(() -> removePlayerUnsafe(playerUUID));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removePlayerUnsafe(UUID playerUUID) {
+        PlayerEntry player = playersByUUID.remove(playerUUID);
+        if (player == null) return;
+        playersByName.remove(player.lowercaseName, player);
+        // Trigram postings refer to players by position, so the position is left empty instead of shifting the list.
+        players.set(player.id, null);
+    }
+
+    private void indexTrigrams(int playerId, String text) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.computeIfAbsent(trigram(text, i), key -> new IntList()).add(playerId);
+        }
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * Find UUID of a player by their name, case-insensitively.
+     *
+     * @param playerName Name of the player
+     * @return UUID of the player if they are in the index or the database.
+     */
+    public Optional<UUID> getPlayerUUID(@Untrusted String playerName) {
+        if (playerName == null) return Optional.empty();
+        if (loaded) {
+            lock.readLock().lock();
+            try {
+                PlayerEntry player = playersByName.get(lowercase(playerName));
+                if (player != null) return Optional.of(player.uuid);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Database database = dbSystem.getDatabase();
+        Optional<UUID> found = database.query(UserIdentifierQueries.fetchPlayerUUIDOf(playerName));
+        if (loaded && found.isPresent()) {
+            UUID playerUUID = found.get();
+            database.query(UserIdentifierQueries.fetchPlayerNameOf(playerUUID))
+                    .ifPresent(name -> updatePlayerName(playerUUID, name));
+        }
+        return found;
+    }
+
+    /**
+     * Find names of players whose name or any nickname contains the given text, case-insensitively.
+     *
+     * @param searchFor Text to search for
+     * @return Names of the matching players, in no particular order.
+     */
+    public List<String> searchPlayerNames(@Untrusted String searchFor) {
+        if (!loaded) {
+            return dbSystem.getDatabase().query(UserIdentifierQueries.fetchMatchingPlayerNames(searchFor));
+        }
+
+        String needle = lowercase(searchFor);
+        lock.readLock().lock();
+        try {
+            List<String> matches = new ArrayList<>();
+            if (needle.length() < 3) {
+                for (PlayerEntry player : players) {
+                    if (player != null && player.matches(needle)) matches.add(player.name);
+                }
+                return matches;
+            }
+
+            IntList candidates = getRarestTrigramPostings(needle);
+            if (candidates == null) return matches;
+
+            BitSet checked = new BitSet(players.size());
+            for (int i = 0; i < candidates.size; i++) {
+                int playerId = candidates.values[i];
+                if (checked.get(playerId)) continue;
+                checked.set(playerId);
+
+                PlayerEntry player = players.get(playerId);
+                if (player != null && player.matches(needle)) matches.add(player.name);
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private IntList getRarestTrigramPostings(String needle) {
+        IntList rarest = null;
+        for (int i = 0; i + 3 <= needle.length(); i++) {
+            IntList postings = trigrams.get(trigram(needle, i));
+            if (postings == null) return null; // Nothing contains this trigram
+            if (rarest == null || postings.size < rarest.size) rarest = postings;
+        }
+        return rarest;
+    }
+
+    /**
+     * Add a server or replace its identifiers, eg. after it has been renamed.
+     *
+     * @param server Current information of the server
+     */
+    public void updateServer(Server server) {
+        ServerUUID serverUUID = server.getUuid();
+        serverIdentifiers.values().removeIf(serverUUID::equals);
+        addServer(server);
+    }
+
+    private void addServer(Server server) {
+        ServerUUID serverUUID = server.getUuid();
+        serverIdentifiers.put(lowercase(serverUUID.toString()), serverUUID);
+        serverIdentifiers.put(lowercase(server.getName()), serverUUID);
+        server.getId().ifPresent(id -> {
+            serverIdentifiers.put(Integer.toString(id), serverUUID);
+            serverIdentifiers.put(lowercase(server.getIdentifiableName()), serverUUID);
+        });
+    }
+
+    /**
+     * Find UUID of a server by its name, id or uuid, case-insensitively.
+     *
+     * @param identifier Identifier of the server
+     * @return UUID of the server if it is in the index or the database.
+     */
+    public Optional<ServerUUID> getServerUUID(@Untrusted String identifier) {
+        if (identifier == null) return Optional.empty();
+        ServerUUID indexed = serverIdentifiers.get(lowercase(identifier));
+        if (indexed != null) return Optional.of(indexed);
+
+        Optional<Server> found = dbSystem.getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(identifier));
+        found.ifPresent(this::updateServer);
+        return found.map(Server::getUuid);
+    }
+
+    private static class PlayerEntry {
+        private final int id;
+        private final UUID uuid;
+        private final Set<String> lowercaseNicknames;
+        private String name;
+        private String lowercaseName;
+
+        private PlayerEntry(int id, UUID uuid, String name, String lowercaseName) {
+            this.id = id;
+            this.uuid = uuid;
+            this.name = name;
+            this.lowercaseName = lowercaseName;
+            lowercaseNicknames = new HashSet<>(2);
+        }
+
+        private boolean matches(String needle) {
+            if (lowercaseName.contains(needle)) return true;
+            for (String nickname : lowercaseNicknames) {
+                if (nickname.contains(needle)) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Growable int array, avoids boxing player ids in the trigram postings.
+     */
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size > 0 && values[size - 1] == value) return;
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+}
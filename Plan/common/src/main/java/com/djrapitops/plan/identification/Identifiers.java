@@ -19,7 +19,6 @@ package com.djrapitops.plan.identification;
 import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.queries.objects.UserIdentifierQueries;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import org.eclipse.jetty.http.HttpHeader;
@@ -27,6 +26,7 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -41,11 +41,13 @@ public class Identifiers {
 
     protected final DBSystem dbSystem;
     private final UUIDUtility uuidUtility;
+    private final IdentifierIndex identifierIndex;
 
     @Inject
-    public Identifiers(DBSystem dbSystem, UUIDUtility uuidUtility) {
+    public Identifiers(DBSystem dbSystem, UUIDUtility uuidUtility, IdentifierIndex identifierIndex) {
         this.dbSystem = dbSystem;
         this.uuidUtility = uuidUtility;
+        this.identifierIndex = identifierIndex;
     }
 
     /**
@@ -111,8 +113,7 @@ public class Identifiers {
     }
 
     private Optional<ServerUUID> getServerUUIDFromName(@Untrusted String serverName) {
-        return dbSystem.getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverName))
-                .map(Server::getUuid);
+        return identifierIndex.getServerUUID(serverName);
     }
 
     /**
@@ -135,13 +136,22 @@ public class Identifiers {
         return uuidUtility.getUUIDOf(name);
     }
 
+    /**
+     * Search for players by name or nickname.
+     *
+     * @param searchFor Part of the name or nickname, case does not matter.
+     * @return Names of the players that match.
+     */
+    public List<String> searchPlayerNames(@Untrusted String searchFor) {
+        return identifierIndex.searchPlayerNames(searchFor);
+    }
+
     public Optional<Integer> getPlayerUserId(UUID playerUUID) {
         return dbSystem.getDatabase().query(UserIdentifierQueries.fetchUserId(playerUUID));
     }
 
     private UUID getPlayerUUIDFromName(@Untrusted String playerName) {
-        return dbSystem.getDatabase()
-                .query(UserIdentifierQueries.fetchPlayerUUIDOf(playerName))
+        return identifierIndex.getPlayerUUID(playerName)
                 .orElseThrow(() -> new BadRequestException("Given 'player' was not found in the database."));
     }
 }
\ No newline at end of file
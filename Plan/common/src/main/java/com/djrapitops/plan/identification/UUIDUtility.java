@@ -34,7 +34,7 @@ import java.util.UUID;
  * <p>
  * Attempts are made in order:
  * - Parse UUID out of the given String
- * - Find an UUID from the database matching the player name
+ * - Find an UUID from {@link IdentifierIndex} or the database matching the player name
  * - Find an UUID from Mojang API that matches the player name
  *
  * @author AuroraLS3
@@ -43,11 +43,13 @@ import java.util.UUID;
 public class UUIDUtility {
 
     private final DBSystem dbSystem;
+    private final IdentifierIndex identifierIndex;
     private final ErrorLogger errorLogger;
 
     @Inject
-    public UUIDUtility(DBSystem dbSystem, ErrorLogger errorLogger) {
+    public UUIDUtility(DBSystem dbSystem, IdentifierIndex identifierIndex, ErrorLogger errorLogger) {
         this.dbSystem = dbSystem;
+        this.identifierIndex = identifierIndex;
         this.errorLogger = errorLogger;
     }
 
@@ -106,7 +108,7 @@ public class UUIDUtility {
 
     private Optional<UUID> getUUIDFromDB(@Untrusted String playerName) {
         try {
-            return dbSystem.getDatabase().query(UserIdentifierQueries.fetchPlayerUUIDOf(playerName));
+            return identifierIndex.getPlayerUUID(playerName);
         } catch (DBOpException e) {
             errorLogger.error(e);
             return Optional.empty();
@@ -18,6 +18,7 @@ package com.djrapitops.plan.identification.storage;
 
 import com.djrapitops.plan.exceptions.EnableException;
 import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.identification.IdentifierIndex;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DBSystem;
@@ -33,12 +34,15 @@ import java.util.concurrent.ExecutionException;
 public class ServerDBLoader implements ServerLoader {
 
     private final DBSystem dbSystem;
+    private final IdentifierIndex identifierIndex;
 
     @Inject
     public ServerDBLoader(
-            DBSystem dbSystem
+            DBSystem dbSystem,
+            IdentifierIndex identifierIndex
     ) {
         this.dbSystem = dbSystem;
+        this.identifierIndex = identifierIndex;
     }
 
     @Override
@@ -48,9 +52,12 @@ public class ServerDBLoader implements ServerLoader {
                 throw new EnableException("Attempted to load a server with null UUID (Old behavior that is no longer supported)");
             }
 
-            return dbSystem.getDatabase().query(
+            Optional<Server> loaded = dbSystem.getDatabase().query(
                     ServerQueries.fetchServerMatchingIdentifier(serverUUID)
             );
+            // Name of the server may have changed
+            loaded.ifPresent(identifierIndex::updateServer);
+            return loaded;
         } catch (DBOpException e) {
             throw new EnableException("Failed to read Server information from Database: " + e.getMessage(), e);
         }
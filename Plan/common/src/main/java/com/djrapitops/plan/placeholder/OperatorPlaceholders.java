@@ -17,12 +17,11 @@
 package com.djrapitops.plan.placeholder;
 
 import com.djrapitops.plan.commands.use.Arguments;
-import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.IdentifierIndex;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
-import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 
 import javax.inject.Inject;
@@ -39,13 +38,15 @@ public class OperatorPlaceholders implements Placeholders {
 
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
+    private final IdentifierIndex identifierIndex;
 
     @Inject
     public OperatorPlaceholders(
-            DBSystem dbSystem, ServerInfo serverInfo
+            DBSystem dbSystem, ServerInfo serverInfo, IdentifierIndex identifierIndex
     ) {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
+        this.identifierIndex = identifierIndex;
     }
 
     @Override
@@ -60,7 +61,6 @@ public class OperatorPlaceholders implements Placeholders {
     }
 
     private Optional<ServerUUID> getServerUUIDForServerIdentifier(@Untrusted String serverIdentifier) {
-        return dbSystem.getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverIdentifier))
-                .map(Server::getUuid);
+        return identifierIndex.getServerUUID(serverIdentifier);
     }
 }
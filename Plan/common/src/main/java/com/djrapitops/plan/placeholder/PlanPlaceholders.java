@@ -19,7 +19,12 @@ package com.djrapitops.plan.placeholder;
 import com.djrapitops.plan.commands.use.Arguments;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.gathering.cache.PlayerSummaryCache;
+import com.djrapitops.plan.gathering.domain.PlayerSummary;
 import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plan.settings.config.paths.key.TimeSetting;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.containers.ContainerFetchQueries;
@@ -32,12 +37,16 @@ import javax.inject.Singleton;
 import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Registry for all placeholders.
+ * <p>
+ * Values of static placeholders are cached in {@link StaticPlaceholderCache}.
  *
  * @see ServerPlaceHolders Placeholders about the current server
  * @see OperatorPlaceholders Placeholders about operators of the current server
@@ -48,28 +57,44 @@ import java.util.function.Supplier;
 @Singleton
 public final class PlanPlaceholders {
 
+    // Values computed in the background for server threads are refreshed this often.
+    private static final long SERVER_THREAD_REFRESH_MS = TimeUnit.SECONDS.toMillis(5L);
+
     private final Map<String, PlayerPlaceholderLoader> playerPlaceholders;
     private final Map<String, StaticPlaceholderLoader> staticPlaceholders;
+    private final Map<String, Long> staticPlaceholderMaxAges;
+    private final Map<String, TimeSetting> maxAgeOverrideSettings;
 
     private final Map<String, Function<String, Serializable>> rawHandlers;
 
+    private final PlanConfig config;
     private final DBSystem dbSystem;
+    private final PlayerSummaryCache playerSummaryCache;
+    private final StaticPlaceholderCache staticPlaceholderCache;
     private final Identifiers identifiers;
     private final PluginLogger logger;
 
     @Inject
     public PlanPlaceholders(
+            PlanConfig config,
             DBSystem dbSystem,
+            PlayerSummaryCache playerSummaryCache,
+            StaticPlaceholderCache staticPlaceholderCache,
             Set<Placeholders> placeholderRegistries,
             Identifiers identifiers,
             PluginLogger logger
     ) {
+        this.config = config;
         this.dbSystem = dbSystem;
+        this.playerSummaryCache = playerSummaryCache;
+        this.staticPlaceholderCache = staticPlaceholderCache;
         this.identifiers = identifiers;
         this.logger = logger;
 
         this.playerPlaceholders = new HashMap<>();
         this.staticPlaceholders = new HashMap<>();
+        this.staticPlaceholderMaxAges = new HashMap<>();
+        this.maxAgeOverrideSettings = new ConcurrentHashMap<>();
         this.rawHandlers = new HashMap<>();
 
         for (Placeholders registry : placeholderRegistries) {
@@ -85,10 +110,46 @@ public final class PlanPlaceholders {
         staticPlaceholders.put(name, loader);
     }
 
-    public void register(String name, Function<PlayerContainer, Serializable> loader) {
+    /**
+     * Register a static placeholder that is cached for a different time than the configured default.
+     * <p>
+     * User can still override the time in config with Time.Placeholder_cache.{name}
+     *
+     * @param name   Name of the placeholder
+     * @param loader Function that computes the value
+     * @param maxAge How long a value can be served before recomputing it, 0 to disable caching.
+     * @param unit   Unit of maxAge
+     */
+    public void registerStatic(String name, StaticPlaceholderLoader loader, long maxAge, TimeUnit unit) {
+        registerStatic(name, loader);
+        staticPlaceholderMaxAges.put(name, unit.toMillis(maxAge));
+    }
+
+    /**
+     * Register a placeholder about a player, calculated from the cached {@link PlayerSummary} of the player.
+     *
+     * @param name   Name of the placeholder
+     * @param loader Function that computes the value from the summary
+     */
+    public void registerPlayer(String name, Function<PlayerSummary, Serializable> loader) {
         register(name, (player, params) -> loader.apply(player));
     }
 
+    /**
+     * Register a placeholder about a player, calculated from all data of the player.
+     *
+     * @param name   Name of the placeholder
+     * @param loader Function that computes the value from the PlayerContainer
+     * @deprecated Loads every session of the player on each request,
+     * use {@link #registerPlayer(String, Function)} instead.
+     */
+    @Deprecated
+    public void register(String name, Function<PlayerContainer, Serializable> loader) {
+        register(name, (player, params) -> loader.apply(
+                dbSystem.getDatabase().query(ContainerFetchQueries.fetchPlayerContainer(player.getPlayerUUID()))
+        ));
+    }
+
     public void register(String name, PlayerPlaceholderLoader loader) {
         playerPlaceholders.put(name, loader);
     }
@@ -116,8 +177,26 @@ public final class PlanPlaceholders {
      * otherwise {@code null}
      */
     public String onPlaceholderRequest(UUID uuid, @Untrusted String placeholder, @Untrusted List<String> parameters) {
+        return onPlaceholderRequest(uuid, placeholder, parameters, true);
+    }
+
+    /**
+     * Look up the placeholder without blocking the calling thread, for server threads.
+     * <p>
+     * The last computed value is returned and values that are missing or old are computed in the background.
+     *
+     * @param uuid        the player who is viewing the placeholder
+     * @param placeholder the placeholder to look up to.
+     * @param parameters  additional placeholder parameters
+     * @return the last value of the placeholder, or {@code null} if it is not registered or has not been computed yet.
+     */
+    public String onPlaceholderRequestWithoutWaiting(UUID uuid, @Untrusted String placeholder, @Untrusted List<String> parameters) {
+        return onPlaceholderRequest(uuid, placeholder, parameters, false);
+    }
+
+    private String onPlaceholderRequest(UUID uuid, @Untrusted String placeholder, @Untrusted List<String> parameters, boolean wait) {
         try {
-            return tryReplacePlaceholder(uuid, placeholder, parameters);
+            return tryReplacePlaceholder(uuid, placeholder, parameters, wait);
         } catch (DBOpException e) {
             if (dbSystem.getDatabase().getState() == Database.State.CLOSED) {
                 return "Plan Bug #3020, please report";
@@ -128,10 +207,12 @@ public final class PlanPlaceholders {
     }
 
     @Nullable
-    private String tryReplacePlaceholder(UUID uuid, String placeholder, List<String> parameters) {
+    private String tryReplacePlaceholder(UUID uuid, String placeholder, List<String> parameters, boolean wait) {
+        String key = parameters.isEmpty() ? placeholder : placeholder + ':' + String.join(":", parameters);
         for (Entry<String, Function<String, Serializable>> entry : rawHandlers.entrySet()) {
             if (placeholder.startsWith(entry.getKey())) {
-                return Objects.toString(entry.getValue().apply(placeholder));
+                Supplier<String> rawLoader = () -> Objects.toString(entry.getValue().apply(placeholder));
+                return wait ? rawLoader.get() : staticPlaceholderCache.getWithoutWaiting(key, SERVER_THREAD_REFRESH_MS, rawLoader);
             }
         }
 
@@ -139,35 +220,70 @@ public final class PlanPlaceholders {
 
         StaticPlaceholderLoader staticLoader = staticPlaceholders.get(placeholder);
         if (staticLoader != null) {
-            return Objects.toString(staticLoader.apply(arguments));
+            Supplier<String> cachedLoader = () -> Objects.toString(staticLoader.apply(arguments));
+            return wait ? staticPlaceholderCache.get(key, getMaxAge(placeholder), cachedLoader)
+                    : staticPlaceholderCache.getWithoutWaiting(key, getMaxAge(placeholder), cachedLoader);
         }
 
+        PlayerPlaceholderLoader loader = playerPlaceholders.get(placeholder);
+        if (loader == null) {
+            return null;
+        }
+        if (wait) {
+            return replacePlayerPlaceholder(uuid, loader, arguments, parameters);
+        }
+        // Player values are cached per viewer, identifier lookups and summaries are loaded in the background.
+        return staticPlaceholderCache.getWithoutWaiting(uuid + ":" + key, SERVER_THREAD_REFRESH_MS,
+                () -> replacePlayerPlaceholder(uuid, loader, arguments, parameters));
+    }
+
+    @Nullable
+    private String replacePlayerPlaceholder(UUID uuid, PlayerPlaceholderLoader loader, @Untrusted Arguments arguments, @Untrusted List<String> parameters) {
         @Untrusted Optional<String> givenIdentifier = arguments.get(0);
         Optional<UUID> foundUUID = givenIdentifier
                 .flatMap(this::getPlayerUUIDForIdentifier);
         UUID playerUUID = foundUUID.orElse(uuid);
-        PlayerContainer player;
+
+        if (playerUUID == null) {
+            return null;
+        }
         if (givenIdentifier.isPresent() && foundUUID.isEmpty()) {
-            player = null; // Don't show other player whose identifier is not found.
-        } else if (playerUUID != null) {
-            player = dbSystem.getDatabase().query(ContainerFetchQueries.fetchPlayerContainer(playerUUID));
-        } else {
-            player = null;
+            return null; // Don't show other player whose identifier is not found.
         }
 
-        PlayerPlaceholderLoader loader = playerPlaceholders.get(placeholder);
-        if (loader != null && player != null) {
-            return Objects.toString(loader.apply(player, parameters));
+        return Objects.toString(loader.apply(getPlayerSummary(playerUUID), parameters));
+    }
+
+    private long getMaxAge(String placeholder) {
+        String overridePath = "Time.Placeholder_cache." + placeholder;
+        if (config.contains(overridePath)) {
+            // Only called for registered static placeholders, so there is one setting per placeholder.
+            TimeSetting override = maxAgeOverrideSettings.computeIfAbsent(placeholder, name -> new TimeSetting(overridePath));
+            return config.getOrDefault(override, config.get(TimeSettings.PLACEHOLDER_CACHE_MAX_AGE));
         }
+        Long registeredMaxAge = staticPlaceholderMaxAges.get(placeholder);
+        return registeredMaxAge != null ? registeredMaxAge : config.get(TimeSettings.PLACEHOLDER_CACHE_MAX_AGE);
+    }
 
-        return null;
+    public StaticPlaceholderCache getStaticPlaceholderCache() {
+        return staticPlaceholderCache;
+    }
+
+    /**
+     * Get the summary that player placeholders are calculated from.
+     *
+     * @param playerUUID UUID of the player
+     * @return Cached summary, loaded with targeted queries if not cached.
+     */
+    public PlayerSummary getPlayerSummary(UUID playerUUID) {
+        return playerSummaryCache.getSummary(playerUUID);
     }
 
     private Optional<UUID> getPlayerUUIDForIdentifier(@Untrusted String identifier) {
         return Optional.ofNullable(identifiers.getPlayerUUID(identifier));
     }
 
-    public interface PlayerPlaceholderLoader extends BiFunction<PlayerContainer, List<String>, Serializable> {}
+    public interface PlayerPlaceholderLoader extends BiFunction<PlayerSummary, List<String>, Serializable> {}
 
     public interface StaticPlaceholderLoader extends Function<Arguments, Serializable> {}
 
@@ -16,17 +16,10 @@
  */
 package com.djrapitops.plan.placeholder;
 
-import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
-import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
-import com.djrapitops.plan.delivery.domain.mutators.*;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.gathering.afk.AFKTracker;
-import com.djrapitops.plan.gathering.cache.SessionCache;
-import com.djrapitops.plan.gathering.domain.ActiveSession;
-import com.djrapitops.plan.gathering.domain.FinishedSession;
-import com.djrapitops.plan.gathering.domain.GeoInfo;
-import com.djrapitops.plan.gathering.domain.PlayerKill;
+import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerInfo;
@@ -36,7 +29,6 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.GenericLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
-import com.djrapitops.plan.utilities.Predicates;
 import org.jetbrains.annotations.NotNull;
 
 import javax.inject.Inject;
@@ -47,6 +39,8 @@ import static com.djrapitops.plan.utilities.MiscUtils.*;
 
 /**
  * Placeholders about a player.
+ * <p>
+ * Values are calculated from {@link PlayerSummary}, never by loading all data of the player.
  *
  * @author aidn5, AuroraLS3
  */
@@ -82,84 +76,69 @@ public class PlayerPlaceHolders implements Placeholders {
         Formatter<Long> year = formatters.yearLong();
         Formatter<Long> time = formatters.timeAmount();
 
-        placeholders.register("player_is_afk", this::isAfk);
-        placeholders.register("player_is_afk_badge", player -> isAfk(player) ? "AFK" : "");
+        placeholders.registerPlayer("player_is_afk", this::isAfk);
+        placeholders.registerPlayer("player_is_afk_badge", player -> isAfk(player) ? "AFK" : "");
 
-        placeholders.register("player_banned",
-                player -> player.getValue(PlayerKeys.BANNED)
-                        .orElse(Boolean.FALSE)
+        placeholders.registerPlayer("player_banned",
+                PlayerSummary::isBanned
         );
 
-        placeholders.register("player_operator",
-                player -> player.getValue(PlayerKeys.OPERATOR)
-                        .orElse(Boolean.FALSE)
+        placeholders.registerPlayer("player_operator",
+                PlayerSummary::isOperator
         );
 
-        placeholders.register("player_sessions_count",
-                player -> SessionsMutator.forContainer(player)
-                        .count()
+        placeholders.registerPlayer("player_sessions_count",
+                player -> player.getTotals().getSessionCount()
         );
 
-        placeholders.register("player_kick_count",
-                player -> player.getValue(PlayerKeys.KICK_COUNT)
-                        .orElse(0)
+        placeholders.registerPlayer("player_kick_count",
+                player -> player.getTimesKicked()
         );
 
-        placeholders.register("player_death_count",
-                player -> player.getValue(PlayerKeys.DEATH_COUNT)
-                        .orElse(0)
+        placeholders.registerPlayer("player_death_count",
+                player -> player.getTotals().getDeathCount()
         );
 
-        placeholders.register("player_mob_kill_count",
-                player -> player.getValue(PlayerKeys.MOB_KILL_COUNT)
-                        .orElse(0)
+        placeholders.registerPlayer("player_mob_kill_count",
+                player -> player.getTotals().getMobKillCount()
         );
 
-        placeholders.register("player_player_kill_count",
-                player -> player.getValue(PlayerKeys.PLAYER_KILL_COUNT)
-                        .orElse(0)
+        placeholders.registerPlayer("player_player_kill_count",
+                player -> player.getPlayerKills().size()
         );
 
-        placeholders.register("player_kill_death_ratio",
-                player -> PlayerVersusMutator.forContainer(player).toKillDeathRatio());
+        placeholders.registerPlayer("player_kill_death_ratio",
+                player -> player.getKillDeathRatio());
 
-        placeholders.register("player_ping_average_day",
-                player -> decimals.apply(PingMutator.forContainer(player)
-                        .filterBy(Predicates.within(dayAgo(), now()))
-                        .average()) + " ms"
+        placeholders.registerPlayer("player_ping_average_day",
+                player -> decimals.apply(player.getAveragePing(dayAgo(), now())) + " ms"
         );
 
-        placeholders.register("player_ping_average_week",
-                player -> decimals.apply(PingMutator.forContainer(player)
-                        .filterBy(Predicates.within(weekAgo(), now()))
-                        .average()) + " ms"
+        placeholders.registerPlayer("player_ping_average_week",
+                player -> decimals.apply(player.getAveragePing(weekAgo(), now())) + " ms"
         );
 
-        placeholders.register("player_ping_average_month",
-                player -> decimals.apply(PingMutator.forContainer(player)
-                        .filterBy(Predicates.within(monthAgo(), now()))
-                        .average()) + " ms"
+        placeholders.registerPlayer("player_ping_average_month",
+                player -> decimals.apply(player.getAveragePing(monthAgo(), now())) + " ms"
         );
 
-        placeholders.register("player_lastseen",
-                player -> year.apply(player.getValue(PlayerKeys.LAST_SEEN)
-                        .orElse((long) 0))
+        placeholders.registerPlayer("player_lastseen",
+                player -> year.apply(player.getLastSeen())
         );
 
-        placeholders.register("player_registered",
-                player -> year.apply(player.getValue(PlayerKeys.REGISTERED)
+        placeholders.registerPlayer("player_registered",
+                player -> year.apply(player.getRegistered()
                         .orElse((long) 0))
         );
 
-        placeholders.register("player_geolocation",
-                player -> GeoInfoMutator.forContainer(player)
-                        .mostRecent()
+        placeholders.registerPlayer("player_geolocation",
+                player -> player.getMostRecentGeoInfo()
                         .map(GeoInfo::getGeolocation)
                         .orElse(locale.getString(GenericLang.UNKNOWN))
         );
 
-        placeholders.register("player_join_address",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_join_address",
+                player -> player.recentSessions()
                         .latestSession()
                         .flatMap(session -> session.getExtraData(JoinAddress.class))
                         .map(JoinAddress::getAddress)
@@ -169,20 +148,20 @@ public class PlayerPlaceHolders implements Placeholders {
         registerPlaytimePlaceholders(placeholders, time);
         registerSessionLengethPlaceholders(placeholders, time);
 
-        placeholders.register("player_favorite_server",
-                player -> PerServerMutator.forContainer(player).favoriteServer()
+        placeholders.registerPlayer("player_favorite_server",
+                player -> player.getFavoriteServer()
                         .flatMap(serverUUID -> dbSystem.getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverUUID)))
                         .map(Server::getName)
                         .orElse("-")
         );
 
-        placeholders.register("player_activity_index",
+        placeholders.registerPlayer("player_activity_index",
                 player -> decimals.apply(player.getActivityIndex(
                         now(),
                         config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD)
                 ).getValue())
         );
-        placeholders.register("player_activity_group",
+        placeholders.registerPlayer("player_activity_group",
                 player -> player.getActivityIndex(
                         now(),
                         config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD)
@@ -193,34 +172,34 @@ public class PlayerPlaceHolders implements Placeholders {
     }
 
     private void registerSessionLengethPlaceholders(PlanPlaceholders placeholders, Formatter<Long> time) {
-        placeholders.register("player_current_session_length",
+        placeholders.registerPlayer("player_current_session_length",
                 player -> time.apply(getActiveSessionLength(player).orElse(-1L)));
-        placeholders.register("player_current_session_length_raw",
+        placeholders.registerPlayer("player_current_session_length_raw",
                 player -> getActiveSessionLength(player).orElse(0L));
 
-        placeholders.register("player_latest_session_length",
+        placeholders.registerPlayer("player_latest_session_length",
                 player -> time.apply(getActiveSessionLength(player)
-                        .orElseGet(() -> SessionsMutator.forContainer(player).latestSession()
+                        .orElseGet(() -> player.recentSessions().latestSession()
                                 .map(FinishedSession::getLength)
                                 .orElse(-1L))));
-        placeholders.register("player_latest_session_length_raw",
+        placeholders.registerPlayer("player_latest_session_length_raw",
                 player -> getActiveSessionLength(player)
-                        .orElseGet(() -> SessionsMutator.forContainer(player).latestSession()
+                        .orElseGet(() -> player.recentSessions().latestSession()
                                 .map(FinishedSession::getLength)
                                 .orElse(0L)));
 
-        placeholders.register("player_previous_session_length",
-                player -> time.apply(SessionsMutator.forContainer(player).previousSession()
+        placeholders.registerPlayer("player_previous_session_length",
+                player -> time.apply(player.recentSessions().previousSession()
                         .map(FinishedSession::getLength)
                         .orElse(-1L)));
-        placeholders.register("player_previous_session_length_raw",
-                player -> SessionsMutator.forContainer(player).previousSession()
+        placeholders.registerPlayer("player_previous_session_length_raw",
+                player -> player.recentSessions().previousSession()
                         .map(FinishedSession::getLength)
                         .orElse(0L));
     }
 
-    private boolean isAfk(PlayerContainer player) {
-        return SessionCache.getCachedSession(player.getUnsafe(PlayerKeys.UUID))
+    private boolean isAfk(PlayerSummary player) {
+        return player.getActiveSession()
                 .map(ActiveSession::getLastMovementForAfkCalculation)
                 .filter(lastMovement -> lastMovement != AFKTracker.IGNORES_AFK
                         && now() - lastMovement > config.get(TimeSettings.AFK_THRESHOLD))
@@ -229,33 +208,33 @@ public class PlayerPlaceHolders implements Placeholders {
 
     private void registerKillPlaceholders(PlanPlaceholders placeholders) {
         Formatter<Double> decimals = formatters.decimals();
-        placeholders.register("player_player_caused_deaths",
-                player -> PlayerVersusMutator.forContainer(player).toPlayerDeathCount()
+        placeholders.registerPlayer("player_player_caused_deaths",
+                player -> player.getPlayerDeaths().size()
         );
-        placeholders.register("player_deaths",
-                player -> PlayerVersusMutator.forContainer(player).toDeathCount()
+        placeholders.registerPlayer("player_deaths",
+                player -> player.getTotals().getDeathCount()
         );
-        placeholders.register("player_mob_caused_deaths",
-                player -> PlayerVersusMutator.forContainer(player).toMobDeathCount()
+        placeholders.registerPlayer("player_mob_caused_deaths",
+                player -> player.getMobDeathCount()
         );
-        placeholders.register("player_kdr",
-                player -> decimals.apply(PlayerVersusMutator.forContainer(player).toKillDeathRatio())
+        placeholders.registerPlayer("player_kdr",
+                player -> decimals.apply(player.getKillDeathRatio())
         );
-        placeholders.register("player_mob_kdr",
-                player -> decimals.apply(PlayerVersusMutator.forContainer(player).toMobKillDeathRatio())
+        placeholders.registerPlayer("player_mob_kdr",
+                player -> decimals.apply(player.getMobKillDeathRatio())
         );
         for (int i = 1; i <= 10; i++) {
             final int index = i;
-            placeholders.register("player_recent_kill_" + index,
-                    player -> player.getValue(PlayerKeys.PLAYER_KILLS)
+            placeholders.registerPlayer("player_recent_kill_" + index,
+                    player -> Optional.of(player.getPlayerKills())
                             .filter(list -> list.size() >= index)
                             .map(list -> list.get(index - 1))
                             .map(PlayerKill::getVictim)
                             .map(PlayerKill.Victim::getName)
                             .orElse("-")
             );
-            placeholders.register("player_recent_death_" + index,
-                    player -> player.getValue(PlayerKeys.PLAYER_DEATHS_KILLS)
+            placeholders.registerPlayer("player_recent_death_" + index,
+                    player -> Optional.of(player.getPlayerDeaths())
                             .filter(list -> list.size() >= index)
                             .map(list -> list.get(index - 1))
                             .map(PlayerKill::getKiller)
@@ -273,73 +252,61 @@ public class PlayerPlaceHolders implements Placeholders {
     }
 
     private void registerServerSpecificPlaytimePlaceholders(PlanPlaceholders placeholders, Formatter<Long> time) {
-        placeholders.register("player_server_time_active",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toActivePlaytime())
+        placeholders.registerPlayer("player_server_time_active",
+                player -> time.apply(player.getTotalsOnServer(serverInfo.getServerUUID()).getActivePlaytime())
         );
-        placeholders.register("player_server_time_active_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toActivePlaytime()
+        placeholders.registerPlayer("player_server_time_active_raw",
+                player -> player.getTotalsOnServer(serverInfo.getServerUUID()).getActivePlaytime()
         );
 
-        placeholders.register("player_server_time_afk",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toAfkTime())
+        placeholders.registerPlayer("player_server_time_afk",
+                player -> time.apply(player.getTotalsOnServer(serverInfo.getServerUUID()).getAfkTime())
         );
-        placeholders.register("player_server_time_afk_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toAfkTime()
+        placeholders.registerPlayer("player_server_time_afk_raw",
+                player -> player.getTotalsOnServer(serverInfo.getServerUUID()).getAfkTime()
         );
 
-        placeholders.register("player_server_time_total",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime())
+        placeholders.registerPlayer("player_server_time_total",
+                player -> time.apply(player.getTotalsOnServer(serverInfo.getServerUUID()).getPlaytime())
         );
-        placeholders.register("player_server_time_total_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .filterPlayedOnServer(serverInfo.getServerUUID())
-                        .toPlaytime()
+        placeholders.registerPlayer("player_server_time_total_raw",
+                player -> player.getTotalsOnServer(serverInfo.getServerUUID()).getPlaytime()
         );
 
-        placeholders.register("player_server_time_day",
-                player -> time.apply(SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_server_time_day",
+                player -> time.apply(player.recentSessions()
                         .filterSessionsBetween(dayAgo(), now())
                         .filterPlayedOnServer(serverInfo.getServerUUID())
                         .toPlaytime())
         );
-        placeholders.register("player_server_time_day_raw",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_server_time_day_raw",
+                player -> player.recentSessions()
                         .filterSessionsBetween(dayAgo(), now())
                         .filterPlayedOnServer(serverInfo.getServerUUID())
                         .toPlaytime()
         );
 
-        placeholders.register("player_server_time_week",
-                player -> time.apply(SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_server_time_week",
+                player -> time.apply(player.recentSessions()
                         .filterSessionsBetween(weekAgo(), now())
                         .filterPlayedOnServer(serverInfo.getServerUUID())
                         .toPlaytime())
         );
-        placeholders.register("player_server_time_week_raw",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_server_time_week_raw",
+                player -> player.recentSessions()
                         .filterSessionsBetween(weekAgo(), now())
                         .filterPlayedOnServer(serverInfo.getServerUUID())
                         .toPlaytime()
         );
 
-        placeholders.register("player_server_time_month",
-                player -> time.apply(SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_server_time_month",
+                player -> time.apply(player.recentSessions()
                         .filterSessionsBetween(monthAgo(), now())
                         .filterPlayedOnServer(serverInfo.getServerUUID())
                         .toPlaytime())
         );
-        placeholders.register("player_server_time_month_raw",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_server_time_month_raw",
+                player -> player.recentSessions()
                         .filterSessionsBetween(monthAgo(), now())
                         .filterPlayedOnServer(serverInfo.getServerUUID())
                         .toPlaytime()
@@ -347,108 +314,101 @@ public class PlayerPlaceHolders implements Placeholders {
     }
 
     private void registerPlayerPlaytimePlaceholders(PlanPlaceholders placeholders, Formatter<Long> time) {
-        placeholders.register("player_time_total",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .toPlaytime())
+        placeholders.registerPlayer("player_time_total",
+                player -> time.apply(player.getTotals().getPlaytime())
         );
-        placeholders.register("player_time_total_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .toPlaytime()
+        placeholders.registerPlayer("player_time_total_raw",
+                player -> player.getTotals().getPlaytime()
         );
 
-        placeholders.register("player_time_day",
-                player -> time.apply(SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_day",
+                player -> time.apply(player.recentSessions()
                         .filterSessionsBetween(dayAgo(), now())
                         .toPlaytime())
         );
-        placeholders.register("player_time_day_raw",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_day_raw",
+                player -> player.recentSessions()
                         .filterSessionsBetween(dayAgo(), now())
                         .toPlaytime()
         );
 
-        placeholders.register("player_time_week",
-                player -> time.apply(SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_week",
+                player -> time.apply(player.recentSessions()
                         .filterSessionsBetween(weekAgo(), now())
                         .toPlaytime())
         );
-        placeholders.register("player_time_week_raw",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_week_raw",
+                player -> player.recentSessions()
                         .filterSessionsBetween(weekAgo(), now())
                         .toPlaytime()
         );
 
-        placeholders.register("player_time_month",
-                player -> time.apply(SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_month",
+                player -> time.apply(player.recentSessions()
                         .filterSessionsBetween(monthAgo(), now())
                         .toPlaytime())
         );
-        placeholders.register("player_time_month_raw",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_month_raw",
+                player -> player.recentSessions()
                         .filterSessionsBetween(monthAgo(), now())
                         .toPlaytime()
         );
     }
 
     private void registerAfkTimePlaceholders(PlanPlaceholders placeholders, Formatter<Long> time) {
-        placeholders.register("player_time_afk",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .toAfkTime())
+        placeholders.registerPlayer("player_time_afk",
+                player -> time.apply(player.getTotals().getAfkTime())
         );
-        placeholders.register("player_time_afk_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .toAfkTime()
+        placeholders.registerPlayer("player_time_afk_raw",
+                player -> player.getTotals().getAfkTime()
         );
     }
 
     private void registerActivePlaytimePlaceholders(PlanPlaceholders placeholders, Formatter<Long> time) {
-        placeholders.register("player_time_active",
-                player -> time.apply(SessionsMutator.forContainer(player)
-                        .toActivePlaytime())
+        placeholders.registerPlayer("player_time_active",
+                player -> time.apply(player.getTotals().getActivePlaytime())
         );
-        placeholders.register("player_time_active_raw",
-                player -> SessionsMutator.forContainer(player)
-                        .toActivePlaytime()
+        placeholders.registerPlayer("player_time_active_raw",
+                player -> player.getTotals().getActivePlaytime()
         );
 
-        placeholders.register("player_time_active_day",
-                player -> time.apply(SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_active_day",
+                player -> time.apply(player.recentSessions()
                         .filterSessionsBetween(dayAgo(), now())
                         .toActivePlaytime())
         );
-        placeholders.register("player_time_active_day_raw",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_active_day_raw",
+                player -> player.recentSessions()
                         .filterSessionsBetween(dayAgo(), now())
                         .toActivePlaytime()
         );
 
-        placeholders.register("player_time_active_week",
-                player -> time.apply(SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_active_week",
+                player -> time.apply(player.recentSessions()
                         .filterSessionsBetween(weekAgo(), now())
                         .toActivePlaytime())
         );
-        placeholders.register("player_time_active_week_raw",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_active_week_raw",
+                player -> player.recentSessions()
                         .filterSessionsBetween(weekAgo(), now())
                         .toActivePlaytime()
         );
 
-        placeholders.register("player_time_active_month",
-                player -> time.apply(SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_active_month",
+                player -> time.apply(player.recentSessions()
                         .filterSessionsBetween(monthAgo(), now())
                         .toActivePlaytime())
         );
-        placeholders.register("player_time_active_month_raw",
-                player -> SessionsMutator.forContainer(player)
+        placeholders.registerPlayer("player_time_active_month_raw",
+                player -> player.recentSessions()
                         .filterSessionsBetween(monthAgo(), now())
                         .toActivePlaytime()
         );
     }
 
     @NotNull
-    private Optional<Long> getActiveSessionLength(PlayerContainer player) {
-        SessionCache.refreshActiveSessionsState();
-        return SessionCache.getCachedSession(player.getUnsafe(PlayerKeys.UUID))
+    private Optional<Long> getActiveSessionLength(PlayerSummary player) {
+        return player.getActiveSession()
                 .map(ActiveSession::toFinishedSessionFromStillActive)
                 .map(FinishedSession::getLength);
     }
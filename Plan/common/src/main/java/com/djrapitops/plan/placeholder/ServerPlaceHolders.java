@@ -22,6 +22,7 @@ import com.djrapitops.plan.delivery.domain.mutators.DateObjMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.gathering.ServerUptimeCalculator;
+import com.djrapitops.plan.identification.IdentifierIndex;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
@@ -57,24 +58,30 @@ import static com.djrapitops.plan.utilities.MiscUtils.*;
 @Singleton
 public class ServerPlaceHolders implements Placeholders {
 
+    // Top lists sort every player of the timespan, so they are refreshed less often than other values.
+    private static final long TOP_LIST_MAX_AGE_MINUTES = 5;
+
     private final PlanConfig config;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
     private final Formatters formatters;
     private final ServerUptimeCalculator serverUptimeCalculator;
+    private final IdentifierIndex identifierIndex;
 
     @Inject
     public ServerPlaceHolders(
             PlanConfig config,
             DBSystem dbSystem,
             ServerInfo serverInfo,
-            Formatters formatters, ServerUptimeCalculator serverUptimeCalculator
+            Formatters formatters, ServerUptimeCalculator serverUptimeCalculator,
+            IdentifierIndex identifierIndex
     ) {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.formatters = formatters;
         this.serverUptimeCalculator = serverUptimeCalculator;
+        this.identifierIndex = identifierIndex;
     }
 
     @Override
@@ -231,15 +238,15 @@ public class ServerPlaceHolders implements Placeholders {
                 parameters -> formatters.byteSizeLong().apply(database.query(TPSQueries.averageFreeDisk(monthAgo(), now(), getServerUUID(parameters)))));
 
         placeholders.registerStatic("server_name",
-                () -> serverInfo.getServer().getName());
+                parameters -> serverInfo.getServer().getName(), 0, TimeUnit.SECONDS);
 
         placeholders.registerStatic("server_uptime",
                 parameters -> serverUptimeCalculator.getServerUptimeMillis(getServerUUID(parameters))
                         .map(String::valueOf)
-                        .orElse("-"));
+                        .orElse("-"), 1, TimeUnit.SECONDS);
 
         placeholders.registerStatic("server_uuid",
-                serverInfo::getServerUUID);
+                parameters -> serverInfo.getServerUUID(), 0, TimeUnit.SECONDS);
 
         placeholders.registerStatic("regular_players",
                 parameters -> database.query(ActivityIndexQueries.fetchRegularPlayerCount(System.currentTimeMillis(), getServerUUID(parameters), config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD))));
@@ -254,8 +261,7 @@ public class ServerPlaceHolders implements Placeholders {
     }
 
     private Optional<ServerUUID> getServerUUIDForServerIdentifier(@Untrusted String serverIdentifier) {
-        return dbSystem.getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverIdentifier))
-                .map(Server::getUuid);
+        return identifierIndex.getServerUUID(serverIdentifier);
     }
 
     private void registerDynamicCategoryPlaceholders(PlanPlaceholders placeholders, Database database) {
@@ -272,17 +278,17 @@ public class ServerPlaceHolders implements Placeholders {
                 placeholders.registerStatic(String.format("top_%s_%s_%s", query.getCategory(), query.getTimeSpan(), nth + 1),
                         parameters -> database.query(query.getQuery(nth, parameters))
                                 .map(TopListQueries.TopListEntry::getPlayerName)
-                                .orElse("-"));
+                                .orElse("-"), TOP_LIST_MAX_AGE_MINUTES, TimeUnit.MINUTES);
                 placeholders.registerStatic(String.format("top_%s_%s_%s_value", query.getCategory(), query.getTimeSpan(), nth + 1),
                         parameters -> database.query(query.getQuery(nth, parameters))
                                 .map(TopListQueries.TopListEntry::getValue)
                                 .map(query.getCategory().equals("player_kills") ? Function.identity() : formatters.timeAmount())
-                                .orElse("-"));
+                                .orElse("-"), TOP_LIST_MAX_AGE_MINUTES, TimeUnit.MINUTES);
                 placeholders.registerStatic(String.format("top_%s_%s_%s_value_raw", query.getCategory(), query.getTimeSpan(), nth + 1),
                         parameters -> database.query(query.getQuery(nth, parameters))
                                 .map(TopListQueries.TopListEntry::getValue)
                                 .map(String::valueOf)
-                                .orElse("-"));
+                                .orElse("-"), TOP_LIST_MAX_AGE_MINUTES, TimeUnit.MINUTES);
             }
         }
     }
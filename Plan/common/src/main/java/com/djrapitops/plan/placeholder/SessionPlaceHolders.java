@@ -21,7 +21,7 @@ import com.djrapitops.plan.delivery.domain.DateHolder;
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
-import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.IdentifierIndex;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
@@ -51,6 +51,7 @@ public class SessionPlaceHolders implements Placeholders {
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
     private final Formatters formatters;
+    private final IdentifierIndex identifierIndex;
 
     private Formatter<Long> timeAmount;
     private Formatter<DateHolder> year;
@@ -62,12 +63,14 @@ public class SessionPlaceHolders implements Placeholders {
             PlanConfig config,
             DBSystem dbSystem,
             ServerInfo serverInfo,
-            Formatters formatters
+            Formatters formatters,
+            IdentifierIndex identifierIndex
     ) {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.formatters = formatters;
+        this.identifierIndex = identifierIndex;
     }
 
     private static String getPlaytime(Database database, long after, long before, ServerUUID serverUUID, Formatter<Long> timeAmount) {
@@ -238,7 +241,7 @@ public class SessionPlaceHolders implements Placeholders {
 
     private void registerServerPve(PlanPlaceholders placeholders) {
         placeholders.registerStatic("sessions_players_death_total",
-                parameters -> database.query(KillQueries.deathCount(0L, now(), getServerUUID(parameters))));
+                parameters -> database.query(KillQueries.deathCount(getServerUUID(parameters))));
         placeholders.registerStatic("sessions_players_death_day",
                 parameters -> database.query(KillQueries.deathCount(dayAgo(), now(), getServerUUID(parameters))));
         placeholders.registerStatic("sessions_players_death_week",
@@ -247,7 +250,7 @@ public class SessionPlaceHolders implements Placeholders {
                 parameters -> database.query(KillQueries.deathCount(monthAgo(), now(), getServerUUID(parameters))));
 
         placeholders.registerStatic("sessions_players_kill_total",
-                parameters -> database.query(KillQueries.playerKillCount(0L, now(), getServerUUID(parameters))));
+                parameters -> database.query(KillQueries.playerKillCount(getServerUUID(parameters))));
         placeholders.registerStatic("sessions_players_kill_day",
                 parameters -> database.query(KillQueries.playerKillCount(dayAgo(), now(), getServerUUID(parameters))));
         placeholders.registerStatic("sessions_players_kill_week",
@@ -256,7 +259,7 @@ public class SessionPlaceHolders implements Placeholders {
                 parameters -> database.query(KillQueries.playerKillCount(monthAgo(), now(), getServerUUID(parameters))));
 
         placeholders.registerStatic("sessions_mob_kill_total",
-                parameters -> database.query(KillQueries.mobKillCount(0L, now(), getServerUUID(parameters))));
+                parameters -> database.query(KillQueries.mobKillCount(getServerUUID(parameters))));
         placeholders.registerStatic("sessions_mob_kill_day",
                 parameters -> database.query(KillQueries.mobKillCount(dayAgo(), now(), getServerUUID(parameters))));
         placeholders.registerStatic("sessions_mob_kill_week",
@@ -386,7 +389,6 @@ public class SessionPlaceHolders implements Placeholders {
     }
 
     private Optional<ServerUUID> getServerUUIDForServerIdentifier(@Untrusted String serverIdentifier) {
-        return dbSystem.getDatabase().query(ServerQueries.fetchServerMatchingIdentifier(serverIdentifier))
-                .map(Server::getUuid);
+        return identifierIndex.getServerUUID(serverIdentifier);
     }
 }
@@ -0,0 +1,284 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.placeholder;
+
+import com.djrapitops.plan.processing.Processing;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Refresh-ahead cache for values of static placeholders.
+ * <p>
+ * Values younger than the refresh-ahead point are served as is. Values between the refresh-ahead point and
+ * the maximum age are served while a single background refresh recomputes them. Missing or expired values
+ * are computed by one caller while concurrent callers for the same key wait for that result, so a burst of
+ * requests for the same placeholder leads to a single query.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class StaticPlaceholderCache {
+
+    /**
+     * Fraction of the maximum age after which a background refresh is started.
+     */
+    static final double REFRESH_AHEAD_FACTOR = 0.75;
+    private static final long WAIT_FOR_LOAD_TIMEOUT_SECONDS = 30;
+
+    private final Executor refreshExecutor;
+    private final LongSupplier clock;
+    private final Cache<String, Entry> entries;
+
+    private final LongAdder hits;
+    private final LongAdder staleHits;
+    private final LongAdder misses;
+    private final LongAdder refreshes;
+    private final LongAdder refreshFailures;
+    private final LongAdder refreshNanosTotal;
+
+    @Inject
+    public StaticPlaceholderCache(Processing processing) {
+        this(runnable -> {
+            if (processing.submitNonCritical(runnable) == null) {
+                throw new RejectedExecutionException("Processing has been shut down");
+            }
+        }, System::nanoTime);
+    }
+
+    StaticPlaceholderCache(Executor refreshExecutor, LongSupplier nanoClock) {
+        this.refreshExecutor = refreshExecutor;
+        this.clock = nanoClock;
+        entries = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                .build();
+
+        hits = new LongAdder();
+        staleHits = new LongAdder();
+        misses = new LongAdder();
+        refreshes = new LongAdder();
+        refreshFailures = new LongAdder();
+        refreshNanosTotal = new LongAdder();
+    }
+
+    /**
+     * Get the value of a placeholder.
+     *
+     * @param key      Placeholder name and parameters
+     * @param maxAgeMs How old a value can be before it is no longer served, 0 or less disables caching.
+     * @param loader   Function that computes the value
+     * @return Cached or freshly computed value.
+     */
+    public String get(String key, long maxAgeMs, Supplier<String> loader) {
+        if (maxAgeMs <= 0) {
+            return loader.get();
+        }
+
+        long maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+        Entry entry = entries.get(key, k -> new Entry());
+        Value value = entry.value;
+        if (value != null) {
+            long age = clock.getAsLong() - value.computedAt;
+            if (age < maxAgeNanos * REFRESH_AHEAD_FACTOR) {
+                hits.increment();
+                return value.value;
+            }
+            if (age < maxAgeNanos) {
+                staleHits.increment();
+                refreshInBackground(entry, loader);
+                return value.value;
+            }
+        }
+        misses.increment();
+        return loadAndWait(entry, loader);
+    }
+
+    /**
+     * Get the value of a placeholder without waiting for it to be computed, for server threads.
+     * <p>
+     * The last computed value is served even if it is older than the maximum age, and a background refresh is
+     * started if the value is missing or should be refreshed.
+     *
+     * @param key      Placeholder name and parameters
+     * @param maxAgeMs How old a value can be before it is refreshed.
+     * @param loader   Function that computes the value
+     * @return Last computed value, or null if the value has not been computed yet.
+     */
+    public String getWithoutWaiting(String key, long maxAgeMs, Supplier<String> loader) {
+        long maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(maxAgeMs, 0));
+        Entry entry = entries.get(key, k -> new Entry());
+        Value value = entry.value;
+        if (value != null && clock.getAsLong() - value.computedAt < maxAgeNanos * REFRESH_AHEAD_FACTOR) {
+            hits.increment();
+            return value.value;
+        }
+        if (value != null) {
+            staleHits.increment();
+        } else {
+            misses.increment();
+        }
+        refreshInBackground(entry, loader, false);
+        return value != null ? value.value : null;
+    }
+
+    private void refreshInBackground(Entry entry, Supplier<String> loader) {
+        refreshInBackground(entry, loader, true);
+    }
+
+    private void refreshInBackground(Entry entry, Supplier<String> loader, boolean loadIfRejected) {
+        CompletableFuture<String> refresh = new CompletableFuture<>();
+        if (!entry.inFlight.compareAndSet(null, refresh)) {
+            return; // Another thread is already refreshing this value
+        }
+        try {
+            refreshExecutor.execute(() -> load(entry, loader, refresh));
+        } catch (RejectedExecutionException e) {
+            if (loadIfRejected) {
+                load(entry, loader, refresh); // Executor is shutting down
+            } else {
+                entry.inFlight.compareAndSet(refresh, null);
+                refresh.cancel(false);
+            }
+        }
+    }
+
+    private String loadAndWait(Entry entry, Supplier<String> loader) {
+        CompletableFuture<String> load = new CompletableFuture<>();
+        CompletableFuture<String> existing = entry.inFlight.compareAndExchange(null, load);
+        if (existing == null) {
+            load(entry, loader, load);
+            return unwrap(load);
+        }
+        try {
+            return unwrap(existing, WAIT_FOR_LOAD_TIMEOUT_SECONDS);
+        } catch (TimeoutException e) {
+            // The computation was lost, eg. the refresh executor shut down before running it.
+            entry.inFlight.compareAndSet(existing, null);
+            return loadAndWait(entry, loader);
+        }
+    }
+
+    private void load(Entry entry, Supplier<String> loader, CompletableFuture<String> result) {
+        long start = clock.getAsLong();
+        try {
+            String loaded = loader.get();
+            long end = clock.getAsLong();
+            entry.value = new Value(loaded, end);
+            refreshes.increment();
+            refreshNanosTotal.add(end - start);
+            result.complete(loaded);
+        } catch (RuntimeException | Error e) {
+            refreshFailures.increment();
+            result.completeExceptionally(e);
+        } finally {
+            entry.inFlight.compareAndSet(result, null);
+        }
+    }
+
+    private static String unwrap(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause(), e);
+        }
+    }
+
+    private static String unwrap(CompletableFuture<String> future, long timeoutSeconds) throws TimeoutException {
+        try {
+            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause(), new CompletionException(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause, RuntimeException otherwise) {
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        return otherwise;
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * Get the ratio of requests that were served from the cache, stale values included.
+     *
+     * @return value between 0.0 and 1.0, or 0.0 if there have been no requests.
+     */
+    public double getHitRate() {
+        long served = hits.sum() + staleHits.sum();
+        long total = served + misses.sum();
+        return total == 0 ? 0.0 : (double) served / total;
+    }
+
+    /**
+     * Get average time it took to compute a value.
+     *
+     * @return milliseconds, or 0.0 if nothing has been computed.
+     */
+    public double getAverageRefreshLatencyMs() {
+        long count = refreshes.sum();
+        return count == 0 ? 0.0 : refreshNanosTotal.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static class Entry {
+        private final AtomicReference<CompletableFuture<String>> inFlight = new AtomicReference<>();
+        private volatile Value value;
+    }
+
+    private static class Value {
+        private final String value;
+        private final long computedAt;
+
+        private Value(String value, long computedAt) {
+            this.value = value;
+            this.computedAt = computedAt;
+        }
+    }
+}
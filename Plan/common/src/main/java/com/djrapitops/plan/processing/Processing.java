@@ -64,6 +64,27 @@ public class Processing implements SubSystem {
                         ).build());
     }
 
+    /**
+     * Create a separate executor with bounded queue, for isolating tasks of one source from the shared pools.
+     *
+     * @param threads     Maximum number of tasks running at the same time.
+     * @param queueSize   Maximum number of waiting tasks, more tasks are rejected with {@link RejectedExecutionException}.
+     * @param namePattern Naming pattern for the threads, eg. "Plan Thread-%d"
+     * @return New executor, caller is responsible for shutting it down.
+     */
+    public ExecutorService createBoundedExecutor(int threads, int queueSize, String namePattern) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize),
+                new BasicThreadFactory.Builder()
+                        .namingPattern(namePattern)
+                        .daemon(true)
+                        .uncaughtExceptionHandler((thread, throwable) ->
+                                errorLogger.warn(throwable, ErrorContext.builder().build())
+                        ).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     public void submit(Runnable runnable) {
         if (runnable instanceof CriticalRunnable) {
             submitCritical(runnable);
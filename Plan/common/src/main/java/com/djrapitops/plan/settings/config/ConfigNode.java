@@ -64,6 +64,13 @@ public class ConfigNode {
         parent = newParent;
     }
 
+    /**
+     * Called when a value or a child of this node changes, so that the root can forget values resolved from the tree.
+     */
+    protected void markModified() {
+        if (parent != null) parent.markModified();
+    }
+
     public Optional<ConfigNode> getNode(String path) {
         if (path == null) {
             return Optional.empty();
@@ -133,6 +140,7 @@ public class ConfigNode {
         parent.nodeOrder.remove(key);
         parent.childNodes.remove(key);
         nodeModificationLock.exit();
+        markModified();
 
         updateParent(null);
 
@@ -160,6 +168,7 @@ public class ConfigNode {
         nodeModificationLock.exit();
 
         child.updateParent(this);
+        markModified();
         return child;
     }
 
@@ -253,6 +262,7 @@ public class ConfigNode {
             ConfigValueParser<T> parser = ConfigValueParser.getParserFor(value.getClass());
             this.value = parser.decompose(value);
         }
+        markModified();
     }
 
     public List<String> getComment() {
@@ -399,6 +409,7 @@ public class ConfigNode {
             ConfigNode created = addNode(childKey);
             created.copyMissing(newChild);
         }
+        markModified();
     }
 
     public void copyAll(ConfigNode from) {
@@ -414,11 +425,13 @@ public class ConfigNode {
             ConfigNode created = addNode(childKey);
             created.copyAll(newChild);
         }
+        markModified();
     }
 
     public void copyValue(ConfigNode from) {
         comment = from.comment;
         value = from.value;
+        markModified();
     }
 
     protected int getNodeDepth() {
@@ -32,10 +32,10 @@ import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneId;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.TimeZone;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Plan configuration file.
@@ -51,6 +51,11 @@ public class PlanConfig extends Config {
     private final WorldAliasSettings worldAliasSettings;
     private final PluginLogger logger;
 
+    // Resolving a value walks the tree, so values are kept until the config is modified.
+    // Keyed by path so that Setting objects created for each call replace each other instead of accumulating.
+    private final Map<String, ResolvedValue> resolvedValues = new ConcurrentHashMap<>();
+    private final AtomicLong modificationCount = new AtomicLong();
+
     @Inject
     public PlanConfig(
             PlanFiles files,
@@ -77,6 +82,29 @@ public class PlanConfig extends Config {
     }
 
     public <T> T get(Setting<T> setting) {
+        long modifications = modificationCount.get();
+        ResolvedValue resolved = resolvedValues.get(setting.getPath());
+        // Settings of the same path can have different types, validators or defaults, so the value is only reused for the same Setting.
+        if (resolved == null || resolved.setting != setting || resolved.modifications != modifications) {
+            // If the config is modified during resolve, the value is resolved again on next call.
+            resolved = new ResolvedValue(setting, modifications, resolve(setting));
+            resolvedValues.put(setting.getPath(), resolved);
+        }
+        return resolved.getValue();
+    }
+
+    // Visible for testing
+    int getResolvedValueCount() {
+        return resolvedValues.size();
+    }
+
+    @Override
+    protected void markModified() {
+        // Config constructor reads the file before fields of this class are initialized.
+        if (modificationCount != null) modificationCount.incrementAndGet();
+    }
+
+    private <T> T resolve(Setting<T> setting) {
         T value = setting.getValueFrom(this);
         if (setting.isInvalid(value)) {
             T defaultValue = setting.getDefaultValue();
@@ -199,4 +227,22 @@ public class PlanConfig extends Config {
     public int hashCode() {
         return Objects.hash(super.hashCode());
     }
+
+    private static class ResolvedValue {
+        private final Setting<?> setting;
+        private final long modifications;
+        private final Object value;
+
+        ResolvedValue(Setting<?> setting, long modifications, Object value) {
+            this.setting = setting;
+            this.modifications = modifications;
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T getValue() {
+            // Lists are copied so that callers modifying them do not change the resolved value.
+            return value instanceof List ? (T) new ArrayList<>((List<?>) value) : (T) value;
+        }
+    }
 }
\ No newline at end of file
@@ -37,6 +37,9 @@ public class TimeSettings {
     public static final Setting<Long> DELETE_EXTENSION_DATA_AFTER = new TimeSetting("Time.Thresholds.Remove_disabled_extension_data_after");
     public static final Setting<Long> EXTENSION_DATA_REFRESH_PERIOD = new TimeSetting("Time.Periodic_tasks.Extension_data_refresh_every");
     public static final Setting<Long> CLEAN_DATABASE_PERIOD = new TimeSetting("Time.Periodic_tasks.Clean_Database_every");
+    public static final Setting<Long> PLACEHOLDER_CACHE_MAX_AGE = new TimeSetting("Time.Placeholder_cache.Max_value_age");
+    public static final Setting<Long> EXTENSION_PROVIDER_TIMEOUT = new TimeSetting("Time.Extension_providers.Call_timeout");
+    public static final Setting<Long> EXTENSION_PROVIDER_CIRCUIT_BREAK = new TimeSetting("Time.Extension_providers.Circuit_break_time");
     public static final Setting<Long> CONFIG_UPDATE_INTERVAL = new TimeSetting("Time.Periodic_tasks.Check_DB_for_server_config_files_every");
 
     private TimeSettings() {
@@ -89,6 +89,9 @@ public enum CommandLang implements Lang {
     INFO_DATABASE("command.subcommand.info.database", "Cmd Info - Database", "  §2Current Database: §f${0}"),
     INFO_PROXY_CONNECTION("command.subcommand.info.proxy", "Cmd Info - Bungee Connection", "  §2Connected to Proxy: §f${0}"),
     INFO_SERVER_UUID("command.subcommand.info.serverUUID", "Cmd Info - Server UUID", "  §2Server UUID: §f${0}"),
+    INFO_EXTENSION_LATENCY("command.subcommand.info.extensionLatency", "Cmd Info - Extension Latency", "  §2Extension ${0}: §fslowest provider ${1}, ${2} ms average, ${3} ms max, ${4} timeouts, ${5} circuit broken"),
+    INFO_EXTENSION_WRITES("command.subcommand.info.extensionWrites", "Cmd Info - Extension Writes", "  §2Extension ${0}: §f${1} values written, ${2} unchanged values skipped"),
+    INFO_PLACEHOLDER_CACHE("command.subcommand.info.placeholderCache", "Cmd Info - Placeholder Cache", "  §2Placeholder Cache: §f${0} hit rate, ${1} ms average refresh"),
 
     INGAME_ACTIVITY_INDEX("command.ingame.activityIndex", "Cmd Qinspect - Activity Index", "  §2Activity Index: §f${0} | ${1}"),
     INGAME_REGISTERED("command.ingame.registered", "Cmd Qinspect - Registered", "  §2Registered: §f${0}"),
@@ -54,6 +54,7 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -88,6 +89,7 @@ public abstract class SQLDB extends AbstractDatabase {
 
     private final AtomicInteger transactionQueueSize = new AtomicInteger(0);
     private final AtomicBoolean dropUnimportantTransactions = new AtomicBoolean(false);
+    private final AtomicLong droppedTransactions = new AtomicLong(0);
     private final AtomicBoolean ranIntoFatalError = new AtomicBoolean(false);
 
     protected SQLDB(
@@ -243,7 +245,8 @@ public abstract class SQLDB extends AbstractDatabase {
                 new WebGroupDefaultGroupsPatch(),
                 new WebGroupAddMissingAdminGroupPatch(),
                 new LegacyPermissionLevelGroupsPatch(),
-                new SecurityTableGroupPatch()
+                new SecurityTableGroupPatch(),
+                new KillCountsPatch()
         };
     }
 
@@ -332,6 +335,18 @@ public abstract class SQLDB extends AbstractDatabase {
 
     public abstract Connection getConnection() throws SQLException;
 
+    /**
+     * Get a connection for executing a {@link Query}.
+     * <p>
+     * Databases that can read in parallel to the connection used by transactions override this.
+     *
+     * @return Connection that must be given back with {@link #returnToPool(Connection)}.
+     * @throws SQLException If connection could not be obtained.
+     */
+    public Connection getQueryConnection() throws SQLException {
+        return getConnection();
+    }
+
     public abstract void returnToPool(Connection connection);
 
     @Override
@@ -361,6 +376,8 @@ public abstract class SQLDB extends AbstractDatabase {
         if (determineIfShouldDropUnimportantTransactions(transactionQueueSize.incrementAndGet())
                 && transaction instanceof ThrowawayTransaction) {
             // Drop throwaway transaction immediately.
+            transactionQueueSize.decrementAndGet();
+            droppedTransactions.incrementAndGet();
             return CompletableFuture.completedFuture(null);
         }
 
@@ -474,4 +491,13 @@ public abstract class SQLDB extends AbstractDatabase {
     public int getTransactionQueueSize() {
         return transactionQueueSize.get();
     }
+
+    /**
+     * Get how many {@link ThrowawayTransaction}s have been dropped because the queue was too long.
+     *
+     * @return Count since the database object was created.
+     */
+    public long getDroppedTransactionCount() {
+        return droppedTransactions.get();
+    }
 }
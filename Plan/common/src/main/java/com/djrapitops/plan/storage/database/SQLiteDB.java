@@ -40,19 +40,35 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.URLConnection;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * @author AuroraLS3
  */
 public class SQLiteDB extends SQLDB {
 
+    private static final int READ_CONNECTIONS = 3;
+
     private final File databaseFile;
     private final String dbName;
     private Connection connection;
     private Task connectionPingTask;
+    private boolean walEnabled;
+
+    /*
+     * With WAL journal mode readers do not block the writer or each other,
+     * so queries are served from these while transactions use the single connection above.
+     */
+    private final List<Connection> readConnections = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<Connection> idleReadConnections = new ArrayBlockingQueue<>(READ_CONNECTIONS);
+    // Queries made during a transaction need to see its uncommitted changes, so they use the same connection.
+    private final ThreadLocal<Integer> connectionHolds = new ThreadLocal<>();
 
     /*
      * In charge of keeping a single thread in control of the connection to avoid
@@ -97,9 +113,81 @@ public class SQLiteDB extends SQLDB {
         } catch (SQLException e) {
             throw new DBInitException(e.toString(), e);
         }
+        openReadConnections();
         startConnectionPingTask();
     }
 
+    private void openReadConnections() {
+        closeReadConnections();
+        if (!walEnabled) return;
+
+        try {
+            for (int i = 0; i < READ_CONNECTIONS; i++) {
+                Connection readConnection = openReadConnection();
+                if (readConnection == null) {
+                    // Reads would block on the writer without WAL, no benefit from separate connections.
+                    closeReadConnections();
+                    return;
+                }
+                readConnections.add(readConnection);
+                idleReadConnections.offer(readConnection);
+            }
+        } catch (SQLException e) {
+            logger.warn("Failed to open read connections to SQLite database, queries will use the same connection as transactions: " + e.getMessage());
+            closeReadConnections();
+        }
+    }
+
+    private Connection openReadConnection() throws SQLException {
+        Connection readConnection = tryToConnect(databaseFile.getAbsolutePath(), true);
+        if (!walEnabled) {
+            MiscUtils.close(readConnection);
+            return null;
+        }
+        try (Statement statement = readConnection.createStatement()) {
+            statement.execute("PRAGMA query_only = true");
+        } catch (SQLException e) {
+            MiscUtils.close(readConnection);
+            throw e;
+        }
+        return readConnection;
+    }
+
+    private void replaceReadConnection(Connection broken) {
+        readConnections.remove(broken);
+        MiscUtils.close(broken);
+        if (getState() == State.CLOSING || getState() == State.CLOSED) return;
+        try {
+            Connection replacement = openReadConnection();
+            if (replacement != null) {
+                readConnections.add(replacement);
+                idleReadConnections.offer(replacement);
+            }
+        } catch (SQLException e) {
+            logger.warn("Failed to reopen a read connection to SQLite database: " + e.getMessage());
+        }
+    }
+
+    private static boolean isUsable(Connection readConnection) {
+        try {
+            return !readConnection.isClosed() && readConnection.isValid(1);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    boolean isReadConnection(Connection connection) {
+        return connection != null && readConnections.contains(connection);
+    }
+
+    private void closeReadConnections() {
+        idleReadConnections.clear();
+        for (Connection readConnection : readConnections) {
+            MiscUtils.close(readConnection);
+        }
+        readConnections.clear();
+    }
+
     public Connection getNewConnection(File dbFile) throws SQLException {
         if (driverClassLoader == null) {
             logger.info("Downloading SQLite Driver, this may take a while...");
@@ -135,7 +223,9 @@ public class SQLiteDB extends SQLDB {
             Properties properties = new Properties();
             if (withWAL) properties.put("journal_mode", "WAL");
 
-            return (Connection) connectionConstructor.newInstance("jdbc:sqlite:" + dbFilePath, dbFilePath, properties);
+            Connection newConnection = (Connection) connectionConstructor.newInstance("jdbc:sqlite:" + dbFilePath, dbFilePath, properties);
+            walEnabled = withWAL;
+            return newConnection;
         } catch (InvocationTargetException e) {
             Throwable cause = e.getCause();
             if (!withWAL && cause instanceof SQLException) {
@@ -196,9 +286,34 @@ public class SQLiteDB extends SQLDB {
             connection = getNewConnection(databaseFile);
         }
         connectionLock.enter();
+        Integer holds = connectionHolds.get();
+        connectionHolds.set(holds == null ? 1 : holds + 1);
         return connection;
     }
 
+    @Override
+    public Connection getQueryConnection() throws SQLException {
+        if (connectionHolds.get() != null) {
+            return getConnection();
+        }
+        Connection readConnection = pollUsableReadConnection();
+        if (readConnection == null) {
+            // All read connections are busy, share the connection of transactions as before.
+            return getConnection();
+        }
+        connectionLock.enter();
+        return readConnection;
+    }
+
+    private Connection pollUsableReadConnection() {
+        for (int attempt = 0; attempt < READ_CONNECTIONS; attempt++) {
+            Connection readConnection = idleReadConnections.poll();
+            if (readConnection == null || isUsable(readConnection)) return readConnection;
+            replaceReadConnection(readConnection);
+        }
+        return null;
+    }
+
     @Override
     public void close() {
         if (getState() == State.OPEN) setState(State.CLOSING);
@@ -219,12 +334,33 @@ public class SQLiteDB extends SQLDB {
         if (connection != null) {
             MiscUtils.close(connection);
         }
+        closeReadConnections();
         logger.info(locale.getString(PluginLang.DISABLED_WAITING_SQLITE_COMPLETE));
     }
 
     @Override
     public void returnToPool(Connection connection) {
-        connectionLock.exit();
+        if (connection == null) return; // getConnection failed, nothing was handed out
+        try {
+            if (!isReadConnection(connection)) {
+                releaseConnectionHold();
+            } else if (isUsable(connection)) {
+                idleReadConnections.offer(connection);
+            } else {
+                replaceReadConnection(connection);
+            }
+        } finally {
+            connectionLock.exit();
+        }
+    }
+
+    private void releaseConnectionHold() {
+        Integer holds = connectionHolds.get();
+        if (holds == null || holds <= 1) {
+            connectionHolds.remove();
+        } else {
+            connectionHolds.set(holds - 1);
+        }
     }
 
     @Override
@@ -54,10 +54,50 @@ public class DataStoreQueries {
         return connection -> {
             storeSessionInformation(session).execute(connection);
             storeSessionKills(session).execute(connection);
+            incrementKillCounts(session.getPlayerUUID(), session.getServerUUID(),
+                    session.getPlayerKillCount(), session.getDeathCount(), session.getMobKillCount()
+            ).execute(connection);
             return storeSessionWorldTimes(session).execute(connection);
         };
     }
 
+    /**
+     * Add kills and deaths of a session to the all time totals of the player on the server.
+     *
+     * @param playerUUID  UUID of the player.
+     * @param serverUUID  UUID of the server.
+     * @param playerKills Player kills to add.
+     * @param deaths      Deaths to add.
+     * @param mobKills    Mob kills to add.
+     * @return Executable, use inside a {@link com.djrapitops.plan.storage.database.transactions.Transaction}
+     */
+    public static Executable incrementKillCounts(UUID playerUUID, ServerUUID serverUUID, int playerKills, int deaths, int mobKills) {
+        return connection -> {
+            boolean updated = new ExecStatement(KillCountsTable.INCREMENT_STATEMENT) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setInt(1, playerKills);
+                    statement.setInt(2, deaths);
+                    statement.setInt(3, mobKills);
+                    statement.setString(4, playerUUID.toString());
+                    statement.setString(5, serverUUID.toString());
+                }
+            }.execute(connection);
+            if (updated) return true;
+
+            return new ExecStatement(KillCountsTable.INSERT_STATEMENT) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    statement.setString(1, playerUUID.toString());
+                    statement.setString(2, serverUUID.toString());
+                    statement.setInt(3, playerKills);
+                    statement.setInt(4, deaths);
+                    statement.setInt(5, mobKills);
+                }
+            }.execute(connection);
+        };
+    }
+
     private static Executable storeSessionInformation(FinishedSession session) {
         return new ExecStatement(SessionsTable.INSERT_STATEMENT) {
             @Override
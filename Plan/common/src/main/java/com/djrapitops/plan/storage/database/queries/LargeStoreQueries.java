@@ -306,10 +306,33 @@ public class LargeStoreQueries {
             storeAllWorldNames(sessions, existingWorlds).execute(connection);
             storeAllSessionsWithoutKillOrWorldData(sessions).execute(connection);
             storeSessionKillData(sessions).execute(connection);
+            incrementAllKillCounts(sessions).execute(connection);
             return storeSessionWorldTimeData(sessions).execute(connection);
         };
     }
 
+    private static Executable incrementAllKillCounts(Collection<FinishedSession> sessions) {
+        return connection -> {
+            // Sum kills of each player on each server first, to update each row only once.
+            Map<UUID, Map<ServerUUID, int[]>> counts = new HashMap<>();
+            for (FinishedSession session : sessions) {
+                int[] playerCounts = counts.computeIfAbsent(session.getPlayerUUID(), k -> new HashMap<>())
+                        .computeIfAbsent(session.getServerUUID(), k -> new int[3]);
+                playerCounts[0] += session.getPlayerKillCount();
+                playerCounts[1] += session.getDeathCount();
+                playerCounts[2] += session.getMobKillCount();
+            }
+            for (Map.Entry<UUID, Map<ServerUUID, int[]>> playerEntry : counts.entrySet()) {
+                for (Map.Entry<ServerUUID, int[]> serverEntry : playerEntry.getValue().entrySet()) {
+                    int[] playerCounts = serverEntry.getValue();
+                    DataStoreQueries.incrementKillCounts(playerEntry.getKey(), serverEntry.getKey(),
+                            playerCounts[0], playerCounts[1], playerCounts[2]).execute(connection);
+                }
+            }
+            return !counts.isEmpty();
+        };
+    }
+
     private static void tryStoreAllJoinAddresses(Collection<FinishedSession> sessions, Connection connection, int attempt) {
         try {
             List<String> existingJoinAddresses = JoinAddressQueries.allJoinAddresses().executeWithConnection(connection);
@@ -42,7 +42,7 @@ public class QueryAPIQuery<T> implements Query<T> {
     public T executeQuery(SQLDB db) {
         Connection connection = null;
         try {
-            connection = db.getConnection();
+            connection = db.getQueryConnection();
             return executeWithConnection(connection);
         } catch (SQLException e) {
             throw DBOpException.forCause(sql, e);
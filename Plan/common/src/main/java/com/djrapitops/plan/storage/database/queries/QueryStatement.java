@@ -48,7 +48,7 @@ public abstract class QueryStatement<T> implements Query<T> {
     public T executeQuery(SQLDB db) {
         Connection connection = null;
         try {
-            connection = db.getConnection();
+            connection = db.getQueryConnection();
             return executeWithConnection(connection);
         } catch (SQLException e) {
             throw DBOpException.forCause(sql, e);
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.queries.analysis;
 
+import com.djrapitops.plan.delivery.domain.RetentionCohort;
 import com.djrapitops.plan.delivery.domain.RetentionData;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
@@ -24,8 +25,12 @@ import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -80,4 +85,83 @@ public class PlayerRetentionQueries {
             return new RetentionData(playerUUID, registerDate, lastSeenDate, playtime);
         });
     }
+
+    /**
+     * Count how many of the players that registered on a server each week were seen again later.
+     * <p>
+     * Grouped in the database so that the result has one row per week instead of one row per player.
+     *
+     * @param serverUUID     UUID of the Plan server.
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, weeks start on Monday 0 AM with this offset.
+     * @return List of cohorts, oldest first.
+     */
+    public static Query<List<RetentionCohort>> fetchRetentionCohorts(ServerUUID serverUUID, long timeZoneOffset) {
+        String selectRegisteredAndLastSeen = SELECT +
+                cohortStart("ui." + UserInfoTable.REGISTERED) + " as cohort," +
+                "ui." + UserInfoTable.REGISTERED + " as registered," +
+                "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
+                FROM + UserInfoTable.TABLE_NAME + " ui" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s ON s." + SessionsTable.USER_ID + "=ui." + UserInfoTable.USER_ID +
+                AND + "s." + SessionsTable.SERVER_ID + "=ui." + UserInfoTable.SERVER_ID +
+                WHERE + "ui." + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                GROUP_BY + "ui." + UserInfoTable.USER_ID + ",ui." + UserInfoTable.REGISTERED;
+
+        List<Object> parameters = cohortParameters(timeZoneOffset);
+        parameters.add(serverUUID);
+        return db -> db.queryList(selectCohorts(selectRegisteredAndLastSeen), PlayerRetentionQueries::extractCohort, parameters.toArray());
+    }
+
+    /**
+     * Count how many of the players that registered on the network each week were seen again later.
+     *
+     * @param timeZoneOffset Offset from {@link java.util.TimeZone#getOffset(long)}, weeks start on Monday 0 AM with this offset.
+     * @return List of cohorts, oldest first.
+     * @see #fetchRetentionCohorts(ServerUUID, long)
+     */
+    public static Query<List<RetentionCohort>> fetchRetentionCohorts(long timeZoneOffset) {
+        String selectRegisteredAndLastSeen = SELECT +
+                cohortStart("u." + UsersTable.REGISTERED) + " as cohort," +
+                "u." + UsersTable.REGISTERED + " as registered," +
+                "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s ON s." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
+                GROUP_BY + "u." + UsersTable.ID + ",u." + UsersTable.REGISTERED;
+
+        List<Object> parameters = cohortParameters(timeZoneOffset);
+        return db -> db.queryList(selectCohorts(selectRegisteredAndLastSeen), PlayerRetentionQueries::extractCohort, parameters.toArray());
+    }
+
+    private static String cohortStart(String registered) {
+        return floor("(" + registered + "+?)/?") + "*?-?";
+    }
+
+    private static List<Object> cohortParameters(long timeZoneOffset) {
+        // Epoch 0 is a Thursday, shift the weeks so that they start on Monday.
+        long shift = timeZoneOffset - TimeUnit.DAYS.toMillis(4L);
+        List<Object> parameters = new ArrayList<>(RetentionCohort.RETENTION_OFFSETS);
+        parameters.add(shift);
+        parameters.add(RetentionCohort.COHORT_LENGTH);
+        parameters.add(RetentionCohort.COHORT_LENGTH);
+        parameters.add(shift);
+        return parameters;
+    }
+
+    private static String selectCohorts(String selectRegisteredAndLastSeen) {
+        StringBuilder sql = new StringBuilder(SELECT + "cohort,COUNT(1) as players");
+        for (int i = 0; i < RetentionCohort.RETENTION_OFFSETS.size(); i++) {
+            sql.append(",SUM(CASE WHEN last_seen-registered>=? THEN 1 ELSE 0 END) as retained_").append(i);
+        }
+        return sql.append(FROM).append('(').append(selectRegisteredAndLastSeen).append(") q")
+                .append(GROUP_BY).append("cohort")
+                .append(ORDER_BY).append("cohort")
+                .toString();
+    }
+
+    private static RetentionCohort extractCohort(ResultSet set) throws SQLException {
+        int[] retained = new int[RetentionCohort.RETENTION_OFFSETS.size()];
+        for (int i = 0; i < retained.length; i++) {
+            retained[i] = set.getInt("retained_" + i);
+        }
+        return new RetentionCohort(set.getLong("cohort"), set.getInt("players"), retained);
+    }
 }
@@ -46,4 +46,18 @@ public class ContainerFetchQueries {
         return new PlayerContainerQuery(playerUUID);
     }
 
+    /**
+     * Used to get a PlayerContainer of a specific player that only contains the given keys.
+     * <p>
+     * Blocking methods are not called until DataContainer getter methods are called.
+     *
+     * @param playerUUID UUID of the player.
+     * @param projection Keys that are going to be read from the container.
+     * @return a new PlayerContainer.
+     * @see PlayerContainerQuery
+     */
+    public static Query<PlayerContainer> fetchPlayerContainer(UUID playerUUID, PlayerContainerProjection projection) {
+        return new PlayerContainerQuery(playerUUID, projection);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.containers;
+
+import com.djrapitops.plan.delivery.domain.keys.Key;
+import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Set of {@link PlayerKeys} a caller is going to read from a PlayerContainer.
+ * <p>
+ * {@link PlayerContainerQuery} only registers suppliers for keys in the projection,
+ * and picks the narrowest query that answers each of them. For example sessions are
+ * fetched on their own unless the per server data is also requested, in which case
+ * they are taken from the per server data to avoid fetching them twice.
+ * <p>
+ * Reading a key that is not part of the projection returns an empty Optional.
+ *
+ * @author AuroraLS3
+ */
+public class PlayerContainerProjection {
+
+    private static final PlayerContainerProjection ALL = new PlayerContainerProjection(null);
+
+    private final Set<Key<?>> keys;
+
+    private PlayerContainerProjection(Set<Key<?>> keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Projection that includes every key of {@link PlayerKeys}.
+     *
+     * @return Projection that does not restrict anything.
+     */
+    public static PlayerContainerProjection all() {
+        return ALL;
+    }
+
+    /**
+     * Create a projection of given keys.
+     * <p>
+     * {@link PlayerKeys#UUID} is always included.
+     *
+     * @param keys Keys that are going to be read.
+     * @return a new projection.
+     */
+    public static PlayerContainerProjection of(Key<?>... keys) {
+        return new PlayerContainerProjection(Collections.emptySet()).and(keys);
+    }
+
+    /**
+     * Create a new projection that includes given keys in addition to the keys of this projection.
+     *
+     * @param additional Keys that are also going to be read.
+     * @return a new projection, or this if this projection already includes everything.
+     */
+    public PlayerContainerProjection and(Key<?>... additional) {
+        if (keys == null) return this;
+        Set<Key<?>> combined = new HashSet<>(keys);
+        combined.add(PlayerKeys.UUID);
+        combined.addAll(Arrays.asList(additional));
+        return new PlayerContainerProjection(Collections.unmodifiableSet(combined));
+    }
+
+    /**
+     * Check if the projection includes a key.
+     *
+     * @param key Key of PlayerKeys
+     * @return true if the key should be available in the container.
+     */
+    public boolean includes(Key<?> key) {
+        return keys == null || keys.contains(key);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlayerContainerProjection that = (PlayerContainerProjection) o;
+        return Objects.equals(keys, that.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keys);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerContainerProjection{" + (keys == null ? "all" : keys.stream().map(Key::getKeyName).sorted().collect(Collectors.toList())) + '}';
+    }
+}
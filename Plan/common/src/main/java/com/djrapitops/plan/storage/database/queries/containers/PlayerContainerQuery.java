@@ -20,35 +20,43 @@ import com.djrapitops.plan.delivery.domain.container.PerServerContainer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.delivery.domain.keys.Key;
 import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
+import com.djrapitops.plan.delivery.domain.keys.Type;
 import com.djrapitops.plan.delivery.domain.mutators.PerServerMutator;
-import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.BaseUser;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.gathering.domain.UserInfo;
 import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Used to get a PlayerContainer of a specific player.
  * <p>
  * Blocking methods are not called until DataContainer getter methods are called.
+ * Each key is backed by the narrowest query that answers it, so reading for example
+ * {@link PlayerKeys#BANNED} does not load every session of the player.
  *
  * @author AuroraLS3
+ * @see PlayerContainerProjection to limit which keys are available.
  */
 public class PlayerContainerQuery implements Query<PlayerContainer> {
 
     private final UUID uuid;
+    private final PlayerContainerProjection projection;
 
     public PlayerContainerQuery(UUID uuid) {
+        this(uuid, PlayerContainerProjection.all());
+    }
+
+    public PlayerContainerQuery(UUID uuid, PlayerContainerProjection projection) {
         this.uuid = uuid;
+        this.projection = projection;
     }
 
     @Override
@@ -57,27 +65,31 @@ public class PlayerContainerQuery implements Query<PlayerContainer> {
         container.putRawData(PlayerKeys.UUID, uuid);
 
         Key<BaseUser> baseUserKey = new Key<>(BaseUser.class, "BASE_USER");
-        container.putSupplier(baseUserKey, () -> db.query(BaseUserQueries.fetchBaseUserOfPlayer(uuid)).orElse(null));
-        container.putSupplier(PlayerKeys.REGISTERED, () -> container.getValue(baseUserKey).map(BaseUser::getRegistered).orElse(null));
-        container.putSupplier(PlayerKeys.NAME, () -> container.getValue(baseUserKey).map(BaseUser::getName).orElse(null));
-        container.putSupplier(PlayerKeys.KICK_COUNT, () -> container.getValue(baseUserKey).map(BaseUser::getTimesKicked).orElse(null));
+        container.putCachingSupplier(baseUserKey, () -> db.query(BaseUserQueries.fetchBaseUserOfPlayer(uuid)).orElse(null));
+        put(container, PlayerKeys.REGISTERED, () -> container.getValue(baseUserKey).map(BaseUser::getRegistered).orElse(null));
+        put(container, PlayerKeys.NAME, () -> container.getValue(baseUserKey).map(BaseUser::getName).orElse(null));
+        put(container, PlayerKeys.KICK_COUNT, () -> container.getValue(baseUserKey).map(BaseUser::getTimesKicked).orElse(null));
 
-        container.putCachingSupplier(PlayerKeys.GEO_INFO, () -> db.query(GeoInfoQueries.fetchPlayerGeoInformation(uuid)));
-        container.putCachingSupplier(PlayerKeys.PING, () -> db.query(PingQueries.fetchPingDataOfPlayer(uuid)));
-        container.putCachingSupplier(PlayerKeys.NICKNAMES, () -> db.query(NicknameQueries.fetchNicknameDataOfPlayer(uuid)));
-        container.putCachingSupplier(PlayerKeys.PER_SERVER, () -> db.query(new PerServerContainerQuery(uuid)));
+        putCaching(container, PlayerKeys.GEO_INFO, () -> db.query(GeoInfoQueries.fetchPlayerGeoInformation(uuid)));
+        putCaching(container, PlayerKeys.PING, () -> db.query(PingQueries.fetchPingDataOfPlayer(uuid)));
+        putCaching(container, PlayerKeys.NICKNAMES, () -> db.query(NicknameQueries.fetchNicknameDataOfPlayer(uuid)));
+        putCaching(container, PlayerKeys.PER_SERVER, () -> db.query(new PerServerContainerQuery(uuid)));
 
-        container.putSupplier(PlayerKeys.BANNED, () -> new PerServerMutator(container.getValue(PlayerKeys.PER_SERVER).orElse(new PerServerContainer())).isBanned());
-        container.putSupplier(PlayerKeys.OPERATOR, () -> new PerServerMutator(container.getValue(PlayerKeys.PER_SERVER).orElse(new PerServerContainer())).isOperator());
+        Key<Set<UserInfo>> userInfoKey = new Key<>(new Type<>() {}, "USER_INFO");
+        container.putCachingSupplier(userInfoKey, () -> db.query(UserInfoQueries.fetchUserInformationOfUser(uuid)));
+        putCaching(container, PlayerKeys.BANNED, () -> container.getValue(userInfoKey).orElse(Collections.emptySet())
+                .stream().anyMatch(UserInfo::isBanned));
+        putCaching(container, PlayerKeys.OPERATOR, () -> container.getValue(userInfoKey).orElse(Collections.emptySet())
+                .stream().anyMatch(UserInfo::isOperator));
 
-        container.putCachingSupplier(PlayerKeys.SESSIONS, () -> {
-                    List<FinishedSession> sessions = new PerServerMutator(container.getValue(PlayerKeys.PER_SERVER).orElse(new PerServerContainer())).flatMapSessions();
+        putCaching(container, PlayerKeys.SESSIONS, () -> {
+                    List<FinishedSession> sessions = fetchSessions(db, container);
                     container.getValue(PlayerKeys.ACTIVE_SESSION).map(ActiveSession::toFinishedSessionFromStillActive)
                             .ifPresent(sessions::add);
                     return sessions;
                 }
         );
-        container.putCachingSupplier(PlayerKeys.WORLD_TIMES, () ->
+        putCaching(container, PlayerKeys.WORLD_TIMES, () ->
         {
             WorldTimes worldTimes = db.query(WorldTimesQueries.fetchPlayerTotalWorldTimes(uuid));
             container.getValue(PlayerKeys.ACTIVE_SESSION).ifPresent(session -> worldTimes.add(
@@ -86,18 +98,40 @@ public class PlayerContainerQuery implements Query<PlayerContainer> {
             return worldTimes;
         });
 
-        container.putSupplier(PlayerKeys.LAST_SEEN, () -> {
+        putCaching(container, PlayerKeys.LAST_SEEN, () -> {
             Optional<ActiveSession> activeSession = container.getValue(PlayerKeys.ACTIVE_SESSION);
             if (activeSession.isPresent()) return System.currentTimeMillis();
-            return SessionsMutator.forContainer(container).toLastSeen();
+            return db.query(SessionQueries.lastSeen(uuid));
         });
-        container.putSupplier(PlayerKeys.PLAYER_KILLS, () -> db.query(KillQueries.fetchPlayerKillsOfPlayer(uuid)));
-        container.putSupplier(PlayerKeys.PLAYER_DEATHS_KILLS, () -> db.query(KillQueries.fetchPlayerDeathsOfPlayer(uuid)));
-        container.putSupplier(PlayerKeys.PLAYER_KILL_COUNT, () -> container.getValue(PlayerKeys.PLAYER_KILLS).map(Collection::size).orElse(0));
-        container.putSupplier(PlayerKeys.MOB_KILL_COUNT, () -> SessionsMutator.forContainer(container).toMobKillCount());
-        container.putSupplier(PlayerKeys.DEATH_COUNT, () -> SessionsMutator.forContainer(container).toDeathCount());
+        putCaching(container, PlayerKeys.PLAYER_KILLS, () -> db.query(KillQueries.fetchPlayerKillsOfPlayer(uuid)));
+        putCaching(container, PlayerKeys.PLAYER_DEATHS_KILLS, () -> db.query(KillQueries.fetchPlayerDeathsOfPlayer(uuid)));
+        putCaching(container, PlayerKeys.PLAYER_KILL_COUNT, () -> db.query(KillQueries.playerKillCountOfPlayer(uuid)));
+        putCaching(container, PlayerKeys.MOB_KILL_COUNT, () -> db.query(KillQueries.mobKillCountOfPlayer(uuid))
+                + container.getValue(PlayerKeys.ACTIVE_SESSION).map(ActiveSession::toFinishedSessionFromStillActive)
+                .map(FinishedSession::getMobKillCount).orElse(0));
+        putCaching(container, PlayerKeys.DEATH_COUNT, () -> db.query(KillQueries.deathCountOfPlayer(uuid))
+                + container.getValue(PlayerKeys.ACTIVE_SESSION).map(ActiveSession::toFinishedSessionFromStillActive)
+                .map(FinishedSession::getDeathCount).orElse(0));
 
         SessionCache.getCachedSession(uuid).ifPresent(session -> container.putRawData(PlayerKeys.ACTIVE_SESSION, session));
         return container;
     }
-}
\ No newline at end of file
+
+    private List<FinishedSession> fetchSessions(SQLDB db, PlayerContainer container) {
+        if (projection.includes(PlayerKeys.PER_SERVER)) {
+            // Per server data contains the sessions, reuse them instead of fetching twice.
+            return new PerServerMutator(container.getValue(PlayerKeys.PER_SERVER).orElse(new PerServerContainer())).flatMapSessions();
+        }
+        List<FinishedSession> sessions = new ArrayList<>();
+        db.query(SessionQueries.fetchSessionsOfPlayer(uuid)).values().forEach(sessions::addAll);
+        return sessions;
+    }
+
+    private <T> void put(PlayerContainer container, Key<T> key, Supplier<T> supplier) {
+        if (projection.includes(key)) container.putSupplier(key, supplier);
+    }
+
+    private <T> void putCaching(PlayerContainer container, Key<T> key, Supplier<T> supplier) {
+        if (projection.includes(key)) container.putCachingSupplier(key, supplier);
+    }
+}
@@ -23,6 +23,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.RowExtractors;
+import com.djrapitops.plan.storage.database.sql.tables.KillCountsTable;
 import com.djrapitops.plan.storage.database.sql.tables.KillsTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
@@ -31,10 +32,7 @@ import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -256,6 +254,79 @@ public class KillQueries {
                 .orElse(0L);
     }
 
+    /**
+     * Fetch all time player kill count of a server from the kill counts.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Count, same as {@link #playerKillCount(long, long, ServerUUID)} over all time.
+     */
+    public static Query<Long> playerKillCount(ServerUUID serverUUID) {
+        return totalCountOfServer(KillCountsTable.PLAYER_KILLS, serverUUID);
+    }
+
+    /**
+     * Fetch all time mob kill count of a server from the kill counts.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Count, same as {@link #mobKillCount(long, long, ServerUUID)} over all time.
+     */
+    public static Query<Long> mobKillCount(ServerUUID serverUUID) {
+        return totalCountOfServer(KillCountsTable.MOB_KILLS, serverUUID);
+    }
+
+    /**
+     * Fetch all time death count of a server from the kill counts.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Count, same as {@link #deathCount(long, long, ServerUUID)} over all time.
+     */
+    public static Query<Long> deathCount(ServerUUID serverUUID) {
+        return totalCountOfServer(KillCountsTable.DEATHS, serverUUID);
+    }
+
+    private static Query<Long> totalCountOfServer(String column, ServerUUID serverUUID) {
+        String sql = SELECT + "SUM(" + column + ") as count" +
+                FROM + KillCountsTable.TABLE_NAME +
+                WHERE + KillCountsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID;
+        return db -> db.queryOptional(sql, RowExtractors.getLong("count"), serverUUID)
+                .orElse(0L);
+    }
+
+    public static Query<Integer> playerKillCountOfPlayer(UUID playerUUID) {
+        return totalCountOfPlayer(KillCountsTable.PLAYER_KILLS, playerUUID);
+    }
+
+    public static Query<Integer> mobKillCountOfPlayer(UUID playerUUID) {
+        return totalCountOfPlayer(KillCountsTable.MOB_KILLS, playerUUID);
+    }
+
+    public static Query<Integer> deathCountOfPlayer(UUID playerUUID) {
+        return totalCountOfPlayer(KillCountsTable.DEATHS, playerUUID);
+    }
+
+    private static Query<Integer> totalCountOfPlayer(String column, UUID playerUUID) {
+        String sql = SELECT + "SUM(" + column + ") as count" +
+                FROM + KillCountsTable.TABLE_NAME +
+                WHERE + KillCountsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID;
+        return db -> db.queryOptional(sql, RowExtractors.getInt("count"), playerUUID)
+                .orElse(0);
+    }
+
+    /**
+     * Fetch user ids of players who have killed any of the given players.
+     *
+     * @param victimUUIDs UUIDs of the victims.
+     * @return Set of plan_users ids.
+     */
+    public static Query<Set<Integer>> fetchKillerUserIds(Collection<UUID> victimUUIDs) {
+        if (victimUUIDs.isEmpty()) return db -> new HashSet<>();
+        String sql = SELECT + DISTINCT + "u." + UsersTable.ID +
+                FROM + KillsTable.TABLE_NAME + " k" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.USER_UUID + "=k." + KillsTable.KILLER_UUID +
+                WHERE + "k." + KillsTable.VICTIM_UUID + " IN (" + nParameters(victimUUIDs.size()) + ')';
+        return db -> db.querySet(sql, RowExtractors.getInt(UsersTable.ID), victimUUIDs);
+    }
+
     public static Query<List<String>> topWeaponsOfServer(long after, long before, ServerUUID serverUUID, int limit) {
         String innerSQL = SELECT + KillsTable.WEAPON + ", COUNT(1) as kills" +
                 FROM + KillsTable.TABLE_NAME +
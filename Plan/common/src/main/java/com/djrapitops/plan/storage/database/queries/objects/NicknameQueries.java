@@ -76,6 +76,30 @@ public class NicknameQueries {
         };
     }
 
+    /**
+     * Query database for nicknames of all players, without server or time information.
+     *
+     * @return Map: Player UUID - Set of nicknames
+     */
+    public static Query<Map<UUID, Set<String>>> fetchAllNicknamesOfPlayers() {
+        String sql = SELECT + DISTINCT +
+                NicknamesTable.USER_UUID + ',' +
+                NicknamesTable.NICKNAME +
+                FROM + NicknamesTable.TABLE_NAME;
+
+        return new QueryAllStatement<>(sql, 5000) {
+            @Override
+            public Map<UUID, Set<String>> processResults(ResultSet set) throws SQLException {
+                Map<UUID, Set<String>> nicknames = new HashMap<>();
+                while (set.next()) {
+                    UUID uuid = UUID.fromString(set.getString(NicknamesTable.USER_UUID));
+                    nicknames.computeIfAbsent(uuid, k -> new HashSet<>()).add(set.getString(NicknamesTable.NICKNAME));
+                }
+                return nicknames;
+            }
+        };
+    }
+
     public static Query<Optional<Nickname>> fetchLastSeenNicknameOfPlayer(UUID playerUUID, ServerUUID serverUUID) {
         String subQuery = SELECT + "MAX(" + NicknamesTable.LAST_USED + ") FROM " + NicknamesTable.TABLE_NAME +
                 WHERE + NicknamesTable.USER_UUID + "=?" +
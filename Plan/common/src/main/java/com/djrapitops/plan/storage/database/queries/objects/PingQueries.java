@@ -22,6 +22,7 @@ import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.PingDailyTable;
 import com.djrapitops.plan.storage.database.sql.tables.PingTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -41,6 +42,13 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class PingQueries {
 
+    // Last rolled up day of each server, ping rows after it are read from the ping table.
+    private static final String SELECT_ROLLED_UP_UNTIL = SELECT + PingDailyTable.SERVER_ID +
+            ", MAX(" + PingDailyTable.DATE + ") as rolled_up_until" +
+            FROM + PingDailyTable.TABLE_NAME +
+            GROUP_BY + PingDailyTable.SERVER_ID;
+    private static final String NOT_ROLLED_UP = "sp." + PingTable.DATE + ">=COALESCE(r.rolled_up_until+" + PingDailyTable.DAY_MS + ",0)";
+
     private PingQueries() {
         /* Static method class */
     }
@@ -97,14 +105,27 @@ public class PingQueries {
      * @return List of Ping entries for this player.
      */
     public static Query<List<Ping>> fetchPingDataOfPlayer(UUID playerUUID) {
+        return fetchPingDataOfPlayer(playerUUID, 0L);
+    }
+
+    /**
+     * Query database for Ping data of a specific player after a date.
+     *
+     * @param playerUUID UUID of the player.
+     * @param after      Date after which ping should be fetched.
+     * @return List of Ping entries for this player.
+     */
+    public static Query<List<Ping>> fetchPingDataOfPlayer(UUID playerUUID, long after) {
         String sql = SELECT + '*' + FROM + PingTable.TABLE_NAME + " p" +
                 INNER_JOIN + ServerTable.TABLE_NAME + " s on s." + ServerTable.ID + "=p." + PingTable.SERVER_ID +
-                WHERE + PingTable.USER_ID + "=" + UsersTable.SELECT_USER_ID;
+                WHERE + PingTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
+                AND + "p." + PingTable.DATE + ">=?";
 
         return new QueryStatement<>(sql, 10000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, playerUUID.toString());
+                statement.setLong(2, after);
             }
 
             @Override
@@ -166,77 +187,140 @@ public class PingQueries {
         };
     }
 
+    /**
+     * Query the last day of a server that has been rolled up into {@link PingDailyTable}.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Start of the last rolled up day, or empty if nothing has been rolled up.
+     */
+    public static Query<Optional<Long>> fetchLastRolledUpDay(ServerUUID serverUUID) {
+        String sql = SELECT + "MAX(" + PingDailyTable.DATE + ") as last_day" +
+                FROM + PingDailyTable.TABLE_NAME +
+                WHERE + PingDailyTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID;
+        return db -> db.queryOptional(sql, set -> {
+            long lastDay = set.getLong("last_day");
+            return set.wasNull() ? null : lastDay;
+        }, serverUUID);
+    }
+
+    /**
+     * Query ping of a server as one data point per day.
+     * <p>
+     * Complete days are read from {@link PingDailyTable}, days that have not been rolled up yet from {@link PingTable}.
+     *
+     * @param after      Date after which the days should start.
+     * @param before     Date before which the days should start.
+     * @param serverUUID UUID of the server.
+     * @return List of ping, date is the start of the day in UTC, sorted by date.
+     */
+    public static Query<List<Ping>> fetchDailyPingDataOfServer(long after, long before, ServerUUID serverUUID) {
+        String selectRolledUp = SELECT + PingDailyTable.DATE + " as ping_day" +
+                ", MIN(" + PingDailyTable.MIN_PING + ") as minPing" +
+                ", MAX(" + PingDailyTable.MAX_PING + ") as maxPing" +
+                ", SUM(" + PingDailyTable.AVG_PING + '*' + PingDailyTable.SAMPLES + ") as avgPingSum" +
+                ", SUM(" + PingDailyTable.SAMPLES + ") as samples" +
+                FROM + PingDailyTable.TABLE_NAME +
+                WHERE + PingDailyTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + PingDailyTable.DATE + ">=?" +
+                AND + PingDailyTable.DATE + "<=?" +
+                GROUP_BY + PingDailyTable.DATE;
+        String selectNotRolledUp = SELECT + PingDailyTable.dayOf("sp." + PingTable.DATE) + " as ping_day" +
+                ", MIN(sp." + PingTable.MIN_PING + ") as minPing" +
+                ", MAX(sp." + PingTable.MAX_PING + ") as maxPing" +
+                ", SUM(sp." + PingTable.AVG_PING + ") as avgPingSum" +
+                ", COUNT(1) as samples" +
+                FROM + PingTable.TABLE_NAME + " sp" +
+                LEFT_JOIN + '(' + SELECT_ROLLED_UP_UNTIL + ") r on r." + PingDailyTable.SERVER_ID + "=sp." + PingTable.SERVER_ID +
+                WHERE + "sp." + PingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + "sp." + PingTable.DATE + ">=?" +
+                AND + "sp." + PingTable.DATE + "<=?" +
+                AND + "sp." + PingTable.MIN_PING + ">=0" +
+                AND + NOT_ROLLED_UP +
+                GROUP_BY + "ping_day";
+
+        return db -> {
+            Map<Long, PingAggregate> byDay = new TreeMap<>();
+            db.queryMap(selectRolledUp, (set, to) -> PingAggregate.merge(set, set.getLong("ping_day"), to), () -> byDay,
+                    serverUUID, after, before);
+            db.queryMap(selectNotRolledUp, (set, to) -> PingAggregate.merge(set, set.getLong("ping_day"), to), () -> byDay,
+                    serverUUID, after, before);
+
+            List<Ping> pings = new ArrayList<>();
+            for (Map.Entry<Long, PingAggregate> entry : byDay.entrySet()) {
+                PingAggregate aggregate = entry.getValue();
+                pings.add(new Ping(entry.getKey(), serverUUID, aggregate.min, aggregate.max, aggregate.getAverage()));
+            }
+            return pings;
+        };
+    }
+
     public static Query<Map<String, Ping>> fetchPingDataOfServerByGeolocation(ServerUUID serverUUID) {
-        String selectPingByGeolocation = SELECT + "a." + GeoInfoTable.GEOLOCATION +
-                ", MIN(" + PingTable.MIN_PING + ") as minPing" +
-                ", MAX(" + PingTable.MAX_PING + ") as maxPing" +
-                ", AVG(" + PingTable.AVG_PING + ") as avgPing" +
+        String selectRolledUp = SELECT + PingDailyTable.GEOLOCATION +
+                ", MIN(" + PingDailyTable.MIN_PING + ") as minPing" +
+                ", MAX(" + PingDailyTable.MAX_PING + ") as maxPing" +
+                ", SUM(" + PingDailyTable.AVG_PING + '*' + PingDailyTable.SAMPLES + ") as avgPingSum" +
+                ", SUM(" + PingDailyTable.SAMPLES + ") as samples" +
+                FROM + PingDailyTable.TABLE_NAME +
+                WHERE + PingDailyTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + PingDailyTable.GEOLOCATION + IS_NOT_NULL +
+                GROUP_BY + PingDailyTable.GEOLOCATION;
+        String selectNotRolledUp = SELECT + "a." + GeoInfoTable.GEOLOCATION +
+                ", MIN(sp." + PingTable.MIN_PING + ") as minPing" +
+                ", MAX(sp." + PingTable.MAX_PING + ") as maxPing" +
+                ", SUM(sp." + PingTable.AVG_PING + ") as avgPingSum" +
+                ", COUNT(1) as samples" +
                 FROM + GeoInfoTable.TABLE_NAME + " a" +
                 // Super smart optimization https://stackoverflow.com/a/28090544
                 // Join the last_used column, but only if there's a bigger one.
                 // That way the biggest a.last_used value will have NULL on the b.last_used column and MAX doesn't need to be used.
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
                 INNER_JOIN + PingTable.TABLE_NAME + " sp on sp." + PingTable.USER_ID + "=a." + GeoInfoTable.USER_ID +
+                LEFT_JOIN + '(' + SELECT_ROLLED_UP_UNTIL + ") r on r." + PingDailyTable.SERVER_ID + "=sp." + PingTable.SERVER_ID +
                 WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
                 AND + "sp." + PingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + "sp." + PingTable.MIN_PING + ">=0" +
+                AND + NOT_ROLLED_UP +
                 GROUP_BY + "a." + GeoInfoTable.GEOLOCATION;
 
-        return new QueryStatement<>(selectPingByGeolocation) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, serverUUID.toString());
-            }
-
-            @Override
-            public Map<String, Ping> processResults(ResultSet set) throws SQLException {
-                // TreeMap to sort alphabetically
-                Map<String, Ping> pingByGeolocation = new TreeMap<>();
-                while (set.next()) {
-                    Ping ping = new Ping(
-                            0L,
-                            serverUUID,
-                            set.getInt("minPing"),
-                            set.getInt("maxPing"),
-                            (int) set.getDouble("avgPing")
-                    );
-                    pingByGeolocation.put(set.getString(GeoInfoTable.GEOLOCATION), ping);
-                }
-                return pingByGeolocation;
-            }
+        return db -> {
+            Map<String, PingAggregate> byGeolocation = new HashMap<>();
+            db.queryMap(selectRolledUp, (set, to) -> PingAggregate.merge(set, set.getString(GeoInfoTable.GEOLOCATION), to), () -> byGeolocation, serverUUID);
+            db.queryMap(selectNotRolledUp, (set, to) -> PingAggregate.merge(set, set.getString(GeoInfoTable.GEOLOCATION), to), () -> byGeolocation, serverUUID);
+            return PingAggregate.toPingByGeolocation(byGeolocation, serverUUID);
         };
     }
 
     public static Query<Map<String, Ping>> fetchPingDataOfNetworkByGeolocation() {
-        String selectPingByGeolocation = SELECT + "a." + GeoInfoTable.GEOLOCATION +
-                ", MIN(" + PingTable.MIN_PING + ") as minPing" +
-                ", MAX(" + PingTable.MAX_PING + ") as maxPing" +
-                ", AVG(" + PingTable.AVG_PING + ") as avgPing" +
+        String selectRolledUp = SELECT + PingDailyTable.GEOLOCATION +
+                ", MIN(" + PingDailyTable.MIN_PING + ") as minPing" +
+                ", MAX(" + PingDailyTable.MAX_PING + ") as maxPing" +
+                ", SUM(" + PingDailyTable.AVG_PING + '*' + PingDailyTable.SAMPLES + ") as avgPingSum" +
+                ", SUM(" + PingDailyTable.SAMPLES + ") as samples" +
+                FROM + PingDailyTable.TABLE_NAME +
+                WHERE + PingDailyTable.GEOLOCATION + IS_NOT_NULL +
+                GROUP_BY + PingDailyTable.GEOLOCATION;
+        String selectNotRolledUp = SELECT + "a." + GeoInfoTable.GEOLOCATION +
+                ", MIN(sp." + PingTable.MIN_PING + ") as minPing" +
+                ", MAX(sp." + PingTable.MAX_PING + ") as maxPing" +
+                ", SUM(sp." + PingTable.AVG_PING + ") as avgPingSum" +
+                ", COUNT(1) as samples" +
                 FROM + GeoInfoTable.TABLE_NAME + " a" +
                 // Super smart optimization https://stackoverflow.com/a/28090544
                 // Join the last_used column, but only if there's a bigger one.
                 // That way the biggest a.last_used value will have NULL on the b.last_used column and MAX doesn't need to be used.
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
                 INNER_JOIN + PingTable.TABLE_NAME + " sp on sp." + PingTable.USER_ID + "=a." + GeoInfoTable.USER_ID +
+                LEFT_JOIN + '(' + SELECT_ROLLED_UP_UNTIL + ") r on r." + PingDailyTable.SERVER_ID + "=sp." + PingTable.SERVER_ID +
                 WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
+                AND + "sp." + PingTable.MIN_PING + ">=0" +
+                AND + NOT_ROLLED_UP +
                 GROUP_BY + "a." + GeoInfoTable.GEOLOCATION;
 
-        return new QueryAllStatement<>(selectPingByGeolocation) {
-            @Override
-            public Map<String, Ping> processResults(ResultSet set) throws SQLException {
-                // TreeMap to sort alphabetically
-                Map<String, Ping> pingByGeolocation = new TreeMap<>();
-                while (set.next()) {
-                    Ping ping = new Ping(
-                            0L,
-                            null,
-                            set.getInt("minPing"),
-                            set.getInt("maxPing"),
-                            (int) set.getDouble("avgPing")
-                    );
-                    pingByGeolocation.put(set.getString(GeoInfoTable.GEOLOCATION), ping);
-                }
-                return pingByGeolocation;
-            }
+        return db -> {
+            Map<String, PingAggregate> byGeolocation = new HashMap<>();
+            db.queryMap(selectRolledUp, (set, to) -> PingAggregate.merge(set, set.getString(GeoInfoTable.GEOLOCATION), to), () -> byGeolocation);
+            db.queryMap(selectNotRolledUp, (set, to) -> PingAggregate.merge(set, set.getString(GeoInfoTable.GEOLOCATION), to), () -> byGeolocation);
+            return PingAggregate.toPingByGeolocation(byGeolocation, null);
         };
     }
 
@@ -268,4 +352,36 @@ public class PingQueries {
                 AND + PingTable.DATE + "<=?";
         return db -> db.queryOptional(sql, set -> set.getDouble("average"), after, before).orElse(-1.0);
     }
-}
\ No newline at end of file
+
+    /**
+     * Ping values combined from rolled up and not yet rolled up rows, average weighted by amount of samples.
+     */
+    private static class PingAggregate {
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+        private double avgSum;
+        private long samples;
+
+        static <K> void merge(ResultSet set, K key, Map<K, PingAggregate> to) throws SQLException {
+            PingAggregate aggregate = to.computeIfAbsent(key, k -> new PingAggregate());
+            aggregate.min = Math.min(aggregate.min, set.getInt("minPing"));
+            aggregate.max = Math.max(aggregate.max, set.getInt("maxPing"));
+            aggregate.avgSum += set.getDouble("avgPingSum");
+            aggregate.samples += set.getLong("samples");
+        }
+
+        static Map<String, Ping> toPingByGeolocation(Map<String, PingAggregate> byGeolocation, ServerUUID serverUUID) {
+            // TreeMap to sort alphabetically
+            Map<String, Ping> pingByGeolocation = new TreeMap<>();
+            for (Map.Entry<String, PingAggregate> entry : byGeolocation.entrySet()) {
+                PingAggregate aggregate = entry.getValue();
+                pingByGeolocation.put(entry.getKey(), new Ping(0L, serverUUID, aggregate.min, aggregate.max, (int) aggregate.getAverage()));
+            }
+            return pingByGeolocation;
+        }
+
+        double getAverage() {
+            return samples > 0 ? avgSum / samples : 0.0;
+        }
+    }
+}
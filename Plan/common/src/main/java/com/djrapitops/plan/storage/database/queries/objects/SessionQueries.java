@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.DateHolder;
 import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.delivery.domain.ServerIdentifier;
 import com.djrapitops.plan.delivery.domain.ServerName;
+import com.djrapitops.plan.delivery.domain.SessionCursor;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.gathering.domain.event.JoinAddress;
@@ -27,7 +28,9 @@ import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryParameterSetter;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.RowExtractor;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
@@ -279,6 +282,100 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query the database for recent Session data of a player without kill or world data.
+     * <p>
+     * Much lighter than {@link #fetchSessionsOfPlayer(UUID)}, used when only playtime and counters of recent sessions
+     * are needed. Use {@link #sessionTotalsOfPlayer(UUID)} for totals over all sessions.
+     *
+     * @param playerUUID UUID of the Player.
+     * @param after      Epoch ms, sessions that ended after this date are returned.
+     * @param minimum    Number of latest sessions that are returned even if they ended before the date.
+     * @return List of sessions, most recent first.
+     */
+    public static Query<List<FinishedSession>> fetchRecentSessionsOfPlayerWithoutKillOrWorldData(UUID playerUUID, long after, int minimum) {
+        String select = SELECT +
+                "s." + SessionsTable.ID + ',' +
+                "server." + ServerTable.SERVER_UUID + " as server_uuid," +
+                SessionsTable.SESSION_START + ',' +
+                SessionsTable.SESSION_END + ',' +
+                SessionsTable.DEATHS + ',' +
+                SessionsTable.MOB_KILLS + ',' +
+                SessionsTable.AFK_TIME + ',' +
+                "j." + JoinAddressTable.JOIN_ADDRESS + " as join_address" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.ID + "=s." + SessionsTable.SERVER_ID +
+                LEFT_JOIN + JoinAddressTable.TABLE_NAME + " j on s." + SessionsTable.JOIN_ADDRESS_ID + "=j." + JoinAddressTable.ID +
+                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID;
+        String recentSql = select + AND + "s." + SessionsTable.SESSION_END + ">=?" + ORDER_BY_SESSION_START_DESC;
+        String latestSql = select + ORDER_BY_SESSION_START_DESC + LIMIT + "?";
+
+        return db -> {
+            RowExtractor<FinishedSession> extractor = set -> extractPlayerSessionWithoutKillOrWorldData(set, playerUUID);
+            List<FinishedSession> sessions = db.queryList(recentSql, extractor, playerUUID, after);
+            if (sessions.size() >= minimum) return sessions;
+            return db.queryList(latestSql, extractor, playerUUID, minimum);
+        };
+    }
+
+    private static FinishedSession extractPlayerSessionWithoutKillOrWorldData(ResultSet set, UUID playerUUID) throws SQLException {
+        ServerUUID serverUUID = ServerUUID.fromString(set.getString("server_uuid"));
+        long start = set.getLong(SessionsTable.SESSION_START);
+        long end = set.getLong(SessionsTable.SESSION_END);
+        long timeAFK = set.getLong(SessionsTable.AFK_TIME);
+
+        DataMap extraData = new DataMap();
+        extraData.put(FinishedSession.Id.class, new FinishedSession.Id(set.getInt(SessionsTable.ID)));
+        extraData.put(DeathCounter.class, new DeathCounter(set.getInt(SessionsTable.DEATHS)));
+        extraData.put(MobKillCounter.class, new MobKillCounter(set.getInt(SessionsTable.MOB_KILLS)));
+        String joinAddress = set.getString("join_address");
+        if (joinAddress != null) extraData.put(JoinAddress.class, new JoinAddress(joinAddress));
+
+        return new FinishedSession(playerUUID, serverUUID, start, end, timeAFK, extraData);
+    }
+
+    /**
+     * Query totals of all sessions of a player on each server.
+     *
+     * @param playerUUID UUID of the Player.
+     * @return Map: Server UUID - Totals of the sessions on that server.
+     */
+    public static Query<Map<ServerUUID, SessionTotals>> sessionTotalsOfPlayer(UUID playerUUID) {
+        String sql = SELECT + "server." + ServerTable.SERVER_UUID + " as server_uuid," +
+                "SUM(s." + SessionsTable.SESSION_END + "-s." + SessionsTable.SESSION_START + ") as playtime," +
+                "SUM(s." + SessionsTable.AFK_TIME + ") as afk_time," +
+                "COUNT(1) as session_count," +
+                "SUM(s." + SessionsTable.MOB_KILLS + ") as mob_kills," +
+                "SUM(s." + SessionsTable.DEATHS + ") as deaths," +
+                "MAX(s." + SessionsTable.SESSION_END + ") as last_seen" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.ID + "=s." + SessionsTable.SERVER_ID +
+                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
+                GROUP_BY + "server." + ServerTable.SERVER_UUID;
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, playerUUID.toString());
+            }
+
+            @Override
+            public Map<ServerUUID, SessionTotals> processResults(ResultSet set) throws SQLException {
+                Map<ServerUUID, SessionTotals> totals = new HashMap<>();
+                while (set.next()) {
+                    totals.put(ServerUUID.fromString(set.getString("server_uuid")), new SessionTotals(
+                            set.getLong("playtime"),
+                            set.getLong("afk_time"),
+                            set.getInt("session_count"),
+                            set.getInt("mob_kills"),
+                            set.getInt("deaths"),
+                            set.getLong("last_seen")
+                    ));
+                }
+                return totals;
+            }
+        };
+    }
+
     private static Query<Long> fetchLatestSessionStartLimitForServer(ServerUUID serverUUID, int limit) {
         String sql = SELECT + SessionsTable.SESSION_START + FROM + SessionsTable.TABLE_NAME +
                 WHERE + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
@@ -369,6 +466,201 @@ public class SessionQueries {
         };
     }
 
+    /**
+     * Query a page of sessions of a player, most recent first.
+     *
+     * @param playerUUID UUID of the player.
+     * @param cursor     Position after which the page starts, {@link SessionCursor#firstPage()} for the first page.
+     * @param limit      Maximum number of sessions on the page.
+     * @return List of sessions with kill and world data, most recent first.
+     */
+    public static Query<List<FinishedSession>> fetchSessionPageOfPlayer(UUID playerUUID, SessionCursor cursor, int limit) {
+        String where = "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID + AND;
+        return fetchSessionPage(where, true, cursor, limit, playerUUID);
+    }
+
+    /**
+     * Query a page of sessions on a server, most recent first.
+     *
+     * @param serverUUID UUID of the server.
+     * @param cursor     Position after which the page starts, {@link SessionCursor#firstPage()} for the first page.
+     * @param limit      Maximum number of sessions on the page.
+     * @return List of sessions with kill and world data, most recent first.
+     */
+    public static Query<List<FinishedSession>> fetchSessionPageOfServer(ServerUUID serverUUID, SessionCursor cursor, int limit) {
+        String where = "s." + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID + AND;
+        return fetchSessionPage(where, true, cursor, limit, serverUUID);
+    }
+
+    /**
+     * Query a page of sessions on the whole network, most recent first.
+     *
+     * @param cursor Position after which the page starts, {@link SessionCursor#firstPage()} for the first page.
+     * @param limit  Maximum number of sessions on the page.
+     * @return List of sessions with kill and world data, most recent first.
+     */
+    public static Query<List<FinishedSession>> fetchSessionPage(SessionCursor cursor, int limit) {
+        // Network page uses the network wide register date for "First Session" icons
+        return fetchSessionPage("", false, cursor, limit);
+    }
+
+    private static Query<List<FinishedSession>> fetchSessionPage(String where, boolean serverRegisterDate, SessionCursor cursor, int limit, Object... parameters) {
+        String sql = SELECT +
+                "s." + SessionsTable.ID + ',' +
+                "u." + UsersTable.USER_NAME + " as name," +
+                "u." + UsersTable.USER_UUID + ',' +
+                (serverRegisterDate ? "u_info." + UserInfoTable.REGISTERED : "u." + UsersTable.REGISTERED) + " as registered," +
+                "server." + ServerTable.NAME + " as server_name," +
+                "server." + ServerTable.ID + " as server_id," +
+                "server." + ServerTable.SERVER_UUID + " as server_uuid," +
+                "s." + SessionsTable.SESSION_START + ',' +
+                "s." + SessionsTable.SESSION_END + ',' +
+                "s." + SessionsTable.MOB_KILLS + ',' +
+                "s." + SessionsTable.DEATHS + ',' +
+                "s." + SessionsTable.AFK_TIME + ',' +
+                "j." + JoinAddressTable.JOIN_ADDRESS + " as join_address" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + JoinAddressTable.TABLE_NAME + " j on s." + SessionsTable.JOIN_ADDRESS_ID + "=j." + JoinAddressTable.ID +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+                INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.ID + "=s." + SessionsTable.SERVER_ID +
+                (serverRegisterDate ? LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_ID + "=s." + SessionsTable.USER_ID + AND + "u_info." + UserInfoTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID + ')' : "") +
+                WHERE + where +
+                "(s." + SessionsTable.SESSION_START + "<?" +
+                OR + "(s." + SessionsTable.SESSION_START + "=?" + AND + "s." + SessionsTable.ID + "<?))" +
+                ORDER_BY + "s." + SessionsTable.SESSION_START + " DESC, s." + SessionsTable.ID + " DESC" +
+                LIMIT + "?";
+
+        return db -> {
+            List<FinishedSession> sessions = db.queryList(sql, SessionQueries::extractSessionWithoutKillOrWorldData,
+                    parameters, cursor.getSessionStart(), cursor.getSessionStart(), cursor.getSessionId(), limit);
+            if (sessions.isEmpty()) return sessions;
+
+            Map<Integer, FinishedSession> byId = new HashMap<>();
+            for (FinishedSession session : sessions) {
+                session.getExtraData(FinishedSession.Id.class).ifPresent(id -> byId.put(id.get(), session));
+            }
+            db.query(fetchWorldTimesOfSessions(byId));
+            db.query(fetchKillsOfSessions(byId));
+            return sessions;
+        };
+    }
+
+    private static FinishedSession extractSessionWithoutKillOrWorldData(ResultSet set) throws SQLException {
+        UUID playerUUID = UUID.fromString(set.getString(UsersTable.USER_UUID));
+        ServerUUID serverUUID = ServerUUID.fromString(set.getString("server_uuid"));
+        FinishedSession session = new FinishedSession(
+                playerUUID,
+                serverUUID,
+                set.getLong(SessionsTable.SESSION_START),
+                set.getLong(SessionsTable.SESSION_END),
+                set.getLong(SessionsTable.AFK_TIME),
+                new DataMap()
+        );
+
+        DataMap extraData = session.getExtraData();
+        extraData.put(FinishedSession.Id.class, new FinishedSession.Id(set.getInt(SessionsTable.ID)));
+        extraData.put(MobKillCounter.class, new MobKillCounter(set.getInt(SessionsTable.MOB_KILLS)));
+        extraData.put(DeathCounter.class, new DeathCounter(set.getInt(SessionsTable.DEATHS)));
+        extraData.put(JoinAddress.class, new JoinAddress(set.getString("join_address")));
+        extraData.put(ServerName.class, new ServerName(Server.getIdentifiableName(
+                set.getString("server_name"),
+                set.getInt("server_id"),
+                false
+        )));
+        extraData.put(PlayerName.class, new PlayerName(set.getString("name")));
+        extraData.put(WorldTimes.class, new WorldTimes());
+        extraData.put(PlayerKills.class, new PlayerKills());
+        session.setAsFirstSessionIfMatches(set.getLong("registered"));
+        return session;
+    }
+
+    private static Query<Void> fetchWorldTimesOfSessions(Map<Integer, FinishedSession> sessionsById) {
+        String sql = SELECT +
+                WorldTimesTable.SESSION_ID + ',' +
+                WorldTable.NAME + ',' +
+                WorldTimesTable.SURVIVAL + ',' +
+                WorldTimesTable.CREATIVE + ',' +
+                WorldTimesTable.ADVENTURE + ',' +
+                WorldTimesTable.SPECTATOR +
+                FROM + WorldTimesTable.TABLE_NAME + " wt" +
+                INNER_JOIN + WorldTable.TABLE_NAME + " w on w." + WorldTable.ID + "=wt." + WorldTimesTable.WORLD_ID +
+                WHERE + WorldTimesTable.SESSION_ID + " IN (" + nParameters(sessionsById.size()) + ')';
+
+        return new QueryStatement<>(sql, sessionsById.size() * 4) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                QueryParameterSetter.setParameters(statement, sessionsById.keySet());
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                String[] gms = GMTimes.getGMKeyArray();
+                while (set.next()) {
+                    FinishedSession session = sessionsById.get(set.getInt(WorldTimesTable.SESSION_ID));
+                    if (session == null) continue;
+
+                    Map<String, Long> gmMap = new HashMap<>();
+                    gmMap.put(gms[0], set.getLong(WorldTimesTable.SURVIVAL));
+                    gmMap.put(gms[1], set.getLong(WorldTimesTable.CREATIVE));
+                    gmMap.put(gms[2], set.getLong(WorldTimesTable.ADVENTURE));
+                    gmMap.put(gms[3], set.getLong(WorldTimesTable.SPECTATOR));
+                    String worldName = set.getString(WorldTable.NAME);
+                    session.getExtraData(WorldTimes.class).ifPresent(worldTimes ->
+                            worldTimes.setGMTimesForWorld(worldName, new GMTimes(gmMap)));
+                }
+                return null;
+            }
+        };
+    }
+
+    private static Query<Void> fetchKillsOfSessions(Map<Integer, FinishedSession> sessionsById) {
+        String sql = SELECT +
+                KillsTable.SESSION_ID + ',' +
+                KillsTable.KILLER_UUID + ',' +
+                KillsTable.VICTIM_UUID + ',' +
+                "v." + UsersTable.USER_NAME + " as victim_name, " +
+                "v." + UsersTable.REGISTERED + " as victim_" + UsersTable.REGISTERED + ", " +
+                "k." + UsersTable.USER_NAME + " as killer_name, " +
+                KillsTable.DATE + ',' +
+                KillsTable.WEAPON +
+                FROM + KillsTable.TABLE_NAME + " ki" +
+                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + "=ki." + KillsTable.VICTIM_UUID +
+                LEFT_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + "=ki." + KillsTable.KILLER_UUID +
+                WHERE + KillsTable.SESSION_ID + " IN (" + nParameters(sessionsById.size()) + ')' +
+                ORDER_BY + KillsTable.DATE + " DESC";
+
+        return new QueryStatement<>(sql, 100) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                QueryParameterSetter.setParameters(statement, sessionsById.keySet());
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    FinishedSession session = sessionsById.get(set.getInt(KillsTable.SESSION_ID));
+                    if (session == null) continue;
+
+                    PlayerKill.Killer killer = new PlayerKill.Killer(
+                            UUID.fromString(set.getString(KillsTable.KILLER_UUID)),
+                            set.getString("killer_name")
+                    );
+                    PlayerKill.Victim victim = new PlayerKill.Victim(
+                            UUID.fromString(set.getString(KillsTable.VICTIM_UUID)),
+                            set.getString("victim_name"),
+                            set.getLong("victim_" + UsersTable.REGISTERED)
+                    );
+                    ServerIdentifier serverIdentifier = new ServerIdentifier(session.getServerUUID(),
+                            session.getExtraData(ServerName.class).orElseGet(() -> new ServerName(session.getServerUUID().toString())));
+                    PlayerKill kill = new PlayerKill(killer, victim, serverIdentifier,
+                            set.getString(KillsTable.WEAPON), set.getLong(KillsTable.DATE));
+                    session.getExtraData(PlayerKills.class).ifPresent(kills -> kills.add(kill));
+                }
+                return null;
+            }
+        };
+    }
+
     public static Query<Long> sessionCount(long after, long before, ServerUUID serverUUID) {
         String sql = SELECT + "COUNT(1) as count" +
                 FROM + SessionsTable.TABLE_NAME +
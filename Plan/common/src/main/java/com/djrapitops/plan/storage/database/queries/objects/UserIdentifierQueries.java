@@ -193,14 +193,11 @@ public class UserIdentifierQueries {
 
             @Override
             public List<String> processResults(ResultSet set) throws SQLException {
-                List<String> matchingNames = new ArrayList<>();
+                Set<String> matchingNames = new LinkedHashSet<>();
                 while (set.next()) {
-                    String match = set.getString(UsersTable.USER_NAME);
-                    if (!matchingNames.contains(match)) {
-                        matchingNames.add(match);
-                    }
+                    matchingNames.add(set.getString(UsersTable.USER_NAME));
                 }
-                return matchingNames;
+                return new ArrayList<>(matchingNames);
             }
         };
     }
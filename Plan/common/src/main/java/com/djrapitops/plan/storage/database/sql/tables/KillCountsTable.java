@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
+import com.djrapitops.plan.storage.database.transactions.patches.KillCountsPatch;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Table information about 'plan_kill_counts'.
+ * <p>
+ * Holds all time player kill, death and mob kill totals of each player on each server so that the totals do not need
+ * to be counted from {@link KillsTable} and {@link SessionsTable}. Updated whenever a session is stored.
+ * There is one row per player and server, enforced by a unique index created in {@link CreateIndexTransaction}.
+ * <p>
+ * Patches related to this table:
+ * {@link KillCountsPatch}
+ *
+ * @author AuroraLS3
+ */
+public class KillCountsTable {
+
+    public static final String TABLE_NAME = "plan_kill_counts";
+
+    public static final String ID = "id";
+    public static final String USER_ID = "user_id";
+    public static final String SERVER_ID = "server_id";
+    public static final String PLAYER_KILLS = "player_kills";
+    public static final String DEATHS = "deaths";
+    public static final String MOB_KILLS = "mob_kills";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            USER_ID + ',' +
+            SERVER_ID + ',' +
+            PLAYER_KILLS + ',' +
+            DEATHS + ',' +
+            MOB_KILLS +
+            ") VALUES (" + UsersTable.SELECT_USER_ID + ',' + ServerTable.SELECT_SERVER_ID + ", ?, ?, ?)";
+
+    public static final String INCREMENT_STATEMENT = "UPDATE " + TABLE_NAME + " SET " +
+            PLAYER_KILLS + '=' + PLAYER_KILLS + "+?," +
+            DEATHS + '=' + DEATHS + "+?," +
+            MOB_KILLS + '=' + MOB_KILLS + "+?" +
+            WHERE + USER_ID + '=' + UsersTable.SELECT_USER_ID +
+            AND + SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID;
+
+    private KillCountsTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(USER_ID, Sql.INT).notNull()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(PLAYER_KILLS, Sql.INT).notNull().defaultValue("0")
+                .column(DEATHS, Sql.INT).notNull().defaultValue("0")
+                .column(MOB_KILLS, Sql.INT).notNull().defaultValue("0")
+                .foreignKey(USER_ID, UsersTable.TABLE_NAME, UsersTable.ID)
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                .toString();
+    }
+
+    /**
+     * Create SQL that counts the totals from sessions and kills tables and inserts them.
+     *
+     * @param sessionCondition Condition for sessions table rows (alias s) to count, eg. {@code "s.user_id IN (1,2)"}, empty for all.
+     * @return SQL statement.
+     */
+    public static String insertCountedFromSessionsSQL(String sessionCondition) {
+        String condition = sessionCondition.isEmpty() ? "" : WHERE + sessionCondition;
+        // Kills are counted only for the sessions being counted, instead of grouping the whole kills table.
+        String selectKillsPerSession = SELECT + "k." + KillsTable.SESSION_ID + ", COUNT(1) as kill_count" +
+                FROM + KillsTable.TABLE_NAME + " k" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.ID + "=k." + KillsTable.SESSION_ID +
+                condition +
+                GROUP_BY + "k." + KillsTable.SESSION_ID;
+        return "INSERT INTO " + TABLE_NAME + " (" +
+                USER_ID + ',' + SERVER_ID + ',' + PLAYER_KILLS + ',' + DEATHS + ',' + MOB_KILLS + ") " +
+                SELECT + "s." + SessionsTable.USER_ID + ", s." + SessionsTable.SERVER_ID +
+                ", COALESCE(SUM(k.kill_count),0)" +
+                ", SUM(s." + SessionsTable.DEATHS + ")" +
+                ", SUM(s." + SessionsTable.MOB_KILLS + ')' +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                LEFT_JOIN + '(' + selectKillsPerSession + ") k on k." + KillsTable.SESSION_ID + "=s." + SessionsTable.ID +
+                condition +
+                GROUP_BY + "s." + SessionsTable.USER_ID + ", s." + SessionsTable.SERVER_ID;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Table information about 'plan_ping_daily'.
+ * <p>
+ * Holds {@link PingTable} rows of complete days rolled up per server, day and country of the player.
+ * Dates are the start of the day in UTC. Geolocation is null for players without geolocation information.
+ *
+ * @author AuroraLS3
+ */
+public class PingDailyTable {
+
+    public static final String TABLE_NAME = "plan_ping_daily";
+
+    public static final String ID = "id";
+    public static final String SERVER_ID = "server_id";
+    public static final String GEOLOCATION = "geolocation";
+    public static final String DATE = "date";
+    public static final String MIN_PING = "min_ping";
+    public static final String MAX_PING = "max_ping";
+    public static final String AVG_PING = "avg_ping";
+    public static final String SAMPLES = "samples";
+
+    public static final long DAY_MS = TimeUnit.DAYS.toMillis(1L);
+
+    private static final String SELECT_LATEST_GEOLOCATIONS = SELECT + "a." + GeoInfoTable.USER_ID + ", a." + GeoInfoTable.GEOLOCATION +
+            FROM + GeoInfoTable.TABLE_NAME + " a" +
+            // Join the last_used column, but only if there's a bigger one, so that the latest row has NULL on b.last_used
+            LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID +
+            AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
+            WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL;
+
+    /**
+     * Rolls up ping rows of a server between two dates, parameters: server uuid, after (inclusive), before (exclusive).
+     */
+    public static final String ROLL_UP_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            SERVER_ID + ',' +
+            GEOLOCATION + ',' +
+            DATE + ',' +
+            MIN_PING + ',' +
+            MAX_PING + ',' +
+            AVG_PING + ',' +
+            SAMPLES + ") " +
+            SELECT + "sp." + PingTable.SERVER_ID +
+            ", g." + GeoInfoTable.GEOLOCATION +
+            ", " + dayOf("sp." + PingTable.DATE) + " as ping_day" +
+            ", MIN(sp." + PingTable.MIN_PING + ')' +
+            ", MAX(sp." + PingTable.MAX_PING + ')' +
+            ", AVG(sp." + PingTable.AVG_PING + ')' +
+            ", COUNT(1)" +
+            FROM + PingTable.TABLE_NAME + " sp" +
+            LEFT_JOIN + '(' + SELECT_LATEST_GEOLOCATIONS + ") g on g." + GeoInfoTable.USER_ID + "=sp." + PingTable.USER_ID +
+            WHERE + "sp." + PingTable.SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
+            AND + "sp." + PingTable.DATE + ">=?" +
+            AND + "sp." + PingTable.DATE + "<?" +
+            AND + "sp." + PingTable.MIN_PING + ">=0" +
+            GROUP_BY + "sp." + PingTable.SERVER_ID + ", g." + GeoInfoTable.GEOLOCATION + ", ping_day";
+
+    private PingDailyTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(GEOLOCATION, Sql.varchar(50))
+                .column(DATE, Sql.LONG).notNull()
+                .column(MIN_PING, Sql.INT).notNull()
+                .column(MAX_PING, Sql.INT).notNull()
+                .column(AVG_PING, Sql.DOUBLE).notNull()
+                .column(SAMPLES, Sql.INT).notNull()
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                .toString();
+    }
+
+    /**
+     * Expression for the start of the UTC day of a date column.
+     *
+     * @param dateColumn Column with epoch ms values.
+     * @return SQL expression.
+     */
+    public static String dayOf(String dateColumn) {
+        return '(' + dateColumn + '-' + dateColumn + '%' + DAY_MS + ')';
+    }
+}
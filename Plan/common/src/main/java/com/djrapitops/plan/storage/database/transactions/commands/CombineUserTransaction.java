@@ -23,6 +23,7 @@ import com.djrapitops.plan.storage.database.transactions.Executable;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -52,6 +53,7 @@ public class CombineUserTransaction extends ChangeUserUUIDTransaction {
         execute(updateUserId(PingTable.TABLE_NAME, PingTable.USER_ID, oldId, newId));
         execute(updateUserId(SessionsTable.TABLE_NAME, SessionsTable.USER_ID, oldId, newId));
         execute(updateUserId(WorldTimesTable.TABLE_NAME, WorldTimesTable.USER_ID, oldId, newId));
+        executeOther(new RecountKillsTransaction(List.of(oldId, newId)));
 
         execute(updateUserInfo(newId, oldId));
         execute(DELETE_FROM + UserInfoTable.TABLE_NAME + WHERE + UserInfoTable.USER_ID + "=" + oldId);
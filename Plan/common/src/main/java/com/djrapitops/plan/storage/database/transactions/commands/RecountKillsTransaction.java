@@ -0,0 +1,64 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.commands;
+
+import com.djrapitops.plan.storage.database.sql.tables.KillCountsTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import org.apache.commons.text.TextStringBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.DELETE_FROM;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.WHERE;
+
+/**
+ * Transaction that counts plan_kill_counts rows of some players again from sessions and kills.
+ * <p>
+ * Used when sessions or kills are moved or removed, since the counts are otherwise only incremented.
+ *
+ * @author AuroraLS3
+ */
+public class RecountKillsTransaction extends Transaction {
+
+    private static final int USERS_PER_STATEMENT = 500;
+
+    private final List<Integer> userIds;
+
+    public RecountKillsTransaction(Collection<Integer> userIds) {
+        this.userIds = new ArrayList<>(userIds);
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !userIds.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        for (int from = 0; from < userIds.size(); from += USERS_PER_STATEMENT) {
+            // IDs are integers from the database, so they are safe to place in the statement.
+            String idList = new TextStringBuilder()
+                    .appendWithSeparators(userIds.subList(from, Math.min(from + USERS_PER_STATEMENT, userIds.size())), ",")
+                    .toString();
+            execute(DELETE_FROM + KillCountsTable.TABLE_NAME + WHERE + KillCountsTable.USER_ID + " IN (" + idList + ')');
+            execute(KillCountsTable.insertCountedFromSessionsSQL("s." + SessionsTable.USER_ID + " IN (" + idList + ')'));
+        }
+    }
+}
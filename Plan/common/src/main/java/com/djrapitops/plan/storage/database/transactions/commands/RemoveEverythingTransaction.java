@@ -40,12 +40,14 @@ public class RemoveEverythingTransaction extends Patch {
         clearTable(GeoInfoTable.TABLE_NAME);
         clearTable(NicknamesTable.TABLE_NAME);
         clearTable(KillsTable.TABLE_NAME);
+        clearTable(KillCountsTable.TABLE_NAME);
         clearTable(WorldTimesTable.TABLE_NAME);
         clearTable(SessionsTable.TABLE_NAME);
         clearTable(JoinAddressTable.TABLE_NAME);
         clearTable(AllowlistBounceTable.TABLE_NAME);
         clearTable(WorldTable.TABLE_NAME);
         clearTable(PingTable.TABLE_NAME);
+        clearTable(PingDailyTable.TABLE_NAME);
         clearTable(UserInfoTable.TABLE_NAME);
         clearTable(UsersTable.TABLE_NAME);
         clearTable(TPSTable.TABLE_NAME);
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.transactions.commands;
 
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
+import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionGroupsTable;
 import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlayerTableValueTable;
@@ -26,6 +27,8 @@ import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -51,6 +54,7 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
     @Override
     protected void performOperations() {
         query(PlayerFetchQueries.playerUserName(playerUUID)).ifPresent(this::deleteWebUser);
+        Set<Integer> killerIds = query(KillQueries.fetchKillerUserIds(List.of(playerUUID)));
 
         deleteFromUserIdTable(GeoInfoTable.TABLE_NAME);
         deleteFromTable(NicknamesTable.TABLE_NAME);
@@ -59,11 +63,15 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         deleteFromUserIdTable(SessionsTable.TABLE_NAME);
         deleteFromUserIdTable(PingTable.TABLE_NAME);
         deleteFromUserIdTable(UserInfoTable.TABLE_NAME);
+        deleteFromUserIdTable(KillCountsTable.TABLE_NAME);
         deleteFromTable(UsersTable.TABLE_NAME);
 
         deleteFromTable(ExtensionPlayerTableValueTable.TABLE_NAME);
         deleteFromTable(ExtensionPlayerValueTable.TABLE_NAME);
         deleteFromTable(ExtensionGroupsTable.TABLE_NAME);
+
+        // Kills of the player were removed from other players
+        executeOther(new RecountKillsTransaction(killerIds));
     }
 
     private void deleteWebUser(String username) {
@@ -0,0 +1,207 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.commands;
+
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionGroupsTable;
+import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlayerTableValueTable;
+import com.djrapitops.plan.storage.database.sql.tables.extension.ExtensionPlayerValueTable;
+import com.djrapitops.plan.storage.database.sql.tables.webuser.SecurityTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Transaction for removing data of a set of players from the database with one statement per table.
+ * <p>
+ * Same tables are cleared as in {@link RemovePlayerTransaction}. Keep the set small enough that the parameters fit
+ * in a single statement, kills table uses two parameters per player.
+ *
+ * @author AuroraLS3
+ */
+public class RemovePlayersTransaction extends Transaction {
+
+    private final Collection<UUID> uuids;
+    private final List<String> playerUUIDs;
+    private int removedRows;
+
+    public RemovePlayersTransaction(Collection<UUID> playerUUIDs) {
+        this.uuids = playerUUIDs;
+        this.playerUUIDs = new ArrayList<>();
+        for (UUID playerUUID : playerUUIDs) {
+            this.playerUUIDs.add(playerUUID.toString());
+        }
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !playerUUIDs.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        removedRows = 0;
+
+        Map<Integer, String> userIdsAndNames = query(fetchUserIdsAndNames());
+        if (userIdsAndNames.isEmpty()) return;
+
+        for (String username : query(fetchWebUsernames(userIdsAndNames.values()))) {
+            executeOther(new RemoveWebUserTransaction(username));
+        }
+
+        Set<Integer> killerIds = query(KillQueries.fetchKillerUserIds(uuids));
+        killerIds.removeAll(userIdsAndNames.keySet());
+
+        List<Integer> userIds = new ArrayList<>(userIdsAndNames.keySet());
+        deleteFromUserIdTable(GeoInfoTable.TABLE_NAME, userIds);
+        deleteFromTable(NicknamesTable.TABLE_NAME);
+        deleteFromKillsTable();
+        deleteFromUserIdTable(WorldTimesTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(SessionsTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(PingTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(UserInfoTable.TABLE_NAME, userIds);
+        deleteFromUserIdTable(KillCountsTable.TABLE_NAME, userIds);
+        deleteFromTable(UsersTable.TABLE_NAME);
+
+        deleteFromTable(ExtensionPlayerTableValueTable.TABLE_NAME);
+        deleteFromTable(ExtensionPlayerValueTable.TABLE_NAME);
+        deleteFromTable(ExtensionGroupsTable.TABLE_NAME);
+
+        // Kills of the players were removed from other players
+        executeOther(new RecountKillsTransaction(killerIds));
+    }
+
+    private Query<Map<Integer, String>> fetchUserIdsAndNames() {
+        String sql = SELECT + UsersTable.ID + ',' + UsersTable.USER_NAME +
+                FROM + UsersTable.TABLE_NAME +
+                WHERE + UsersTable.USER_UUID + " IN (" + nParameters(playerUUIDs.size()) + ')';
+        return new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setStrings(statement, 1, playerUUIDs);
+            }
+
+            @Override
+            public Map<Integer, String> processResults(ResultSet set) throws SQLException {
+                Map<Integer, String> userIdsAndNames = new HashMap<>();
+                while (set.next()) {
+                    userIdsAndNames.put(set.getInt(UsersTable.ID), set.getString(UsersTable.USER_NAME));
+                }
+                return userIdsAndNames;
+            }
+        };
+    }
+
+    private Query<List<String>> fetchWebUsernames(Collection<String> playerNames) {
+        List<String> names = new ArrayList<>(playerNames);
+        String sql = SELECT + SecurityTable.USERNAME +
+                FROM + SecurityTable.TABLE_NAME +
+                WHERE + SecurityTable.USERNAME + " IN (" + nParameters(names.size()) + ')';
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setStrings(statement, 1, names);
+            }
+
+            @Override
+            public List<String> processResults(ResultSet set) throws SQLException {
+                List<String> usernames = new ArrayList<>();
+                while (set.next()) {
+                    usernames.add(set.getString(SecurityTable.USERNAME));
+                }
+                return usernames;
+            }
+        };
+    }
+
+    private void deleteFromTable(String tableName) {
+        executeCounting(new RowCountingStatement(DELETE_FROM + tableName + WHERE + "uuid IN (" + nParameters(playerUUIDs.size()) + ')') {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setStrings(statement, 1, playerUUIDs);
+            }
+        });
+    }
+
+    private void deleteFromUserIdTable(String tableName, List<Integer> userIds) {
+        executeCounting(new RowCountingStatement(DELETE_FROM + tableName + WHERE + "user_id IN (" + nParameters(userIds.size()) + ')') {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (int i = 0; i < userIds.size(); i++) {
+                    statement.setInt(i + 1, userIds.get(i));
+                }
+            }
+        });
+    }
+
+    private void deleteFromKillsTable() {
+        String parameters = nParameters(playerUUIDs.size());
+        String sql = DELETE_FROM + KillsTable.TABLE_NAME +
+                WHERE + KillsTable.KILLER_UUID + " IN (" + parameters + ')' +
+                OR + KillsTable.VICTIM_UUID + " IN (" + parameters + ')';
+        executeCounting(new RowCountingStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                setStrings(statement, 1, playerUUIDs);
+                setStrings(statement, playerUUIDs.size() + 1, playerUUIDs);
+            }
+        });
+    }
+
+    private void executeCounting(RowCountingStatement statement) {
+        execute(statement);
+        removedRows += statement.rowCount;
+    }
+
+    private static void setStrings(PreparedStatement statement, int firstIndex, List<String> values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            statement.setString(firstIndex + i, values.get(i));
+        }
+    }
+
+    /**
+     * Get how many rows were removed, not including web users.
+     *
+     * @return Row count, 0 if the transaction has not been executed yet.
+     */
+    public int getRemovedRows() {
+        return removedRows;
+    }
+
+    private abstract static class RowCountingStatement extends ExecStatement {
+        private int rowCount;
+
+        RowCountingStatement(String sql) {
+            super(sql);
+        }
+
+        @Override
+        protected boolean callExecute(PreparedStatement statement) throws SQLException {
+            rowCount = statement.executeUpdate();
+            return rowCount > 0;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.webserver.auth.ActiveCookieStore;
 import com.djrapitops.plan.storage.database.sql.tables.webuser.SecurityTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.utilities.VerifiedCredentialCache;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -44,6 +45,7 @@ public class RemoveWebUserTransaction extends Transaction {
     protected void performOperations() {
         // Logout the user
         ActiveCookieStore.removeUserCookie(username);
+        VerifiedCredentialCache.invalidate(username);
 
         String sql = DELETE_FROM + SecurityTable.TABLE_NAME + WHERE + SecurityTable.USERNAME + "=?";
 
@@ -23,6 +23,7 @@ import com.djrapitops.plan.storage.database.sql.tables.webuser.WebGroupTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.webuser.StoreWebGroupTransaction;
+import com.djrapitops.plan.utilities.VerifiedCredentialCache;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -46,6 +47,8 @@ public class StoreWebUserTransaction extends Transaction {
 
     @Override
     protected void performOperations() {
+        VerifiedCredentialCache.invalidate(user.getUsername());
+
         Optional<Integer> groupId = query(WebUserQueries.fetchGroupId(user.getPermissionGroup()));
         if (groupId.isEmpty()) {
             executeOther(new StoreWebGroupTransaction(user.getPermissionGroup(), user.getPermissions()));
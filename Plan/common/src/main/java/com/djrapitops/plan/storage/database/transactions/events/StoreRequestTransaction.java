@@ -19,27 +19,23 @@ package com.djrapitops.plan.storage.database.transactions.events;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.webserver.http.InternalRequest;
 import com.djrapitops.plan.storage.database.sql.tables.AccessLogTable;
-import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 import org.apache.commons.lang3.StringUtils;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
+/**
+ * Stores requests made to the webserver to the access log, in a single batch.
+ */
 public class StoreRequestTransaction extends ThrowawayTransaction {
 
-    private final long timestamp;
-    private final String accessAddress;
-    private final String method;
-    private final String url;
-    private final int responseCode;
+    private final List<LoggedRequest> requests;
 
-    public StoreRequestTransaction(long timestamp, String accessAddress, String method, String url, int responseCode) {
-        this.timestamp = timestamp;
-        this.accessAddress = accessAddress;
-        this.method = method;
-        this.url = url;
-        this.responseCode = responseCode;
+    public StoreRequestTransaction(List<LoggedRequest> requests) {
+        this.requests = requests;
     }
 
     public static String getTruncatedURI(Request request, InternalRequest internalRequest) {
@@ -53,15 +49,38 @@ public class StoreRequestTransaction extends ThrowawayTransaction {
 
     @Override
     protected void performOperations() {
-        execute(new ExecStatement(AccessLogTable.INSERT_NO_USER) {
+        if (requests.isEmpty()) return;
+        execute(new ExecBatchStatement(AccessLogTable.INSERT_NO_USER) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, timestamp);
-                statement.setString(2, StringUtils.truncate(accessAddress, 45));
-                statement.setString(3, method);
-                statement.setString(4, url);
-                statement.setInt(5, responseCode);
+                for (LoggedRequest request : requests) {
+                    statement.setLong(1, request.timestamp);
+                    statement.setString(2, StringUtils.truncate(request.accessAddress, 45));
+                    statement.setString(3, request.method);
+                    statement.setString(4, request.url);
+                    statement.setInt(5, request.responseCode);
+                    statement.addBatch();
+                }
             }
         });
     }
+
+    /**
+     * Access log row waiting to be stored.
+     */
+    public static class LoggedRequest {
+        private final long timestamp;
+        private final String accessAddress;
+        private final String method;
+        private final String url;
+        private final int responseCode;
+
+        public LoggedRequest(long timestamp, String accessAddress, String method, String url, int responseCode) {
+            this.timestamp = timestamp;
+            this.accessAddress = accessAddress;
+            this.method = method;
+            this.url = url;
+            this.responseCode = responseCode;
+        }
+    }
 }
@@ -60,15 +60,45 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(PingTable.TABLE_NAME, "plan_ping_date_index",
                 PingTable.DATE
         );
+        createIndex(PingDailyTable.TABLE_NAME, "plan_ping_daily_server_date_index",
+                PingDailyTable.SERVER_ID,
+                PingDailyTable.DATE
+        );
         createIndex(TPSTable.TABLE_NAME, "plan_tps_date_index",
                 TPSTable.DATE
         );
 
         createIndex(SessionsTable.TABLE_NAME, "plan_session_join_address_index",
                 SessionsTable.JOIN_ADDRESS_ID);
+
+        // Keyset pagination of sessions
+        createIndex(SessionsTable.TABLE_NAME, "plan_sessions_user_start_index",
+                SessionsTable.USER_ID,
+                SessionsTable.SESSION_START,
+                SessionsTable.ID
+        );
+        createIndex(SessionsTable.TABLE_NAME, "plan_sessions_server_start_index",
+                SessionsTable.SERVER_ID,
+                SessionsTable.SESSION_START,
+                SessionsTable.ID
+        );
+
+        // One row of counts per player and server
+        createUniqueIndex(KillCountsTable.TABLE_NAME, "plan_kill_counts_user_server_index",
+                KillCountsTable.USER_ID,
+                KillCountsTable.SERVER_ID
+        );
     }
 
     private void createIndex(String tableName, String indexName, String... indexedColumns) {
+        createIndex(false, tableName, indexName, indexedColumns);
+    }
+
+    private void createUniqueIndex(String tableName, String indexName, String... indexedColumns) {
+        createIndex(true, tableName, indexName, indexedColumns);
+    }
+
+    private void createIndex(boolean unique, String tableName, String indexName, String... indexedColumns) {
         if (indexedColumns.length == 0) {
             throw new IllegalArgumentException("Can not create index without columns");
         }
@@ -79,7 +109,7 @@ public class CreateIndexTransaction extends Transaction {
             if (indexExists) return;
         }
 
-        TextStringBuilder sql = new TextStringBuilder("CREATE INDEX ");
+        TextStringBuilder sql = new TextStringBuilder(unique ? "CREATE UNIQUE INDEX " : "CREATE INDEX ");
         if (!isMySQL) {
             sql.append("IF NOT EXISTS ");
         }
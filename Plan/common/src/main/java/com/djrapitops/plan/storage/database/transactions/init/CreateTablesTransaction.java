@@ -60,6 +60,8 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(WebUserPreferencesTable.createTableSQL(dbType));
         execute(PluginVersionTable.createTableSQL(dbType));
         execute(AllowlistBounceTable.createTableSQL(dbType));
+        execute(KillCountsTable.createTableSQL(dbType));
+        execute(PingDailyTable.createTableSQL(dbType));
 
         // DataExtension tables
         execute(ExtensionIconTable.createTableSQL(dbType));
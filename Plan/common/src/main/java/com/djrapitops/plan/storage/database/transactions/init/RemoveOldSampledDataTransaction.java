@@ -18,7 +18,9 @@ package com.djrapitops.plan.storage.database.transactions.init;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.objects.PingQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plan.storage.database.sql.tables.PingDailyTable;
 import com.djrapitops.plan.storage.database.sql.tables.PingTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
@@ -58,7 +60,31 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
         Optional<Integer> allTimePeak = query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).map(DateObj::getValue);
 
         execute(cleanTPSTable(allTimePeak.orElse(-1)));
-        execute(cleanPingTable());
+
+        long now = System.currentTimeMillis();
+        long startOfToday = now - now % PingDailyTable.DAY_MS;
+        // Yesterday is rolled up only tomorrow, so that ping stored late (eg. after a restart or from a lagging server)
+        // is not dated before the last rolled up day, where it would be hidden from queries and deleted.
+        long rollUpUntil = startOfToday - PingDailyTable.DAY_MS;
+        long rollUpFrom = query(PingQueries.fetchLastRolledUpDay(serverUUID))
+                .map(lastDay -> lastDay + PingDailyTable.DAY_MS)
+                .orElse(0L);
+        if (rollUpFrom < rollUpUntil) {
+            execute(rollUpPingTable(rollUpFrom, rollUpUntil));
+        }
+        // Ping that has not been rolled up yet is kept regardless of the setting.
+        execute(cleanPingTable(Math.min(now - deletePingOlderThanMs, rollUpUntil)));
+    }
+
+    private Executable rollUpPingTable(long after, long before) {
+        return new ExecStatement(PingDailyTable.ROLL_UP_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+        };
     }
 
     private Executable cleanTPSTable(int allTimePlayerPeak) {
@@ -77,7 +103,7 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
         };
     }
 
-    private Executable cleanPingTable() {
+    private Executable cleanPingTable(long deleteOlderThan) {
         String sql = DELETE_FROM + PingTable.TABLE_NAME +
                 WHERE + '(' + PingTable.DATE + "<?" +
                 AND + PingTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID + ")" +
@@ -86,7 +112,7 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
         return new ExecStatement(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, System.currentTimeMillis() - deletePingOlderThanMs);
+                statement.setLong(1, deleteOlderThan);
                 statement.setString(2, serverUUID.toString());
             }
         };
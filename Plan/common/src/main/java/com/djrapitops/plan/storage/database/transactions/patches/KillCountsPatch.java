@@ -0,0 +1,56 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.sql.tables.KillCountsTable;
+import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Populates plan_kill_counts from existing sessions and kills.
+ * <p>
+ * The counts table has a row for every player and server combination with sessions, so an empty counts table with
+ * stored sessions means the counts have not been populated yet.
+ *
+ * @author AuroraLS3
+ */
+public class KillCountsPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasRows(KillCountsTable.TABLE_NAME) || !hasRows(SessionsTable.TABLE_NAME);
+    }
+
+    @Override
+    protected void applyPatch() {
+        execute(KillCountsTable.insertCountedFromSessionsSQL(""));
+    }
+
+    private boolean hasRows(String tableName) {
+        return query(new QueryAllStatement<>(SELECT + "1" + FROM + tableName + LIMIT + "1") {
+            @Override
+            public Boolean processResults(ResultSet set) throws SQLException {
+                return set.next();
+            }
+        });
+    }
+}
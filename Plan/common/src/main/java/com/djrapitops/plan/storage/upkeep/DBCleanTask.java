@@ -32,7 +32,7 @@ import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
-import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayersTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveDuplicateUserInfoTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveOldAccessLogTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveOldExtensionsTransaction;
@@ -51,6 +51,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -63,6 +64,11 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 @Singleton
 public class DBCleanTask extends TaskSystem.Task {
 
+    // Kills table uses two parameters per player, SQLite allows 999 parameters per statement by default.
+    private static final int REMOVE_CHUNK_SIZE = 400;
+    private static final long PAUSE_BETWEEN_CHUNKS_MS = 100L;
+    private static final long PROGRESS_LOG_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10L);
+
     private final Locale locale;
     private final DBSystem dbSystem;
     private final PlanConfig config;
@@ -163,17 +169,57 @@ public class DBCleanTask extends TaskSystem.Task {
             long keepActiveAfter = now - config.get(TimeSettings.DELETE_INACTIVE_PLAYERS_AFTER);
 
             List<UUID> inactivePlayers = database.query(fetchInactivePlayerUUIDs(keepActiveAfter));
-            for (UUID playerUUID : inactivePlayers) {
-                queryService.playerRemoved(playerUUID);
-                database.executeTransaction(new RemovePlayerTransaction(playerUUID));
-            }
-            return inactivePlayers.size();
+            return removePlayersInChunks(database, inactivePlayers);
         }
 
         // Skip cleaning on game servers if proxy server is installed.
         return 0;
     }
 
+    /**
+     * Remove players one chunk at a time, waiting for each chunk before queueing the next one.
+     * <p>
+     * Transactions queued during a chunk (eg. from gameplay) are executed before the next chunk.
+     *
+     * @param database        Database to remove the players from.
+     * @param inactivePlayers UUIDs of the players to remove.
+     * @return How many players were removed.
+     */
+    private int removePlayersInChunks(Database database, List<UUID> inactivePlayers) {
+        int total = inactivePlayers.size();
+        int removedPlayers = 0;
+        long removedRows = 0;
+        long lastProgressLog = System.currentTimeMillis();
+        for (int from = 0; from < total; from += REMOVE_CHUNK_SIZE) {
+            List<UUID> chunk = inactivePlayers.subList(from, Math.min(from + REMOVE_CHUNK_SIZE, total));
+            RemovePlayersTransaction transaction = new RemovePlayersTransaction(chunk);
+            try {
+                database.executeTransaction(transaction).get();
+                chunk.forEach(queryService::playerRemoved);
+                removedPlayers += chunk.size();
+                removedRows += transaction.getRemovedRows();
+
+                if (removedPlayers < total) {
+                    if (System.currentTimeMillis() - lastProgressLog > PROGRESS_LOG_INTERVAL_MS) {
+                        logger.info("Removing inactive players: " + removedPlayers + " / " + total + " (" + removedRows + " rows)");
+                        lastProgressLog = System.currentTimeMillis();
+                    }
+                    Thread.sleep(PAUSE_BETWEEN_CHUNKS_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DBOpException) throw (DBOpException) e.getCause();
+                throw new DBOpException("Failed to remove inactive players: " + e.getMessage(), e);
+            }
+        }
+        if (total > REMOVE_CHUNK_SIZE) {
+            logger.info("Removed " + removedRows + " rows of " + removedPlayers + " inactive players");
+        }
+        return removedPlayers;
+    }
+
     private Query<List<UUID>> fetchInactivePlayerUUIDs(long keepActiveAfter) {
         String selectLastSeen = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen, " +
                 SessionsTable.USER_ID +
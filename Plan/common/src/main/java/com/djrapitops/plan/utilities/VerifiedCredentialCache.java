@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities;
+
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.codec.digest.HmacAlgorithms;
+import org.apache.commons.codec.digest.HmacUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers successful password verifications for a short time, so that repeated logins with the same credentials do
+ * not need to run {@link PassEncryptUtil#verifyPassword(String, String)} every time.
+ * <p>
+ * Entries are keyed by HMAC of the username, the given password and the stored password hash, using a key that is
+ * generated on startup, so passwords are not kept in memory. A changed password hash never matches old entries.
+ * Failed verifications are not cached.
+ *
+ * @author AuroraLS3
+ */
+public class VerifiedCredentialCache {
+
+    private static final HmacUtils KEYED_HASH = new HmacUtils(HmacAlgorithms.HMAC_SHA_256, generateKey());
+    private static final Cache<String, String> USERNAME_BY_VERIFIED_CREDENTIALS = Caffeine.newBuilder()
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .maximumSize(1000)
+            .build();
+
+    private VerifiedCredentialCache() {
+        /* Static method class */
+    }
+
+    private static byte[] generateKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    /**
+     * Verify that a password matches the hash of the user.
+     *
+     * @param username     Username of the user the hash belongs to.
+     * @param password     Password given by the user.
+     * @param passwordHash Hash in the database, created with {@link PassEncryptUtil#createHash(String)}
+     * @return true if match
+     */
+    public static boolean verifyPassword(@Untrusted String username, @Untrusted String password, String passwordHash) {
+        String key = getKey(username, password, passwordHash);
+        if (USERNAME_BY_VERIFIED_CREDENTIALS.getIfPresent(key) != null) return true;
+
+        boolean matches = PassEncryptUtil.verifyPassword(password, passwordHash);
+        if (matches) USERNAME_BY_VERIFIED_CREDENTIALS.put(key, username);
+        return matches;
+    }
+
+    private static String getKey(String username, String password, String passwordHash) {
+        // Lengths are included so that different splits of the same characters do not produce the same key.
+        String credentials = username.length() + ":" + username + password.length() + ":" + password + passwordHash;
+        return KEYED_HASH.hmacHex(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Forget verifications of a user, for when the user is changed or removed.
+     *
+     * @param username Username of the user.
+     */
+    public static void invalidate(String username) {
+        USERNAME_BY_VERIFIED_CREDENTIALS.asMap().values().removeIf(username::equals);
+    }
+
+    public static void invalidateAll() {
+        USERNAME_BY_VERIFIED_CREDENTIALS.invalidateAll();
+    }
+}
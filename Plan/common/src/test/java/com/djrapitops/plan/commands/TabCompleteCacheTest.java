@@ -28,6 +28,7 @@ import utilities.RandomData;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -46,7 +47,7 @@ class TabCompleteCacheTest {
     @DisplayName("Tab completion limit check: {limit} + 1 results returns empty")
     void tooManyMatchesGetsEmptyTabCompletionOneOver() {
         Collection<String> searchList = RandomData.pickMultiple(101, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, null);
+        List<String> matches = underTest.findMatches(PrefixIndex.of(searchList), null);
         assertTrue(matches.isEmpty());
     }
 
@@ -54,7 +55,7 @@ class TabCompleteCacheTest {
     @DisplayName("Tab completion limit check: {limit} results returns empty")
     void tooManyMatchesGetsEmptyTabCompletionAtLimit() {
         Collection<String> searchList = RandomData.pickMultiple(100, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, null);
+        List<String> matches = underTest.findMatches(PrefixIndex.of(searchList), null);
         assertTrue(matches.isEmpty());
     }
 
@@ -62,7 +63,7 @@ class TabCompleteCacheTest {
     @DisplayName("Tab completion limit check: {limit} - 1 results returns results")
     void tooManyMatchesGetsResultsTabCompletionOneUnder() {
         Collection<String> searchList = RandomData.pickMultiple(99, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, null);
+        List<String> matches = underTest.findMatches(PrefixIndex.of(searchList), null);
         assertEquals(99, matches.size());
     }
 
@@ -70,7 +71,7 @@ class TabCompleteCacheTest {
     @DisplayName("Tab completion empty search string returns results")
     void emptyStringReturnsAllResults() {
         Collection<String> searchList = RandomData.pickMultiple(99, () -> RandomData.randomString(100));
-        List<String> matches = underTest.findMatches(searchList, "");
+        List<String> matches = underTest.findMatches(PrefixIndex.of(searchList), "");
         assertEquals(99, matches.size());
     }
 
@@ -84,7 +85,7 @@ class TabCompleteCacheTest {
             searchList.add("nope-" + i);
         }
 
-        List<String> matches = underTest.findMatches(searchList, "start-");
+        List<String> matches = underTest.findMatches(PrefixIndex.of(searchList), "start-");
         assertEquals(25, matches.size());
     }
 
@@ -110,4 +111,32 @@ class TabCompleteCacheTest {
         assertEquals(25, matches.size());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Tab completion ignores case")
+    void searchIgnoresCase() {
+        PrefixIndex index = PrefixIndex.of(List.of("Alpha", "alphabet", "ALPS", "beta"));
+
+        List<String> matches = underTest.findMatches(index, "al");
+        assertEquals(List.of("Alpha", "alphabet", "ALPS"), matches);
+    }
+
+    @Test
+    @DisplayName("Tab completion returns at most requested amount of matches")
+    void prefixSearchIsLimited() {
+        PrefixIndex index = PrefixIndex.of(RandomData.pickMultiple(500, () -> "start-" + RandomData.randomString(10)));
+
+        assertEquals(10, index.findMatches("start-", 10).size());
+    }
+
+    @Test
+    @DisplayName("Tab completion replaces old name of a player")
+    void nameChangeReplacesOldName() {
+        UUID playerUUID = UUID.randomUUID();
+        underTest.updatePlayerName(playerUUID, "OldName");
+        underTest.updatePlayerName(playerUUID, "NewName");
+
+        assertTrue(underTest.getMatchingPlayerIdentifiers("Old").isEmpty());
+        assertEquals(List.of("NewName"), underTest.getMatchingPlayerIdentifiers("new"));
+    }
+
+}
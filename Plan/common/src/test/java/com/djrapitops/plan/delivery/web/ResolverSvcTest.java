@@ -0,0 +1,92 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web;
+
+import com.djrapitops.plan.delivery.web.resolver.Resolver;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import utilities.TestPluginLogger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+class ResolverSvcTest {
+
+    private ResolverSvc underTest;
+    private Resolver root;
+    private Resolver v1;
+    private Resolver players;
+    private Resolver regex;
+
+    @BeforeEach
+    void setUp() {
+        DBSystem dbSystem = Mockito.mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(Mockito.mock(Database.class));
+        underTest = new ResolverSvc(Mockito.mock(PlanConfig.class), new TestPluginLogger(), dbSystem);
+
+        root = Mockito.mock(Resolver.class);
+        v1 = Mockito.mock(Resolver.class);
+        players = Mockito.mock(Resolver.class);
+        regex = Mockito.mock(Resolver.class);
+        underTest.registerResolver("Plan", "/", root);
+        underTest.registerResolver("Plan", "/v1/players", players);
+        underTest.registerResolver("Plan", "/v1/", v1);
+        underTest.registerResolverForMatches("Other", Pattern.compile("^/custom/.*"), regex);
+    }
+
+    @Test
+    void longestStartIsUsed() {
+        assertEquals(Optional.of(players), underTest.getResolver("/v1/players"));
+        assertEquals(Optional.of(v1), underTest.getResolver("/v1/network"));
+        assertEquals(Optional.of(root), underTest.getResolver("/server"));
+    }
+
+    @Test
+    void startMatchesWithinPathSegment() {
+        assertEquals(Optional.of(players), underTest.getResolver("/v1/playersTable"));
+    }
+
+    @Test
+    void allMatchingResolversAreGivenLongestFirst() {
+        List<Resolver> expected = Arrays.asList(players, v1, root);
+        assertEquals(expected, underTest.getResolvers("/v1/players?server=1"));
+    }
+
+    @Test
+    void regexResolversAreUsedAfterBasicResolvers() {
+        assertEquals(Arrays.asList(root, regex), underTest.getResolvers("/custom/page"));
+        assertEquals(Optional.of("Plan"), underTest.getPluginInChargeOf("/custom/page"));
+    }
+
+    @Test
+    void noMatchesWithoutResolvers() {
+        DBSystem dbSystem = Mockito.mock(DBSystem.class);
+        ResolverSvc empty = new ResolverSvc(Mockito.mock(PlanConfig.class), new TestPluginLogger(), dbSystem);
+        assertEquals(Optional.empty(), empty.getResolver("/v1/players"));
+        assertEquals(Collections.emptyList(), empty.getResolvers("/v1/players"));
+    }
+}
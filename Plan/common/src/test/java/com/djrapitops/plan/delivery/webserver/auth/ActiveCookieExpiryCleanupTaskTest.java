@@ -0,0 +1,88 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.auth;
+
+import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import utilities.TestPluginLogger;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+class ActiveCookieExpiryCleanupTaskTest {
+
+    private ActiveCookieStore activeCookieStore;
+    private ActiveCookieExpiryCleanupTask underTest;
+
+    @BeforeEach
+    void createTask() {
+        activeCookieStore = Mockito.mock(ActiveCookieStore.class);
+        underTest = new ActiveCookieExpiryCleanupTask(
+                Mockito.mock(PlanConfig.class),
+                () -> activeCookieStore,
+                Mockito.mock(Formatters.class),
+                new TestPluginLogger()
+        );
+    }
+
+    @Test
+    void onlyExpiredCookiesAreRemoved() {
+        long now = System.currentTimeMillis();
+        underTest.addExpiry("expired", now - 1L);
+        underTest.addExpiry("active", now + TimeUnit.HOURS.toMillis(1L));
+
+        underTest.run();
+
+        verify(activeCookieStore).removeCookie("expired");
+        verify(activeCookieStore, never()).removeCookie("active");
+    }
+
+    @Test
+    void expiredCookieIsRemovedOnce() {
+        underTest.addExpiry("expired", System.currentTimeMillis() - 1L);
+
+        underTest.run();
+        underTest.run();
+
+        verify(activeCookieStore, times(1)).removeCookie("expired");
+    }
+
+    @Test
+    void removedExpiryIsSkipped() {
+        underTest.addExpiry("loggedOut", System.currentTimeMillis() - 1L);
+        underTest.removeExpiry("loggedOut");
+
+        underTest.run();
+
+        verify(activeCookieStore, never()).removeCookie(anyString());
+    }
+
+    @Test
+    void extendedExpiryIsNotRemovedEarly() {
+        long now = System.currentTimeMillis();
+        underTest.addExpiry("extended", now - 1L);
+        underTest.addExpiry("extended", now + TimeUnit.HOURS.toMillis(1L));
+
+        underTest.run();
+
+        verify(activeCookieStore, never()).removeCookie(anyString());
+    }
+}
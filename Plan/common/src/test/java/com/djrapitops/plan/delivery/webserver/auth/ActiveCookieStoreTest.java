@@ -33,6 +33,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 class ActiveCookieStoreTest {
@@ -84,4 +85,17 @@ class ActiveCookieStoreTest {
         assertFalse(underTest.checkCookie(cookie).isPresent());
     }
 
+    @Test
+    void allCookiesOfUserAreRemoved() {
+        String cookie = underTest.generateNewCookie(user);
+        String secondCookie = underTest.generateNewCookie(user);
+        User otherUser = new User("Other", "console", null, PassEncryptUtil.createHash("testPass"), "admin", List.of("page"));
+        String otherCookie = underTest.generateNewCookie(otherUser);
+
+        ActiveCookieStore.removeUserCookie(user.getUsername());
+        assertFalse(underTest.checkCookie(cookie).isPresent());
+        assertFalse(underTest.checkCookie(secondCookie).isPresent());
+        assertTrue(underTest.checkCookie(otherCookie).isPresent());
+    }
+
 }
\ No newline at end of file
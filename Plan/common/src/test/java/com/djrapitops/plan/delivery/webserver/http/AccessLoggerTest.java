@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.events.StoreRequestTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import utilities.TestErrorLogger;
+import utilities.TestPluginLogger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AccessLoggerTest {
+
+    private Database database;
+    private AccessLogger underTest;
+    private InternalRequest internalRequest;
+    private Response response;
+
+    @BeforeEach
+    void setUp() {
+        database = Mockito.mock(Database.class);
+        DBSystem dbSystem = Mockito.mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+        underTest = new AccessLogger(Mockito.mock(WebserverConfiguration.class), dbSystem, new TestPluginLogger(), new TestErrorLogger());
+
+        internalRequest = Mockito.mock(InternalRequest.class);
+        when(internalRequest.getTimestamp()).thenReturn(System.currentTimeMillis());
+        when(internalRequest.getMethod()).thenReturn("GET");
+        when(internalRequest.getRequestedURIString()).thenReturn("/server");
+        response = Mockito.mock(Response.class);
+        when(response.getCode()).thenReturn(200);
+    }
+
+    @Test
+    void requestsAreStoredTogetherWhenFlushed() {
+        for (int i = 0; i < 3; i++) {
+            underTest.log(internalRequest, null, response);
+        }
+        verify(database, never()).executeTransaction(any());
+
+        underTest.flush();
+        verify(database, times(1)).executeTransaction(any(StoreRequestTransaction.class));
+
+        underTest.flush();
+        verify(database, times(1)).executeTransaction(any(StoreRequestTransaction.class));
+    }
+
+    @Test
+    void fullBatchIsStoredWithoutWaitingForFlush() {
+        for (int i = 0; i < AccessLogger.FLUSH_SIZE; i++) {
+            underTest.log(internalRequest, null, response);
+        }
+        verify(database, times(1)).executeTransaction(any(StoreRequestTransaction.class));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.domain.auth.WebPermission;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.processing.Processing;
+import com.google.common.util.concurrent.MoreExecutors;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link LiveUpdateStream}.
+ *
+ * @author AuroraLS3
+ */
+class LiveUpdateStreamTest {
+
+    private LiveUpdateStream underTest;
+    private Response streamResponse;
+
+    @BeforeEach
+    void setUp() {
+        Processing processing = mock(Processing.class);
+        when(processing.createBoundedExecutor(anyInt(), anyInt(), anyString())).thenReturn(MoreExecutors.newDirectExecutorService());
+        underTest = new LiveUpdateStream(processing);
+        streamResponse = underTest.newStreamResponse();
+    }
+
+    private ByteArrayOutputStream subscribe(WebUser user) throws IOException {
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.startAsync()).thenReturn(mock(AsyncContext.class));
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // Not used
+            }
+
+            @Override
+            public void write(int b) {
+                received.write(b);
+            }
+        });
+        underTest.subscribe(request, response, streamResponse, user);
+        return received;
+    }
+
+    @Test
+    void streamResponseIsRecognized() {
+        assertTrue(underTest.isStreamResponse(streamResponse));
+        assertFalse(underTest.isStreamResponse(Response.builder().setJSONContent("{}").build()));
+    }
+
+    @Test
+    void otherEventStreamResponsesAreNotKeptOpen() {
+        Response otherStream = Response.builder()
+                .setMimeType(LiveUpdateStream.MIME_TYPE)
+                .setContent("retry: 5000\n\n")
+                .build();
+        assertFalse(underTest.isStreamResponse(otherStream));
+    }
+
+    @Test
+    void slowSubscriberIsDisconnected() throws IOException {
+        Processing processing = mock(Processing.class);
+        // Writes are never executed, like when a subscriber does not read the stream
+        when(processing.createBoundedExecutor(anyInt(), anyInt(), anyString())).thenReturn(mock(ExecutorService.class));
+        underTest = new LiveUpdateStream(processing);
+        subscribe(null);
+
+        for (int i = 0; i < LiveUpdateStream.SUBSCRIBER_QUEUE_SIZE; i++) {
+            underTest.heartbeat();
+        }
+        assertEquals(1, underTest.getSubscriberCount());
+
+        underTest.heartbeat();
+        assertEquals(0, underTest.getSubscriberCount());
+    }
+
+    @Test
+    void updateIsSentToAllSubscribers() throws IOException {
+        ByteArrayOutputStream first = subscribe(null);
+        ByteArrayOutputStream second = subscribe(null);
+
+        underTest.onOnlineCountChange(ServerUUID.randomUUID(), 5);
+
+        for (ByteArrayOutputStream received : List.of(first, second)) {
+            String stream = received.toString(StandardCharsets.UTF_8);
+            assertTrue(stream.startsWith("retry: 5000\n\n"), stream);
+            assertTrue(stream.contains("event: online\ndata: {"), stream);
+            assertTrue(stream.contains("\"online\":5"), stream);
+        }
+    }
+
+    @Test
+    void updateIsNotSentWithoutPermission() throws IOException {
+        WebUser allowed = new WebUser("allowed", null, "allowed", List.of(WebPermission.PAGE_SERVER_OVERVIEW_NUMBERS.getPermission()));
+        WebUser denied = new WebUser("denied", null, "denied", List.of());
+        ByteArrayOutputStream allowedReceived = subscribe(allowed);
+        ByteArrayOutputStream deniedReceived = subscribe(denied);
+
+        underTest.onOnlineCountChange(ServerUUID.randomUUID(), 5);
+
+        assertTrue(allowedReceived.toString(StandardCharsets.UTF_8).contains("event: online"));
+        assertFalse(deniedReceived.toString(StandardCharsets.UTF_8).contains("event: online"));
+    }
+
+    @Test
+    void closedSubscribersAreRemoved() throws IOException {
+        subscribe(null);
+        assertEquals(1, underTest.getSubscriberCount());
+
+        underTest.close();
+        assertEquals(0, underTest.getSubscriberCount());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.resolver.json;
+
+import com.djrapitops.plan.delivery.formatting.Formatter;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
+import org.eclipse.jetty.http.HttpHeader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ETag handling of {@link JSONResolver}.
+ *
+ * @author AuroraLS3
+ */
+class JSONResolverTest {
+
+    private final JSONResolver underTest = new JSONResolver() {
+        @Override
+        protected Formatter<Long> getHttpLastModifiedFormatter() {
+            return value -> Long.toString(value);
+        }
+
+        @Override
+        public boolean canAccess(Request request) {
+            return true;
+        }
+
+        @Override
+        public Optional<Response> resolve(Request request) {
+            return Optional.empty();
+        }
+    };
+
+    private static Request requestWithEtag(String ifNoneMatch) {
+        Map<String, String> headers = ifNoneMatch == null
+                ? Collections.emptyMap()
+                : Collections.singletonMap(HttpHeader.IF_NONE_MATCH.asString(), ifNoneMatch);
+        return new Request("GET", "/v1/test", null, headers);
+    }
+
+    @Test
+    void sameContentHasSameEtag() {
+        JSONStorage.StoredJSON first = new JSONStorage.StoredJSON("{\"value\":1}", 1000L);
+        JSONStorage.StoredJSON second = new JSONStorage.StoredJSON("{\"value\":1}", 2000L);
+        JSONStorage.StoredJSON different = new JSONStorage.StoredJSON("{\"value\":2}", 1000L);
+
+        assertEquals(first.getEtag(), second.getEtag());
+        assertNotEquals(first.getEtag(), different.getEtag());
+        assertTrue(first.getEtag().startsWith("\"") && first.getEtag().endsWith("\""));
+    }
+
+    @Test
+    void responseContainsEtag() {
+        JSONStorage.StoredJSON stored = new JSONStorage.StoredJSON("{\"value\":1}", 1000L);
+
+        Response response = underTest.getCachedOrNewResponse(requestWithEtag(null), stored);
+        assertEquals(200, response.getCode());
+        assertEquals(stored.getEtag(), response.getHeaders().get(HttpHeader.ETAG.asString()));
+    }
+
+    @Test
+    void matchingEtagGetsNotModified() {
+        JSONStorage.StoredJSON stored = new JSONStorage.StoredJSON("{\"value\":1}", 1000L);
+
+        Response response = underTest.getCachedOrNewResponse(requestWithEtag("\"other\", W/" + stored.getEtag()), stored);
+        assertEquals(304, response.getCode());
+        assertEquals(0, response.getBytes().length);
+    }
+
+    @Test
+    void changedContentIsSentAgain() {
+        JSONStorage.StoredJSON old = new JSONStorage.StoredJSON("{\"value\":1}", 1000L);
+        JSONStorage.StoredJSON stored = new JSONStorage.StoredJSON("{\"value\":2}", 2000L);
+
+        Response response = underTest.getCachedOrNewResponse(requestWithEtag(old.getEtag()), stored);
+        assertEquals(200, response.getCode());
+    }
+
+    @Test
+    void timestampEtagFromOlderVersionIsNotAnError() {
+        JSONStorage.StoredJSON stored = new JSONStorage.StoredJSON("{\"value\":1}", 1000L);
+
+        Response response = underTest.getCachedOrNewResponse(requestWithEtag("1000"), stored);
+        assertEquals(200, response.getCode());
+    }
+}
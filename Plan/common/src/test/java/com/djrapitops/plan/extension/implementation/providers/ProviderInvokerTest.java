@@ -0,0 +1,105 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers;
+
+import com.djrapitops.plan.exceptions.DataExtensionMethodCallException;
+import com.djrapitops.plan.extension.DataExtension;
+import com.djrapitops.plan.extension.NotReadyException;
+import com.djrapitops.plan.extension.annotation.NumberProvider;
+import com.djrapitops.plan.extension.annotation.PluginInfo;
+import com.djrapitops.plan.extension.annotation.StringProvider;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProviderInvokerTest {
+
+    @Test
+    void invokerCallsMethodWithoutParameters() throws Throwable {
+        ProviderInvoker invoker = ProviderInvoker.compile(TestExtension.class.getMethod("number"));
+        assertEquals("LambdaMetafactory", invoker.getStrategy());
+        assertEquals(5L, invoker.invoke(new TestExtension(), null));
+    }
+
+    @Test
+    void invokerCallsMethodWithParameter() throws Throwable {
+        ProviderInvoker invoker = ProviderInvoker.compile(TestExtension.class.getMethod("uuid", UUID.class));
+        assertEquals("LambdaMetafactory", invoker.getStrategy());
+        assertEquals(TestConstants.PLAYER_ONE_UUID.toString(), invoker.invoke(new TestExtension(), TestConstants.PLAYER_ONE_UUID));
+    }
+
+    @Test
+    void invokerThrowsExceptionsOfTheMethod() throws NoSuchMethodException {
+        ProviderInvoker invoker = ProviderInvoker.compile(TestExtension.class.getMethod("notReady"));
+        assertThrows(NotReadyException.class, () -> invoker.invoke(new TestExtension(), null));
+    }
+
+    @Test
+    void methodWrapperUsesParameters() throws NoSuchMethodException {
+        MethodWrapper<String> wrapper = new MethodWrapper<>(TestExtension.class.getMethod("name", String.class), String.class);
+        Parameters parameters = Parameters.player(TestConstants.SERVER_UUID, TestConstants.PLAYER_ONE_UUID, TestConstants.PLAYER_ONE_NAME);
+        assertEquals(TestConstants.PLAYER_ONE_NAME, wrapper.callMethod(new TestExtension(), parameters));
+    }
+
+    @Test
+    void methodWrapperReturnsNullWhenNotReady() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = new MethodWrapper<>(TestExtension.class.getMethod("notReady"), Long.class);
+        assertNull(wrapper.callMethod(new TestExtension(), Parameters.server(TestConstants.SERVER_UUID)));
+    }
+
+    @Test
+    void methodWrapperWrapsOtherExceptions() throws NoSuchMethodException {
+        MethodWrapper<Long> wrapper = new MethodWrapper<>(TestExtension.class.getMethod("failing"), Long.class);
+        TestExtension extension = new TestExtension();
+        Parameters parameters = Parameters.server(TestConstants.SERVER_UUID);
+        DataExtensionMethodCallException thrown = assertThrows(DataExtensionMethodCallException.class,
+                () -> wrapper.callMethod(extension, parameters));
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+        assertEquals("failing", thrown.getMethodName().orElse(null));
+    }
+
+    @PluginInfo(name = "TestExtension")
+    static class TestExtension implements DataExtension {
+        @NumberProvider(text = "a number")
+        public long number() {
+            return 5L;
+        }
+
+        @StringProvider(text = "uuid")
+        public String uuid(UUID playerUUID) {
+            return playerUUID.toString();
+        }
+
+        @StringProvider(text = "name")
+        public String name(String playerName) {
+            return playerName;
+        }
+
+        @NumberProvider(text = "not ready")
+        public long notReady() {
+            throw new NotReadyException();
+        }
+
+        @NumberProvider(text = "failing")
+        public long failing() {
+            throw new IllegalStateException("Failed on purpose");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestPluginLogger;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExtensionBulkheadTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ExecutorService executor;
+
+    @AfterEach
+    void releaseStuckCalls() {
+        release.countDown();
+        if (executor != null) executor.shutdownNow();
+    }
+
+    private ExtensionBulkhead createBulkhead(int threads, int queueSize, long timeoutMs) {
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize));
+        return new ExtensionBulkhead("Test", executor, timeoutMs, TimeUnit.MINUTES.toMillis(10L), new TestPluginLogger());
+    }
+
+    private String stuck() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "late";
+    }
+
+    @Test
+    void valueIsReturned() {
+        ExtensionBulkhead bulkhead = createBulkhead(1, 1, 1000L);
+        assertEquals("value", bulkhead.call("provider", () -> "value"));
+
+        ProviderStatistics statistics = bulkhead.getStatistics().get(0);
+        assertEquals("provider", statistics.getProviderName());
+        assertEquals(1L, statistics.getCallCount());
+        assertEquals(0L, statistics.getTimeoutCount());
+    }
+
+    @Test
+    void exceptionsArePassedToCaller() {
+        ExtensionBulkhead bulkhead = new ExtensionBulkhead("Test", MoreExecutors.newDirectExecutorService(),
+                1000L, 1000L, new TestPluginLogger());
+        assertThrows(IllegalStateException.class, () -> bulkhead.call("provider", () -> {
+            throw new IllegalStateException("Test");
+        }));
+        assertEquals(1L, bulkhead.getStatistics().get(0).getFailureCount());
+    }
+
+    @Test
+    void restartedBulkheadCallsAgain() {
+        AtomicInteger created = new AtomicInteger();
+        ExtensionBulkhead bulkhead = new ExtensionBulkhead("Test", () -> {
+            created.incrementAndGet();
+            return MoreExecutors.newDirectExecutorService();
+        }, 1000L, 1000L, new TestPluginLogger());
+
+        bulkhead.shutdown();
+        assertNull(bulkhead.call("provider", () -> "value"));
+
+        bulkhead.restart();
+        assertEquals("value", bulkhead.call("provider", () -> "value"));
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    void slowCallTimesOut() {
+        ExtensionBulkhead bulkhead = createBulkhead(1, 1, 10L);
+        assertNull(bulkhead.call("slow", this::stuck));
+        assertEquals(1L, bulkhead.getStatistics().get(0).getTimeoutCount());
+    }
+
+    @Test
+    void slowProviderIsCircuitBroken() {
+        ExtensionBulkhead bulkhead = createBulkhead(2, 1, 10L);
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < ExtensionBulkhead.CIRCUIT_BREAK_THRESHOLD + 3; i++) {
+            assertNull(bulkhead.call("slow", () -> {
+                calls.incrementAndGet();
+                return stuck();
+            }));
+        }
+
+        ProviderStatistics statistics = bulkhead.getStatistics().get(0);
+        assertTrue(statistics.isCircuitOpen());
+        assertEquals(3L, statistics.getSkippedCount());
+        assertTrue(calls.get() <= ExtensionBulkhead.CIRCUIT_BREAK_THRESHOLD);
+    }
+
+    @Test
+    void fullQueueRejectsCalls() {
+        ExtensionBulkhead bulkhead = createBulkhead(1, 1, 0L);
+        executor.submit(this::stuck);
+        executor.submit(this::stuck);
+
+        assertNull(bulkhead.call("provider", () -> "value"));
+        assertEquals(1L, bulkhead.getStatistics().get(0).getRejectedCount());
+    }
+}
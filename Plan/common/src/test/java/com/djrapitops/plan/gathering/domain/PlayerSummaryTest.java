@@ -0,0 +1,135 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import com.djrapitops.plan.delivery.domain.ServerIdentifier;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.identification.ServerUUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestConstants;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerSummaryTest {
+
+    private final ServerUUID serverUUID = TestConstants.SERVER_UUID;
+    private final UUID uuid = TestConstants.PLAYER_ONE_UUID;
+
+    @AfterEach
+    void tearDown() {
+        SessionCache.clear();
+    }
+
+    private PlayerSummary emptySummary() {
+        return new PlayerSummary(uuid, new BaseUser(uuid, TestConstants.PLAYER_ONE_NAME, 0L, 0));
+    }
+
+    @Test
+    void endedSessionIsAddedOnlyOnce() {
+        PlayerSummary summary = emptySummary();
+        FinishedSession session = new FinishedSession(uuid, serverUUID, 1000L, 5000L, 500L, new DataMap());
+
+        summary.addFinishedSession(session);
+        summary.addFinishedSession(new FinishedSession(uuid, serverUUID, 1000L, 5000L, 500L, new DataMap()));
+
+        assertEquals(1, summary.recentSessions().count());
+        assertEquals(1, summary.getTotals().getSessionCount());
+        assertEquals(4000L, summary.getTotals().getPlaytime());
+        assertEquals(3500L, summary.getTotals().getActivePlaytime());
+    }
+
+    @Test
+    void killsOfEndedSessionAreAdded() {
+        PlayerSummary summary = emptySummary();
+        DataMap extraData = new DataMap();
+        extraData.put(PlayerKills.class, new PlayerKills(new ArrayList<>(List.of(new PlayerKill(
+                new PlayerKill.Killer(uuid, TestConstants.PLAYER_ONE_NAME),
+                new PlayerKill.Victim(TestConstants.PLAYER_TWO_UUID, TestConstants.PLAYER_TWO_NAME),
+                new ServerIdentifier(serverUUID, TestConstants.SERVER_NAME),
+                "Sword", 2000L
+        )))));
+        summary.addFinishedSession(new FinishedSession(uuid, serverUUID, 1000L, 5000L, 0L, extraData));
+
+        assertEquals(1, summary.getPlayerKills().size());
+        assertEquals(1.0, summary.getKillDeathRatio());
+    }
+
+    @Test
+    void activeSessionIsIncludedInSessions() {
+        PlayerSummary summary = emptySummary();
+        summary.addFinishedSession(new FinishedSession(uuid, serverUUID, 1000L, 5000L, 0L, new DataMap()));
+        new SessionCache().cacheSession(uuid, new ActiveSession(uuid, serverUUID, System.currentTimeMillis(), "World", "SURVIVAL"));
+
+        assertEquals(2, summary.recentSessions().count());
+        assertEquals(2, summary.getTotals().getSessionCount());
+        assertEquals(2, summary.getTotalsOnServer(serverUUID).getSessionCount());
+    }
+
+    @Test
+    void loadedTotalsAreCombinedWithEndedSessions() {
+        ServerUUID otherServerUUID = ServerUUID.randomUUID();
+        PlayerSummary summary = new PlayerSummary(
+                uuid, new BaseUser(uuid, TestConstants.PLAYER_ONE_NAME, 0L, 0),
+                Map.of(
+                        serverUUID, new SessionTotals(3000L, 1000L, 2, 5, 1, 4000L),
+                        otherServerUUID, new SessionTotals(5000L, 0L, 1, 0, 0, 9000L)
+                ),
+                List.of(), List.of(), List.of(), Set.of(), List.of(), List.of()
+        );
+        assertEquals(Optional.of(otherServerUUID), summary.getFavoriteServer());
+
+        summary.addFinishedSession(new FinishedSession(uuid, serverUUID, 10000L, 13000L, 500L, new DataMap()));
+
+        assertEquals(new SessionTotals(6000L, 1500L, 3, 5, 1, 13000L), summary.getTotalsOnServer(serverUUID));
+        assertEquals(11000L, summary.getTotals().getPlaytime());
+        assertEquals(4, summary.getTotals().getSessionCount());
+        assertEquals(13000L, summary.getLastSeen());
+        assertEquals(Optional.of(serverUUID), summary.getFavoriteServer());
+    }
+
+    @Test
+    void nameCanBeUpdated() {
+        PlayerSummary summary = emptySummary();
+        summary.setName(TestConstants.PLAYER_TWO_NAME);
+
+        assertEquals(Optional.of(TestConstants.PLAYER_TWO_NAME), summary.getName());
+    }
+
+    @Test
+    void banOperatorGeolocationAndPingAreServedFromSummary() {
+        PlayerSummary summary = new PlayerSummary(
+                uuid, new BaseUser(uuid, TestConstants.PLAYER_ONE_NAME, 0L, 0), Map.of(), List.of(), List.of(), List.of(),
+                Set.of(new UserInfo(uuid, serverUUID, 0L, true, null, false)),
+                List.of(new GeoInfo("Norway", 1000L), new GeoInfo("Finland", 2000L)),
+                List.of(
+                        new Ping(1000L, serverUUID, 10, 30, 20.0),
+                        new Ping(2000L, serverUUID, 20, 60, 40.0),
+                        new Ping(3000L, serverUUID, -1, -1, -1.0),
+                        new Ping(9000L, serverUUID, 5, 5, 5.0)
+                )
+        );
+
+        assertFalse(summary.isBanned());
+        assertTrue(summary.isOperator());
+        assertEquals(Optional.of("Finland"), summary.getMostRecentGeoInfo().map(GeoInfo::getGeolocation));
+        assertEquals(30.0, summary.getAveragePing(0L, 5000L));
+        assertEquals(-1.0, summary.getAveragePing(10000L, 20000L));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.identification;
+
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link IdentifierIndex}.
+ *
+ * @author AuroraLS3
+ */
+class IdentifierIndexTest {
+
+    private static final UUID PLAYER_ONE = UUID.randomUUID();
+    private static final UUID PLAYER_TWO = UUID.randomUUID();
+
+    private Database database;
+    private IdentifierIndex underTest;
+
+    @BeforeEach
+    void loadIndex() {
+        database = mock(Database.class);
+        DBSystem dbSystem = mock(DBSystem.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+
+        Server server = new Server(1, ServerUUID.randomUUID(), "Lobby", null, false, "5.6");
+        Map<UUID, String> names = Map.of(PLAYER_ONE, "Steve", PLAYER_TWO, "Alexander");
+        Map<UUID, Set<String>> nicknames = Map.of(PLAYER_TWO, Set.of("§aKing Alex"));
+        when(database.query(any())).thenReturn(List.of(server), names, nicknames);
+
+        underTest = new IdentifierIndex(dbSystem, null, null);
+        underTest.load();
+        reset(database);
+    }
+
+    @Test
+    void exactNameLookupIgnoresCase() {
+        assertEquals(Optional.of(PLAYER_ONE), underTest.getPlayerUUID("steve"));
+        assertEquals(Optional.of(PLAYER_TWO), underTest.getPlayerUUID("ALEXANDER"));
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void searchFindsNamesAndNicknames() {
+        assertEquals(List.of("Alexander"), underTest.searchPlayerNames("xan"));
+        assertEquals(List.of("Alexander"), underTest.searchPlayerNames("king"));
+        assertEquals(List.of("Steve"), underTest.searchPlayerNames("ev"));
+        assertTrue(underTest.searchPlayerNames("nobody").isEmpty());
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void nameChangeReplacesOldName() {
+        underTest.updatePlayerName(PLAYER_ONE, "Herobrine");
+
+        assertEquals(Optional.of(PLAYER_ONE), underTest.getPlayerUUID("herobrine"));
+        assertEquals(List.of("Herobrine"), underTest.searchPlayerNames("robr"));
+        assertTrue(underTest.searchPlayerNames("steve").isEmpty());
+    }
+
+    @Test
+    void addedNicknameIsSearchable() {
+        underTest.addNickname(PLAYER_ONE, "Builder");
+        assertEquals(List.of("Steve"), underTest.searchPlayerNames("build"));
+    }
+
+    @Test
+    void serverIsFoundByNameAndId() {
+        Optional<ServerUUID> byName = underTest.getServerUUID("lobby");
+        assertTrue(byName.isPresent());
+        assertEquals(byName, underTest.getServerUUID("1"));
+        assertEquals(byName, underTest.getServerUUID(byName.get().toString()));
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void removedPlayerIsNotFound() {
+        underTest.removePlayer(PLAYER_TWO);
+        when(database.query(any())).thenReturn(Optional.empty());
+
+        assertTrue(underTest.searchPlayerNames("xan").isEmpty());
+        assertTrue(underTest.searchPlayerNames("al").isEmpty());
+        assertEquals(Optional.empty(), underTest.getPlayerUUID("alexander"));
+        assertEquals(List.of("Steve"), underTest.searchPlayerNames("ev"));
+    }
+
+    @Test
+    void renamedServerIsNotFoundWithOldName() {
+        ServerUUID serverUUID = underTest.getServerUUID("lobby").orElseThrow(AssertionError::new);
+        underTest.updateServer(new Server(1, serverUUID, "Hub", null, false, "5.6"));
+        when(database.query(any())).thenReturn(Optional.empty());
+
+        assertEquals(Optional.of(serverUUID), underTest.getServerUUID("hub"));
+        assertEquals(Optional.of(serverUUID), underTest.getServerUUID("1"));
+        assertEquals(Optional.empty(), underTest.getServerUUID("lobby"));
+    }
+
+    @Test
+    void updatesDuringReloadAreKept() {
+        UUID newPlayer = UUID.randomUUID();
+        Map<UUID, String> names = Map.of(PLAYER_ONE, "Steve", PLAYER_TWO, "Alexander");
+        when(database.query(any())).thenReturn(List.of()).thenAnswer(invocation -> {
+            // Player joins and changes nickname after names were queried
+            underTest.updatePlayerName(newPlayer, "Notch");
+            underTest.addNickname(PLAYER_ONE, "Builder");
+            return names;
+        }).thenReturn(Map.of());
+
+        underTest.load();
+
+        assertEquals(List.of("Notch"), underTest.searchPlayerNames("otc"));
+        assertEquals(List.of("Steve"), underTest.searchPlayerNames("build"));
+        assertEquals(Optional.of(PLAYER_TWO), underTest.getPlayerUUID("alexander"));
+    }
+}
@@ -18,6 +18,8 @@ package com.djrapitops.plan.placeholder;
 
 import com.djrapitops.plan.PlanSystem;
 import com.djrapitops.plan.delivery.domain.ServerIdentifier;
+import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
+import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.Database;
@@ -210,6 +212,15 @@ class PlanPlaceholdersTest {
                 .collect(Collectors.toList());
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void placeholderRegisteredWithPlayerContainerWorks() {
+        underTest.register("test_container_player_uuid", (PlayerContainer player) -> player.getUnsafe(PlayerKeys.UUID));
+
+        String result = underTest.onPlaceholderRequest(playerUUID, "test_container_player_uuid", Collections.emptyList());
+        assertEquals(playerUUID.toString(), result);
+    }
+
     private void storeKillers() throws ExecutionException, InterruptedException {
         Database database = component.system().getDatabaseSystem().getDatabase();
         List<UUID> randomUUIDs = IntStream.of(11).mapToObj(i -> UUID.randomUUID()).toList();
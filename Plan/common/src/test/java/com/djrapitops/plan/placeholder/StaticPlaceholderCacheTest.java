@@ -0,0 +1,170 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.placeholder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link StaticPlaceholderCache}.
+ *
+ * @author AuroraLS3
+ */
+class StaticPlaceholderCacheTest {
+
+    private static final long MAX_AGE_MS = TimeUnit.SECONDS.toMillis(60);
+
+    private AtomicLong clock;
+    private List<Runnable> scheduledRefreshes;
+    private StaticPlaceholderCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+        scheduledRefreshes = new ArrayList<>();
+        underTest = new StaticPlaceholderCache(scheduledRefreshes::add, clock::get);
+    }
+
+    private void advanceMs(long ms) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+
+    @Test
+    void freshValueIsServedFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("1", underTest.get("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet())));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0.9, underTest.getHitRate(), 0.001);
+    }
+
+    @Test
+    void staleValueIsServedWhileRefreshing() {
+        AtomicInteger loads = new AtomicInteger();
+        underTest.get("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet()));
+
+        advanceMs((long) (MAX_AGE_MS * 0.8));
+        assertEquals("1", underTest.get("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet())));
+        assertEquals("1", underTest.get("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet())));
+        assertEquals(1, scheduledRefreshes.size(), "Only one refresh should be scheduled");
+
+        scheduledRefreshes.get(0).run();
+        assertEquals("2", underTest.get("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet())));
+        assertEquals(2, loads.get());
+        assertEquals(2, underTest.getStaleHitCount());
+    }
+
+    @Test
+    void failedRefreshKeepsOldValue() {
+        underTest.get("key", MAX_AGE_MS, () -> "value");
+        advanceMs((long) (MAX_AGE_MS * 0.8));
+        underTest.get("key", MAX_AGE_MS, () -> {
+            throw new IllegalStateException("Test");
+        });
+        scheduledRefreshes.get(0).run();
+
+        assertEquals("value", underTest.get("key", MAX_AGE_MS, () -> "other"));
+        assertEquals(1, underTest.getRefreshFailureCount());
+    }
+
+    @Test
+    void expiredValueIsLoadedAgain() {
+        underTest.get("key", MAX_AGE_MS, () -> "old");
+        advanceMs(MAX_AGE_MS);
+        assertEquals("new", underTest.get("key", MAX_AGE_MS, () -> "new"));
+        assertTrue(scheduledRefreshes.isEmpty());
+    }
+
+    @Test
+    void valueIsComputedInBackgroundWithoutWaiting() {
+        AtomicInteger loads = new AtomicInteger();
+        assertNull(underTest.getWithoutWaiting("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet())));
+        assertNull(underTest.getWithoutWaiting("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet())));
+        assertEquals(0, loads.get(), "Value should not be computed by the caller");
+        assertEquals(1, scheduledRefreshes.size(), "Only one load should be scheduled");
+
+        scheduledRefreshes.get(0).run();
+        assertEquals("1", underTest.getWithoutWaiting("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet())));
+
+        // Expired value is served while it is computed again
+        advanceMs(MAX_AGE_MS);
+        assertEquals("1", underTest.getWithoutWaiting("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet())));
+        assertEquals(2, scheduledRefreshes.size());
+        scheduledRefreshes.get(1).run();
+        assertEquals("2", underTest.getWithoutWaiting("key", MAX_AGE_MS, () -> String.valueOf(loads.incrementAndGet())));
+    }
+
+    @Test
+    void loadExceptionIsThrownToCaller() {
+        assertThrows(IllegalStateException.class, () -> underTest.get("key", MAX_AGE_MS, () -> {
+            throw new IllegalStateException("Test");
+        }));
+    }
+
+    @Test
+    void zeroMaxAgeIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        underTest.get("key", 0, () -> String.valueOf(loads.incrementAndGet()));
+        underTest.get("key", 0, () -> String.valueOf(loads.incrementAndGet()));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void concurrentRequestsCauseOneLoad() throws Exception {
+        StaticPlaceholderCache cache = new StaticPlaceholderCache(Runnable::run, System::nanoTime);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+
+        int requests = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> cache.get("key", MAX_AGE_MS, () -> {
+                    loads.incrementAndGet();
+                    loadStarted.countDown();
+                    try {
+                        releaseLoad.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "value";
+                })));
+            }
+            assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+            Thread.sleep(100); // Let the rest of the requests arrive
+            releaseLoad.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.settings.config;
+
+import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
+import com.djrapitops.plan.settings.config.paths.PluginSettings;
+import com.djrapitops.plan.settings.config.paths.key.BooleanSetting;
+import com.djrapitops.plan.settings.config.paths.key.StringSetting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utilities.TestPluginLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for resolved values of {@link PlanConfig}.
+ *
+ * @author AuroraLS3
+ */
+class PlanConfigTest {
+
+    private Path configFile;
+    private PlanConfig underTest;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        configFile = tempDir.resolve("config.yml");
+        Files.write(configFile, List.of(
+                "Plugin:",
+                "    Logging:",
+                "        Dev: false",
+                "Data_gathering:",
+                "    Join_addresses:",
+                "        Filter_out_from_data:",
+                "            - play.example.com"
+        ));
+        underTest = new PlanConfig(configFile.toFile(), null, null, new TestPluginLogger());
+    }
+
+    @Test
+    void setValueIsSeenAfterResolving() {
+        assertFalse(underTest.isTrue(PluginSettings.DEV_MODE));
+
+        underTest.set(PluginSettings.DEV_MODE, true);
+        assertTrue(underTest.isTrue(PluginSettings.DEV_MODE));
+    }
+
+    @Test
+    void changedValueOfChildNodeIsSeen() {
+        assertFalse(underTest.isTrue(PluginSettings.DEV_MODE));
+
+        underTest.getNode("Plugin.Logging.Dev").orElseThrow(AssertionError::new).set(true);
+        assertTrue(underTest.isTrue(PluginSettings.DEV_MODE));
+    }
+
+    @Test
+    void reloadedValueIsSeen() throws IOException {
+        assertFalse(underTest.isTrue(PluginSettings.DEV_MODE));
+
+        String modified = Files.readString(configFile).replace("Dev: false", "Dev: true");
+        Files.writeString(configFile, modified);
+        underTest.read();
+
+        assertTrue(underTest.isTrue(PluginSettings.DEV_MODE));
+    }
+
+    @Test
+    void settingsCreatedOnEachCallDoNotAccumulate() {
+        for (int i = 0; i < 100; i++) {
+            assertFalse(underTest.isTrue(new BooleanSetting("Plugin.Logging.Dev")));
+        }
+        assertEquals(1, underTest.getResolvedValueCount());
+    }
+
+    @Test
+    void settingsOfSamePathAreResolvedSeparately() {
+        assertFalse(underTest.isTrue(PluginSettings.DEV_MODE));
+        assertEquals("false", underTest.get(new StringSetting("Plugin.Logging.Dev")));
+        assertFalse(underTest.isTrue(PluginSettings.DEV_MODE));
+    }
+
+    @Test
+    void modifyingReturnedListDoesNotChangeSetting() {
+        List<String> filtered = underTest.get(DataGatheringSettings.FILTER_JOIN_ADDRESSES);
+        filtered.add("other.example.com");
+
+        assertEquals(List.of("play.example.com"), underTest.get(DataGatheringSettings.FILTER_JOIN_ADDRESSES));
+    }
+}
@@ -29,6 +29,7 @@ import com.djrapitops.plan.query.QuerySvc;
 import com.djrapitops.plan.settings.config.Config;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.FormatSettings;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 import com.djrapitops.plan.storage.database.queries.Query;
@@ -46,6 +47,7 @@ import com.djrapitops.plan.storage.database.transactions.StoreConfigTransaction;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayersTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.*;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.storage.database.transactions.patches.BadFabricJoinAddressValuePatch;
@@ -126,6 +128,26 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         assertQueryIsEmpty(db(), SessionQueries.fetchSessionsOfPlayer(playerUUID));
     }
 
+    @Test
+    default void testRemovalOfMultipleUsersKeepsOthers() {
+        saveUserOne();
+        saveUserTwo();
+        saveTwoWorlds();
+
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        db().executeTransaction(new StoreSessionTransaction(session));
+        db().executeTransaction(new StoreGeoInfoTransaction(playerUUID, new GeoInfo("TestLoc", RandomData.randomTime())));
+
+        RemovePlayersTransaction removal = new RemovePlayersTransaction(List.of(playerUUID, TestConstants.PLAYER_THREE_UUID));
+        db().executeTransaction(removal);
+
+        assertFalse(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+        assertTrue(db().query(GeoInfoQueries.fetchPlayerGeoInformation(playerUUID)).isEmpty());
+        assertQueryIsEmpty(db(), SessionQueries.fetchSessionsOfPlayer(playerUUID));
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegistered(player2UUID)));
+        assertTrue(removal.getRemovedRows() > 0);
+    }
+
     default <T extends Map<?, ?>> void assertQueryIsEmpty(Database database, Query<T> query) {
         assertTrue(database.query(query).isEmpty());
     }
@@ -158,6 +180,34 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         assertFalse(found.isEmpty(), "All users were deleted!! D:");
     }
 
+    @Test
+    default void cleanRemovesInactivePlayers() {
+        saveUserOne();
+        saveUserTwo();
+        saveTwoWorlds();
+
+        long longAgo = System.currentTimeMillis() - config().get(TimeSettings.DELETE_INACTIVE_PLAYERS_AFTER) - TimeUnit.DAYS.toMillis(1L);
+        ActiveSession inactive = new ActiveSession(playerUUID, serverUUID(), longAgo, worlds[0], "SURVIVAL");
+        db().executeTransaction(new StoreSessionTransaction(inactive.toFinishedSession(longAgo + 22345L)));
+        long now = System.currentTimeMillis();
+        ActiveSession active = new ActiveSession(player2UUID, serverUUID(), now, worlds[0], "SURVIVAL");
+        db().executeTransaction(new StoreSessionTransaction(active.toFinishedSession(now + 22345L)));
+
+        int removed = new DBCleanTask(
+                config(),
+                new Locale(),
+                dbSystem(),
+                new QuerySvc(config(), dbSystem(), serverInfo(), null),
+                serverInfo(),
+                new TestPluginLogger(),
+                null
+        ).cleanOldPlayers(db());
+
+        assertEquals(1, removed);
+        assertFalse(db().query(PlayerFetchQueries.isPlayerRegistered(playerUUID)));
+        assertTrue(db().query(PlayerFetchQueries.isPlayerRegistered(player2UUID)));
+    }
+
     @Test
     default void playerContainerSupportsAllPlayerKeys() throws IllegalAccessException {
         saveUserOne();
@@ -18,6 +18,8 @@ package com.djrapitops.plan.storage.database;
 
 import com.djrapitops.plan.component.ComponentSvc;
 import com.djrapitops.plan.delivery.DeliveryUtilities;
+import com.djrapitops.plan.delivery.rendering.json.JSONFactory;
+import com.djrapitops.plan.delivery.rendering.json.graphs.GraphJSONCreator;
 import com.djrapitops.plan.extension.ExtensionSvc;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.modules.FiltersModule;
@@ -88,6 +90,10 @@ public interface DatabaseTestComponent extends DBPreparer.Dependencies {
 
     QueryFilters queryFilters();
 
+    JSONFactory jsonFactory();
+
+    GraphJSONCreator graphJSONCreator();
+
     @Component.Builder
     interface Builder {
         @BindsInstance
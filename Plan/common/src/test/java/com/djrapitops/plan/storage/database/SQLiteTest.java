@@ -25,14 +25,18 @@ import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.storage.database.queries.ExtensionsDatabaseTest;
+import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.filter.QueryFilters;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.storage.database.transactions.patches.Patch;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
@@ -43,8 +47,14 @@ import utilities.TestConstants;
 import utilities.TestErrorLogger;
 
 import java.nio.file.Path;
-
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
 /**
@@ -98,6 +108,88 @@ public class SQLiteTest implements DatabaseTest, DatabaseTestAggregate {
         assertEquals(serverUUID(), ((SQLDB) db()).getServerUUIDSupplier().get());
     }
 
+    @Test
+    void queryInsideTransactionSeesUncommittedChanges() throws Exception {
+        UUID playerUUID = TestConstants.PLAYER_ONE_UUID;
+        AtomicBoolean found = new AtomicBoolean(false);
+        db().executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                executeOther(new PlayerRegisterTransaction(playerUUID, () -> 0L, TestConstants.PLAYER_ONE_NAME));
+                found.set(db().query(BaseUserQueries.fetchBaseUserOfPlayer(playerUUID)).isPresent());
+            }
+        }).get();
+        assertTrue(found.get());
+    }
+
+    @Test
+    void queriesAreNotBlockedByOngoingTransaction() throws Exception {
+        UUID playerUUID = TestConstants.PLAYER_ONE_UUID;
+        CountDownLatch transactionStarted = new CountDownLatch(1);
+        CountDownLatch finishTransaction = new CountDownLatch(1);
+        Future<?> transaction = db().executeTransaction(new Transaction() {
+            @Override
+            protected void performOperations() {
+                executeOther(new PlayerRegisterTransaction(playerUUID, () -> 0L, TestConstants.PLAYER_ONE_NAME));
+                transactionStarted.countDown();
+                try {
+                    finishTransaction.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        ExecutorService readers = Executors.newFixedThreadPool(3);
+        try {
+            assertTrue(transactionStarted.await(10, TimeUnit.SECONDS));
+            List<Future<Boolean>> reads = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                reads.add(readers.submit(() -> db().query(BaseUserQueries.fetchBaseUserOfPlayer(playerUUID)).isPresent()));
+            }
+            for (Future<Boolean> read : reads) {
+                // Uncommitted registration must not be visible to readers
+                assertFalse(read.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            finishTransaction.countDown();
+            readers.shutdownNow();
+        }
+        transaction.get();
+        assertTrue(db().query(BaseUserQueries.fetchBaseUserOfPlayer(playerUUID)).isPresent());
+    }
+
+    @Test
+    void closedReadConnectionIsReplaced() throws Exception {
+        SQLiteDB sqLiteDB = (SQLiteDB) db();
+        Connection connection = sqLiteDB.getQueryConnection();
+        boolean readConnection = sqLiteDB.isReadConnection(connection);
+        if (readConnection) connection.close();
+        sqLiteDB.returnToPool(connection);
+        if (readConnection) assertFalse(sqLiteDB.isReadConnection(connection));
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(db().query(BaseUserQueries.fetchAllBaseUsers()).isEmpty());
+        }
+    }
+
+    @Test
+    void returningNullConnectionKeepsConnectionHoldsBalanced() throws Exception {
+        SQLiteDB sqLiteDB = (SQLiteDB) db();
+        Connection readConnection = sqLiteDB.getQueryConnection();
+        boolean readConnectionsAvailable = sqLiteDB.isReadConnection(readConnection);
+        sqLiteDB.returnToPool(readConnection);
+
+        sqLiteDB.returnToPool(null);
+
+        Connection connection = sqLiteDB.getQueryConnection();
+        try {
+            assertEquals(readConnectionsAvailable, sqLiteDB.isReadConnection(connection));
+        } finally {
+            sqLiteDB.returnToPool(connection);
+        }
+    }
+
     @AfterAll
     static void disableSystem() {
         if (database != null) database.close();
@@ -26,6 +26,7 @@ import com.djrapitops.plan.extension.annotation.*;
 import com.djrapitops.plan.extension.builder.ExtensionDataBuilder;
 import com.djrapitops.plan.extension.icon.Color;
 import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.providers.gathering.DataValueGatherer;
 import com.djrapitops.plan.extension.implementation.results.*;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionPlayerDataQuery;
 import com.djrapitops.plan.extension.implementation.storage.queries.ExtensionServerDataQuery;
@@ -36,6 +37,7 @@ import com.djrapitops.plan.gathering.domain.WorldTimes;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
+import com.djrapitops.plan.storage.database.transactions.commands.RemovePlayerTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
@@ -73,6 +75,7 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         extensionService.unregister(new ConditionalExtension());
         extensionService.unregister(new TableExtension());
         extensionService.unregister(new ThrowingExtension());
+        extensionService.unregister(new CountingExtension());
     }
 
     @Test
@@ -128,6 +131,64 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         }));
     }
 
+    @Test
+    default void extensionValuesAreUpdatedWhenProvidersAreUnchanged() {
+        db().executeTransaction(new PlayerRegisterTransaction(TestConstants.PLAYER_ONE_UUID, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME));
+
+        ExtensionSvc extensionService = extensionService();
+
+        extensionService.register(new CountingExtension());
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+        extensionService.updateServerValues(CallEvents.MANUAL);
+        extensionService.updateServerValues(CallEvents.MANUAL);
+
+        List<ExtensionData> ofServer = db().query(new ExtensionPlayerDataQuery(playerUUID)).get(serverUUID());
+        assertNotNull(ofServer);
+        ExtensionTabData playerTabData = ofServer.get(0).getTabs().get(0);
+        OptionalAssert.equals("2", playerTabData.getNumber("count").map(data -> data.getFormattedValue(Object::toString)));
+        OptionalAssert.equals("2", playerTabData.getString("countText").map(ExtensionStringData::getFormattedValue));
+
+        List<ExtensionData> serverData = db().query(new ExtensionServerDataQuery(serverUUID()));
+        assertEquals(1, serverData.size());
+        ExtensionTabData serverTabData = serverData.get(0).getTabs().get(0);
+        OptionalAssert.equals("2", serverTabData.getNumber("serverCount").map(data -> data.getFormattedValue(Object::toString)));
+    }
+
+    @Test
+    default void unchangedExtensionValuesAreSkipped() {
+        extensionPlayerValuesAreStored();
+
+        ExtensionSvc extensionService = extensionService();
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+
+        DataValueGatherer gatherer = extensionService.getGatherers().stream()
+                .filter(found -> "PlayerExtension".equals(found.getPluginName()))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals(7, gatherer.getWrittenValueCount());
+        assertEquals(7, gatherer.getSkippedValueCount());
+    }
+
+    @Test
+    default void unchangedExtensionValuesAreWrittenAgainAfterPlayerRemoval() {
+        extensionPlayerValuesAreStored();
+
+        db().executeTransaction(new RemovePlayerTransaction(playerUUID));
+        system().getApiServices().getQueryService().playerRemoved(playerUUID);
+        db().executeTransaction(new PlayerRegisterTransaction(TestConstants.PLAYER_ONE_UUID, System::currentTimeMillis, TestConstants.PLAYER_ONE_NAME));
+
+        ExtensionSvc extensionService = extensionService();
+        extensionService.updatePlayerValues(playerUUID, TestConstants.PLAYER_ONE_NAME, CallEvents.MANUAL);
+
+        DataValueGatherer gatherer = extensionService.getGatherers().stream()
+                .filter(found -> "PlayerExtension".equals(found.getPluginName()))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals(0, gatherer.getSkippedValueCount());
+        List<ExtensionData> ofServer = db().query(new ExtensionPlayerDataQuery(playerUUID)).get(serverUUID());
+        assertNotNull(ofServer);
+        assertFalse(ofServer.isEmpty());
+    }
+
     @Test
     default void extensionPlayerValuesCanBeQueriedAsTableData() {
         extensionPlayerValuesAreStored();
@@ -583,6 +644,27 @@ public interface ExtensionsDatabaseTest extends DatabaseTestPreparer {
         }
     }
 
+    @PluginInfo(name = "CountingExtension")
+    class CountingExtension implements DataExtension {
+        private long playerCount;
+        private long serverCount;
+
+        @NumberProvider(text = "a count")
+        public long count(UUID playerUUID) {
+            return ++playerCount;
+        }
+
+        @StringProvider(text = "a count as text")
+        public String countText(UUID playerUUID) {
+            return Long.toString(playerCount);
+        }
+
+        @NumberProvider(text = "a server count")
+        public long serverCount() {
+            return ++serverCount;
+        }
+    }
+
     @PluginInfo(name = "TableExtension")
     class TableExtension implements DataExtension {
         @TableProvider(tableColor = Color.AMBER)
@@ -22,16 +22,19 @@ import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.objects.PingQueries;
+import com.djrapitops.plan.storage.database.sql.tables.PingDailyTable;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import com.djrapitops.plan.storage.database.transactions.init.RemoveOldSampledDataTransaction;
 import org.junit.jupiter.api.Test;
 import utilities.RandomData;
 import utilities.TestConstants;
 
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -104,4 +107,47 @@ public interface PingQueriesTest extends DatabaseTestPreparer {
         assertTrue(db().query(PingQueries.fetchAllPingData()).isEmpty());
     }
 
+    @Test
+    default void dailyPingIsSameBeforeAndAfterRollUp() {
+        prepareForPingStorage();
+
+        long now = System.currentTimeMillis();
+        long startOfToday = now - now % PingDailyTable.DAY_MS;
+        long yesterday = startOfToday - PingDailyTable.DAY_MS;
+        long twoDaysAgo = startOfToday - 2 * PingDailyTable.DAY_MS;
+        Map<UUID, List<Ping>> stored = Collections.singletonMap(playerUUID, Arrays.asList(
+                new Ping(twoDaysAgo + TimeUnit.HOURS.toMillis(1L), serverUUID(), 10, 30, 20.0),
+                new Ping(twoDaysAgo + TimeUnit.HOURS.toMillis(2L), serverUUID(), 5, 50, 40.0),
+                new Ping(yesterday + TimeUnit.HOURS.toMillis(1L), serverUUID(), 12, 14, 13.0),
+                new Ping(now, serverUUID(), 7, 9, 8.0)
+        ));
+        execute(LargeStoreQueries.storeAllPingData(stored));
+
+        List<Ping> expected = Arrays.asList(
+                new Ping(twoDaysAgo, serverUUID(), 5, 50, 30.0),
+                new Ping(yesterday, serverUUID(), 12, 14, 13.0),
+                new Ping(startOfToday, serverUUID(), 7, 9, 8.0)
+        );
+        long after = now - TimeUnit.DAYS.toMillis(180L);
+        assertEquals(expected, db().query(PingQueries.fetchDailyPingDataOfServer(after, now, serverUUID())));
+
+        // Running the roll up again should not count the same days twice.
+        // Yesterday is not rolled up yet, so all raw ping before yesterday is removed.
+        db().executeTransaction(new RemoveOldSampledDataTransaction(serverUUID(), TimeUnit.DAYS.toMillis(30L), 0L));
+        db().executeTransaction(new RemoveOldSampledDataTransaction(serverUUID(), TimeUnit.DAYS.toMillis(30L), 0L));
+
+        List<Ping> result = db().query(PingQueries.fetchDailyPingDataOfServer(after, now, serverUUID()));
+        assertEquals(expected, result);
+        assertEquals(twoDaysAgo, result.get(0).getDate());
+        assertEquals(Optional.of(twoDaysAgo), db().query(PingQueries.fetchLastRolledUpDay(serverUUID())));
+        assertEquals(2, db().query(PingQueries.fetchAllPingData()).get(playerUUID).size());
+
+        // Ping of yesterday that is stored late is not hidden by the roll up.
+        execute(LargeStoreQueries.storeAllPingData(Collections.singletonMap(playerUUID, Collections.singletonList(
+                new Ping(yesterday + TimeUnit.HOURS.toMillis(2L), serverUUID(), 12, 14, 15.0)
+        ))));
+        Ping yesterdayPing = db().query(PingQueries.fetchDailyPingDataOfServer(after, now, serverUUID())).get(1);
+        assertEquals(new Ping(yesterday, serverUUID(), 12, 14, 14.0), yesterdayPing);
+    }
+
 }
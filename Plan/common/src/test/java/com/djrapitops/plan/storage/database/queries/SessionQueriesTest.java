@@ -16,13 +16,16 @@
  */
 package com.djrapitops.plan.storage.database.queries;
 
+import com.djrapitops.plan.delivery.domain.SessionCursor;
 import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
+import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.*;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerProjection;
 import com.djrapitops.plan.storage.database.queries.containers.PlayerContainerQuery;
 import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
@@ -231,6 +234,39 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(expected, result);
     }
 
+    @Test
+    default void sessionTotalsOfPlayerMatchStoredSessions() {
+        prepareForSessionSave();
+        List<FinishedSession> sessions = RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID);
+        SessionTotals expected = SessionTotals.empty();
+        for (FinishedSession session : sessions) {
+            db().executeTransaction(new StoreSessionTransaction(session));
+            expected = expected.add(SessionTotals.of(session));
+        }
+
+        Map<ServerUUID, SessionTotals> result = db().query(SessionQueries.sessionTotalsOfPlayer(playerUUID));
+        assertEquals(Map.of(serverUUID(), expected), result);
+    }
+
+    @Test
+    default void latestSessionsAreIncludedInRecentSessionsOfPlayer() {
+        prepareForSessionSave();
+        long start = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(60L);
+        for (int i = 0; i < 3; i++) {
+            FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID);
+            long sessionStart = start + i * TimeUnit.DAYS.toMillis(1L);
+            db().executeTransaction(new StoreSessionTransaction(new FinishedSession(
+                    playerUUID, serverUUID(), sessionStart, sessionStart + TimeUnit.HOURS.toMillis(1L), 0L, session.getExtraData()
+            )));
+        }
+
+        long monthAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(30L);
+        List<FinishedSession> result = db().query(SessionQueries.fetchRecentSessionsOfPlayerWithoutKillOrWorldData(playerUUID, monthAgo, 2));
+        assertEquals(2, result.size());
+        assertEquals(start + TimeUnit.DAYS.toMillis(2L), result.get(0).getStart());
+        assertEquals(start + TimeUnit.DAYS.toMillis(1L), result.get(1).getStart());
+    }
+
     @Test
     default void worldTimesAreSavedWithAllSessionSave() {
         prepareForSessionSave();
@@ -466,6 +502,87 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         );
     }
 
+    @Test
+    default void playerContainerCountKeysMatchSessions() {
+        prepareForSessionSave();
+        List<FinishedSession> player1Sessions = RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID);
+        player1Sessions.forEach(session -> db().executeTransaction(new StoreSessionTransaction(session)));
+
+        PlayerContainer playerContainer = db().query(new PlayerContainerQuery(playerUUID));
+        SessionsMutator sessionsMutator = SessionsMutator.forContainer(playerContainer);
+
+        assertEquals(sessionsMutator.toMobKillCount(), playerContainer.getValue(PlayerKeys.MOB_KILL_COUNT).orElse(-1));
+        assertEquals(sessionsMutator.toDeathCount(), playerContainer.getValue(PlayerKeys.DEATH_COUNT).orElse(-1));
+        assertEquals(playerContainer.getValue(PlayerKeys.PLAYER_KILLS).map(List::size).orElse(-1),
+                playerContainer.getValue(PlayerKeys.PLAYER_KILL_COUNT).orElse(-2));
+        assertEquals(sessionsMutator.toLastSeen(), playerContainer.getValue(PlayerKeys.LAST_SEEN).orElse(-1L));
+    }
+
+    @Test
+    default void killCountsMatchCountsFromSessionsAndKills() {
+        prepareForSessionSave();
+        List<FinishedSession> player1Sessions = RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID);
+        db().executeTransaction(new StoreSessionTransaction(player1Sessions.get(0)));
+        db().executeTransaction(new ShutdownDataPreservationTransaction(player1Sessions.subList(1, player1Sessions.size())));
+
+        long now = System.currentTimeMillis();
+        assertEquals(db().query(KillQueries.playerKillCount(0L, now, serverUUID())), db().query(KillQueries.playerKillCount(serverUUID())));
+        assertEquals(db().query(KillQueries.mobKillCount(0L, now, serverUUID())), db().query(KillQueries.mobKillCount(serverUUID())));
+        assertEquals(db().query(KillQueries.deathCount(0L, now, serverUUID())), db().query(KillQueries.deathCount(serverUUID())));
+
+        // Kills of the victim are removed from the killer
+        db().executeTransaction(new RemovePlayerTransaction(player2UUID));
+        assertEquals(db().query(KillQueries.fetchPlayerKillsOfPlayer(playerUUID)).size(), db().query(KillQueries.playerKillCountOfPlayer(playerUUID)));
+        assertEquals(0L, db().query(KillQueries.playerKillCount(serverUUID())));
+    }
+
+    @Test
+    default void playerContainerProjectionOnlyProvidesRequestedKeys() {
+        prepareForSessionSave();
+        List<FinishedSession> player1Sessions = RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID);
+        player1Sessions.forEach(session -> db().executeTransaction(new StoreSessionTransaction(session)));
+
+        PlayerContainerProjection projection = PlayerContainerProjection.of(PlayerKeys.NAME, PlayerKeys.SESSIONS);
+        PlayerContainer playerContainer = db().query(new PlayerContainerQuery(playerUUID, projection));
+
+        assertEquals(TestConstants.PLAYER_ONE_NAME, playerContainer.getValue(PlayerKeys.NAME).orElse(null));
+        assertEquals(playerUUID, playerContainer.getValue(PlayerKeys.UUID).orElse(null));
+        assertEquals(player1Sessions.size(), playerContainer.getValue(PlayerKeys.SESSIONS).map(List::size).orElse(-1));
+        assertFalse(playerContainer.supports(PlayerKeys.PER_SERVER));
+        assertFalse(playerContainer.getValue(PlayerKeys.GEO_INFO).isPresent());
+    }
+
+    @Test
+    default void sessionPagesOfPlayerContainAllSessionsInOrder() {
+        prepareForSessionSave();
+        List<FinishedSession> player1Sessions = RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID);
+        player1Sessions.forEach(session -> db().executeTransaction(new StoreSessionTransaction(session)));
+
+        List<FinishedSession> expected = db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID());
+
+        List<FinishedSession> paged = new ArrayList<>();
+        SessionCursor cursor = SessionCursor.firstPage();
+        while (true) {
+            List<FinishedSession> page = db().query(SessionQueries.fetchSessionPageOfPlayer(playerUUID, cursor, 3));
+            paged.addAll(page);
+            if (page.size() < 3) break;
+            cursor = SessionCursor.after(page.get(page.size() - 1)).orElseThrow(AssertionError::new);
+        }
+
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    default void sessionPageOfServerIsLimited() {
+        prepareForSessionSave();
+        List<FinishedSession> player1Sessions = RandomData.randomSessions(serverUUID(), worlds, playerUUID, player2UUID);
+        player1Sessions.forEach(session -> db().executeTransaction(new StoreSessionTransaction(session)));
+
+        List<FinishedSession> expected = db().query(SessionQueries.fetchLatestSessionsOfServer(serverUUID(), 2));
+        List<FinishedSession> page = db().query(SessionQueries.fetchSessionPageOfServer(serverUUID(), SessionCursor.firstPage(), 2));
+        assertEquals(expected, page);
+    }
+
     @Test
     default void serverPreferencePieValuesAreCorrect() {
         prepareForSessionSave();
@@ -16,6 +16,7 @@
  */
 package com.djrapitops.plan.storage.database.queries.analysis;
 
+import com.djrapitops.plan.delivery.domain.RetentionCohort;
 import com.djrapitops.plan.delivery.domain.RetentionData;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
@@ -27,6 +28,7 @@ import utilities.RandomData;
 import utilities.TestConstants;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -74,4 +76,51 @@ public interface PlayerRetentionQueriesTest extends DatabaseTestPreparer {
         assertEquals(expected, result);
     }
 
+    @Test
+    default void serverBasedRetentionCohortsAreFetched() {
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        long registerTime = session.getStart();
+
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, () -> registerTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, () -> registerTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+
+        db().executeTransaction(new StoreSessionTransaction(session));
+
+        List<RetentionCohort> expected = List.of(expectedCohort(registerTime, session.getLength()));
+        List<RetentionCohort> result = db().query(PlayerRetentionQueries.fetchRetentionCohorts(serverUUID(), 0L));
+        assertEquals(expected, result);
+    }
+
+    @Test
+    default void networkBasedRetentionCohortsAreFetched() {
+        FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+        long registerTime = session.getStart();
+
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
+        db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
+        db().executeTransaction(new StoreServerPlayerTransaction(playerUUID, () -> registerTime,
+                TestConstants.PLAYER_ONE_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+        db().executeTransaction(new StoreServerPlayerTransaction(player2UUID, () -> registerTime,
+                TestConstants.PLAYER_TWO_NAME, serverUUID(), TestConstants.GET_PLAYER_HOSTNAME));
+
+        db().executeTransaction(new StoreSessionTransaction(session));
+
+        List<RetentionCohort> expected = List.of(expectedCohort(registerTime, session.getLength()));
+        List<RetentionCohort> result = db().query(PlayerRetentionQueries.fetchRetentionCohorts(0L));
+        assertEquals(expected, result);
+    }
+
+    private static RetentionCohort expectedCohort(long registerTime, long seenAfter) {
+        long shift = -TimeUnit.DAYS.toMillis(4L);
+        long cohortStart = Math.floorDiv(registerTime + shift, RetentionCohort.COHORT_LENGTH) * RetentionCohort.COHORT_LENGTH - shift;
+        int[] retained = RetentionCohort.RETENTION_OFFSETS.stream()
+                .mapToInt(offset -> seenAfter >= offset ? 1 : 0)
+                .toArray();
+        return new RetentionCohort(cohortStart, 1, retained);
+    }
+
 }
\ No newline at end of file
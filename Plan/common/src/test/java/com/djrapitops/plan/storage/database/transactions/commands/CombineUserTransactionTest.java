@@ -82,6 +82,7 @@ public interface CombineUserTransactionTest extends DatabaseTestPreparer {
         assertTrue(db.query(BaseUserQueries.fetchUserId(newUUID)).isPresent());
         assertEquals(2, db.query(SessionQueries.fetchSessionsOfPlayer(newUUID)).values().stream().mapToInt(List::size).sum());
         assertEquals(2, db.query(KillQueries.fetchPlayerKillsOfPlayer(newUUID)).size());
+        assertEquals(2, db.query(KillQueries.playerKillCountOfPlayer(newUUID)));
         assertEquals(2, db.query(UserInfoQueries.fetchUserInformationOfUser(newUUID)).size());
 
         // Assert data doesn't exist with the old UUID
@@ -0,0 +1,57 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifiedCredentialCacheTest {
+
+    @AfterEach
+    void clearCache() {
+        VerifiedCredentialCache.invalidateAll();
+    }
+
+    @Test
+    void correctPasswordIsVerifiedAgain() {
+        String hash = PassEncryptUtil.createHash("testPass");
+
+        assertTrue(VerifiedCredentialCache.verifyPassword("user", "testPass", hash));
+        assertTrue(VerifiedCredentialCache.verifyPassword("user", "testPass", hash));
+    }
+
+    @Test
+    void wrongPasswordIsNotVerifiedAfterCorrectOne() {
+        String hash = PassEncryptUtil.createHash("testPass");
+
+        assertTrue(VerifiedCredentialCache.verifyPassword("user", "testPass", hash));
+        assertFalse(VerifiedCredentialCache.verifyPassword("user", "wrongPass", hash));
+    }
+
+    @Test
+    void oldPasswordIsNotVerifiedAfterHashChanges() {
+        String hash = PassEncryptUtil.createHash("testPass");
+        assertTrue(VerifiedCredentialCache.verifyPassword("user", "testPass", hash));
+
+        String changedHash = PassEncryptUtil.createHash("newPass");
+        assertFalse(VerifiedCredentialCache.verifyPassword("user", "testPass", changedHash));
+        assertTrue(VerifiedCredentialCache.verifyPassword("user", "newPass", changedHash));
+    }
+}
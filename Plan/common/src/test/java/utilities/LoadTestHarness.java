@@ -0,0 +1,401 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package utilities;
+
+import com.djrapitops.plan.PlanSystem;
+import com.djrapitops.plan.gathering.afk.AFKTracker;
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.event.PlayerJoin;
+import com.djrapitops.plan.gathering.domain.event.PlayerLeave;
+import com.djrapitops.plan.gathering.events.PlayerJoinEventConsumer;
+import com.djrapitops.plan.gathering.events.PlayerLeaveEventConsumer;
+import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
+import com.djrapitops.plan.settings.config.paths.ExportSettings;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
+import utilities.dagger.PlanPluginComponent;
+import utilities.mocks.PluginMockComponent;
+import utilities.mocks.objects.TestPlayerData;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays gameplay and web traffic against a fully enabled in-process PlanSystem and reports latencies.
+ * <p>
+ * Players join, move, change worlds, go AFK, leave and rejoin through the same event consumers the platform listeners
+ * use, on a single simulated server thread. Web clients poll the JSON endpoints of the server page at the same time.
+ * <p>
+ * Run with {@code ./gradlew :common:loadTest -PloadTestArgs="--players=2000 --duration=300 --webClients=8"}.
+ * Available arguments: players, duration (s), rampUp (s), sessionLength (s), webClients, tickMillis,
+ * reportInterval (s), database (SQLite or MySQL, MySQL uses the same environment variables as MySQL tests), seed.
+ *
+ * @author AuroraLS3
+ */
+public class LoadTestHarness {
+
+    private static final String[] WORLDS = {"world", "world_nether", "world_the_end", "resource"};
+    private static final String[] GAME_MODES = {"SURVIVAL", "SURVIVAL", "SURVIVAL", "CREATIVE"};
+    private static final String[] GRAPHS = {
+            "performance", "optimizedPerformance", "playersOnline", "uniqueAndNew", "serverCalendar", "activity", "punchCard"
+    };
+    private static final String[] ENDPOINTS = {
+            "serverOverview", "onlineOverview", "sessionsOverview", "playerVersus", "playerbaseOverview",
+            "performanceOverview", "playersTable", "sessions"
+    };
+
+    private final Map<String, String> arguments;
+    private final Random random;
+
+    private final LatencyRecorder transactionLatency = new LatencyRecorder();
+    private final LatencyRecorder tickLatency = new LatencyRecorder();
+    private final LatencyRecorder webLatency = new LatencyRecorder();
+    private final AtomicLong webErrors = new AtomicLong();
+
+    private PlayerJoinEventConsumer joinConsumer;
+    private PlayerLeaveEventConsumer leaveConsumer;
+    private AFKTracker afkTracker;
+    private SQLDB database;
+    private Server server;
+
+    LoadTestHarness(Map<String, String> arguments) {
+        this.arguments = arguments;
+        this.random = new Random(getLong("seed", 42L));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            String[] keyAndValue = arg.replaceFirst("^--", "").split("=", 2);
+            arguments.put(keyAndValue[0], keyAndValue.length == 2 ? keyAndValue[1] : "true");
+        }
+        new LoadTestHarness(arguments).run();
+    }
+
+    private long getLong(String argument, long defaultValue) {
+        return Long.parseLong(arguments.getOrDefault(argument, Long.toString(defaultValue)));
+    }
+
+    private int getInt(String argument, int defaultValue) {
+        return Integer.parseInt(arguments.getOrDefault(argument, Integer.toString(defaultValue)));
+    }
+
+    void run() throws Exception {
+        Path tempDir = Files.createTempDirectory("plan-load-test-");
+        PluginMockComponent mockComponent = new PluginMockComponent(tempDir);
+        PlanPluginComponent component = mockComponent.getComponent();
+        PlanSystem system = mockComponent.getPlanSystem();
+
+        int port = getInt("port", 9000 + random.nextInt(1000));
+        PlanConfig config = system.getConfigSystem().getConfig();
+        config.set(WebserverSettings.PORT, port);
+        config.set(DataGatheringSettings.GEOLOCATIONS, false);
+        config.set(ExportSettings.PLAYER_PAGES, false);
+        config.set(ExportSettings.EXPORT_ON_ONLINE_STATUS_CHANGE, false);
+        String databaseType = arguments.getOrDefault("database", DBType.SQLITE.getName());
+        if (DBType.MYSQL.getName().equalsIgnoreCase(databaseType)) {
+            new DBPreparer(null, port).setUpMySQLSettings(config)
+                    .orElseThrow(() -> new IllegalStateException("MySQL environment variables are not set"));
+        } else {
+            config.set(DatabaseSettings.TYPE, databaseType);
+        }
+
+        database = (SQLDB) system.getDatabaseSystem().getActiveDatabaseByName(databaseType);
+        database.setTransactionExecutorServiceProvider(() -> new TimedTransactionExecutor(transactionLatency));
+
+        try {
+            system.enable();
+            joinConsumer = component.joinConsumer();
+            leaveConsumer = component.leaveConsumer();
+            afkTracker = new AFKTracker(config);
+            server = system.getServerInfo().getServer();
+
+            runLoad(port);
+        } finally {
+            system.disable();
+            SessionCache.clear();
+        }
+    }
+
+    private void runLoad(int port) throws InterruptedException {
+        long duration = TimeUnit.SECONDS.toNanos(getLong("duration", 120));
+        long rampUp = TimeUnit.SECONDS.toMillis(getLong("rampUp", 30));
+        long sessionLength = TimeUnit.SECONDS.toMillis(getLong("sessionLength", 300));
+        long tickMillis = getLong("tickMillis", 50);
+        long reportInterval = TimeUnit.SECONDS.toNanos(getLong("reportInterval", 10));
+
+        long now = System.currentTimeMillis();
+        List<SimulatedPlayer> players = new ArrayList<>();
+        int playerCount = getInt("players", 1000);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new SimulatedPlayer(new UUID(0L, i), "LoadTest_" + i, now + (long) (random.nextDouble() * rampUp)));
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + duration;
+
+        ScheduledExecutorService serverThread = Executors.newSingleThreadScheduledExecutor();
+        serverThread.scheduleAtFixedRate(() -> {
+            long tickStart = System.nanoTime();
+            try {
+                tick(players, sessionLength);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+            tickLatency.record(System.nanoTime() - tickStart);
+        }, 0, tickMillis, TimeUnit.MILLISECONDS);
+
+        ServerUUID serverUUID = server.getUuid();
+        ExecutorService webClients = Executors.newCachedThreadPool();
+        int webClientCount = getInt("webClients", 4);
+        for (int i = 0; i < webClientCount; i++) {
+            int clientNumber = i;
+            webClients.execute(() -> pollWebserver(port, serverUUID, clientNumber, deadline));
+        }
+
+        System.out.println("time  | online | db queue dropped | tx/s   p50ms  p99ms  | web/s  p50ms  p99ms  errors | tick p99ms max ms");
+        Report total = new Report();
+        long lastReport = start;
+        long lastDropped = 0;
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(reportInterval), TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()) + 1));
+            long reportTime = System.nanoTime();
+            double seconds = (reportTime - lastReport) / 1_000_000_000.0;
+            long dropped = database.getDroppedTransactionCount();
+
+            long[] transactions = transactionLatency.drain();
+            long[] requests = webLatency.drain();
+            long[] ticks = tickLatency.drain();
+            total.add(transactions, requests, ticks);
+
+            System.out.printf("%4ds | %6d | %8d %7d | %6.0f %6.1f %6.1f | %6.0f %6.1f %6.1f %6d | %6.1f %6.1f%n",
+                    TimeUnit.NANOSECONDS.toSeconds(reportTime - start), SessionCache.getActiveSessionCount(),
+                    database.getTransactionQueueSize(), dropped - lastDropped,
+                    transactions.length / seconds, percentile(transactions, 0.5), percentile(transactions, 0.99),
+                    requests.length / seconds, percentile(requests, 0.5), percentile(requests, 0.99), webErrors.getAndSet(0),
+                    percentile(ticks, 0.99), percentile(ticks, 1.0));
+            lastReport = reportTime;
+            lastDropped = dropped;
+        }
+
+        serverThread.shutdown();
+        webClients.shutdown();
+        serverThread.awaitTermination(10, TimeUnit.SECONDS);
+        webClients.awaitTermination(30, TimeUnit.SECONDS);
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.println();
+        System.out.printf("Transactions: %d (%.0f/s) p50 %.1fms p99 %.1fms max %.1fms, dropped %d, queue at end %d%n",
+                total.transactions.length, total.transactions.length / seconds,
+                percentile(total.transactions, 0.5), percentile(total.transactions, 0.99), percentile(total.transactions, 1.0),
+                database.getDroppedTransactionCount(), database.getTransactionQueueSize());
+        System.out.printf("Web requests: %d (%.0f/s) p50 %.1fms p99 %.1fms max %.1fms%n",
+                total.requests.length, total.requests.length / seconds,
+                percentile(total.requests, 0.5), percentile(total.requests, 0.99), percentile(total.requests, 1.0));
+        System.out.printf("Server ticks: %d p50 %.1fms p99 %.1fms max %.1fms%n",
+                total.ticks.length, percentile(total.ticks, 0.5), percentile(total.ticks, 0.99), percentile(total.ticks, 1.0));
+    }
+
+    private void tick(List<SimulatedPlayer> players, long sessionLength) {
+        long time = System.currentTimeMillis();
+        for (SimulatedPlayer player : players) {
+            if (!player.online) {
+                if (player.nextChange <= time) join(player, time, sessionLength);
+                continue;
+            }
+            if (player.nextChange <= time) {
+                leave(player, time, sessionLength);
+            } else if (random.nextInt(2400) == 0) {
+                changeWorld(player, time);
+            } else if (!player.idle && random.nextInt(4) == 0) {
+                afkTracker.performedAction(player.data.getUUID(), time);
+            } else if (random.nextInt(1200) == 0) {
+                // Roughly half of the players go idle at some point, a movement ends it.
+                player.idle = !player.idle;
+            }
+        }
+    }
+
+    private void join(SimulatedPlayer player, long time, long sessionLength) {
+        player.online = true;
+        player.idle = false;
+        player.nextChange = time + exponential(sessionLength);
+        player.data.setCurrentWorld(WORLDS[random.nextInt(WORLDS.length)])
+                .setCurrentGameMode(GAME_MODES[random.nextInt(GAME_MODES.length)]);
+        afkTracker.performedAction(player.data.getUUID(), time);
+        joinConsumer.onJoinGameServer(PlayerJoin.builder()
+                .server(server)
+                .player(player.data)
+                .time(time)
+                .build());
+    }
+
+    private void changeWorld(SimulatedPlayer player, long time) {
+        String world = WORLDS[random.nextInt(WORLDS.length)];
+        String gameMode = GAME_MODES[random.nextInt(GAME_MODES.length)];
+        player.data.setCurrentWorld(world).setCurrentGameMode(gameMode);
+        database.executeTransaction(new StoreWorldNameTransaction(server.getUuid(), world));
+        SessionCache.getCachedSession(player.data.getUUID())
+                .ifPresent(session -> session.changeState(world, gameMode, time));
+    }
+
+    private void leave(SimulatedPlayer player, long time, long sessionLength) {
+        player.online = false;
+        player.nextChange = time + exponential(sessionLength / 2);
+        PlayerLeave leave = PlayerLeave.builder()
+                .server(server)
+                .player(player.data)
+                .time(time)
+                .build();
+        leaveConsumer.beforeLeave(leave);
+        afkTracker.loggedOut(player.data.getUUID(), time);
+        leaveConsumer.onLeaveGameServer(leave);
+    }
+
+    private long exponential(long mean) {
+        return Math.max(1000L, (long) (-Math.log(1.0 - random.nextDouble()) * mean));
+    }
+
+    private void pollWebserver(int port, ServerUUID serverUUID, int clientNumber, long deadline) {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        String address = "http://localhost:" + port + "/v1/";
+        List<URI> uris = new ArrayList<>();
+        for (String endpoint : ENDPOINTS) {
+            uris.add(URI.create(address + endpoint + "?server=" + serverUUID));
+        }
+        for (String graph : GRAPHS) {
+            uris.add(URI.create(address + "graph?type=" + graph + "&server=" + serverUUID));
+        }
+
+        int index = clientNumber;
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(uris.get(index++ % uris.size()))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET().build();
+            long requestStart = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) webErrors.incrementAndGet();
+            } catch (java.io.IOException e) {
+                webErrors.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            webLatency.record(System.nanoTime() - requestStart);
+        }
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) return 0.0;
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static class SimulatedPlayer {
+        private final TestPlayerData data;
+        private boolean online;
+        private boolean idle;
+        private long nextChange;
+
+        private SimulatedPlayer(UUID uuid, String name, long joinTime) {
+            this.data = new TestPlayerData(uuid, name);
+            this.nextChange = joinTime;
+        }
+    }
+
+    /**
+     * Collects latency samples between reports, sorted when drained.
+     */
+    static class LatencyRecorder {
+        private long[] samples = new long[1024];
+        private int count;
+
+        synchronized void record(long nanos) {
+            if (count == samples.length) samples = Arrays.copyOf(samples, count * 2);
+            samples[count++] = nanos;
+        }
+
+        long[] drain() {
+            long[] drained;
+            synchronized (this) {
+                drained = Arrays.copyOf(samples, count);
+                count = 0;
+            }
+            Arrays.sort(drained);
+            return drained;
+        }
+    }
+
+    private static class Report {
+        private long[] transactions = new long[0];
+        private long[] requests = new long[0];
+        private long[] ticks = new long[0];
+
+        private void add(long[] transactions, long[] requests, long[] ticks) {
+            this.transactions = merge(this.transactions, transactions);
+            this.requests = merge(this.requests, requests);
+            this.ticks = merge(this.ticks, ticks);
+        }
+
+        private static long[] merge(long[] existing, long[] added) {
+            long[] merged = Arrays.copyOf(existing, existing.length + added.length);
+            System.arraycopy(added, 0, merged, existing.length, added.length);
+            Arrays.sort(merged);
+            return merged;
+        }
+    }
+
+    /**
+     * Single thread transaction executor, like the default one, that measures time from queueing to completion.
+     */
+    private static class TimedTransactionExecutor extends ThreadPoolExecutor {
+        private final LatencyRecorder latency;
+
+        private TimedTransactionExecutor(LatencyRecorder latency) {
+            super(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> new Thread(runnable, "Plan Load Test DB Transaction Thread"));
+            this.latency = latency;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            long queuedAt = System.nanoTime();
+            super.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    latency.record(System.nanoTime() - queuedAt);
+                }
+            });
+        }
+    }
+}
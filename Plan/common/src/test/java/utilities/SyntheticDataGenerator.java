@@ -0,0 +1,473 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package utilities;
+
+import com.djrapitops.plan.delivery.domain.Nickname;
+import com.djrapitops.plan.delivery.domain.ServerIdentifier;
+import com.djrapitops.plan.extension.FormatType;
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.implementation.providers.Parameters;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StoreIconTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.StorePluginTransaction;
+import com.djrapitops.plan.extension.implementation.storage.transactions.results.StoreExtensionResultsTransaction;
+import com.djrapitops.plan.gathering.domain.*;
+import com.djrapitops.plan.gathering.domain.event.JoinAddress;
+import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
+import com.djrapitops.plan.storage.database.sql.tables.JoinAddressTable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreJoinAddressTransaction;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates a large database with realistic looking data from a fixed seed.
+ * <p>
+ * The same seed, player count, server count and time span always produce the same data. The database can therefore be
+ * used to compare query results and performance before and after a change. Data is written through
+ * {@link LargeStoreQueries}, in one transaction per {@link Builder#playersPerTransaction(int)} players, so only that
+ * many players are held in memory at a time.
+ * <p>
+ * Each player registers at a random point of the time span. How many days they play depends on how active and how
+ * long-lived they are. Their sessions have world times, kills, AFK time and ping samples. Players also get a join
+ * address, geolocations, nicknames and values of one DataExtension. Servers get one TPS row per minute. The TPS
+ * player counts follow a daily curve and are not derived from the sessions.
+ *
+ * @author AuroraLS3
+ */
+public class SyntheticDataGenerator {
+
+    public static final String PLUGIN_NAME = "SyntheticData";
+    public static final String[] WORLDS = new String[]{"world", "world_nether", "world_the_end", "lobby"};
+
+    private static final String[] JOIN_ADDRESSES = new String[]{
+            "play.example.com", "play.example.com", "play.example.com", "mc.example.com", "example.com",
+            "play.example.net", "vote.example.com", JoinAddressTable.DEFAULT_VALUE_FOR_LOOKUP
+    };
+    private static final String[] COUNTRIES = new String[]{
+            "United States", "United States", "Germany", "United Kingdom", "Finland", "Brazil", "Canada",
+            "Poland", "France", "Netherlands", "Australia", "Russia", "Sweden", "Japan"
+    };
+    private static final String[] WEAPONS = new String[]{"Diamond Sword", "Iron Sword", "Bow", "Netherite Axe", "Trident"};
+    private static final String[] RANKS = new String[]{"Member", "Member", "Member", "VIP", "MVP", "Moderator"};
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1L);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1L);
+    private static final long DAY = TimeUnit.DAYS.toMillis(1L);
+
+    private final long seed;
+    private final int players;
+    private final long start;
+    private final long end;
+    private final int playersPerTransaction;
+    private final List<ServerUUID> serverUUIDs;
+
+    private final Icon pluginIcon = Icon.called("cube").build();
+    private final ProviderInformation rankProvider;
+    private final ProviderInformation votesProvider;
+    private final ProviderInformation balanceProvider;
+    private final ProviderInformation donatorProvider;
+
+    private SyntheticDataGenerator(Builder builder) {
+        this.seed = builder.seed;
+        this.players = builder.players;
+        this.end = builder.end;
+        this.start = builder.end - builder.timeSpan;
+        this.playersPerTransaction = builder.playersPerTransaction;
+
+        serverUUIDs = new ArrayList<>();
+        for (int i = 0; i < builder.servers; i++) {
+            serverUUIDs.add(ServerUUID.from(UUID.nameUUIDFromBytes(("server-" + seed + '-' + i).getBytes(StandardCharsets.UTF_8))));
+        }
+
+        rankProvider = provider("rank", "Rank", 3, Icon.called("user-tag").build()).setShowInPlayersTable(true).build();
+        votesProvider = provider("votes", "Votes", 2, Icon.called("vote-yea").build()).setShowInPlayersTable(true)
+                .setFormatType(FormatType.NONE).build();
+        balanceProvider = provider("balance", "Balance", 1, Icon.called("coins").build()).build();
+        donatorProvider = provider("donator", "Donator", 0, Icon.called("gift").build()).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static ProviderInformation.Builder provider(String name, String text, int priority, Icon icon) {
+        return ProviderInformation.builder(PLUGIN_NAME)
+                .setName(name)
+                .setText(text)
+                .setPriority(priority)
+                .setIcon(icon);
+    }
+
+    /**
+     * Write all data to the database.
+     *
+     * @param database Database with the tables created.
+     * @throws IllegalStateException If a transaction fails.
+     */
+    public void generate(Database database) {
+        executeAndWait(database, new Transaction() {
+            @Override
+            protected void performOperations() {
+                List<Server> servers = new ArrayList<>();
+                Map<ServerUUID, Collection<String>> worlds = new HashMap<>();
+                for (int i = 0; i < serverUUIDs.size(); i++) {
+                    ServerUUID serverUUID = serverUUIDs.get(i);
+                    servers.add(new Server(serverUUID, "Synthetic " + (i + 1), "", TestConstants.VERSION));
+                    worlds.put(serverUUID, Arrays.asList(WORLDS));
+                }
+                execute(LargeStoreQueries.storeAllPlanServerInformation(servers));
+                execute(LargeStoreQueries.storeAllWorldNames(worlds));
+                for (String joinAddress : new HashSet<>(Arrays.asList(JOIN_ADDRESSES))) {
+                    executeOther(new StoreJoinAddressTransaction(joinAddress));
+                }
+                executeOther(new StoreIconTransaction(pluginIcon));
+                for (ServerUUID serverUUID : serverUUIDs) {
+                    executeOther(new StorePluginTransaction(PLUGIN_NAME, end, serverUUID, pluginIcon));
+                }
+            }
+        });
+
+        for (int from = 0; from < players; from += playersPerTransaction) {
+            int to = Math.min(players, from + playersPerTransaction);
+            executeAndWait(database, new PlayerBatchTransaction(from, to));
+        }
+
+        for (int i = 0; i < serverUUIDs.size(); i++) {
+            for (long weekStart = start; weekStart < end; weekStart += 7 * DAY) {
+                List<TPS> tpsData = generateTPS(i, weekStart, Math.min(end, weekStart + 7 * DAY));
+                Map<ServerUUID, List<TPS>> ofServer = Collections.singletonMap(serverUUIDs.get(i), tpsData);
+                executeAndWait(database, new Transaction() {
+                    @Override
+                    protected void performOperations() {
+                        execute(LargeStoreQueries.storeAllTPSData(ofServer));
+                    }
+                });
+            }
+        }
+    }
+
+    private void executeAndWait(Database database, Transaction transaction) {
+        try {
+            database.executeTransaction(transaction).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating data", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to generate data", e.getCause());
+        }
+    }
+
+    public UUID getPlayerUUID(int index) {
+        return new UUID(seed, index);
+    }
+
+    public String getPlayerName(int index) {
+        return "Player_" + index;
+    }
+
+    public List<ServerUUID> getServerUUIDs() {
+        return Collections.unmodifiableList(serverUUIDs);
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    private Random randomFor(long stream, int index) {
+        // Each player and server has its own random, so data does not depend on batch size or generation order.
+        return new Random(seed * 31L + stream * 1_000_003L + index);
+    }
+
+    private PlayerProfile createProfile(int index) {
+        Random random = randomFor(1L, index);
+        PlayerProfile profile = new PlayerProfile(index, getPlayerUUID(index), getPlayerName(index));
+        profile.registered = start + (long) (random.nextDouble() * (end - start - HOUR));
+        // A third of players join only once, the rest keep playing for a while.
+        long lifetime = random.nextInt(3) == 0 ? HOUR : (long) (-Math.log(1.0 - random.nextDouble()) * 90 * DAY);
+        profile.lastActive = Math.min(end - HOUR, profile.registered + lifetime);
+        profile.activity = 0.05 + random.nextDouble() * 0.8;
+        profile.peakHour = 14 + random.nextInt(10);
+        profile.joinAddress = JOIN_ADDRESSES[random.nextInt(JOIN_ADDRESSES.length)];
+        profile.latency = 15 + random.nextInt(200);
+        profile.homeServer = index % serverUUIDs.size();
+        profile.otherServer = serverUUIDs.size() > 1 && random.nextInt(10) < 3
+                ? (profile.homeServer + 1 + random.nextInt(serverUUIDs.size() - 1)) % serverUUIDs.size()
+                : -1;
+        profile.country = COUNTRIES[random.nextInt(COUNTRIES.length)];
+        profile.timesKicked = random.nextInt(20) == 0 ? 1 + random.nextInt(3) : 0;
+        profile.opped = random.nextInt(500) == 0;
+        profile.banned = random.nextInt(100) == 0;
+        return profile;
+    }
+
+    private List<FinishedSession> generateSessions(PlayerProfile profile, int serverIndex, double activity) {
+        Random random = randomFor(2L + serverIndex, profile.index);
+        ServerUUID serverUUID = serverUUIDs.get(serverIndex);
+        List<FinishedSession> sessions = new ArrayList<>();
+
+        long firstDay = profile.registered - Math.floorMod(profile.registered, DAY);
+        for (long day = firstDay; day <= profile.lastActive; day += DAY) {
+            boolean registrationDay = day == firstDay && serverIndex == profile.homeServer;
+            if (!registrationDay && random.nextDouble() > activity) continue;
+
+            long sessionStart = Math.max(profile.registered, day + profile.peakHour * HOUR + (long) (random.nextGaussian() * 3 * HOUR));
+            int sessionCount = random.nextInt(5) == 0 ? 2 : 1;
+            for (int i = 0; i < sessionCount && sessionStart < end - MINUTE; i++) {
+                long length = Math.max(MINUTE, Math.min(6 * HOUR, (long) (Math.exp(random.nextGaussian() * 0.8) * 45 * MINUTE)));
+                long sessionEnd = Math.min(end, sessionStart + length);
+                sessions.add(generateSession(random, profile, serverUUID, sessionStart, sessionEnd));
+                sessionStart = sessionEnd + 30 * MINUTE + random.nextInt(120) * MINUTE;
+            }
+        }
+        return sessions;
+    }
+
+    private FinishedSession generateSession(Random random, PlayerProfile profile, ServerUUID serverUUID, long sessionStart, long sessionEnd) {
+        String[] gameModes = GMTimes.getGMKeyArray();
+        ActiveSession session = new ActiveSession(profile.uuid, serverUUID, sessionStart, WORLDS[random.nextInt(WORLDS.length)], gameModes[0]);
+        int worldChanges = random.nextInt(3);
+        for (int i = 1; i <= worldChanges; i++) {
+            long changeTime = sessionStart + (sessionEnd - sessionStart) * i / (worldChanges + 1);
+            String gameMode = random.nextInt(10) == 0 ? gameModes[random.nextInt(gameModes.length)] : gameModes[0];
+            session.changeState(WORLDS[random.nextInt(WORLDS.length)], gameMode, changeTime);
+        }
+
+        long length = sessionEnd - sessionStart;
+        if (length > 5 * MINUTE) session.addAfkTime((long) (length * random.nextDouble() * 0.25));
+        for (int i = random.nextInt(20); i > 0; i--) session.addMobKill();
+        for (int i = random.nextInt(10) == 0 ? 1 + random.nextInt(2) : 0; i > 0; i--) session.addDeath();
+        if (players > 1 && random.nextInt(10) == 0) {
+            ServerIdentifier server = new ServerIdentifier(serverUUID, "Synthetic");
+            for (int i = 1 + random.nextInt(5); i > 0; i--) {
+                int victim = (profile.index + 1 + random.nextInt(players - 1)) % players;
+                session.addPlayerKill(new PlayerKill(
+                        new PlayerKill.Killer(profile.uuid, profile.name),
+                        new PlayerKill.Victim(getPlayerUUID(victim), getPlayerName(victim)),
+                        server, WEAPONS[random.nextInt(WEAPONS.length)],
+                        sessionStart + (long) (random.nextDouble() * length)
+                ));
+            }
+        }
+
+        FinishedSession finished = session.toFinishedSession(sessionEnd);
+        finished.getExtraData().put(JoinAddress.class, new JoinAddress(profile.joinAddress));
+        return finished;
+    }
+
+    private List<Ping> generatePings(Random random, PlayerProfile profile, List<FinishedSession> sessions) {
+        List<Ping> pings = new ArrayList<>();
+        for (FinishedSession session : sessions) {
+            // One sample per hour played, at least one per session.
+            long date = Math.min(session.getStart() + MINUTE, session.getEnd());
+            do {
+                int min = Math.max(1, profile.latency - random.nextInt(10));
+                int max = profile.latency + random.nextInt(150);
+                pings.add(new Ping(date, session.getServerUUID(), min, max, min + (max - min) * random.nextDouble() / 3));
+                date += HOUR;
+            } while (date <= session.getEnd());
+        }
+        return pings;
+    }
+
+    private List<TPS> generateTPS(int serverIndex, long from, long to) {
+        Random random = randomFor(-1L - serverIndex, (int) ((from - start) / DAY));
+        int peakPlayers = Math.max(2, players / serverUUIDs.size() / 20);
+        List<TPS> tpsData = new ArrayList<>();
+        for (long date = from; date < to; date += MINUTE) {
+            double hourOfDay = (date % DAY) / (double) HOUR;
+            double curve = 0.55 + 0.45 * Math.sin((hourOfDay - 14.0) / 24.0 * 2 * Math.PI);
+            int online = (int) Math.round(peakPlayers * curve * (0.8 + random.nextDouble() * 0.4));
+            double tps = Math.min(20.0, 20.0 - online * 0.01 - random.nextDouble() * 0.5);
+            tpsData.add(new TPS(
+                    date, tps, online,
+                    10.0 + online * 0.5 + random.nextDouble() * 10.0,
+                    2000L + online * 40L + random.nextInt(500),
+                    500 + online * 30 + random.nextInt(200),
+                    300 + online * 20 + random.nextInt(100),
+                    50_000L - (date - start) / DAY
+            ));
+        }
+        return tpsData;
+    }
+
+    private class PlayerBatchTransaction extends Transaction {
+        private final int from;
+        private final int to;
+
+        PlayerBatchTransaction(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void performOperations() {
+            List<BaseUser> users = new ArrayList<>();
+            List<FinishedSession> sessions = new ArrayList<>();
+            Map<ServerUUID, List<UserInfo>> userInfo = new HashMap<>();
+            Map<UUID, List<GeoInfo>> geoInfo = new HashMap<>();
+            Map<ServerUUID, Map<UUID, List<Nickname>>> nicknames = new HashMap<>();
+            Map<UUID, List<Ping>> pings = new HashMap<>();
+            List<StoreExtensionResultsTransaction> extensionResults = new ArrayList<>();
+
+            for (int index = from; index < to; index++) {
+                PlayerProfile profile = createProfile(index);
+                Random random = randomFor(0L, index);
+                users.add(new BaseUser(profile.uuid, profile.name, profile.registered, profile.timesKicked));
+
+                List<FinishedSession> playerSessions = new ArrayList<>(generateSessions(profile, profile.homeServer, profile.activity));
+                addServerInformation(profile, profile.homeServer, profile.registered, userInfo, nicknames);
+                if (profile.otherServer != -1) {
+                    List<FinishedSession> otherSessions = generateSessions(profile, profile.otherServer, profile.activity * 0.3);
+                    if (!otherSessions.isEmpty()) {
+                        addServerInformation(profile, profile.otherServer, otherSessions.get(0).getStart(), userInfo, nicknames);
+                        playerSessions.addAll(otherSessions);
+                    }
+                }
+                sessions.addAll(playerSessions);
+                pings.put(profile.uuid, generatePings(random, profile, playerSessions));
+
+                List<GeoInfo> countries = new ArrayList<>();
+                countries.add(new GeoInfo(profile.country, profile.lastActive));
+                String secondCountry = COUNTRIES[random.nextInt(COUNTRIES.length)];
+                if (random.nextInt(10) == 0 && !secondCountry.equals(profile.country)) {
+                    countries.add(new GeoInfo(secondCountry, profile.registered));
+                }
+                geoInfo.put(profile.uuid, countries);
+
+                extensionResults.add(createExtensionResults(random, profile, index == 0));
+            }
+
+            execute(LargeStoreQueries.storeAllCommonUserInformation(users));
+            execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions));
+            execute(LargeStoreQueries.storePerServerUserInformation(userInfo));
+            execute(LargeStoreQueries.storeAllGeoInformation(geoInfo));
+            execute(LargeStoreQueries.storeAllNicknameData(nicknames));
+            execute(LargeStoreQueries.storeAllPingData(pings));
+            extensionResults.forEach(this::executeOther);
+        }
+
+        private void addServerInformation(PlayerProfile profile, int serverIndex, long registered,
+                                          Map<ServerUUID, List<UserInfo>> userInfo,
+                                          Map<ServerUUID, Map<UUID, List<Nickname>>> nicknames) {
+            ServerUUID serverUUID = serverUUIDs.get(serverIndex);
+            userInfo.computeIfAbsent(serverUUID, k -> new ArrayList<>())
+                    .add(new UserInfo(profile.uuid, serverUUID, registered, profile.opped, profile.joinAddress, profile.banned));
+            nicknames.computeIfAbsent(serverUUID, k -> new HashMap<>())
+                    .put(profile.uuid, Collections.singletonList(new Nickname(profile.name, registered, serverUUID)));
+        }
+
+        private StoreExtensionResultsTransaction createExtensionResults(Random random, PlayerProfile profile, boolean storeProviders) {
+            ServerUUID serverUUID = serverUUIDs.get(profile.homeServer);
+            StoreExtensionResultsTransaction results = new StoreExtensionResultsTransaction(PLUGIN_NAME,
+                    Parameters.player(serverUUID, profile.uuid, profile.name));
+            results.addProvider(rankProvider, storeProviders);
+            results.addStringResult(rankProvider, RANKS[random.nextInt(RANKS.length)]);
+            results.addProvider(votesProvider, storeProviders);
+            results.addNumberResult(votesProvider, random.nextInt(300));
+            results.addProvider(balanceProvider, storeProviders);
+            results.addDoubleResult(balanceProvider, Math.round(random.nextDouble() * 1_000_000.0) / 100.0);
+            results.addProvider(donatorProvider, storeProviders);
+            results.addBooleanResult(donatorProvider, random.nextInt(20) == 0);
+            return results;
+        }
+    }
+
+    private static class PlayerProfile {
+        final int index;
+        final UUID uuid;
+        final String name;
+        long registered;
+        long lastActive;
+        double activity;
+        int peakHour;
+        String joinAddress;
+        int latency;
+        int homeServer;
+        int otherServer;
+        String country;
+        int timesKicked;
+        boolean opped;
+        boolean banned;
+
+        PlayerProfile(int index, UUID uuid, String name) {
+            this.index = index;
+            this.uuid = uuid;
+            this.name = name;
+        }
+    }
+
+    public static class Builder {
+        private long seed = 1L;
+        private int players = 1000;
+        private int servers = 1;
+        private long timeSpan = TimeUnit.DAYS.toMillis(90L);
+        // Start of the current day so that the same settings give the same data during the day.
+        private long end = System.currentTimeMillis() / DAY * DAY;
+        private int playersPerTransaction = 250;
+
+        private Builder() {
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder players(int players) {
+            if (players < 1) throw new IllegalArgumentException("'players' must be at least 1");
+            this.players = players;
+            return this;
+        }
+
+        public Builder servers(int servers) {
+            if (servers < 1) throw new IllegalArgumentException("'servers' must be at least 1");
+            this.servers = servers;
+            return this;
+        }
+
+        public Builder timeSpan(long amount, TimeUnit unit) {
+            if (unit.toMillis(amount) < DAY) throw new IllegalArgumentException("time span must be at least one day");
+            this.timeSpan = unit.toMillis(amount);
+            return this;
+        }
+
+        public Builder endingAt(long end) {
+            this.end = end;
+            return this;
+        }
+
+        public Builder playersPerTransaction(int playersPerTransaction) {
+            if (playersPerTransaction < 1) throw new IllegalArgumentException("'playersPerTransaction' must be at least 1");
+            this.playersPerTransaction = playersPerTransaction;
+            return this;
+        }
+
+        public SyntheticDataGenerator build() {
+            return new SyntheticDataGenerator(this);
+        }
+    }
+}
@@ -48,4 +48,9 @@ public class TestProcessing extends Processing {
     protected ExecutorService createExecutor(int i, String s) {
         return MoreExecutors.newDirectExecutorService();
     }
+
+    @Override
+    public ExecutorService createBoundedExecutor(int threads, int queueSize, String namePattern) {
+        return MoreExecutors.newDirectExecutorService();
+    }
 }
\ No newline at end of file
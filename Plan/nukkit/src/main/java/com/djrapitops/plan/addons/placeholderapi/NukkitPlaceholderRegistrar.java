@@ -20,13 +20,9 @@ import cn.nukkit.Player;
 import com.creeperface.nukkit.placeholderapi.api.PlaceholderAPI;
 import com.creeperface.nukkit.placeholderapi.api.PlaceholderParameters;
 import com.creeperface.nukkit.placeholderapi.api.PlaceholderParameters.Parameter;
-import com.djrapitops.plan.PlanSystem;
 import com.djrapitops.plan.commands.use.Arguments;
-import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
-import com.djrapitops.plan.delivery.domain.keys.PlayerKeys;
-import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.PlayerSummary;
 import com.djrapitops.plan.placeholder.PlanPlaceholders;
-import com.djrapitops.plan.storage.database.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 
@@ -46,17 +42,14 @@ import java.util.stream.Collectors;
 public class NukkitPlaceholderRegistrar {
 
     private final PlanPlaceholders placeholders;
-    private final PlanSystem system;
     private final ErrorLogger errorLogger;
 
     @Inject
     public NukkitPlaceholderRegistrar(
             PlanPlaceholders placeholders,
-            PlanSystem system,
             ErrorLogger errorLogger
     ) {
         this.placeholders = placeholders;
-        this.system = system;
         this.errorLogger = errorLogger;
     }
 
@@ -96,12 +89,8 @@ public class NukkitPlaceholderRegistrar {
                 .collect(Collectors.toList());
     }
 
-    private PlayerContainer getPlayer(Player player) {
+    private PlayerSummary getPlayer(Player player) {
         UUID uuid = player.getUniqueId();
-
-        PlayerContainer container = system.getDatabaseSystem().getDatabase().query(ContainerFetchQueries.fetchPlayerContainer(uuid));
-        SessionCache.getCachedSession(uuid).ifPresent(session -> container.putRawData(PlayerKeys.ACTIVE_SESSION, session));
-
-        return container;
+        return placeholders.getPlayerSummary(uuid);
     }
 }
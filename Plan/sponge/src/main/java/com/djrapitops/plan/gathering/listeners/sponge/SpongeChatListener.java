@@ -18,6 +18,7 @@ package com.djrapitops.plan.gathering.listeners.sponge;
 
 import com.djrapitops.plan.delivery.domain.Nickname;
 import com.djrapitops.plan.gathering.cache.NicknameCache;
+import com.djrapitops.plan.identification.IdentifierIndex;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.transactions.events.StoreNicknameTransaction;
@@ -43,6 +44,7 @@ public class SpongeChatListener {
     private final ServerInfo serverInfo;
     private final DBSystem dbSystem;
     private final NicknameCache nicknameCache;
+    private final IdentifierIndex identifierIndex;
     private final ErrorLogger errorLogger;
 
     @Inject
@@ -50,11 +52,13 @@ public class SpongeChatListener {
             ServerInfo serverInfo,
             DBSystem dbSystem,
             NicknameCache nicknameCache,
+            IdentifierIndex identifierIndex,
             ErrorLogger errorLogger
     ) {
         this.serverInfo = serverInfo;
         this.dbSystem = dbSystem;
         this.nicknameCache = nicknameCache;
+        this.identifierIndex = identifierIndex;
         this.errorLogger = errorLogger;
     }
 
@@ -75,6 +79,6 @@ public class SpongeChatListener {
         dbSystem.getDatabase().executeTransaction(new StoreNicknameTransaction(
                 uuid, new Nickname(displayName, time, serverInfo.getServerUUID()),
                 (playerUUID, name) -> nicknameCache.getDisplayName(playerUUID).map(name::equals).orElse(false)
-        ));
+        )).thenRun(() -> identifierIndex.addNickname(uuid, displayName));
     }
 }